@@ -73,6 +73,33 @@ namespace knn_jni {
         */
         jlong storeByteVectorData(knn_jni::JNIUtilInterface *, JNIEnv *, jlong , jobjectArray, jlong, jboolean);
 
+        /**
+         * Same as storeVectorData, but reads the vectors from a direct java.nio.ByteBuffer holding native order floats
+         * instead of a 2D float array. The buffer content is copied once into the std::vector<float>.
+         *
+         * @param memoryAddress The address of the memory location where data will be stored.
+         * @param buffer direct ByteBuffer containing the vectors laid out back to back.
+         * @param numBytes number of bytes to be read from the start of the buffer.
+         * @param initialCapacity The initial capacity of the memory location.
+         * @param append whether to append or start from index 0 when called subsequently with the same address
+         * @return memory address of std::vector<float> where the data is stored.
+         */
+        jlong storeVectorDataFromBuffer(knn_jni::JNIUtilInterface *, JNIEnv *, jlong, jobject, jlong, jlong, jboolean);
+
+        /**
+         * Same as storeBinaryVectorData, but reads the vectors from a direct java.nio.ByteBuffer.
+         *
+         * @return memory address of std::vector<uint8_t> where the data is stored.
+         */
+        jlong storeBinaryVectorDataFromBuffer(knn_jni::JNIUtilInterface *, JNIEnv *, jlong, jobject, jlong, jlong, jboolean);
+
+        /**
+         * Same as storeByteVectorData, but reads the vectors from a direct java.nio.ByteBuffer.
+         *
+         * @return memory address of std::vector<int8_t> where the data is stored.
+         */
+        jlong storeByteVectorDataFromBuffer(knn_jni::JNIUtilInterface *, JNIEnv *, jlong, jobject, jlong, jlong, jboolean);
+
         /**
          * Free up the memory allocated for the data stored in memory address. This function should be used with the memory
          * address returned by {@link JNICommons#storeVectorData(long, float[][], long, long)}
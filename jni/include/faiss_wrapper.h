@@ -15,6 +15,7 @@
 #include "jni_util.h"
 #include "faiss_index_service.h"
 #include "faiss_stream_support.h"
+#include <atomic>
 #include <jni.h>
 
 namespace knn_jni {
@@ -43,6 +44,30 @@ namespace knn_jni {
                                          jlong vectorsAddressJ, jint dimJ, jobject output, jbyteArray templateIndexJ,
                                          jobject parametersJ);
 
+        // Deserialize a template index so that it can be shared by every index created from it. The template is freed
+        // with Free.
+        //
+        // Return a pointer to the loaded template
+        jlong LoadTemplate(knn_jni::JNIUtilInterface * jniUtil, JNIEnv * env, jbyteArray templateIndexJ, jboolean isBinaryJ);
+
+        // Create an index with ids and vectors from a clone of a template loaded with LoadTemplate. The index is
+        // serialized to output.
+        void CreateIndexFromLoadedTemplate(knn_jni::JNIUtilInterface * jniUtil, JNIEnv * env, jintArray idsJ,
+                                           jlong vectorsAddressJ, jint dimJ, jobject output, jlong templateAddressJ,
+                                           jobject parametersJ);
+
+        // Create a binary index with ids and vectors from a clone of a template loaded with LoadTemplate. The index is
+        // serialized to output.
+        void CreateBinaryIndexFromLoadedTemplate(knn_jni::JNIUtilInterface * jniUtil, JNIEnv * env, jintArray idsJ,
+                                                 jlong vectorsAddressJ, jint dimJ, jobject output, jlong templateAddressJ,
+                                                 jobject parametersJ);
+
+        // Create an index with ids and byte vectors from a clone of a template loaded with LoadTemplate. The index is
+        // serialized to output.
+        void CreateByteIndexFromLoadedTemplate(knn_jni::JNIUtilInterface * jniUtil, JNIEnv * env, jintArray idsJ,
+                                               jlong vectorsAddressJ, jint dimJ, jobject output, jlong templateAddressJ,
+                                               jobject parametersJ);
+
         // Load an index from indexPathJ into memory.
         //
         // Return a pointer to the loaded index
@@ -113,26 +138,56 @@ namespace knn_jni {
         // Perform initilization operations for the library
         void InitLibrary();
 
+        // Progress of a training job. It is updated by the training thread and read by the thread reporting the
+        // progress of the job. Training stops with an exception between two k-means iterations once cancelled is set.
+        struct TrainingProgress {
+            std::atomic<bool> cancelled{false};
+            std::atomic<jint> iterations{0};
+            std::atomic<jint> totalIterations{0};
+            std::atomic<jdouble> objective{0};
+        };
+
+        // Create a TrainingProgress to pass to the training functions. It must be freed with FreeTrainingProgress
+        jlong CreateTrainingProgress();
+
+        // Request the training using the TrainingProgress to stop
+        void CancelTraining(jlong trainingProgressJ);
+
+        // Return the number of k-means iterations done on the coarse quantizer
+        jint GetTrainingIterations(jlong trainingProgressJ);
+
+        // Return the total number of k-means iterations of the coarse quantizer, or 0 if it is not trained iteratively
+        jint GetTrainingTotalIterations(jlong trainingProgressJ);
+
+        // Return the k-means objective after the last iteration
+        jdouble GetTrainingObjective(jlong trainingProgressJ);
+
+        // Free a TrainingProgress
+        void FreeTrainingProgress(jlong trainingProgressJ);
+
         // Create an empty index defined by the values in the Java map, parametersJ. Train the index with
-        // the vector of floats located at trainVectorsPointerJ.
+        // the vector of floats located at trainVectorsPointerJ. If trainingProgressJ is not 0, progress is reported to
+        // it and training can be cancelled through it.
         //
         // Return the serialized representation
         jbyteArray TrainIndex(knn_jni::JNIUtilInterface * jniUtil, JNIEnv * env, jobject parametersJ, jint dimension,
-                              jlong trainVectorsPointerJ);
+                              jlong trainVectorsPointerJ, jlong trainingProgressJ = 0);
 
         // Create an empty binary index defined by the values in the Java map, parametersJ. Train the index with
-        // the vector of floats located at trainVectorsPointerJ.
+        // the vector of floats located at trainVectorsPointerJ. If trainingProgressJ is not 0, training can be
+        // cancelled through it.
         //
         // Return the serialized representation
         jbyteArray TrainBinaryIndex(knn_jni::JNIUtilInterface * jniUtil, JNIEnv * env, jobject parametersJ, jint dimension,
-                                    jlong trainVectorsPointerJ);
+                                    jlong trainVectorsPointerJ, jlong trainingProgressJ = 0);
 
         // Create an empty byte index defined by the values in the Java map, parametersJ. Train the index with
-        // the byte vectors located at trainVectorsPointerJ.
+        // the byte vectors located at trainVectorsPointerJ. If trainingProgressJ is not 0, progress is reported to
+        // it and training can be cancelled through it.
         //
         // Return the serialized representation
         jbyteArray TrainByteIndex(knn_jni::JNIUtilInterface * jniUtil, JNIEnv * env, jobject parametersJ, jint dimension,
-                                  jlong trainVectorsPointerJ);
+                                  jlong trainVectorsPointerJ, jlong trainingProgressJ = 0);
 
         /*
          * Perform a range search with filter against the index located in memory at indexPointerJ.
@@ -139,6 +139,8 @@ namespace knn_jni {
 
         virtual void ReleasePrimitiveArrayCritical(JNIEnv * env, jarray array, void *carray, jint mode) = 0;
 
+        virtual void * GetDirectBufferAddress(JNIEnv * env, jobject buffer) = 0;
+
         virtual jint CallNonvirtualIntMethodA(JNIEnv *env, jobject obj, jclass clazz,
                                               jmethodID methodID, jvalue *args) = 0;
 
@@ -207,6 +209,7 @@ namespace knn_jni {
         void CallNonvirtualVoidMethodA(JNIEnv * env, jobject obj, jclass clazz, jmethodID methodID, jvalue* args) final;
         void * GetPrimitiveArrayCritical(JNIEnv * env, jarray array, jboolean *isCopy) final;
         void ReleasePrimitiveArrayCritical(JNIEnv * env, jarray array, void *carray, jint mode) final;
+        void * GetDirectBufferAddress(JNIEnv * env, jobject buffer) final;
 
     private:
         std::unordered_map<std::string, jclass> cachedClasses;
@@ -116,6 +116,38 @@ JNIEXPORT void JNICALL Java_org_opensearch_knn_jni_FaissService_createBinaryInde
 JNIEXPORT void JNICALL Java_org_opensearch_knn_jni_FaissService_createByteIndexFromTemplate
     (JNIEnv *, jclass, jintArray, jlong, jint, jobject, jbyteArray, jobject);
 
+/*
+ * Class:     org_opensearch_knn_jni_FaissService
+ * Method:    loadTemplate
+ * Signature: ([BZ)J
+ */
+JNIEXPORT jlong JNICALL Java_org_opensearch_knn_jni_FaissService_loadTemplate
+    (JNIEnv *, jclass, jbyteArray, jboolean);
+
+/*
+ * Class:     org_opensearch_knn_jni_FaissService
+ * Method:    createIndexFromLoadedTemplate
+ * Signature: ([IJILorg/opensearch/knn/index/store/IndexOutputWithBuffer;JLjava/util/Map;)V
+ */
+JNIEXPORT void JNICALL Java_org_opensearch_knn_jni_FaissService_createIndexFromLoadedTemplate
+    (JNIEnv *, jclass, jintArray, jlong, jint, jobject, jlong, jobject);
+
+/*
+ * Class:     org_opensearch_knn_jni_FaissService
+ * Method:    createBinaryIndexFromLoadedTemplate
+ * Signature: ([IJILorg/opensearch/knn/index/store/IndexOutputWithBuffer;JLjava/util/Map;)V
+ */
+JNIEXPORT void JNICALL Java_org_opensearch_knn_jni_FaissService_createBinaryIndexFromLoadedTemplate
+    (JNIEnv *, jclass, jintArray, jlong, jint, jobject, jlong, jobject);
+
+/*
+ * Class:     org_opensearch_knn_jni_FaissService
+ * Method:    createByteIndexFromLoadedTemplate
+ * Signature: ([IJILorg/opensearch/knn/index/store/IndexOutputWithBuffer;JLjava/util/Map;)V
+ */
+JNIEXPORT void JNICALL Java_org_opensearch_knn_jni_FaissService_createByteIndexFromLoadedTemplate
+    (JNIEnv *, jclass, jintArray, jlong, jint, jobject, jlong, jobject);
+
 /*
  * Class:     org_opensearch_knn_jni_FaissService
  * Method:    loadIndex
@@ -220,29 +252,77 @@ JNIEXPORT void JNICALL Java_org_opensearch_knn_jni_FaissService_freeSharedIndexS
 JNIEXPORT void JNICALL Java_org_opensearch_knn_jni_FaissService_initLibrary
   (JNIEnv *, jclass);
 
+/*
+ * Class:     org_opensearch_knn_jni_FaissService
+ * Method:    createTrainingProgress
+ * Signature: ()J
+ */
+JNIEXPORT jlong JNICALL Java_org_opensearch_knn_jni_FaissService_createTrainingProgress
+  (JNIEnv *, jclass);
+
+/*
+ * Class:     org_opensearch_knn_jni_FaissService
+ * Method:    cancelTraining
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_org_opensearch_knn_jni_FaissService_cancelTraining
+  (JNIEnv *, jclass, jlong);
+
+/*
+ * Class:     org_opensearch_knn_jni_FaissService
+ * Method:    getTrainingIterations
+ * Signature: (J)I
+ */
+JNIEXPORT jint JNICALL Java_org_opensearch_knn_jni_FaissService_getTrainingIterations
+  (JNIEnv *, jclass, jlong);
+
+/*
+ * Class:     org_opensearch_knn_jni_FaissService
+ * Method:    getTrainingTotalIterations
+ * Signature: (J)I
+ */
+JNIEXPORT jint JNICALL Java_org_opensearch_knn_jni_FaissService_getTrainingTotalIterations
+  (JNIEnv *, jclass, jlong);
+
+/*
+ * Class:     org_opensearch_knn_jni_FaissService
+ * Method:    getTrainingObjective
+ * Signature: (J)D
+ */
+JNIEXPORT jdouble JNICALL Java_org_opensearch_knn_jni_FaissService_getTrainingObjective
+  (JNIEnv *, jclass, jlong);
+
+/*
+ * Class:     org_opensearch_knn_jni_FaissService
+ * Method:    freeTrainingProgress
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_org_opensearch_knn_jni_FaissService_freeTrainingProgress
+  (JNIEnv *, jclass, jlong);
+
 /*
  * Class:     org_opensearch_knn_jni_FaissService
  * Method:    trainIndex
- * Signature: (Ljava/util/Map;IJ)[B
+ * Signature: (Ljava/util/Map;IJJ)[B
  */
 JNIEXPORT jbyteArray JNICALL Java_org_opensearch_knn_jni_FaissService_trainIndex
-  (JNIEnv *, jclass, jobject, jint, jlong);
+  (JNIEnv *, jclass, jobject, jint, jlong, jlong);
 
 /*
  * Class:     org_opensearch_knn_jni_FaissService
  * Method:    trainBinaryIndex
- * Signature: (Ljava/util/Map;IJ)[B
+ * Signature: (Ljava/util/Map;IJJ)[B
  */
 JNIEXPORT jbyteArray JNICALL Java_org_opensearch_knn_jni_FaissService_trainBinaryIndex
-  (JNIEnv *, jclass, jobject, jint, jlong);
+  (JNIEnv *, jclass, jobject, jint, jlong, jlong);
 
 /*
  * Class:     org_opensearch_knn_jni_FaissService
  * Method:    trainByteIndex
- * Signature: (Ljava/util/Map;IJ)[B
+ * Signature: (Ljava/util/Map;IJJ)[B
  */
 JNIEXPORT jbyteArray JNICALL Java_org_opensearch_knn_jni_FaissService_trainByteIndex
-  (JNIEnv *, jclass, jobject, jint, jlong);
+  (JNIEnv *, jclass, jobject, jint, jlong, jlong);
 
 /*
  * Class:     org_opensearch_knn_jni_FaissService
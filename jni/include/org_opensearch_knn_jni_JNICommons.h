@@ -42,6 +42,30 @@ JNIEXPORT jlong JNICALL Java_org_opensearch_knn_jni_JNICommons_storeBinaryVector
 JNIEXPORT jlong JNICALL Java_org_opensearch_knn_jni_JNICommons_storeByteVectorData
   (JNIEnv *, jclass, jlong, jobjectArray, jlong, jboolean);
 
+/*
+ * Class:     org_opensearch_knn_jni_JNICommons
+ * Method:    storeVectorDataFromBuffer
+ * Signature: (JLjava/nio/ByteBuffer;JJZ)J
+ */
+JNIEXPORT jlong JNICALL Java_org_opensearch_knn_jni_JNICommons_storeVectorDataFromBuffer
+  (JNIEnv *, jclass, jlong, jobject, jlong, jlong, jboolean);
+
+/*
+ * Class:     org_opensearch_knn_jni_JNICommons
+ * Method:    storeBinaryVectorDataFromBuffer
+ * Signature: (JLjava/nio/ByteBuffer;JJZ)J
+ */
+JNIEXPORT jlong JNICALL Java_org_opensearch_knn_jni_JNICommons_storeBinaryVectorDataFromBuffer
+  (JNIEnv *, jclass, jlong, jobject, jlong, jlong, jboolean);
+
+/*
+ * Class:     org_opensearch_knn_jni_JNICommons
+ * Method:    storeByteVectorDataFromBuffer
+ * Signature: (JLjava/nio/ByteBuffer;JJZ)J
+ */
+JNIEXPORT jlong JNICALL Java_org_opensearch_knn_jni_JNICommons_storeByteVectorDataFromBuffer
+  (JNIEnv *, jclass, jlong, jobject, jlong, jlong, jboolean);
+
 /*
  * Class:     org_opensearch_knn_jni_JNICommons
  * Method:    freeVectorData
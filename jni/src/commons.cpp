@@ -75,6 +75,44 @@ jlong knn_jni::commons::storeByteVectorData(knn_jni::JNIUtilInterface *jniUtil,
     return (jlong) vect;
 }
 
+namespace {
+    template<typename T>
+    jlong storeVectorDataFromBufferImpl(knn_jni::JNIUtilInterface *jniUtil, JNIEnv *env, jlong memoryAddressJ,
+                                        jobject bufferJ, jlong numBytesJ, jlong initialCapacityJ, jboolean appendJ) {
+        auto *data = reinterpret_cast<T *>(jniUtil->GetDirectBufferAddress(env, bufferJ));
+
+        std::vector<T> *vect;
+        if (memoryAddressJ == 0) {
+            vect = new std::vector<T>();
+            vect->reserve(static_cast<long>(initialCapacityJ));
+        } else {
+            vect = reinterpret_cast<std::vector<T>*>(memoryAddressJ);
+        }
+
+        if (appendJ == JNI_FALSE) {
+            vect->clear();
+        }
+
+        vect->insert(vect->end(), data, data + (static_cast<size_t>(numBytesJ) / sizeof(T)));
+        return (jlong) vect;
+    }
+}
+
+jlong knn_jni::commons::storeVectorDataFromBuffer(knn_jni::JNIUtilInterface *jniUtil, JNIEnv *env, jlong memoryAddressJ,
+                                                  jobject bufferJ, jlong numBytesJ, jlong initialCapacityJ, jboolean appendJ) {
+    return storeVectorDataFromBufferImpl<float>(jniUtil, env, memoryAddressJ, bufferJ, numBytesJ, initialCapacityJ, appendJ);
+}
+
+jlong knn_jni::commons::storeBinaryVectorDataFromBuffer(knn_jni::JNIUtilInterface *jniUtil, JNIEnv *env, jlong memoryAddressJ,
+                                                        jobject bufferJ, jlong numBytesJ, jlong initialCapacityJ, jboolean appendJ) {
+    return storeVectorDataFromBufferImpl<uint8_t>(jniUtil, env, memoryAddressJ, bufferJ, numBytesJ, initialCapacityJ, appendJ);
+}
+
+jlong knn_jni::commons::storeByteVectorDataFromBuffer(knn_jni::JNIUtilInterface *jniUtil, JNIEnv *env, jlong memoryAddressJ,
+                                                      jobject bufferJ, jlong numBytesJ, jlong initialCapacityJ, jboolean appendJ) {
+    return storeVectorDataFromBufferImpl<int8_t>(jniUtil, env, memoryAddressJ, bufferJ, numBytesJ, initialCapacityJ, appendJ);
+}
+
 void knn_jni::commons::freeVectorData(jlong memoryAddressJ) {
     if (memoryAddressJ != 0) {
         auto *vect = reinterpret_cast<std::vector<float>*>(memoryAddressJ);
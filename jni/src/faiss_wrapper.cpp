@@ -24,11 +24,17 @@
 #include "faiss/impl/IDSelector.h"
 #include "faiss/IndexIVFPQ.h"
 #include "commons.h"
+#include "faiss/IndexBinaryFlat.h"
 #include "faiss/IndexBinaryIVF.h"
 #include "faiss/IndexBinaryHNSW.h"
+#include "faiss/clone_index.h"
+#include "faiss/Clustering.h"
+#include "faiss/impl/AuxIndexStructures.h"
 
 #include <algorithm>
+#include <functional>
 #include <jni.h>
+#include <mutex>
 #include <string>
 #include <vector>
 
@@ -95,6 +101,77 @@ bool isIndexIVFPQL2(faiss::Index * index);
 // IndexIDMap which has member that will point to underlying index that stores the data
 faiss::IndexIVFPQ * extractIVFPQIndex(faiss::Index * index);
 
+namespace {
+    // Progress of the training running on the current thread, if the caller asked for it
+    thread_local knn_jni::faiss_wrapper::TrainingProgress * currentTrainingProgress = nullptr;
+
+    // faiss checks for interruptions from the thread calling train, so only the cancelled training is interrupted
+    struct TrainingInterruptCallback : faiss::InterruptCallback {
+        bool want_interrupt() override {
+            return currentTrainingProgress != nullptr && currentTrainingProgress->cancelled.load();
+        }
+    };
+
+    // faiss supports a single process wide callback, and every search takes a global mutex to poll it while it is
+    // installed. It is therefore only installed while at least one training tracks its progress.
+    std::mutex trainingInterruptCallbackMutex;
+    int trainingsWithProgress = 0;
+
+    // The callback is never deleted, so that a search that read the installed instance right before it is
+    // uninstalled still polls a valid callback.
+    TrainingInterruptCallback * trainingInterruptCallback = new TrainingInterruptCallback();
+
+    // Tracks the progress of a training on the current thread until the training function returns
+    class ScopedTrainingProgress {
+    public:
+        explicit ScopedTrainingProgress(jlong trainingProgressJ) {
+            if (trainingProgressJ == 0) {
+                return;
+            }
+            {
+                std::lock_guard<std::mutex> guard(trainingInterruptCallbackMutex);
+                if (trainingsWithProgress++ == 0) {
+                    faiss::InterruptCallback::instance.reset(trainingInterruptCallback);
+                }
+            }
+            currentTrainingProgress = reinterpret_cast<knn_jni::faiss_wrapper::TrainingProgress *>(trainingProgressJ);
+        }
+
+        ~ScopedTrainingProgress() {
+            if (currentTrainingProgress == nullptr) {
+                return;
+            }
+            currentTrainingProgress = nullptr;
+            std::lock_guard<std::mutex> guard(trainingInterruptCallbackMutex);
+            if (--trainingsWithProgress == 0) {
+                // Release rather than reset, since the callback is reused by the next training
+                faiss::InterruptCallback::instance.release();
+            }
+        }
+    };
+
+    // Trains the coarse quantizer of an IVF index one k-means iteration at a time, with the clustering parameters
+    // of the index. Each iteration starts from the centroids of the previous one, so the result is the same as a
+    // single clustering, but progress is reported and cancellation is checked between iterations. faiss then skips
+    // the coarse training, since the quantizer already holds nlist centroids.
+    void TrainCoarseQuantizer(faiss::IndexIVF * indexIvf, faiss::idx_t n, const float* x,
+                              knn_jni::faiss_wrapper::TrainingProgress * progress) {
+        faiss::ClusteringParameters clusteringParameters = indexIvf->cp;
+        const int iterations = clusteringParameters.niter;
+        clusteringParameters.niter = 1;
+        faiss::Clustering clustering(indexIvf->d, indexIvf->nlist, clusteringParameters);
+
+        progress->totalIterations = iterations;
+        for (int i = 0; i < iterations; i++) {
+            faiss::InterruptCallback::check();
+            clustering.train(n, x, *indexIvf->quantizer);
+            progress->iterations = i + 1;
+            progress->objective = clustering.iteration_stats.back().obj;
+        }
+        indexIvf->quantizer->is_trained = true;
+    }
+}  // namespace
+
 jlong knn_jni::faiss_wrapper::InitIndex(knn_jni::JNIUtilInterface * jniUtil, JNIEnv * env, jlong numDocs, jint dimJ,
                                          jobject parametersJ, IndexService* indexService) {
 
@@ -198,241 +275,271 @@ void knn_jni::faiss_wrapper::WriteIndex(knn_jni::JNIUtilInterface * jniUtil, JNI
     indexService->writeIndex(&writer, index_ptr);
 }
 
-void knn_jni::faiss_wrapper::CreateIndexFromTemplate(knn_jni::JNIUtilInterface * jniUtil, JNIEnv * env, jintArray idsJ,
-                                                     jlong vectorsAddressJ, jint dimJ, jobject output,
-                                                     jbyteArray templateIndexJ, jobject parametersJ) {
-    if (idsJ == nullptr) {
-        throw std::runtime_error("IDs cannot be null");
-    }
+namespace {
+    // Validates the arguments shared by every index built from a template and sets the thread count
+    void PrepareIndexFromTemplate(knn_jni::JNIUtilInterface * jniUtil, JNIEnv * env, jintArray idsJ,
+                                  jlong vectorsAddressJ, jint dimJ, jobject output, jobject parametersJ) {
+        if (idsJ == nullptr) {
+            throw std::runtime_error("IDs cannot be null");
+        }
 
-    if (vectorsAddressJ <= 0) {
-        throw std::runtime_error("VectorsAddress cannot be less than 0");
-    }
+        if (vectorsAddressJ <= 0) {
+            throw std::runtime_error("VectorsAddress cannot be less than 0");
+        }
 
-    if(dimJ <= 0) {
-        throw std::runtime_error("Vectors dimensions cannot be less than or equal to 0");
+        if(dimJ <= 0) {
+            throw std::runtime_error("Vectors dimensions cannot be less than or equal to 0");
+        }
+
+        if (output == nullptr) {
+            throw std::runtime_error("Index output stream cannot be null");
+        }
+
+        // Set thread count if it is passed in as a parameter. Setting this variable will only impact the current thread
+        auto parametersCpp = jniUtil->ConvertJavaMapToCppMap(env, parametersJ);
+        auto it = parametersCpp.find(knn_jni::INDEX_THREAD_QUANTITY);
+        if (it != parametersCpp.end()) {
+            auto threadCount = jniUtil->ConvertJavaObjectToCppInteger(env, it->second);
+            omp_set_num_threads(threadCount);
+        }
+        jniUtil->DeleteLocalRef(env, parametersJ);
     }
 
-    if (output == nullptr) {
-        throw std::runtime_error("Index output stream cannot be null");
+    // Reads the serialized template index into a faiss::VectorIOReader
+    void ReadTemplateBytes(knn_jni::JNIUtilInterface * jniUtil, JNIEnv * env, jbyteArray templateIndexJ,
+                           faiss::VectorIOReader * vectorIoReader) {
+        if (templateIndexJ == nullptr) {
+            throw std::runtime_error("Template index cannot be null");
+        }
+
+        // Get vector of bytes from jbytearray
+        int indexBytesCount = jniUtil->GetJavaBytesArrayLength(env, templateIndexJ);
+        jbyte * indexBytesJ = jniUtil->GetByteArrayElements(env, templateIndexJ, nullptr);
+
+        auto * indexBytes = reinterpret_cast<uint8_t *>(indexBytesJ);
+        vectorIoReader->data.assign(indexBytes, indexBytes + indexBytesCount);
+        jniUtil->ReleaseByteArrayElements(env, templateIndexJ, indexBytesJ, JNI_ABORT);
     }
 
-    if (templateIndexJ == nullptr) {
-        throw std::runtime_error("Template index cannot be null");
+    faiss::Index * ReadTemplateIndex(knn_jni::JNIUtilInterface * jniUtil, JNIEnv * env, jbyteArray templateIndexJ) {
+        faiss::VectorIOReader vectorIoReader;
+        ReadTemplateBytes(jniUtil, env, templateIndexJ, &vectorIoReader);
+        return faiss::read_index(&vectorIoReader, 0);
     }
 
-    // Set thread count if it is passed in as a parameter. Setting this variable will only impact the current thread
-    auto parametersCpp = jniUtil->ConvertJavaMapToCppMap(env, parametersJ);
-    if(parametersCpp.find(knn_jni::INDEX_THREAD_QUANTITY) != parametersCpp.end()) {
-        auto threadCount = jniUtil->ConvertJavaObjectToCppInteger(env, parametersCpp[knn_jni::INDEX_THREAD_QUANTITY]);
-        omp_set_num_threads(threadCount);
+    faiss::IndexBinary * ReadBinaryTemplateIndex(knn_jni::JNIUtilInterface * jniUtil, JNIEnv * env, jbyteArray templateIndexJ) {
+        faiss::VectorIOReader vectorIoReader;
+        ReadTemplateBytes(jniUtil, env, templateIndexJ, &vectorIoReader);
+        return faiss::read_index_binary(&vectorIoReader, 0);
     }
-    jniUtil->DeleteLocalRef(env, parametersJ);
 
-    // Read data set
-    // Read vectors from memory address
-    auto *inputVectors = reinterpret_cast<std::vector<float>*>(vectorsAddressJ);
-    int dim = (int)dimJ;
-    int numVectors = (int) (inputVectors->size() / (uint64_t) dim);
-    int numIds = jniUtil->GetJavaIntArrayLength(env, idsJ);
-    if (numIds != numVectors) {
-        throw std::runtime_error("Number of IDs does not match number of vectors");
+    // Clones a template loaded with LoadTemplate, so that the loaded template is never modified
+    faiss::Index * CloneTemplateIndex(jlong templateAddressJ) {
+        if (templateAddressJ == 0) {
+            throw std::runtime_error("Template index address cannot be 0");
+        }
+        return faiss::clone_index(reinterpret_cast<faiss::Index *>(templateAddressJ));
     }
 
-    // Get vector of bytes from jbytearray
-    int indexBytesCount = jniUtil->GetJavaBytesArrayLength(env, templateIndexJ);
-    jbyte * indexBytesJ = jniUtil->GetByteArrayElements(env, templateIndexJ, nullptr);
+    // faiss only clones flat binary indices. Other binary templates, like IVF ones, are copied by serializing the loaded
+    // template and reading it back, which still avoids copying the model blob from the JVM for every build.
+    faiss::IndexBinary * CloneBinaryTemplateIndex(jlong templateAddressJ) {
+        if (templateAddressJ == 0) {
+            throw std::runtime_error("Template index address cannot be 0");
+        }
+        auto * templateIndex = reinterpret_cast<faiss::IndexBinary *>(templateAddressJ);
+        if (dynamic_cast<faiss::IndexBinaryFlat *>(templateIndex) != nullptr) {
+            return faiss::clone_binary_index(templateIndex);
+        }
+        faiss::VectorIOWriter vectorIoWriter;
+        faiss::write_index_binary(templateIndex, &vectorIoWriter);
+        faiss::VectorIOReader vectorIoReader;
+        vectorIoReader.data = std::move(vectorIoWriter.data);
+        return faiss::read_index_binary(&vectorIoReader, 0);
+    }
+
+    void CreateIndexFromTemplateIndex(knn_jni::JNIUtilInterface * jniUtil, JNIEnv * env, jintArray idsJ,
+                                      jlong vectorsAddressJ, jint dimJ, jobject output, jobject parametersJ,
+                                      const std::function<faiss::Index *()> & templateSupplier) {
+        PrepareIndexFromTemplate(jniUtil, env, idsJ, vectorsAddressJ, dimJ, output, parametersJ);
+
+        // Read data set
+        // Read vectors from memory address
+        auto *inputVectors = reinterpret_cast<std::vector<float>*>(vectorsAddressJ);
+        int dim = (int)dimJ;
+        int numVectors = (int) (inputVectors->size() / (uint64_t) dim);
+        int numIds = jniUtil->GetJavaIntArrayLength(env, idsJ);
+        if (numIds != numVectors) {
+            throw std::runtime_error("Number of IDs does not match number of vectors");
+        }
 
-    faiss::VectorIOReader vectorIoReader;
-    for (int i = 0; i < indexBytesCount; i++) {
-        vectorIoReader.data.push_back((uint8_t) indexBytesJ[i]);
-    }
-    jniUtil->ReleaseByteArrayElements(env, templateIndexJ, indexBytesJ, JNI_ABORT);
+        // Create faiss index
+        std::unique_ptr<faiss::Index> indexWriter(templateSupplier());
+
+        auto idVector = jniUtil->ConvertJavaIntArrayToCppIntVector(env, idsJ);
+        faiss::IndexIDMap idMap =  faiss::IndexIDMap(indexWriter.get());
+        idMap.add_with_ids(numVectors, inputVectors->data(), idVector.data());
+        // Releasing the vectorsAddressJ memory as that is not required once we have created the index.
+        // This is not the ideal approach, please refer this gh issue for long term solution:
+        // https://github.com/opensearch-project/k-NN/issues/1600
+        delete inputVectors;
+
+        // Write the index to disk
+        knn_jni::stream::NativeEngineIndexOutputMediator mediator {jniUtil, env, output};
+        knn_jni::stream::FaissOpenSearchIOWriter writer {&mediator};
+        faiss::write_index(&idMap, &writer);
+        mediator.flush();
+    }
+
+    void CreateBinaryIndexFromTemplateIndex(knn_jni::JNIUtilInterface * jniUtil, JNIEnv * env, jintArray idsJ,
+                                            jlong vectorsAddressJ, jint dimJ, jobject output, jobject parametersJ,
+                                            const std::function<faiss::IndexBinary *()> & templateSupplier) {
+        PrepareIndexFromTemplate(jniUtil, env, idsJ, vectorsAddressJ, dimJ, output, parametersJ);
+
+        // Read data set
+        // Read vectors from memory address
+        auto *inputVectors = reinterpret_cast<std::vector<uint8_t>*>(vectorsAddressJ);
+        int dim = (int)dimJ;
+        if (dim % 8 != 0) {
+            throw std::runtime_error("Dimensions should be multiple of 8");
+        }
+        int numVectors = (int) (inputVectors->size() / (uint64_t) (dim / 8));
+        int numIds = jniUtil->GetJavaIntArrayLength(env, idsJ);
+        if (numIds != numVectors) {
+            throw std::runtime_error("Number of IDs does not match number of vectors");
+        }
 
-    // Create faiss index
-    std::unique_ptr<faiss::Index> indexWriter;
-    indexWriter.reset(faiss::read_index(&vectorIoReader, 0));
+        // Create faiss index
+        std::unique_ptr<faiss::IndexBinary> indexWriter(templateSupplier());
+
+        auto idVector = jniUtil->ConvertJavaIntArrayToCppIntVector(env, idsJ);
+        faiss::IndexBinaryIDMap idMap =  faiss::IndexBinaryIDMap(indexWriter.get());
+        idMap.add_with_ids(numVectors, reinterpret_cast<const uint8_t*>(inputVectors->data()), idVector.data());
+        // Releasing the vectorsAddressJ memory as that is not required once we have created the index.
+        // This is not the ideal approach, please refer this gh issue for long term solution:
+        // https://github.com/opensearch-project/k-NN/issues/1600
+        delete inputVectors;
+
+        // Write the index to disk
+        knn_jni::stream::NativeEngineIndexOutputMediator mediator {jniUtil, env, output};
+        knn_jni::stream::FaissOpenSearchIOWriter writer {&mediator};
+        faiss::write_index_binary(&idMap, &writer);
+        mediator.flush();
+    }
+
+    void CreateByteIndexFromTemplateIndex(knn_jni::JNIUtilInterface * jniUtil, JNIEnv * env, jintArray idsJ,
+                                          jlong vectorsAddressJ, jint dimJ, jobject output, jobject parametersJ,
+                                          const std::function<faiss::Index *()> & templateSupplier) {
+        PrepareIndexFromTemplate(jniUtil, env, idsJ, vectorsAddressJ, dimJ, output, parametersJ);
+
+        // Read data set
+        // Read vectors from memory address
+        auto *inputVectors = reinterpret_cast<std::vector<int8_t>*>(vectorsAddressJ);
+        auto dim = (int) dimJ;
+        auto numVectors = (int) (inputVectors->size() / (uint64_t) dim);
+        int numIds = jniUtil->GetJavaIntArrayLength(env, idsJ);
+
+        if (numIds != numVectors) {
+            throw std::runtime_error("Number of IDs does not match number of vectors");
+        }
 
-    auto idVector = jniUtil->ConvertJavaIntArrayToCppIntVector(env, idsJ);
-    faiss::IndexIDMap idMap =  faiss::IndexIDMap(indexWriter.get());
-    idMap.add_with_ids(numVectors, inputVectors->data(), idVector.data());
-    // Releasing the vectorsAddressJ memory as that is not required once we have created the index.
-    // This is not the ideal approach, please refer this gh issue for long term solution:
-    // https://github.com/opensearch-project/k-NN/issues/1600
-    delete inputVectors;
+        // Create faiss index
+        std::unique_ptr<faiss::Index> indexWriter(templateSupplier());
 
-    // Write the index to disk
-    knn_jni::stream::NativeEngineIndexOutputMediator mediator {jniUtil, env, output};
-    knn_jni::stream::FaissOpenSearchIOWriter writer {&mediator};
-    faiss::write_index(&idMap, &writer);
-    mediator.flush();
-}
+        auto ids = jniUtil->ConvertJavaIntArrayToCppIntVector(env, idsJ);
+        faiss::IndexIDMap idMap =  faiss::IndexIDMap(indexWriter.get());
 
-void knn_jni::faiss_wrapper::CreateBinaryIndexFromTemplate(knn_jni::JNIUtilInterface * jniUtil, JNIEnv * env, jintArray idsJ,
-                                                           jlong vectorsAddressJ, jint dimJ, jobject output,
-                                                           jbyteArray templateIndexJ, jobject parametersJ) {
-    if (idsJ == nullptr) {
-        throw std::runtime_error("IDs cannot be null");
-    }
+        // Add vectors in batches by casting int8 vectors into float with a batch size of 1000 to avoid additional memory spike.
+        // Refer to this github issue for more details https://github.com/opensearch-project/k-NN/issues/1659#issuecomment-2307390255
+        int batchSize = 1000;
+        std::vector <float> inputFloatVectors(batchSize * dim);
+        std::vector <int64_t> floatVectorsIds(batchSize);
+        auto iter = inputVectors->begin();
 
-    if (vectorsAddressJ <= 0) {
-        throw std::runtime_error("VectorsAddress cannot be less than 0");
-    }
+        for (int id = 0; id < numVectors; id += batchSize) {
+            if (numVectors - id < batchSize) {
+                batchSize = numVectors - id;
+            }
 
-    if (dimJ <= 0) {
-        throw std::runtime_error("Vectors dimensions cannot be less than or equal to 0");
-    }
+            for (int i = 0; i < batchSize; ++i) {
+                floatVectorsIds[i] = ids[id + i];
+                for (int j = 0; j < dim; ++j, ++iter) {
+                    inputFloatVectors[i * dim + j] = static_cast<float>(*iter);
+                }
+            }
+            idMap.add_with_ids(batchSize, inputFloatVectors.data(), floatVectorsIds.data());
+        }
 
-    if (output == nullptr) {
-        throw std::runtime_error("Index output stream cannot be null");
+        // Releasing the vectorsAddressJ memory as that is not required once we have created the index.
+        // This is not the ideal approach, please refer this gh issue for long term solution:
+        // https://github.com/opensearch-project/k-NN/issues/1600
+        delete inputVectors;
+
+        // Write the index to disk
+        knn_jni::stream::NativeEngineIndexOutputMediator mediator {jniUtil, env, output};
+        knn_jni::stream::FaissOpenSearchIOWriter writer {&mediator};
+        faiss::write_index(&idMap, &writer);
+        mediator.flush();
     }
+}  // namespace
 
+void knn_jni::faiss_wrapper::CreateIndexFromTemplate(knn_jni::JNIUtilInterface * jniUtil, JNIEnv * env, jintArray idsJ,
+                                                     jlong vectorsAddressJ, jint dimJ, jobject output,
+                                                     jbyteArray templateIndexJ, jobject parametersJ) {
     if (templateIndexJ == nullptr) {
         throw std::runtime_error("Template index cannot be null");
     }
+    CreateIndexFromTemplateIndex(jniUtil, env, idsJ, vectorsAddressJ, dimJ, output, parametersJ,
+                                 [&]() { return ReadTemplateIndex(jniUtil, env, templateIndexJ); });
+}
 
-    // Set thread count if it is passed in as a parameter. Setting this variable will only impact the current thread
-    auto parametersCpp = jniUtil->ConvertJavaMapToCppMap(env, parametersJ);
-    if(parametersCpp.find(knn_jni::INDEX_THREAD_QUANTITY) != parametersCpp.end()) {
-        auto threadCount = jniUtil->ConvertJavaObjectToCppInteger(env, parametersCpp[knn_jni::INDEX_THREAD_QUANTITY]);
-        omp_set_num_threads(threadCount);
-    }
-    jniUtil->DeleteLocalRef(env, parametersJ);
-
-    // Read data set
-    // Read vectors from memory address
-    auto *inputVectors = reinterpret_cast<std::vector<uint8_t>*>(vectorsAddressJ);
-    int dim = (int)dimJ;
-    if (dim % 8 != 0) {
-        throw std::runtime_error("Dimensions should be multiple of 8");
-    }
-    int numVectors = (int) (inputVectors->size() / (uint64_t) (dim / 8));
-    int numIds = jniUtil->GetJavaIntArrayLength(env, idsJ);
-    if (numIds != numVectors) {
-        throw std::runtime_error("Number of IDs does not match number of vectors");
-    }
-
-    // Get vector of bytes from jbytearray
-    int indexBytesCount = jniUtil->GetJavaBytesArrayLength(env, templateIndexJ);
-    jbyte * indexBytesJ = jniUtil->GetByteArrayElements(env, templateIndexJ, nullptr);
-
-    faiss::VectorIOReader vectorIoReader;
-    for (int i = 0; i < indexBytesCount; i++) {
-        vectorIoReader.data.push_back((uint8_t) indexBytesJ[i]);
+void knn_jni::faiss_wrapper::CreateBinaryIndexFromTemplate(knn_jni::JNIUtilInterface * jniUtil, JNIEnv * env, jintArray idsJ,
+                                                           jlong vectorsAddressJ, jint dimJ, jobject output,
+                                                           jbyteArray templateIndexJ, jobject parametersJ) {
+    if (templateIndexJ == nullptr) {
+        throw std::runtime_error("Template index cannot be null");
     }
-    jniUtil->ReleaseByteArrayElements(env, templateIndexJ, indexBytesJ, JNI_ABORT);
-
-    // Create faiss index
-    std::unique_ptr<faiss::IndexBinary> indexWriter;
-    indexWriter.reset(faiss::read_index_binary(&vectorIoReader, 0));
-
-    auto idVector = jniUtil->ConvertJavaIntArrayToCppIntVector(env, idsJ);
-    faiss::IndexBinaryIDMap idMap =  faiss::IndexBinaryIDMap(indexWriter.get());
-    idMap.add_with_ids(numVectors, reinterpret_cast<const uint8_t*>(inputVectors->data()), idVector.data());
-    // Releasing the vectorsAddressJ memory as that is not required once we have created the index.
-    // This is not the ideal approach, please refer this gh issue for long term solution:
-    // https://github.com/opensearch-project/k-NN/issues/1600
-    delete inputVectors;
-
-    // Write the index to disk
-    knn_jni::stream::NativeEngineIndexOutputMediator mediator {jniUtil, env, output};
-    knn_jni::stream::FaissOpenSearchIOWriter writer {&mediator};
-    faiss::write_index_binary(&idMap, &writer);
-    mediator.flush();
+    CreateBinaryIndexFromTemplateIndex(jniUtil, env, idsJ, vectorsAddressJ, dimJ, output, parametersJ,
+                                       [&]() { return ReadBinaryTemplateIndex(jniUtil, env, templateIndexJ); });
 }
 
 void knn_jni::faiss_wrapper::CreateByteIndexFromTemplate(knn_jni::JNIUtilInterface * jniUtil, JNIEnv * env, jintArray idsJ,
                                                          jlong vectorsAddressJ, jint dimJ, jobject output,
                                                          jbyteArray templateIndexJ, jobject parametersJ) {
-    if (idsJ == nullptr) {
-        throw std::runtime_error("IDs cannot be null");
-    }
-
-    if (vectorsAddressJ <= 0) {
-        throw std::runtime_error("VectorsAddress cannot be less than 0");
-    }
-
-    if (dimJ <= 0) {
-        throw std::runtime_error("Vectors dimensions cannot be less than or equal to 0");
-    }
-
-    if (output == nullptr) {
-        throw std::runtime_error("Index output stream cannot be null");
-    }
-
     if (templateIndexJ == nullptr) {
         throw std::runtime_error("Template index cannot be null");
     }
+    CreateByteIndexFromTemplateIndex(jniUtil, env, idsJ, vectorsAddressJ, dimJ, output, parametersJ,
+                                     [&]() { return ReadTemplateIndex(jniUtil, env, templateIndexJ); });
+}
 
-    // Set thread count if it is passed in as a parameter. Setting this variable will only impact the current thread
-    auto parametersCpp = jniUtil->ConvertJavaMapToCppMap(env, parametersJ);
-    auto it = parametersCpp.find(knn_jni::INDEX_THREAD_QUANTITY);
-    if (it != parametersCpp.end()) {
-        auto threadCount = jniUtil->ConvertJavaObjectToCppInteger(env, it->second);
-        omp_set_num_threads(threadCount);
-    }
-    jniUtil->DeleteLocalRef(env, parametersJ);
-
-    // Read data set
-    // Read vectors from memory address
-    auto *inputVectors = reinterpret_cast<std::vector<int8_t>*>(vectorsAddressJ);
-    auto dim = (int) dimJ;
-    auto numVectors = (int) (inputVectors->size() / (uint64_t) dim);
-    int numIds = jniUtil->GetJavaIntArrayLength(env, idsJ);
-
-    if (numIds != numVectors) {
-        throw std::runtime_error("Number of IDs does not match number of vectors");
-    }
-
-    // Get vector of bytes from jbytearray
-    int indexBytesCount = jniUtil->GetJavaBytesArrayLength(env, templateIndexJ);
-    jbyte * indexBytesJ = jniUtil->GetByteArrayElements(env, templateIndexJ, nullptr);
-
-    faiss::VectorIOReader vectorIoReader;
-    vectorIoReader.data.reserve(indexBytesCount);
-    for (int i = 0; i < indexBytesCount; i++) {
-        vectorIoReader.data.push_back((uint8_t) indexBytesJ[i]);
+jlong knn_jni::faiss_wrapper::LoadTemplate(knn_jni::JNIUtilInterface * jniUtil, JNIEnv * env, jbyteArray templateIndexJ,
+                                           jboolean isBinaryJ) {
+    if (isBinaryJ == JNI_TRUE) {
+        return (jlong) ReadBinaryTemplateIndex(jniUtil, env, templateIndexJ);
     }
-    jniUtil->ReleaseByteArrayElements(env, templateIndexJ, indexBytesJ, JNI_ABORT);
-
-    // Create faiss index
-    std::unique_ptr<faiss::Index> indexWriter (faiss::read_index(&vectorIoReader, 0));
-
-    auto ids = jniUtil->ConvertJavaIntArrayToCppIntVector(env, idsJ);
-    faiss::IndexIDMap idMap =  faiss::IndexIDMap(indexWriter.get());
-
-    // Add vectors in batches by casting int8 vectors into float with a batch size of 1000 to avoid additional memory spike.
-    // Refer to this github issue for more details https://github.com/opensearch-project/k-NN/issues/1659#issuecomment-2307390255
-    int batchSize = 1000;
-    std::vector <float> inputFloatVectors(batchSize * dim);
-    std::vector <int64_t> floatVectorsIds(batchSize);
-    int id = 0;
-    auto iter = inputVectors->begin();
-
-    for (int id = 0; id < numVectors; id += batchSize) {
-        if (numVectors - id < batchSize) {
-            batchSize = numVectors - id;
-        }
+    return (jlong) ReadTemplateIndex(jniUtil, env, templateIndexJ);
+}
 
-        for (int i = 0; i < batchSize; ++i) {
-            floatVectorsIds[i] = ids[id + i];
-            for (int j = 0; j < dim; ++j, ++iter) {
-                inputFloatVectors[i * dim + j] = static_cast<float>(*iter);
-            }
-        }
-        idMap.add_with_ids(batchSize, inputFloatVectors.data(), floatVectorsIds.data());
-    }
+void knn_jni::faiss_wrapper::CreateIndexFromLoadedTemplate(knn_jni::JNIUtilInterface * jniUtil, JNIEnv * env, jintArray idsJ,
+                                                           jlong vectorsAddressJ, jint dimJ, jobject output,
+                                                           jlong templateAddressJ, jobject parametersJ) {
+    CreateIndexFromTemplateIndex(jniUtil, env, idsJ, vectorsAddressJ, dimJ, output, parametersJ,
+                                 [&]() { return CloneTemplateIndex(templateAddressJ); });
+}
 
-    // Releasing the vectorsAddressJ memory as that is not required once we have created the index.
-    // This is not the ideal approach, please refer this gh issue for long term solution:
-    // https://github.com/opensearch-project/k-NN/issues/1600
-    delete inputVectors;
+void knn_jni::faiss_wrapper::CreateBinaryIndexFromLoadedTemplate(knn_jni::JNIUtilInterface * jniUtil, JNIEnv * env, jintArray idsJ,
+                                                                 jlong vectorsAddressJ, jint dimJ, jobject output,
+                                                                 jlong templateAddressJ, jobject parametersJ) {
+    CreateBinaryIndexFromTemplateIndex(jniUtil, env, idsJ, vectorsAddressJ, dimJ, output, parametersJ,
+                                       [&]() { return CloneBinaryTemplateIndex(templateAddressJ); });
+}
 
-    // Write the index to disk
-    knn_jni::stream::NativeEngineIndexOutputMediator mediator {jniUtil, env, output};
-    knn_jni::stream::FaissOpenSearchIOWriter writer {&mediator};
-    faiss::write_index(&idMap, &writer);
-    mediator.flush();
+void knn_jni::faiss_wrapper::CreateByteIndexFromLoadedTemplate(knn_jni::JNIUtilInterface * jniUtil, JNIEnv * env, jintArray idsJ,
+                                                               jlong vectorsAddressJ, jint dimJ, jobject output,
+                                                               jlong templateAddressJ, jobject parametersJ) {
+    CreateByteIndexFromTemplateIndex(jniUtil, env, idsJ, vectorsAddressJ, dimJ, output, parametersJ,
+                                     [&]() { return CloneTemplateIndex(templateAddressJ); });
 }
 
 jlong knn_jni::faiss_wrapper::LoadIndex(knn_jni::JNIUtilInterface * jniUtil, JNIEnv * env, jstring indexPathJ) {
@@ -811,6 +918,30 @@ void knn_jni::faiss_wrapper::FreeSharedIndexState(jlong shareIndexStatePointerJ)
     delete alignTable;
 }
 
+jlong knn_jni::faiss_wrapper::CreateTrainingProgress() {
+    return reinterpret_cast<jlong>(new TrainingProgress());
+}
+
+void knn_jni::faiss_wrapper::CancelTraining(jlong trainingProgressJ) {
+    reinterpret_cast<TrainingProgress *>(trainingProgressJ)->cancelled = true;
+}
+
+jint knn_jni::faiss_wrapper::GetTrainingIterations(jlong trainingProgressJ) {
+    return reinterpret_cast<TrainingProgress *>(trainingProgressJ)->iterations.load();
+}
+
+jint knn_jni::faiss_wrapper::GetTrainingTotalIterations(jlong trainingProgressJ) {
+    return reinterpret_cast<TrainingProgress *>(trainingProgressJ)->totalIterations.load();
+}
+
+jdouble knn_jni::faiss_wrapper::GetTrainingObjective(jlong trainingProgressJ) {
+    return reinterpret_cast<TrainingProgress *>(trainingProgressJ)->objective.load();
+}
+
+void knn_jni::faiss_wrapper::FreeTrainingProgress(jlong trainingProgressJ) {
+    delete reinterpret_cast<TrainingProgress *>(trainingProgressJ);
+}
+
 void knn_jni::faiss_wrapper::InitLibrary() {
     //set thread 1 cause ES has Search thread
     //TODO make it different at search and write
@@ -818,7 +949,7 @@ void knn_jni::faiss_wrapper::InitLibrary() {
 }
 
 jbyteArray knn_jni::faiss_wrapper::TrainIndex(knn_jni::JNIUtilInterface * jniUtil, JNIEnv * env, jobject parametersJ,
-                                              jint dimensionJ, jlong trainVectorsPointerJ) {
+                                              jint dimensionJ, jlong trainVectorsPointerJ, jlong trainingProgressJ) {
     // First, we need to build the index
     if (parametersJ == nullptr) {
         throw std::runtime_error("Parameters cannot be null");
@@ -862,6 +993,7 @@ jbyteArray knn_jni::faiss_wrapper::TrainIndex(knn_jni::JNIUtilInterface * jniUti
     auto *trainingVectorsPointerCpp = reinterpret_cast<std::vector<float>*>(trainVectorsPointerJ);
     int numVectors = trainingVectorsPointerCpp->size()/(int) dimensionJ;
     if(!indexWriter->is_trained) {
+        ScopedTrainingProgress scopedTrainingProgress(trainingProgressJ);
         InternalTrainIndex(indexWriter.get(), numVectors, trainingVectorsPointerCpp->data());
     }
     jniUtil->DeleteLocalRef(env, parametersJ);
@@ -884,7 +1016,7 @@ jbyteArray knn_jni::faiss_wrapper::TrainIndex(knn_jni::JNIUtilInterface * jniUti
 }
 
 jbyteArray knn_jni::faiss_wrapper::TrainBinaryIndex(knn_jni::JNIUtilInterface * jniUtil, JNIEnv * env, jobject parametersJ,
-                                              jint dimensionJ, jlong trainVectorsPointerJ) {
+                                              jint dimensionJ, jlong trainVectorsPointerJ, jlong trainingProgressJ) {
     // First, we need to build the index
     if (parametersJ == nullptr) {
         throw std::runtime_error("Parameters cannot be null");
@@ -917,6 +1049,7 @@ jbyteArray knn_jni::faiss_wrapper::TrainBinaryIndex(knn_jni::JNIUtilInterface *
     auto *trainingVectorsPointerCpp = reinterpret_cast<std::vector<uint8_t>*>(trainVectorsPointerJ);
     int numVectors = (int) (trainingVectorsPointerCpp->size() / (dim / 8));
     if(!indexWriter->is_trained) {
+        ScopedTrainingProgress scopedTrainingProgress(trainingProgressJ);
         InternalTrainBinaryIndex(indexWriter.get(), numVectors, trainingVectorsPointerCpp->data());
     }
     jniUtil->DeleteLocalRef(env, parametersJ);
@@ -939,7 +1072,7 @@ jbyteArray knn_jni::faiss_wrapper::TrainBinaryIndex(knn_jni::JNIUtilInterface *
 }
 
 jbyteArray knn_jni::faiss_wrapper::TrainByteIndex(knn_jni::JNIUtilInterface * jniUtil, JNIEnv * env, jobject parametersJ,
-                                              jint dimensionJ, jlong trainVectorsPointerJ) {
+                                              jint dimensionJ, jlong trainVectorsPointerJ, jlong trainingProgressJ) {
     // First, we need to build the index
     if (parametersJ == nullptr) {
         throw std::runtime_error("Parameters cannot be null");
@@ -983,6 +1116,7 @@ jbyteArray knn_jni::faiss_wrapper::TrainByteIndex(knn_jni::JNIUtilInterface * jn
     }
 
     if (!indexWriter->is_trained) {
+     ScopedTrainingProgress scopedTrainingProgress(trainingProgressJ);
      InternalTrainIndex(indexWriter.get(), numVectors, trainingFloatVectors.data());
     }
     jniUtil->DeleteLocalRef(env, parametersJ);
@@ -1056,6 +1190,11 @@ void InternalTrainIndex(faiss::Index * index, faiss::idx_t n, const float* x) {
             InternalTrainIndex(indexIvf->quantizer, n, x);
         }
         indexIvf->make_direct_map();
+        if (currentTrainingProgress != nullptr && !indexIvf->is_trained && indexIvf->quantizer_trains_alone == 0
+                && indexIvf->cp.nredo == 1 && indexIvf->clustering_index == nullptr
+                && indexIvf->quantizer->ntotal != (faiss::idx_t) indexIvf->nlist) {
+            TrainCoarseQuantizer(indexIvf, n, x, currentTrainingProgress);
+        }
     }
 
     if (!index->is_trained) {
@@ -252,9 +252,7 @@ void knn_jni::JNIUtil::Convert2dJavaObjectArrayAndStoreToFloatVector(JNIEnv *env
             throw std::runtime_error("Unable to get float array elements");
         }
 
-        for (int j = 0; j < dim; ++j) {
-            vect->push_back(vector[j]);
-        }
+        vect->insert(vect->end(), vector, vector + dim);
         env->ReleaseFloatArrayElements(vectorArray, vector, JNI_ABORT);
     }  // End for
     this->HasExceptionInStack(env);
@@ -285,9 +283,7 @@ void knn_jni::JNIUtil::Convert2dJavaObjectArrayAndStoreToBinaryVector(JNIEnv *en
             throw std::runtime_error("Unable to get byte array elements");
         }
 
-        for (int j = 0; j < dim; ++j) {
-            vect->push_back(vector[j]);
-        }
+        vect->insert(vect->end(), vector, vector + dim);
         env->ReleaseByteArrayElements(vectorArray, reinterpret_cast<int8_t*>(vector), JNI_ABORT);
     }
     this->HasExceptionInStack(env);
@@ -586,6 +582,17 @@ void knn_jni::JNIUtil::ReleasePrimitiveArrayCritical(JNIEnv * env, jarray array,
     return env->ReleasePrimitiveArrayCritical(array, carray, mode);
 }
 
+void * knn_jni::JNIUtil::GetDirectBufferAddress(JNIEnv * env, jobject buffer) {
+    if (buffer == nullptr) {
+        throw std::runtime_error("Buffer cannot be null");
+    }
+    void * address = env->GetDirectBufferAddress(buffer);
+    if (address == nullptr) {
+        throw std::runtime_error("Unable to get address of buffer. Buffer must be a direct buffer");
+    }
+    return address;
+}
+
 jobject knn_jni::GetJObjectFromMapOrThrow(std::unordered_map<std::string, jobject> map, std::string key) {
     auto it = map.find(key);
     if (it != map.end()) {
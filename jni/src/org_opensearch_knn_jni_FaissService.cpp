@@ -235,6 +235,87 @@ JNIEXPORT void JNICALL Java_org_opensearch_knn_jni_FaissService_createByteIndexF
     }
 }
 
+JNIEXPORT jlong JNICALL Java_org_opensearch_knn_jni_FaissService_loadTemplate(JNIEnv * env, jclass cls,
+                                                                             jbyteArray templateIndexJ,
+                                                                             jboolean isBinaryJ)
+{
+    try {
+        return knn_jni::faiss_wrapper::LoadTemplate(&jniUtil, env, templateIndexJ, isBinaryJ);
+    } catch (...) {
+        jniUtil.CatchCppExceptionAndThrowJava(env);
+    }
+    return NULL;
+}
+
+JNIEXPORT void JNICALL Java_org_opensearch_knn_jni_FaissService_createIndexFromLoadedTemplate(JNIEnv * env,
+                                                                                              jclass cls,
+                                                                                              jintArray idsJ,
+                                                                                              jlong vectorsAddressJ,
+                                                                                              jint dimJ,
+                                                                                              jobject output,
+                                                                                              jlong templateAddressJ,
+                                                                                              jobject parametersJ)
+{
+    try {
+        knn_jni::faiss_wrapper::CreateIndexFromLoadedTemplate(&jniUtil,
+                                                              env,
+                                                              idsJ,
+                                                              vectorsAddressJ,
+                                                              dimJ,
+                                                              output,
+                                                              templateAddressJ,
+                                                              parametersJ);
+    } catch (...) {
+        jniUtil.CatchCppExceptionAndThrowJava(env);
+    }
+}
+
+JNIEXPORT void JNICALL Java_org_opensearch_knn_jni_FaissService_createBinaryIndexFromLoadedTemplate(JNIEnv * env,
+                                                                                                    jclass cls,
+                                                                                                    jintArray idsJ,
+                                                                                                    jlong vectorsAddressJ,
+                                                                                                    jint dimJ,
+                                                                                                    jobject output,
+                                                                                                    jlong templateAddressJ,
+                                                                                                    jobject parametersJ)
+{
+    try {
+        knn_jni::faiss_wrapper::CreateBinaryIndexFromLoadedTemplate(&jniUtil,
+                                                                    env,
+                                                                    idsJ,
+                                                                    vectorsAddressJ,
+                                                                    dimJ,
+                                                                    output,
+                                                                    templateAddressJ,
+                                                                    parametersJ);
+    } catch (...) {
+        jniUtil.CatchCppExceptionAndThrowJava(env);
+    }
+}
+
+JNIEXPORT void JNICALL Java_org_opensearch_knn_jni_FaissService_createByteIndexFromLoadedTemplate(JNIEnv * env,
+                                                                                                  jclass cls,
+                                                                                                  jintArray idsJ,
+                                                                                                  jlong vectorsAddressJ,
+                                                                                                  jint dimJ,
+                                                                                                  jobject output,
+                                                                                                  jlong templateAddressJ,
+                                                                                                  jobject parametersJ)
+{
+    try {
+        knn_jni::faiss_wrapper::CreateByteIndexFromLoadedTemplate(&jniUtil,
+                                                                  env,
+                                                                  idsJ,
+                                                                  vectorsAddressJ,
+                                                                  dimJ,
+                                                                  output,
+                                                                  templateAddressJ,
+                                                                  parametersJ);
+    } catch (...) {
+        jniUtil.CatchCppExceptionAndThrowJava(env);
+    }
+}
+
 JNIEXPORT jlong JNICALL Java_org_opensearch_knn_jni_FaissService_loadIndex(JNIEnv * env, jclass cls, jstring indexPathJ)
 {
   try {
@@ -397,13 +478,78 @@ JNIEXPORT void JNICALL Java_org_opensearch_knn_jni_FaissService_initLibrary(JNIE
     }
 }
 
+JNIEXPORT jlong JNICALL Java_org_opensearch_knn_jni_FaissService_createTrainingProgress(JNIEnv * env, jclass cls)
+{
+    try {
+        return knn_jni::faiss_wrapper::CreateTrainingProgress();
+    } catch (...) {
+        jniUtil.CatchCppExceptionAndThrowJava(env);
+    }
+    return NULL;
+}
+
+JNIEXPORT void JNICALL Java_org_opensearch_knn_jni_FaissService_cancelTraining(JNIEnv * env, jclass cls,
+                                                                               jlong trainingProgressJ)
+{
+    try {
+        knn_jni::faiss_wrapper::CancelTraining(trainingProgressJ);
+    } catch (...) {
+        jniUtil.CatchCppExceptionAndThrowJava(env);
+    }
+}
+
+JNIEXPORT jint JNICALL Java_org_opensearch_knn_jni_FaissService_getTrainingIterations(JNIEnv * env, jclass cls,
+                                                                                      jlong trainingProgressJ)
+{
+    try {
+        return knn_jni::faiss_wrapper::GetTrainingIterations(trainingProgressJ);
+    } catch (...) {
+        jniUtil.CatchCppExceptionAndThrowJava(env);
+    }
+    return 0;
+}
+
+JNIEXPORT jint JNICALL Java_org_opensearch_knn_jni_FaissService_getTrainingTotalIterations(JNIEnv * env, jclass cls,
+                                                                                           jlong trainingProgressJ)
+{
+    try {
+        return knn_jni::faiss_wrapper::GetTrainingTotalIterations(trainingProgressJ);
+    } catch (...) {
+        jniUtil.CatchCppExceptionAndThrowJava(env);
+    }
+    return 0;
+}
+
+JNIEXPORT jdouble JNICALL Java_org_opensearch_knn_jni_FaissService_getTrainingObjective(JNIEnv * env, jclass cls,
+                                                                                        jlong trainingProgressJ)
+{
+    try {
+        return knn_jni::faiss_wrapper::GetTrainingObjective(trainingProgressJ);
+    } catch (...) {
+        jniUtil.CatchCppExceptionAndThrowJava(env);
+    }
+    return 0;
+}
+
+JNIEXPORT void JNICALL Java_org_opensearch_knn_jni_FaissService_freeTrainingProgress(JNIEnv * env, jclass cls,
+                                                                                     jlong trainingProgressJ)
+{
+    try {
+        knn_jni::faiss_wrapper::FreeTrainingProgress(trainingProgressJ);
+    } catch (...) {
+        jniUtil.CatchCppExceptionAndThrowJava(env);
+    }
+}
+
 JNIEXPORT jbyteArray JNICALL Java_org_opensearch_knn_jni_FaissService_trainIndex(JNIEnv * env, jclass cls,
                                                                                  jobject parametersJ,
                                                                                  jint dimensionJ,
-                                                                                 jlong trainVectorsPointerJ)
+                                                                                 jlong trainVectorsPointerJ,
+                                                                                 jlong trainingProgressJ)
 {
     try {
-        return knn_jni::faiss_wrapper::TrainIndex(&jniUtil, env, parametersJ, dimensionJ, trainVectorsPointerJ);
+        return knn_jni::faiss_wrapper::TrainIndex(&jniUtil, env, parametersJ, dimensionJ, trainVectorsPointerJ,
+                                                 trainingProgressJ);
     } catch (...) {
         jniUtil.CatchCppExceptionAndThrowJava(env);
     }
@@ -413,10 +559,12 @@ JNIEXPORT jbyteArray JNICALL Java_org_opensearch_knn_jni_FaissService_trainIndex
 JNIEXPORT jbyteArray JNICALL Java_org_opensearch_knn_jni_FaissService_trainBinaryIndex(JNIEnv * env, jclass cls,
                                                                                  jobject parametersJ,
                                                                                  jint dimensionJ,
-                                                                                 jlong trainVectorsPointerJ)
+                                                                                 jlong trainVectorsPointerJ,
+                                                                                 jlong trainingProgressJ)
 {
     try {
-        return knn_jni::faiss_wrapper::TrainBinaryIndex(&jniUtil, env, parametersJ, dimensionJ, trainVectorsPointerJ);
+        return knn_jni::faiss_wrapper::TrainBinaryIndex(&jniUtil, env, parametersJ, dimensionJ, trainVectorsPointerJ,
+                                                 trainingProgressJ);
     } catch (...) {
         jniUtil.CatchCppExceptionAndThrowJava(env);
     }
@@ -426,10 +574,12 @@ JNIEXPORT jbyteArray JNICALL Java_org_opensearch_knn_jni_FaissService_trainBinar
 JNIEXPORT jbyteArray JNICALL Java_org_opensearch_knn_jni_FaissService_trainByteIndex(JNIEnv * env, jclass cls,
                                                                                  jobject parametersJ,
                                                                                  jint dimensionJ,
-                                                                                 jlong trainVectorsPointerJ)
+                                                                                 jlong trainVectorsPointerJ,
+                                                                                 jlong trainingProgressJ)
 {
     try {
-        return knn_jni::faiss_wrapper::TrainByteIndex(&jniUtil, env, parametersJ, dimensionJ, trainVectorsPointerJ);
+        return knn_jni::faiss_wrapper::TrainByteIndex(&jniUtil, env, parametersJ, dimensionJ, trainVectorsPointerJ,
+                                                 trainingProgressJ);
     } catch (...) {
         jniUtil.CatchCppExceptionAndThrowJava(env);
     }
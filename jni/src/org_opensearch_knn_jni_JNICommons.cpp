@@ -73,6 +73,42 @@ jlong memoryAddressJ, jobjectArray dataJ, jlong initialCapacityJ, jboolean appen
     return (long)memoryAddressJ;
 }
 
+JNIEXPORT jlong JNICALL Java_org_opensearch_knn_jni_JNICommons_storeVectorDataFromBuffer(JNIEnv * env, jclass cls,
+jlong memoryAddressJ, jobject bufferJ, jlong numBytesJ, jlong initialCapacityJ, jboolean appendJ)
+
+{
+    try {
+        return knn_jni::commons::storeVectorDataFromBuffer(&jniUtil, env, memoryAddressJ, bufferJ, numBytesJ, initialCapacityJ, appendJ);
+    } catch (...) {
+        jniUtil.CatchCppExceptionAndThrowJava(env);
+    }
+    return (long)memoryAddressJ;
+}
+
+JNIEXPORT jlong JNICALL Java_org_opensearch_knn_jni_JNICommons_storeBinaryVectorDataFromBuffer(JNIEnv * env, jclass cls,
+jlong memoryAddressJ, jobject bufferJ, jlong numBytesJ, jlong initialCapacityJ, jboolean appendJ)
+
+{
+    try {
+        return knn_jni::commons::storeBinaryVectorDataFromBuffer(&jniUtil, env, memoryAddressJ, bufferJ, numBytesJ, initialCapacityJ, appendJ);
+    } catch (...) {
+        jniUtil.CatchCppExceptionAndThrowJava(env);
+    }
+    return (long)memoryAddressJ;
+}
+
+JNIEXPORT jlong JNICALL Java_org_opensearch_knn_jni_JNICommons_storeByteVectorDataFromBuffer(JNIEnv * env, jclass cls,
+jlong memoryAddressJ, jobject bufferJ, jlong numBytesJ, jlong initialCapacityJ, jboolean appendJ)
+
+{
+    try {
+        return knn_jni::commons::storeByteVectorDataFromBuffer(&jniUtil, env, memoryAddressJ, bufferJ, numBytesJ, initialCapacityJ, appendJ);
+    } catch (...) {
+        jniUtil.CatchCppExceptionAndThrowJava(env);
+    }
+    return (long)memoryAddressJ;
+}
+
 JNIEXPORT void JNICALL Java_org_opensearch_knn_jni_JNICommons_freeVectorData(JNIEnv * env, jclass cls,
                                                                             jlong memoryAddressJ)
 {
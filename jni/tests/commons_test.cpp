@@ -182,6 +182,75 @@ TEST(StoreByteVectorTest, BasicAssertions) {
     knn_jni::commons::freeBinaryVectorData(memoryAddress);
 }
 
+TEST(StoreVectorDataFromBufferTest, BasicAssertions) {
+    long dim = 3;
+    long totalNumberOfVector = 5;
+    std::vector<float> data;
+    for(int i = 0 ; i < totalNumberOfVector - 1 ; i++) {
+        for(int j = 0 ; j < dim ; j ++) {
+            data.push_back((float)(i * dim + j));
+        }
+    }
+    JNIEnv *jniEnv = nullptr;
+
+    testing::NiceMock<test_util::MockJNIUtil> mockJNIUtil;
+
+    jlong memoryAddress = knn_jni::commons::storeVectorDataFromBuffer(&mockJNIUtil, jniEnv, (jlong)0,
+        reinterpret_cast<jobject>(data.data()), (jlong)(data.size() * sizeof(float)), (jlong)(totalNumberOfVector * dim), true);
+    ASSERT_NE(memoryAddress, 0);
+    auto *vect = reinterpret_cast<std::vector<float>*>(memoryAddress);
+    ASSERT_EQ(vect->size(), data.size());
+    ASSERT_EQ(vect->capacity(), totalNumberOfVector * dim);
+    for (int i = 0; i < data.size(); i++) {
+        ASSERT_FLOAT_EQ(vect->at(i), data[i]);
+    }
+
+    // Only the requested number of bytes must be read, and append == false must start from index 0
+    jlong oldMemoryAddress = memoryAddress;
+    memoryAddress = knn_jni::commons::storeVectorDataFromBuffer(&mockJNIUtil, jniEnv, memoryAddress,
+        reinterpret_cast<jobject>(data.data()), (jlong)(dim * sizeof(float)), (jlong)(totalNumberOfVector * dim), false);
+    ASSERT_EQ(memoryAddress, oldMemoryAddress);
+    ASSERT_EQ(vect->size(), dim);
+    ASSERT_EQ(vect->capacity(), totalNumberOfVector * dim);
+    for (int i = 0; i < dim; i++) {
+        ASSERT_FLOAT_EQ(vect->at(i), data[i]);
+    }
+
+    knn_jni::commons::freeVectorData(memoryAddress);
+}
+
+TEST(StoreByteVectorDataFromBufferTest, BasicAssertions) {
+    long dim = 4;
+    long totalNumberOfVector = 3;
+    std::vector<int8_t> data;
+    for(int i = 0 ; i < totalNumberOfVector * dim ; i++) {
+        data.push_back((int8_t)(i - 6));
+    }
+    JNIEnv *jniEnv = nullptr;
+
+    testing::NiceMock<test_util::MockJNIUtil> mockJNIUtil;
+
+    jlong memoryAddress = knn_jni::commons::storeByteVectorDataFromBuffer(&mockJNIUtil, jniEnv, (jlong)0,
+        reinterpret_cast<jobject>(data.data()), (jlong)data.size(), (jlong)(totalNumberOfVector * dim), true);
+    ASSERT_NE(memoryAddress, 0);
+    auto *vect = reinterpret_cast<std::vector<int8_t>*>(memoryAddress);
+    ASSERT_EQ(vect->size(), data.size());
+    for (int i = 0; i < data.size(); i++) {
+        ASSERT_EQ(vect->at(i), data[i]);
+    }
+    knn_jni::commons::freeByteVectorData(memoryAddress);
+
+    memoryAddress = knn_jni::commons::storeBinaryVectorDataFromBuffer(&mockJNIUtil, jniEnv, (jlong)0,
+        reinterpret_cast<jobject>(data.data()), (jlong)data.size(), (jlong)(totalNumberOfVector * dim), true);
+    ASSERT_NE(memoryAddress, 0);
+    auto *binaryVect = reinterpret_cast<std::vector<uint8_t>*>(memoryAddress);
+    ASSERT_EQ(binaryVect->size(), data.size());
+    for (int i = 0; i < data.size(); i++) {
+        ASSERT_EQ(binaryVect->at(i), (uint8_t) data[i]);
+    }
+    knn_jni::commons::freeBinaryVectorData(memoryAddress);
+}
+
 TEST(CommonTests, GetIntegerMethodParam) {
     JNIEnv *jniEnv = nullptr;
     testing::NiceMock<test_util::MockJNIUtil> mockJNIUtil;
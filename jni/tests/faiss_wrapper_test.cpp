@@ -11,6 +11,8 @@
 
 #include "faiss_wrapper.h"
 
+#include <atomic>
+#include <thread>
 #include <vector>
 
 #include "gmock/gmock.h"
@@ -19,6 +21,7 @@
 #include "test_util.h"
 #include "faiss/IndexHNSW.h"
 #include "faiss/IndexIVFPQ.h"
+#include "faiss/impl/AuxIndexStructures.h"
 #include "mocks/faiss_index_service_mock.h"
 #include "native_stream_support_util.h"
 
@@ -326,6 +329,183 @@ TEST(FaissCreateByteIndexFromTemplateTest, BasicAssertions) {
     }  // End for
 }
 
+// Loads a serialized template with its own JNI mocks, as the output mocking overrides the length of byte arrays
+jlong loadTemplate(std::vector<uint8_t> & templateBytes, bool isBinary) {
+    NiceMock<JNIEnv> jniEnv;
+    NiceMock<test_util::MockJNIUtil> mockJNIUtil;
+    return knn_jni::faiss_wrapper::LoadTemplate(&mockJNIUtil, &jniEnv, reinterpret_cast<jbyteArray>(&templateBytes),
+                                                isBinary);
+}
+
+TEST(FaissLoadTemplateTest, BasicAssertions) {
+    int dim = 4;
+    faiss::idx_t numVectors = 100;
+    std::vector<float> trainingVectors;
+    for (int64_t i = 0; i < numVectors * dim; ++i) {
+        trainingVectors.push_back(test_util::RandomFloat(randomDataMin, randomDataMax));
+    }
+    std::unique_ptr<faiss::Index> templateIndex(test_util::FaissCreateIndex(dim, "IVF4,Flat", faiss::METRIC_L2));
+    test_util::FaissTrainIndex(templateIndex.get(), numVectors, trainingVectors.data());
+    auto vectorIoWriter = test_util::FaissGetSerializedIndex(templateIndex.get());
+
+    jlong templateAddress = loadTemplate(vectorIoWriter.data, false);
+    auto loadedTemplate = reinterpret_cast<faiss::Index *>(templateAddress);
+    ASSERT_TRUE(loadedTemplate->is_trained);
+    ASSERT_EQ(vectorIoWriter.data, test_util::FaissGetSerializedIndex(loadedTemplate).data);
+    knn_jni::faiss_wrapper::Free(templateAddress, false);
+
+    // Binary templates are read as binary indices
+    std::unique_ptr<faiss::IndexBinary> binaryTemplateIndex(test_util::FaissCreateBinaryIndex(64, "BFlat"));
+    auto binaryVectorIoWriter = test_util::FaissGetSerializedBinaryIndex(binaryTemplateIndex.get());
+    jlong binaryTemplateAddress = loadTemplate(binaryVectorIoWriter.data, true);
+    ASSERT_EQ(binaryVectorIoWriter.data,
+              test_util::FaissGetSerializedBinaryIndex(reinterpret_cast<faiss::IndexBinary *>(binaryTemplateAddress)).data);
+    knn_jni::faiss_wrapper::Free(binaryTemplateAddress, true);
+}
+
+TEST(FaissCreateIndexFromLoadedTemplateTest, BasicAssertions) {
+    int dim = 4;
+    faiss::idx_t numIds = 100;
+    std::vector<float> trainingVectors;
+    for (int64_t i = 0; i < numIds * dim; ++i) {
+        trainingVectors.push_back(test_util::RandomFloat(randomDataMin, randomDataMax));
+    }
+    std::unique_ptr<faiss::Index> templateIndex(test_util::FaissCreateIndex(dim, "IVF4,Flat", faiss::METRIC_L2));
+    test_util::FaissTrainIndex(templateIndex.get(), numIds, trainingVectors.data());
+    auto vectorIoWriter = test_util::FaissGetSerializedIndex(templateIndex.get());
+    jlong templateAddress = loadTemplate(vectorIoWriter.data, false);
+
+    std::string spaceType = knn_jni::L2;
+    std::unordered_map<std::string, jobject> parametersMap;
+    parametersMap[knn_jni::SPACE_TYPE] = (jobject) &spaceType;
+
+    // Every segment is built from its own clone, so the loaded template can be used again
+    for (int segment = 0; segment < 2; ++segment) {
+        std::vector<faiss::idx_t> ids;
+        auto *vectors = new std::vector<float>();
+        for (int64_t i = 0; i < numIds; ++i) {
+            ids.push_back(i);
+            for (int j = 0; j < dim; ++j) {
+                vectors->push_back(test_util::RandomFloat(randomDataMin, randomDataMax));
+            }
+        }
+
+        std::string indexPath = test_util::RandomString(10, "tmp/", ".faiss");
+        NiceMock<JNIEnv> jniEnv;
+        NiceMock<test_util::MockJNIUtil> mockJNIUtil;
+        JavaFileIndexOutputMock javaFileIndexOutputMock {indexPath};
+        setUpJavaFileOutputMocking(javaFileIndexOutputMock, mockJNIUtil, false);
+
+        knn_jni::faiss_wrapper::CreateIndexFromLoadedTemplate(
+            &mockJNIUtil, &jniEnv, reinterpret_cast<jintArray>(&ids),
+            (jlong) vectors, dim, (jobject) (&javaFileIndexOutputMock),
+            templateAddress, (jobject) &parametersMap);
+        javaFileIndexOutputMock.file_writer.close();
+
+        std::unique_ptr<faiss::Index> index(test_util::FaissLoadIndex(indexPath));
+        ASSERT_EQ(numIds, index->ntotal);
+        std::remove(indexPath.c_str());
+    }
+
+    ASSERT_EQ(0, reinterpret_cast<faiss::Index *>(templateAddress)->ntotal);
+    ASSERT_EQ(vectorIoWriter.data,
+              test_util::FaissGetSerializedIndex(reinterpret_cast<faiss::Index *>(templateAddress)).data);
+    knn_jni::faiss_wrapper::Free(templateAddress, false);
+}
+
+TEST(FaissCreateBinaryIndexFromLoadedTemplateTest, BasicAssertions) {
+    int dim = 64;
+    faiss::idx_t numIds = 100;
+    // faiss clones flat binary templates, other binary templates are copied through their serialized form
+    for (auto method : std::array<std::string, 2> {"BFlat", "BIVF4"}) {
+        std::vector<uint8_t> trainingVectors;
+        for (int64_t i = 0; i < numIds * (dim / 8); ++i) {
+            trainingVectors.push_back(test_util::RandomInt(0, 255));
+        }
+        std::unique_ptr<faiss::IndexBinary> templateIndex(test_util::FaissCreateBinaryIndex(dim, method));
+        if (!templateIndex->is_trained) {
+            templateIndex->train(numIds, trainingVectors.data());
+        }
+        auto vectorIoWriter = test_util::FaissGetSerializedBinaryIndex(templateIndex.get());
+        jlong templateAddress = loadTemplate(vectorIoWriter.data, true);
+
+        std::string spaceType = knn_jni::HAMMING;
+        std::unordered_map<std::string, jobject> parametersMap;
+        parametersMap[knn_jni::SPACE_TYPE] = (jobject) &spaceType;
+
+        for (int segment = 0; segment < 2; ++segment) {
+            std::vector<faiss::idx_t> ids;
+            auto *vectors = new std::vector<uint8_t>();
+            for (int64_t i = 0; i < numIds; ++i) {
+                ids.push_back(i);
+                for (int j = 0; j < dim / 8; ++j) {
+                    vectors->push_back(test_util::RandomInt(0, 255));
+                }
+            }
+
+            std::string indexPath = test_util::RandomString(10, "tmp/", ".faiss");
+            NiceMock<JNIEnv> jniEnv;
+            NiceMock<test_util::MockJNIUtil> mockJNIUtil;
+            JavaFileIndexOutputMock javaFileIndexOutputMock {indexPath};
+            setUpJavaFileOutputMocking(javaFileIndexOutputMock, mockJNIUtil, false);
+
+            knn_jni::faiss_wrapper::CreateBinaryIndexFromLoadedTemplate(
+                &mockJNIUtil, &jniEnv, reinterpret_cast<jintArray>(&ids),
+                (jlong) vectors, dim, (jobject) (&javaFileIndexOutputMock),
+                templateAddress, (jobject) &parametersMap);
+            javaFileIndexOutputMock.file_writer.close();
+
+            std::unique_ptr<faiss::IndexBinary> index(test_util::FaissLoadBinaryIndex(indexPath));
+            ASSERT_EQ(numIds, index->ntotal);
+            std::remove(indexPath.c_str());
+        }
+
+        ASSERT_EQ(0, reinterpret_cast<faiss::IndexBinary *>(templateAddress)->ntotal);
+        knn_jni::faiss_wrapper::Free(templateAddress, true);
+    }
+}
+
+TEST(FaissCreateByteIndexFromLoadedTemplateTest, BasicAssertions) {
+    int dim = 8;
+    faiss::idx_t numIds = 100;
+    std::unique_ptr<faiss::Index> templateIndex(
+        test_util::FaissCreateIndex(dim, "HNSW32,SQ8_direct_signed", faiss::METRIC_L2));
+    auto vectorIoWriter = test_util::FaissGetSerializedIndex(templateIndex.get());
+    jlong templateAddress = loadTemplate(vectorIoWriter.data, false);
+
+    std::vector<faiss::idx_t> ids;
+    auto *vectors = new std::vector<int8_t>();
+    for (int64_t i = 0; i < numIds; ++i) {
+        ids.push_back(i);
+        for (int j = 0; j < dim; ++j) {
+            vectors->push_back(test_util::RandomInt(-128, 127));
+        }
+    }
+
+    std::string indexPath = test_util::RandomString(10, "tmp/", ".faiss");
+    NiceMock<JNIEnv> jniEnv;
+    NiceMock<test_util::MockJNIUtil> mockJNIUtil;
+    JavaFileIndexOutputMock javaFileIndexOutputMock {indexPath};
+    setUpJavaFileOutputMocking(javaFileIndexOutputMock, mockJNIUtil, false);
+
+    std::string spaceType = knn_jni::L2;
+    std::unordered_map<std::string, jobject> parametersMap;
+    parametersMap[knn_jni::SPACE_TYPE] = (jobject) &spaceType;
+
+    knn_jni::faiss_wrapper::CreateByteIndexFromLoadedTemplate(
+        &mockJNIUtil, &jniEnv, reinterpret_cast<jintArray>(&ids),
+        (jlong) vectors, dim, (jobject) (&javaFileIndexOutputMock),
+        templateAddress, (jobject) &parametersMap);
+    javaFileIndexOutputMock.file_writer.close();
+
+    std::unique_ptr<faiss::Index> index(test_util::FaissLoadIndex(indexPath));
+    ASSERT_EQ(numIds, index->ntotal);
+    ASSERT_EQ(0, reinterpret_cast<faiss::Index *>(templateAddress)->ntotal);
+
+    std::remove(indexPath.c_str());
+    knn_jni::faiss_wrapper::Free(templateAddress, false);
+}
+
 TEST(FaissLoadIndexTest, BasicAssertions) {
     // Define the data
     faiss::idx_t numIds = 100;
@@ -844,6 +1024,89 @@ TEST(FaissTrainByteIndexTest, BasicAssertions) {
     ASSERT_TRUE(trainedIndex->is_trained);
 }
 
+std::vector<float> trainAndGetCentroids(std::vector<float>& trainingVectors, int dim, int nlist, jlong trainingProgress) {
+    std::string spaceType = knn_jni::L2;
+    std::string indexDescription = "IVF" + std::to_string(nlist) + ",Flat";
+    std::unordered_map<std::string, jobject> parametersMap;
+    parametersMap[knn_jni::SPACE_TYPE] = (jobject) &spaceType;
+    parametersMap[knn_jni::INDEX_DESCRIPTION] = (jobject) &indexDescription;
+
+    NiceMock<JNIEnv> jniEnv;
+    NiceMock<test_util::MockJNIUtil> mockJNIUtil;
+    std::unique_ptr<std::vector<uint8_t>> trainedIndexSerialization(
+            reinterpret_cast<std::vector<uint8_t> *>(
+                    knn_jni::faiss_wrapper::TrainIndex(
+                            &mockJNIUtil, &jniEnv, (jobject) &parametersMap, dim,
+                            reinterpret_cast<jlong>(&trainingVectors), trainingProgress)));
+    std::unique_ptr<faiss::Index> trainedIndex(
+            test_util::FaissLoadFromSerializedIndex(trainedIndexSerialization.get()));
+
+    auto *trainedIndexIvf = dynamic_cast<faiss::IndexIVF *>(trainedIndex.get());
+    std::vector<float> centroids(nlist * dim);
+    trainedIndexIvf->quantizer->reconstruct_n(0, nlist, centroids.data());
+    return centroids;
+}
+
+TEST(FaissTrainIndexWithProgressTest, SameCentroidsAsSingleClustering) {
+    int dim = 8;
+    int nlist = 16;
+    std::vector<float> trainingVectors = test_util::RandomVectors(dim, 2048, randomDataMin, randomDataMax);
+
+    std::vector<float> expectedCentroids = trainAndGetCentroids(trainingVectors, dim, nlist, 0);
+
+    jlong trainingProgress = knn_jni::faiss_wrapper::CreateTrainingProgress();
+    std::vector<float> centroids = trainAndGetCentroids(trainingVectors, dim, nlist, trainingProgress);
+
+    // Every k-means iteration of the single clustering ran, one at a time
+    faiss::ClusteringParameters clusteringParameters;
+    ASSERT_EQ(clusteringParameters.niter, knn_jni::faiss_wrapper::GetTrainingTotalIterations(trainingProgress));
+    ASSERT_EQ(clusteringParameters.niter, knn_jni::faiss_wrapper::GetTrainingIterations(trainingProgress));
+    ASSERT_LT(0, knn_jni::faiss_wrapper::GetTrainingObjective(trainingProgress));
+    knn_jni::faiss_wrapper::FreeTrainingProgress(trainingProgress);
+
+    ASSERT_EQ(expectedCentroids.size(), centroids.size());
+    for (size_t i = 0; i < centroids.size(); i++) {
+        ASSERT_NEAR(expectedCentroids[i], centroids[i], 1e-5);
+    }
+
+    // The interrupt callback is only installed while training, so searches do not poll it
+    ASSERT_EQ(nullptr, faiss::InterruptCallback::instance.get());
+}
+
+TEST(FaissTrainIndexWithProgressTest, CancelledDuringTraining) {
+    // Large enough for a k-means iteration to take much longer than cancelling
+    int dim = 64;
+    int nlist = 256;
+    std::vector<float> trainingVectors = test_util::RandomVectors(dim, 20000, randomDataMin, randomDataMax);
+    jlong trainingProgress = knn_jni::faiss_wrapper::CreateTrainingProgress();
+
+    std::atomic<bool> trainingDone{false};
+    bool interrupted = false;
+    std::thread trainingThread([&] {
+        try {
+            trainAndGetCentroids(trainingVectors, dim, nlist, trainingProgress);
+        } catch (const std::exception&) {
+            interrupted = true;
+        }
+        trainingDone = true;
+    });
+
+    // Cancel once the first iteration is done
+    while (!trainingDone && knn_jni::faiss_wrapper::GetTrainingIterations(trainingProgress) == 0) {
+        std::this_thread::yield();
+    }
+    knn_jni::faiss_wrapper::CancelTraining(trainingProgress);
+    trainingThread.join();
+
+    ASSERT_TRUE(interrupted);
+    jint iterations = knn_jni::faiss_wrapper::GetTrainingIterations(trainingProgress);
+    ASSERT_LE(1, iterations);
+    ASSERT_GT(knn_jni::faiss_wrapper::GetTrainingTotalIterations(trainingProgress), iterations);
+    knn_jni::faiss_wrapper::FreeTrainingProgress(trainingProgress);
+
+    ASSERT_EQ(nullptr, faiss::InterruptCallback::instance.get());
+}
+
 TEST(FaissCreateHnswSQfp16IndexTest, BasicAssertions) {
     // Define the data
     faiss::idx_t numIds = 200;
@@ -100,6 +100,12 @@ test_util::MockJNIUtil::MockJNIUtil() {
     ON_CALL(*this, DeleteLocalRef)
             .WillByDefault([this](JNIEnv *env, jobject obj) {});
 
+    // buffer is re-interpreted as a pointer to the raw data
+    ON_CALL(*this, GetDirectBufferAddress)
+            .WillByDefault([this](JNIEnv *env, jobject buffer) {
+                return reinterpret_cast<void *>(buffer);
+            });
+
     // Return any value that isnt 0. This function should not return anything
     // meaningful in the unit tests
     ON_CALL(*this, FindClass)
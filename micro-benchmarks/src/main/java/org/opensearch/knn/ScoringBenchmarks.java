@@ -0,0 +1,120 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.knn;
+
+import org.apache.lucene.util.BytesRef;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opensearch.knn.plugin.script.KNNScoringSpaceUtil;
+import org.opensearch.knn.plugin.script.KNNScoringUtil;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the scoring kernels used by script scoring and the painless functions, for the dimensions commonly
+ * used with exact search. The BigInteger hamming benchmark is kept to compare against the magnitude based one.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(3)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ScoringBenchmarks {
+    private static final Random random = new Random(1212121212);
+
+    @Param({ "128", "256", "512", "1024", "2048", "4096" })
+    private int dimension;
+
+    private float[] queryVector;
+    private float[] inputVector;
+    private float queryVectorMagnitude;
+    private byte[] queryBytes;
+    private byte[] inputBytes;
+    private BytesRef queryBytesRef;
+    private BytesRef inputBytesRef;
+    private BigInteger queryBigInteger;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        queryVector = randomVector(dimension);
+        inputVector = randomVector(dimension);
+        queryVectorMagnitude = KNNScoringSpaceUtil.getVectorMagnitudeSquared(queryVector);
+        queryBytes = new byte[dimension / Byte.SIZE];
+        inputBytes = new byte[dimension / Byte.SIZE];
+        random.nextBytes(queryBytes);
+        random.nextBytes(inputBytes);
+        queryBytesRef = new BytesRef(queryBytes);
+        inputBytesRef = new BytesRef(inputBytes);
+        queryBigInteger = new BigInteger(1, queryBytes);
+    }
+
+    @Benchmark
+    public float l2Squared() {
+        return KNNScoringUtil.l2Squared(queryVector, inputVector);
+    }
+
+    @Benchmark
+    public float innerProduct() {
+        return KNNScoringUtil.innerProduct(queryVector, inputVector);
+    }
+
+    @Benchmark
+    public float cosineSimilarityOptimized() {
+        return KNNScoringUtil.cosinesimilOptimized(queryVector, inputVector, queryVectorMagnitude);
+    }
+
+    @Benchmark
+    public float l1Norm() {
+        return KNNScoringUtil.l1Norm(queryVector, inputVector);
+    }
+
+    @Benchmark
+    public float lInfNorm() {
+        return KNNScoringUtil.lInfNorm(queryVector, inputVector);
+    }
+
+    @Benchmark
+    public float hammingBitOfBytes() {
+        return KNNScoringUtil.calculateHammingBit(queryBytes, inputBytes);
+    }
+
+    @Benchmark
+    public float hammingBitOfMagnitudes() {
+        return KNNScoringUtil.calculateHammingBitOfMagnitudes(queryBytesRef, inputBytesRef);
+    }
+
+    @Benchmark
+    public float hammingBitOfBigIntegers() {
+        return KNNScoringUtil.calculateHammingBit(queryBigInteger, new BigInteger(1, inputBytes));
+    }
+
+    private static float[] randomVector(final int dimension) {
+        final float[] vector = new float[dimension];
+        for (int i = 0; i < dimension; i++) {
+            vector[i] = random.nextFloat();
+        }
+        return vector;
+    }
+}
@@ -25,6 +25,8 @@ import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
 import org.opensearch.knn.jni.JNICommons;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
@@ -32,7 +34,8 @@ import java.util.concurrent.TimeUnit;
 
 /**
  * The class provides runs some benchmarks and provide the performance data around how much time it will take to
- * transfer vectors from java to jni layer for different configuration.
+ * transfer vectors from java to jni layer for different configuration. It compares staging vectors in a java list
+ * and transferring them as a 2D array against writing each vector into a pre-sized direct buffer as it arrives.
  */
 @Warmup(iterations = 1, timeUnit = TimeUnit.SECONDS, time = 300)
 @Measurement(iterations = 1, timeUnit = TimeUnit.SECONDS, time = 300)
@@ -87,6 +90,41 @@ public class TransferVectorsBenchmarks {
         JNICommons.freeVectorData(vectorsAddress);
     }
 
+    @Benchmark
+    public void transferVectors_withDirectBuffer() {
+        long vectorsAddress = 0;
+        // A single direct buffer can hold at most Integer.MAX_VALUE bytes
+        final int vectorsPerBuffer = Math.min(vectorsPerTransfer, Integer.MAX_VALUE / (dimension * Float.BYTES));
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(vectorsPerBuffer * dimension * Float.BYTES).order(ByteOrder.nativeOrder());
+        int bufferedVectors = 0;
+        for (float[] floats : vectorList) {
+            if (bufferedVectors == vectorsPerBuffer) {
+                vectorsAddress = JNICommons.storeVectorDataFromBuffer(
+                    vectorsAddress,
+                    buffer,
+                    buffer.position(),
+                    dimension * TOTAL_NUMBER_OF_VECTOR_TO_BE_TRANSFERRED,
+                    true
+                );
+                buffer.clear();
+                bufferedVectors = 0;
+            }
+            buffer.asFloatBuffer().put(floats);
+            buffer.position(buffer.position() + floats.length * Float.BYTES);
+            bufferedVectors++;
+        }
+        if (bufferedVectors > 0) {
+            vectorsAddress = JNICommons.storeVectorDataFromBuffer(
+                vectorsAddress,
+                buffer,
+                buffer.position(),
+                dimension * TOTAL_NUMBER_OF_VECTOR_TO_BE_TRANSFERRED,
+                true
+            );
+        }
+        JNICommons.freeVectorData(vectorsAddress);
+    }
+
     private float[] generateRandomVector(int dimensions) {
         float[] vector = new float[dimensions];
         for (int i = 0; i < dimensions; i++) {
@@ -40,6 +40,10 @@ public class KNNConstants {
     public static final String MODELS = "models";
     public static final String MODEL_ID = "model_id";
     public static final String MODEL_BLOB_PARAMETER = "model_blob";
+    public static final String MODEL_BLOB_LENGTH = "model_blob_length";
+    public static final String MODEL_BLOB_CHUNK_COUNT = "model_blob_chunk_count";
+    public static final String MODEL_BLOB_CHUNK_OF = "model_blob_chunk_of";
+    public static final String MODEL_BLOB_CHUNK_INDEX = "model_blob_chunk";
     public static final String MODEL_INDEX_MAPPING_PATH = "mappings/model-index.json";
     public static final String MODEL_INDEX_NAME = ".opensearch-knn-models";
     public static final String PLUGIN_NAME = "knn";
@@ -61,6 +65,7 @@ public class KNNConstants {
     public static final String TRAIN_THREAD_POOL = "training";
 
     public static final String TRAINING_JOB_COUNT_FIELD_NAME = "training_job_count";
+    public static final String TRAINING_JOB_CAPACITY = "training_job_capacity";
     public static final String NODES_KEY = "nodes";
 
     public static final String TRAIN_INDEX_PARAMETER = "training_index";
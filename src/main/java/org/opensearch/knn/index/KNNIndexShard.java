@@ -15,11 +15,19 @@ import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.SegmentCommitInfo;
 import org.apache.lucene.index.SegmentInfo;
 import org.apache.lucene.index.SegmentReader;
+import org.apache.lucene.index.SegmentWriteState;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.store.ByteBuffersDirectory;
 import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.util.Bits;
+import org.apache.lucene.util.InfoStream;
 import org.opensearch.common.lucene.Lucene;
+import org.opensearch.index.IndexSettings;
 import org.opensearch.index.engine.Engine;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.knn.common.FieldInfoExtractor;
+import org.opensearch.knn.index.codec.nativeindex.NativeIndexWriter;
 import org.opensearch.knn.index.codec.util.NativeMemoryCacheKeyHelper;
 import org.opensearch.knn.index.engine.qframe.QuantizationConfig;
 import org.opensearch.knn.index.mapper.KNNVectorFieldMapper;
@@ -28,6 +36,11 @@ import org.opensearch.knn.index.memory.NativeMemoryCacheManager;
 import org.opensearch.knn.index.memory.NativeMemoryEntryContext;
 import org.opensearch.knn.index.memory.NativeMemoryLoadStrategy;
 import org.opensearch.knn.index.engine.KNNEngine;
+import org.opensearch.knn.index.query.SegmentFieldDescriptor;
+import org.opensearch.knn.index.query.SegmentLevelQuantizationInfo;
+import org.opensearch.knn.index.vectorvalues.KNNVectorValues;
+import org.opensearch.knn.index.vectorvalues.KNNVectorValuesFactory;
+import org.opensearch.knn.indices.ModelDao;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -83,7 +96,10 @@ public class KNNIndexShard {
     }
 
     /**
-     * Load all of the k-NN segments for this shard into the cache.
+     * Load all of the k-NN segments for this shard into the cache. When
+     * {@link KNNSettings#INDEX_KNN_ADVANCED_DEFER_GRAPH_BUILD_ON_FLUSH_SETTING} is enabled, this also builds the graphs
+     * of flushed segments that reached the approximate threshold but have not been merged since, see
+     * {@link #warmupDeferredGraphs(IndexReader)}.
      *
      * @throws IOException Thrown when getting the HNSW Paths to be loaded in
      */
@@ -117,6 +133,110 @@ public class KNNIndexShard {
                     throw new RuntimeException(ex);
                 }
             });
+            warmupDeferredGraphs(searcher.getIndexReader());
+        }
+    }
+
+    /**
+     * Segments flushed while graph build is deferred have no native graph until a merge rewrites them, which may
+     * never happen, e.g. for a shard with a single segment and no deletes. For each such segment with at least
+     * approximate threshold vectors, the graph is built in memory and loaded into the cache under the key the
+     * segment's own graph would have, where queries pick it up. The graph is not persisted: it is dropped when the
+     * segment is closed, evicted or cleared from the cache, and built again by the next warmup.
+     *
+     * @param indexReader IndexReader of the shard
+     * @throws IOException Thrown when reading the vectors of a segment
+     */
+    private void warmupDeferredGraphs(IndexReader indexReader) throws IOException {
+        final IndexSettings indexSettings = indexShard.indexSettings();
+        final int approximateThreshold = indexSettings.getValue(KNNSettings.INDEX_KNN_ADVANCED_APPROXIMATE_THRESHOLD_SETTING);
+        if (!indexSettings.getValue(KNNSettings.INDEX_KNN_ADVANCED_DEFER_GRAPH_BUILD_ON_FLUSH_SETTING) || approximateThreshold < 0) {
+            return;
+        }
+        for (DeferredGraphContext deferredGraphContext : getDeferredGraphContexts(indexReader)) {
+            final String cacheKey = deferredGraphContext.getFieldDescriptor().getDeferredGraphCacheKey();
+            if (nativeMemoryCacheManager.getIfPresent(cacheKey) != null) {
+                continue;
+            }
+            final SegmentReader reader = deferredGraphContext.getReader();
+            final FieldInfo fieldInfo = deferredGraphContext.getFieldInfo();
+            // Deleted docs are not counted towards the threshold, as merges do not count them either. Their vectors are
+            // still iterated by the vector values of the segment, so the graph holds them, as a graph built on flush does.
+            final Bits liveDocs = deferredGraphContext.getLiveDocs();
+            final int totalLiveDocs = countDocs(KNNVectorValuesFactory.getVectorValues(fieldInfo, reader), liveDocs);
+            if (totalLiveDocs == 0 || totalLiveDocs < approximateThreshold) {
+                continue;
+            }
+            final int totalVectors = liveDocs == null
+                ? totalLiveDocs
+                : countDocs(KNNVectorValuesFactory.getVectorValues(fieldInfo, reader), null);
+            log.debug("[KNN] Building deferred graph of field {} for segment {}", fieldInfo.name, reader.getSegmentName());
+            buildAndLoadDeferredGraph(deferredGraphContext, KNNVectorValuesFactory.getVectorValues(fieldInfo, reader), totalVectors);
+            // The graph belongs to this segment only, so it is released together with the segment
+            reader.getCoreCacheHelper().addClosedListener(coreCacheKey -> nativeMemoryCacheManager.invalidate(cacheKey));
+        }
+    }
+
+    /**
+     * Count the docs of vector values the same way the codec writer does, by iterating them, since
+     * {@link KNNVectorValues#totalLiveDocs()} also counts deleted docs.
+     *
+     * @param knnVectorValues vector values to count the docs of, exhausted by the count
+     * @param liveDocs live docs of the segment, null to count all the docs
+     * @return number of docs
+     * @throws IOException if the vector values cannot be read
+     */
+    private static int countDocs(final KNNVectorValues<?> knnVectorValues, final Bits liveDocs) throws IOException {
+        int count = 0;
+        for (int docId = knnVectorValues.nextDoc(); docId != DocIdSetIterator.NO_MORE_DOCS; docId = knnVectorValues.nextDoc()) {
+            if (liveDocs == null || liveDocs.get(docId)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private void buildAndLoadDeferredGraph(
+        final DeferredGraphContext deferredGraphContext,
+        final KNNVectorValues<?> knnVectorValues,
+        final int totalVectors
+    ) throws IOException {
+        final SegmentReader reader = deferredGraphContext.getReader();
+        final FieldInfo fieldInfo = deferredGraphContext.getFieldInfo();
+        final SegmentFieldDescriptor fieldDescriptor = deferredGraphContext.getFieldDescriptor();
+        final SegmentLevelQuantizationInfo segmentLevelQuantizationInfo = SegmentLevelQuantizationInfo.build(fieldDescriptor);
+        // The graph is written to a heap directory that only lives until it is loaded into native memory
+        try (Directory graphDirectory = new ByteBuffersDirectory()) {
+            final SegmentWriteState segmentWriteState = new SegmentWriteState(
+                InfoStream.getDefault(),
+                graphDirectory,
+                reader.getSegmentInfo().info,
+                reader.getFieldInfos(),
+                null,
+                IOContext.DEFAULT
+            );
+            NativeIndexWriter.getWriter(
+                fieldInfo,
+                segmentWriteState,
+                segmentLevelQuantizationInfo == null ? null : segmentLevelQuantizationInfo.getQuantizationState()
+            ).buildDeferredIndex(knnVectorValues, totalVectors);
+
+            nativeMemoryCacheManager.get(
+                new NativeMemoryEntryContext.IndexEntryContext(
+                    graphDirectory,
+                    fieldDescriptor.getDeferredGraphCacheKey(),
+                    NativeMemoryLoadStrategy.IndexLoadStrategy.getInstance(),
+                    fieldDescriptor.getParametersAtLoading(
+                        getIndexName(),
+                        segmentLevelQuantizationInfo == null ? fieldDescriptor.getVectorDataType() : VectorDataType.BINARY
+                    ),
+                    getIndexName(),
+                    fieldDescriptor.getModelId()
+                ),
+                true
+            );
+        } catch (ExecutionException ex) {
+            throw new RuntimeException(ex);
         }
     }
 
@@ -143,6 +263,11 @@ public class KNNIndexShard {
                     );
                     nativeMemoryCacheManager.invalidate(cacheKey);
                 });
+                getDeferredGraphContexts(searcher.getIndexReader()).forEach(
+                    deferredGraphContext -> nativeMemoryCacheManager.invalidate(
+                        deferredGraphContext.getFieldDescriptor().getDeferredGraphCacheKey()
+                    )
+                );
             } catch (IOException ex) {
                 log.error("[KNN] Failed to evict index from cache: [{}]", indexName, ex);
                 throw new RuntimeException(ex);
@@ -225,6 +350,51 @@ public class KNNIndexShard {
             .collect(Collectors.toList());
     }
 
+    /**
+     * For the given shard, get the k-NN fields of native engines whose segment has no engine file, because the
+     * graph build of the field was deferred when the segment was flushed.
+     *
+     * @param indexReader IndexReader to read the information for each segment in the shard
+     * @return List of deferred graph contexts
+     */
+    @VisibleForTesting
+    List<DeferredGraphContext> getDeferredGraphContexts(IndexReader indexReader) {
+        final List<DeferredGraphContext> deferredGraphContexts = new ArrayList<>();
+        for (LeafReaderContext leafReaderContext : indexReader.leaves()) {
+            final SegmentReader reader = Lucene.segmentReader(leafReaderContext.reader());
+            for (FieldInfo fieldInfo : reader.getFieldInfos()) {
+                // Graph build is only deferred by the writer of fields stored as KnnVectorsFormat vectors
+                if (!fieldInfo.attributes().containsKey(KNNVectorFieldMapper.KNN_FIELD) || !fieldInfo.hasVectorValues()) {
+                    continue;
+                }
+                final SegmentFieldDescriptor fieldDescriptor = SegmentFieldDescriptor.get(
+                    reader,
+                    fieldInfo,
+                    fieldInfo.name,
+                    ModelDao.OpenSearchKNNModelDao.getInstance()
+                );
+                if (KNNEngine.getEnginesThatCreateCustomSegmentFiles().contains(fieldDescriptor.getKnnEngine())
+                    && fieldDescriptor.getDeferredGraphCacheKey() != null) {
+                    deferredGraphContexts.add(
+                        new DeferredGraphContext(reader, leafReaderContext.reader().getLiveDocs(), fieldInfo, fieldDescriptor)
+                    );
+                }
+            }
+        }
+        return deferredGraphContexts;
+    }
+
+    @AllArgsConstructor
+    @Getter
+    @VisibleForTesting
+    static class DeferredGraphContext {
+        private final SegmentReader reader;
+        // Live docs of the segment in the shard reader, which also hides soft deleted docs, unlike the segment reader
+        private final Bits liveDocs;
+        private final FieldInfo fieldInfo;
+        private final SegmentFieldDescriptor fieldDescriptor;
+    }
+
     @AllArgsConstructor
     @Getter
     @VisibleForTesting
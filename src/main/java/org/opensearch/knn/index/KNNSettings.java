@@ -18,6 +18,7 @@ import org.opensearch.common.Booleans;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.unit.ByteSizeUnit;
 import org.opensearch.core.common.unit.ByteSizeValue;
@@ -68,6 +69,8 @@ public class KNNSettings {
      */
     public static final String KNN_SPACE_TYPE = "index.knn.space_type";
     public static final String INDEX_KNN_ADVANCED_APPROXIMATE_THRESHOLD = "index.knn.advanced.approximate_threshold";
+    public static final String INDEX_KNN_ADVANCED_DEFER_GRAPH_BUILD_ON_FLUSH = "index.knn.advanced.defer_graph_build_on_flush";
+    public static final String INDEX_KNN_ADVANCED_STORE_VECTOR_NORMS = "index.knn.advanced.store_vector_norms";
     public static final String KNN_ALGO_PARAM_M = "index.knn.algo_param.m";
     public static final String KNN_ALGO_PARAM_EF_CONSTRUCTION = "index.knn.algo_param.ef_construction";
     public static final String KNN_ALGO_PARAM_EF_SEARCH = "index.knn.algo_param.ef_search";
@@ -75,6 +78,7 @@ public class KNNSettings {
     public static final String KNN_MEMORY_CIRCUIT_BREAKER_ENABLED = "knn.memory.circuit_breaker.enabled";
     public static final String KNN_MEMORY_CIRCUIT_BREAKER_LIMIT = "knn.memory.circuit_breaker.limit";
     public static final String KNN_VECTOR_STREAMING_MEMORY_LIMIT_IN_MB = "knn.vector_streaming_memory.limit";
+    public static final String KNN_NATIVE_INDEX_BUILD_MEMORY_LIMIT = "knn.native_index_build_memory.limit";
     public static final String KNN_CIRCUIT_BREAKER_TRIGGERED = "knn.circuit_breaker.triggered";
     public static final String KNN_CACHE_ITEM_EXPIRY_ENABLED = "knn.cache.item.expiry.enabled";
     public static final String KNN_CACHE_ITEM_EXPIRY_TIME_MINUTES = "knn.cache.item.expiry.minutes";
@@ -90,6 +94,9 @@ public class KNNSettings {
     public static final String QUANTIZATION_STATE_CACHE_EXPIRY_TIME_MINUTES = "knn.quantization.cache.expiry.minutes";
     public static final String KNN_FAISS_AVX512_DISABLED = "knn.faiss.avx512.disabled";
     public static final String KNN_DISK_VECTOR_SHARD_LEVEL_RESCORING_DISABLED = "index.knn.disk.vector.shard_level_rescoring_disabled";
+    public static final String KNN_TRAINING_MAX_CONCURRENT_JOBS = "knn.training.max_concurrent_jobs";
+    public static final String KNN_TRAINING_QUEUE_TIMEOUT = "knn.training.queue.timeout";
+    public static final String KNN_TRAINING_THREAD_QTY = "knn.training.thread_qty";
 
     /**
      * Default setting values
@@ -99,6 +106,8 @@ public class KNNSettings {
     public static final boolean KNN_DEFAULT_FAISS_AVX512_DISABLED_VALUE = false;
     public static final String INDEX_KNN_DEFAULT_SPACE_TYPE = "l2";
     public static final Integer INDEX_KNN_ADVANCED_APPROXIMATE_THRESHOLD_DEFAULT_VALUE = 15_000;
+    public static final boolean INDEX_KNN_ADVANCED_DEFER_GRAPH_BUILD_ON_FLUSH_DEFAULT_VALUE = false;
+    public static final boolean INDEX_KNN_ADVANCED_STORE_VECTOR_NORMS_DEFAULT_VALUE = false;
     public static final Integer INDEX_KNN_BUILD_VECTOR_DATA_STRUCTURE_THRESHOLD_MIN = -1;
     public static final Integer INDEX_KNN_BUILD_VECTOR_DATA_STRUCTURE_THRESHOLD_MAX = Integer.MAX_VALUE - 2;
     public static final String INDEX_KNN_DEFAULT_SPACE_TYPE_FOR_BINARY = "hamming";
@@ -111,6 +120,7 @@ public class KNNSettings {
     public static final Integer KNN_MAX_MODEL_CACHE_SIZE_LIMIT_PERCENTAGE = 25; // Model cache limit cannot exceed 25% of the JVM heap
     public static final String KNN_DEFAULT_MEMORY_CIRCUIT_BREAKER_LIMIT = "50%";
     public static final String KNN_DEFAULT_VECTOR_STREAMING_MEMORY_LIMIT_PCT = "1%";
+    public static final String KNN_DEFAULT_NATIVE_INDEX_BUILD_MEMORY_LIMIT = "-1";
 
     public static final Integer ADVANCED_FILTERED_EXACT_SEARCH_THRESHOLD_DEFAULT_VALUE = -1;
     public static final Integer KNN_DEFAULT_QUANTIZATION_STATE_CACHE_SIZE_LIMIT_PERCENTAGE = 5; // By default, set aside 5% of the JVM for
@@ -119,6 +129,9 @@ public class KNNSettings {
                                                                                              // 10% of the JVM heap
     public static final Integer KNN_DEFAULT_QUANTIZATION_STATE_CACHE_EXPIRY_TIME_MINUTES = 60;
     public static final boolean KNN_DISK_VECTOR_SHARD_LEVEL_RESCORING_DISABLED_VALUE = false;
+    public static final Integer KNN_MAX_TRAINING_MAX_CONCURRENT_JOBS = 32;
+    public static final Integer KNN_DEFAULT_TRAINING_QUEUE_TIMEOUT_MINUTES = 10;
+    public static final Integer KNN_DEFAULT_TRAINING_THREAD_QTY = 0;
 
     /**
      * Settings Definition
@@ -152,6 +165,16 @@ public class KNNSettings {
         Setting.Property.NodeScope
     );
 
+    // This setting controls how much native memory the native index builds (flushes and merges) running concurrently on a node
+    // may use, based on their estimated footprint. Builds which do not fit are queued until running builds finish. The default
+    // -1 disables the limit.
+    public static final Setting<ByteSizeValue> KNN_NATIVE_INDEX_BUILD_MEMORY_LIMIT_SETTING = Setting.memorySizeSetting(
+        KNN_NATIVE_INDEX_BUILD_MEMORY_LIMIT,
+        KNN_DEFAULT_NATIVE_INDEX_BUILD_MEMORY_LIMIT,
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+
     public static final Setting<String> INDEX_KNN_SPACE_TYPE = Setting.simpleString(
         KNN_SPACE_TYPE,
         INDEX_KNN_DEFAULT_SPACE_TYPE,
@@ -175,6 +198,35 @@ public class KNNSettings {
         Dynamic
     );
 
+    /**
+     * defer_graph_build_on_flush - When enabled, flushed segments with fewer than 100,000 live docs only write flat
+     * vectors and are served with exact search. Native graphs are then built only when merges produce a segment with at
+     * least {@link #INDEX_KNN_ADVANCED_APPROXIMATE_THRESHOLD} live docs. This avoids building graphs for small segments
+     * that are merged away shortly after refresh, e.g. during bulk ingestion, while larger flushed segments still get
+     * their graph.
+     * A flushed segment that is never merged again keeps no graph on disk, e.g. the only segment of a shard without
+     * deletes, which a force merge to one segment may leave as is. The k-NN warmup API builds the graphs of such
+     * segments that reach the threshold in memory, so they are searched approximately until they are merged.
+     */
+    public static final Setting<Boolean> INDEX_KNN_ADVANCED_DEFER_GRAPH_BUILD_ON_FLUSH_SETTING = Setting.boolSetting(
+        INDEX_KNN_ADVANCED_DEFER_GRAPH_BUILD_ON_FLUSH,
+        INDEX_KNN_ADVANCED_DEFER_GRAPH_BUILD_ON_FLUSH_DEFAULT_VALUE,
+        IndexScope,
+        Dynamic
+    );
+
+    /**
+     * store_vector_norms - When enabled, the norm of each float vector of a cosinesimil field is stored in doc values at
+     * index time, so that exact search, rescoring and script scoring do not recompute the magnitude of the doc vector on
+     * every comparison. Documents indexed without the norm fall back to computing it.
+     */
+    public static final Setting<Boolean> INDEX_KNN_ADVANCED_STORE_VECTOR_NORMS_SETTING = Setting.boolSetting(
+        INDEX_KNN_ADVANCED_STORE_VECTOR_NORMS,
+        INDEX_KNN_ADVANCED_STORE_VECTOR_NORMS_DEFAULT_VALUE,
+        IndexScope,
+        Dynamic
+    );
+
     /**
      * M - the number of bi-directional links created for every new element during construction.
      * Reasonable range for M is 2-100. Higher M work better on datasets with high intrinsic
@@ -346,6 +398,41 @@ public class KNNSettings {
         Dynamic
     );
 
+    /*
+     * Training job scheduling settings
+     *
+     * max_concurrent_jobs - number of training jobs a node runs at the same time. Training threads are sized from it, so
+     * it can only be set at node startup. By default, one job is run for every 4 allocated processors.
+     * queue.timeout - how long a training request waits for a node with capacity before it is rejected.
+     * thread_qty - number of threads a training job uses, independently of the threads used to build graphs. When it is
+     * 0, jobs use knn.algo_param.index_thread_qty threads.
+     */
+    public static final Setting<Integer> KNN_TRAINING_MAX_CONCURRENT_JOBS_SETTING = new Setting<>(
+        KNN_TRAINING_MAX_CONCURRENT_JOBS,
+        (s) -> Integer.toString(
+            Math.min(KNN_MAX_TRAINING_MAX_CONCURRENT_JOBS, Math.max(1, OpenSearchExecutors.allocatedProcessors(s) / 4))
+        ),
+        (s) -> Setting.parseInt(s, 1, KNN_MAX_TRAINING_MAX_CONCURRENT_JOBS, KNN_TRAINING_MAX_CONCURRENT_JOBS),
+        NodeScope
+    );
+
+    public static final Setting<TimeValue> KNN_TRAINING_QUEUE_TIMEOUT_SETTING = Setting.timeSetting(
+        KNN_TRAINING_QUEUE_TIMEOUT,
+        TimeValue.timeValueMinutes(KNN_DEFAULT_TRAINING_QUEUE_TIMEOUT_MINUTES),
+        TimeValue.ZERO,
+        NodeScope,
+        Dynamic
+    );
+
+    public static final Setting<Integer> KNN_TRAINING_THREAD_QTY_SETTING = Setting.intSetting(
+        KNN_TRAINING_THREAD_QTY,
+        KNN_DEFAULT_TRAINING_THREAD_QTY,
+        0,
+        INDEX_THREAD_QTY_MAX,
+        NodeScope,
+        Dynamic
+    );
+
     public static final Setting<Boolean> KNN_FAISS_AVX512_DISABLED_SETTING = Setting.boolSetting(
         KNN_FAISS_AVX512_DISABLED,
         KNN_DEFAULT_FAISS_AVX512_DISABLED_VALUE,
@@ -487,6 +574,10 @@ public class KNNSettings {
             return KNN_VECTOR_STREAMING_MEMORY_LIMIT_PCT_SETTING;
         }
 
+        if (KNN_NATIVE_INDEX_BUILD_MEMORY_LIMIT.equals(key)) {
+            return KNN_NATIVE_INDEX_BUILD_MEMORY_LIMIT_SETTING;
+        }
+
         if (QUANTIZATION_STATE_CACHE_SIZE_LIMIT.equals(key)) {
             return QUANTIZATION_STATE_CACHE_SIZE_LIMIT_SETTING;
         }
@@ -499,6 +590,18 @@ public class KNNSettings {
             return KNN_DISK_VECTOR_SHARD_LEVEL_RESCORING_DISABLED_SETTING;
         }
 
+        if (KNN_TRAINING_MAX_CONCURRENT_JOBS.equals(key)) {
+            return KNN_TRAINING_MAX_CONCURRENT_JOBS_SETTING;
+        }
+
+        if (KNN_TRAINING_QUEUE_TIMEOUT.equals(key)) {
+            return KNN_TRAINING_QUEUE_TIMEOUT_SETTING;
+        }
+
+        if (KNN_TRAINING_THREAD_QTY.equals(key)) {
+            return KNN_TRAINING_THREAD_QTY_SETTING;
+        }
+
         throw new IllegalArgumentException("Cannot find setting by key [" + key + "]");
     }
 
@@ -506,6 +609,8 @@ public class KNNSettings {
         List<Setting<?>> settings = Arrays.asList(
             INDEX_KNN_SPACE_TYPE,
             INDEX_KNN_ADVANCED_APPROXIMATE_THRESHOLD_SETTING,
+            INDEX_KNN_ADVANCED_DEFER_GRAPH_BUILD_ON_FLUSH_SETTING,
+            INDEX_KNN_ADVANCED_STORE_VECTOR_NORMS_SETTING,
             INDEX_KNN_ALGO_PARAM_M_SETTING,
             INDEX_KNN_ALGO_PARAM_EF_CONSTRUCTION_SETTING,
             INDEX_KNN_ALGO_PARAM_EF_SEARCH_SETTING,
@@ -519,10 +624,14 @@ public class KNNSettings {
             ADVANCED_FILTERED_EXACT_SEARCH_THRESHOLD_SETTING,
             KNN_FAISS_AVX2_DISABLED_SETTING,
             KNN_VECTOR_STREAMING_MEMORY_LIMIT_PCT_SETTING,
+            KNN_NATIVE_INDEX_BUILD_MEMORY_LIMIT_SETTING,
             KNN_FAISS_AVX512_DISABLED_SETTING,
             QUANTIZATION_STATE_CACHE_SIZE_LIMIT_SETTING,
             QUANTIZATION_STATE_CACHE_EXPIRY_TIME_MINUTES_SETTING,
-            KNN_DISK_VECTOR_SHARD_LEVEL_RESCORING_DISABLED_SETTING
+            KNN_DISK_VECTOR_SHARD_LEVEL_RESCORING_DISABLED_SETTING,
+            KNN_TRAINING_MAX_CONCURRENT_JOBS_SETTING,
+            KNN_TRAINING_QUEUE_TIMEOUT_SETTING,
+            KNN_TRAINING_THREAD_QTY_SETTING
         );
         return Stream.concat(settings.stream(), Stream.concat(getFeatureFlags().stream(), dynamicCacheSettings.values().stream()))
             .collect(Collectors.toList());
@@ -648,6 +757,10 @@ public class KNNSettings {
         return KNNSettings.state().getSettingValue(KNN_VECTOR_STREAMING_MEMORY_LIMIT_IN_MB);
     }
 
+    public static ByteSizeValue getNativeIndexBuildMemoryLimit() {
+        return KNNSettings.state().getSettingValue(KNN_NATIVE_INDEX_BUILD_MEMORY_LIMIT);
+    }
+
     /**
      *
      * @param index Name of the index
@@ -0,0 +1,88 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index;
+
+import lombok.experimental.UtilityClass;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.util.VectorUtil;
+
+import java.io.IOException;
+
+/**
+ * Utility to write and read the norms of float vectors stored in doc values next to a k-NN vector field, see
+ * {@link KNNSettings#INDEX_KNN_ADVANCED_STORE_VECTOR_NORMS_SETTING}. The norm is stored as the raw bits of a float in a
+ * numeric doc values field named after the vector field. The field is not part of the mapping, so documents are
+ * rejected while norms are stored if a field with its name is mapped.
+ */
+@UtilityClass
+public class KNNVectorNormUtil {
+
+    private static final String NORM_FIELD_SUFFIX = "._knn_norm";
+    /**
+     * Returned by {@link #readNorm(NumericDocValues, int)} when the document has no stored norm
+     */
+    public static final float NO_NORM = -1;
+
+    /**
+     * Returns the name of the doc values field holding the norms of the given vector field.
+     *
+     * @param field name of the vector field
+     * @return name of the norm field
+     */
+    public static String getNormFieldName(final String field) {
+        return field + NORM_FIELD_SUFFIX;
+    }
+
+    /**
+     * Computes the L2 norm of the vector.
+     *
+     * @param vector vector
+     * @return norm of the vector
+     */
+    public static float computeNorm(final float[] vector) {
+        return (float) Math.sqrt(VectorUtil.dotProduct(vector, vector));
+    }
+
+    /**
+     * Creates the doc values field storing the norm of the vector.
+     *
+     * @param field name of the vector field
+     * @param vector vector of the document
+     * @return {@link NumericDocValuesField} to add to the document
+     */
+    public static NumericDocValuesField createNormField(final String field, final float[] vector) {
+        return new NumericDocValuesField(getNormFieldName(field), Float.floatToIntBits(computeNorm(vector)));
+    }
+
+    /**
+     * Returns the stored norms of the vector field in the segment.
+     *
+     * @param leafReader {@link LeafReader} of the segment
+     * @param field name of the vector field
+     * @return {@link NumericDocValues} of the norms or null if the segment has no stored norms
+     * @throws IOException if the doc values cannot be read
+     */
+    public static NumericDocValues getNorms(final LeafReader leafReader, final String field) throws IOException {
+        return leafReader.getNumericDocValues(getNormFieldName(field));
+    }
+
+    /**
+     * Reads the stored norm of a document. Documents have to be read in increasing doc id order.
+     *
+     * @param norms {@link NumericDocValues} of the norms
+     * @param docId doc id
+     * @return norm of the document vector or {@link #NO_NORM} if it was indexed without a norm
+     * @throws IOException if the doc values cannot be read
+     */
+    public static float readNorm(final NumericDocValues norms, final int docId) throws IOException {
+        if (norms.advanceExact(docId) == false) {
+            return NO_NORM;
+        }
+        return Float.intBitsToFloat((int) norms.longValue());
+    }
+}
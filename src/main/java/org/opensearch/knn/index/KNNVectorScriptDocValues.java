@@ -6,7 +6,12 @@
 package org.opensearch.knn.index;
 
 import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.List;
 import java.util.Objects;
+import java.util.function.BiFunction;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -14,9 +19,16 @@ import org.apache.lucene.index.BinaryDocValues;
 import org.apache.lucene.index.ByteVectorValues;
 import org.apache.lucene.index.FloatVectorValues;
 import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.util.BytesRef;
 import org.opensearch.ExceptionsHelper;
+import org.opensearch.knn.index.codec.util.KNNVectorSerializerFactory;
+import org.opensearch.knn.index.codec.util.SerializationMode;
 import org.opensearch.index.fielddata.ScriptDocValues;
 
+/**
+ * Script doc values of a knn_vector field. Arrays returned by {@link #getValue()} and {@link #getByteValue()} may be reused
+ * for the next document, so they must not be modified or held on to.
+ */
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public abstract class KNNVectorScriptDocValues extends ScriptDocValues<float[]> {
 
@@ -26,6 +38,12 @@ public abstract class KNNVectorScriptDocValues extends ScriptDocValues<float[]>
     private final VectorDataType vectorDataType;
     private boolean docExists = false;
     private int lastDocID = -1;
+    // Query vector of a script converted once for the leaf. Painless passes the same params list for every document,
+    // so the conversion is keyed by the identity of the list and of the converter.
+    private List<Number> queryVectorSource;
+    private int queryVectorSourceSize;
+    private BiFunction<List<Number>, VectorDataType, ?> queryVectorConverter;
+    private Object convertedQueryVector;
 
     @Override
     public void setNextDocId(int docId) throws IOException {
@@ -43,6 +61,15 @@ public abstract class KNNVectorScriptDocValues extends ScriptDocValues<float[]>
     }
 
     public float[] getValue() {
+        requireDocExists();
+        try {
+            return doGetValue();
+        } catch (IOException e) {
+            throw ExceptionsHelper.convertToOpenSearchException(e);
+        }
+    }
+
+    private void requireDocExists() {
         if (!docExists) {
             String errorMessage = String.format(
                 "One of the document doesn't have a value for field '%s'. "
@@ -53,14 +80,52 @@ public abstract class KNNVectorScriptDocValues extends ScriptDocValues<float[]>
             );
             throw new IllegalStateException(errorMessage);
         }
+    }
+
+    protected abstract float[] doGetValue() throws IOException;
+
+    /**
+     * Returns the vector of the current document as bytes, without converting it to floats. Only meaningful for byte
+     * and binary vectors.
+     *
+     * @return byte vector of the current document
+     */
+    public byte[] getByteValue() {
+        requireDocExists();
         try {
-            return doGetValue();
+            return doGetByteValue();
         } catch (IOException e) {
             throw ExceptionsHelper.convertToOpenSearchException(e);
         }
     }
 
-    protected abstract float[] doGetValue() throws IOException;
+    protected byte[] doGetByteValue() throws IOException {
+        final float[] vector = doGetValue();
+        final byte[] bytes = new byte[vector.length];
+        for (int i = 0; i < vector.length; i++) {
+            bytes[i] = (byte) vector[i];
+        }
+        return bytes;
+    }
+
+    /**
+     * Converts the query vector of a script, reusing the previous conversion when called again with the same list and
+     * converter. Converters are expected to be constants so that the conversion is done once per leaf.
+     *
+     * @param queryVector query vector passed to the script
+     * @param converter   converts the query vector given the vector data type of this field
+     * @return converted query vector
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getQueryVector(final List<Number> queryVector, final BiFunction<List<Number>, VectorDataType, T> converter) {
+        if (queryVector != queryVectorSource || converter != queryVectorConverter || queryVector.size() != queryVectorSourceSize) {
+            convertedQueryVector = converter.apply(queryVector, vectorDataType);
+            queryVectorSource = queryVector;
+            queryVectorSourceSize = queryVector.size();
+            queryVectorConverter = converter;
+        }
+        return (T) convertedQueryVector;
+    }
 
     @Override
     public int size() {
@@ -96,6 +161,7 @@ public abstract class KNNVectorScriptDocValues extends ScriptDocValues<float[]>
 
     private static final class KNNByteVectorScriptDocValues extends KNNVectorScriptDocValues {
         private final ByteVectorValues values;
+        private float[] buffer;
 
         KNNByteVectorScriptDocValues(ByteVectorValues values, String field, VectorDataType type) {
             super(values, field, type);
@@ -105,11 +171,18 @@ public abstract class KNNVectorScriptDocValues extends ScriptDocValues<float[]>
         @Override
         protected float[] doGetValue() throws IOException {
             byte[] bytes = values.vectorValue();
-            float[] value = new float[bytes.length];
+            if (buffer == null || buffer.length != bytes.length) {
+                buffer = new float[bytes.length];
+            }
             for (int i = 0; i < bytes.length; i++) {
-                value[i] = (float) bytes[i];
+                buffer[i] = bytes[i];
             }
-            return value;
+            return buffer;
+        }
+
+        @Override
+        protected byte[] doGetByteValue() throws IOException {
+            return values.vectorValue();
         }
     }
 
@@ -128,7 +201,11 @@ public abstract class KNNVectorScriptDocValues extends ScriptDocValues<float[]>
     }
 
     private static final class KNNNativeVectorScriptDocValues extends KNNVectorScriptDocValues {
+        private static final VarHandle BIG_ENDIAN_FLOATS = MethodHandles.byteArrayViewVarHandle(float[].class, ByteOrder.BIG_ENDIAN);
+
         private final BinaryDocValues values;
+        private float[] buffer;
+        private byte[] byteBuffer;
 
         KNNNativeVectorScriptDocValues(BinaryDocValues values, String field, VectorDataType type) {
             super(values, field, type);
@@ -137,7 +214,43 @@ public abstract class KNNVectorScriptDocValues extends ScriptDocValues<float[]>
 
         @Override
         protected float[] doGetValue() throws IOException {
-            return getVectorDataType().getVectorFromBytesRef(values.binaryValue());
+            final BytesRef bytesRef = values.binaryValue();
+            if (VectorDataType.FLOAT != getVectorDataType()) {
+                final float[] vector = buffer(bytesRef.length);
+                for (int i = 0; i < bytesRef.length; i++) {
+                    vector[i] = bytesRef.bytes[bytesRef.offset + i];
+                }
+                return vector;
+            }
+            if (KNNVectorSerializerFactory.getSerializerModeFromBytesRef(bytesRef) != SerializationMode.COLLECTION_OF_FLOATS) {
+                // Legacy java serialized arrays are rare, they are deserialized as before
+                return getVectorDataType().getVectorFromBytesRef(bytesRef);
+            }
+            final float[] vector = buffer(bytesRef.length / Float.BYTES);
+            for (int i = 0; i < vector.length; i++) {
+                vector[i] = (float) BIG_ENDIAN_FLOATS.get(bytesRef.bytes, bytesRef.offset + i * Float.BYTES);
+            }
+            return vector;
+        }
+
+        @Override
+        protected byte[] doGetByteValue() throws IOException {
+            if (VectorDataType.FLOAT == getVectorDataType()) {
+                return super.doGetByteValue();
+            }
+            final BytesRef bytesRef = values.binaryValue();
+            if (byteBuffer == null || byteBuffer.length != bytesRef.length) {
+                byteBuffer = new byte[bytesRef.length];
+            }
+            System.arraycopy(bytesRef.bytes, bytesRef.offset, byteBuffer, 0, bytesRef.length);
+            return byteBuffer;
+        }
+
+        private float[] buffer(int dimension) {
+            if (buffer == null || buffer.length != dimension) {
+                buffer = new float[dimension];
+            }
+            return buffer;
         }
     }
 
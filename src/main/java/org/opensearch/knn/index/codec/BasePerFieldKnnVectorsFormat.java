@@ -134,9 +134,11 @@ public abstract class BasePerFieldKnnVectorsFormat extends PerFieldKnnVectorsFor
         // mapperService is already checked for null or valid instance type at caller, hence we don't need
         // addition isPresent check here.
         int approximateThreshold = getApproximateThresholdValue();
+        boolean deferGraphBuildOnFlush = getDeferGraphBuildOnFlushValue();
         return new NativeEngines990KnnVectorsFormat(
             new Lucene99FlatVectorsFormat(FlatVectorScorerUtil.getLucene99FlatVectorsScorer()),
-            approximateThreshold
+            approximateThreshold,
+            deferGraphBuildOnFlush
         );
     }
 
@@ -150,6 +152,16 @@ public abstract class BasePerFieldKnnVectorsFormat extends PerFieldKnnVectorsFor
             : KNNSettings.INDEX_KNN_ADVANCED_APPROXIMATE_THRESHOLD_DEFAULT_VALUE;
     }
 
+    private boolean getDeferGraphBuildOnFlushValue() {
+        // This is private method and mapperService is already checked for null or valid instance type before this call
+        // at caller, hence we don't need additional isPresent check here.
+        final IndexSettings indexSettings = mapperService.get().getIndexSettings();
+        final Boolean deferGraphBuildOnFlush = indexSettings.getValue(KNNSettings.INDEX_KNN_ADVANCED_DEFER_GRAPH_BUILD_ON_FLUSH_SETTING);
+        return deferGraphBuildOnFlush != null
+            ? deferGraphBuildOnFlush
+            : KNNSettings.INDEX_KNN_ADVANCED_DEFER_GRAPH_BUILD_ON_FLUSH_DEFAULT_VALUE;
+    }
+
     @Override
     public int getMaxDimensions(String fieldName) {
         return getKnnVectorsFormatForField(fieldName).getMaxDimensions(fieldName);
@@ -28,10 +28,12 @@ import java.io.IOException;
  * related data structures.
  */
 public class NativeEngines990KnnVectorsFormat extends KnnVectorsFormat {
-    /** The format for storing, reading, merging vectors on disk */
-    private static FlatVectorsFormat flatVectorsFormat;
     private static final String FORMAT_NAME = "NativeEngines990KnnVectorsFormat";
-    private static int approximateThreshold;
+    /** The format for storing, reading, merging vectors on disk */
+    private final FlatVectorsFormat flatVectorsFormat;
+    // A format is created per field of each index, so its parameters must not be shared across instances
+    private final int approximateThreshold;
+    private final boolean deferGraphBuildOnFlush;
 
     public NativeEngines990KnnVectorsFormat() {
         this(new Lucene99FlatVectorsFormat(new DefaultFlatVectorScorer()));
@@ -46,9 +48,18 @@ public class NativeEngines990KnnVectorsFormat extends KnnVectorsFormat {
     }
 
     public NativeEngines990KnnVectorsFormat(final FlatVectorsFormat flatVectorsFormat, int approximateThreshold) {
+        this(flatVectorsFormat, approximateThreshold, KNNSettings.INDEX_KNN_ADVANCED_DEFER_GRAPH_BUILD_ON_FLUSH_DEFAULT_VALUE);
+    }
+
+    public NativeEngines990KnnVectorsFormat(
+        final FlatVectorsFormat flatVectorsFormat,
+        int approximateThreshold,
+        boolean deferGraphBuildOnFlush
+    ) {
         super(FORMAT_NAME);
-        NativeEngines990KnnVectorsFormat.flatVectorsFormat = flatVectorsFormat;
-        NativeEngines990KnnVectorsFormat.approximateThreshold = approximateThreshold;
+        this.flatVectorsFormat = flatVectorsFormat;
+        this.approximateThreshold = approximateThreshold;
+        this.deferGraphBuildOnFlush = deferGraphBuildOnFlush;
     }
 
     /**
@@ -58,7 +69,12 @@ public class NativeEngines990KnnVectorsFormat extends KnnVectorsFormat {
      */
     @Override
     public KnnVectorsWriter fieldsWriter(final SegmentWriteState state) throws IOException {
-        return new NativeEngines990KnnVectorsWriter(state, flatVectorsFormat.fieldsWriter(state), approximateThreshold);
+        return new NativeEngines990KnnVectorsWriter(
+            state,
+            flatVectorsFormat.fieldsWriter(state),
+            approximateThreshold,
+            deferGraphBuildOnFlush
+        );
     }
 
     /**
@@ -79,6 +95,8 @@ public class NativeEngines990KnnVectorsFormat extends KnnVectorsFormat {
             + flatVectorsFormat
             + ", approximateThreshold="
             + approximateThreshold
+            + ", deferGraphBuildOnFlush="
+            + deferGraphBuildOnFlush
             + ")";
     }
 }
@@ -123,16 +123,16 @@ public class NativeEngines990KnnVectorsReader extends KnnVectorsReader {
         if (knnCollector instanceof QuantizationConfigKNNCollector) {
             String cacheKey = quantizationStateCacheKeyPerField.get(field);
             FieldInfo fieldInfo = segmentReadState.fieldInfos.fieldInfo(field);
+            QuantizationStateReadConfig quantizationStateReadConfig = new QuantizationStateReadConfig(
+                segmentReadState,
+                QuantizationService.getInstance().getQuantizationParams(fieldInfo),
+                field,
+                cacheKey
+            );
             QuantizationState quantizationState = QuantizationStateCacheManager.getInstance()
-                .getQuantizationState(
-                    new QuantizationStateReadConfig(
-                        segmentReadState,
-                        QuantizationService.getInstance().getQuantizationParams(fieldInfo),
-                        field,
-                        cacheKey
-                    )
-                );
+                .getQuantizationState(quantizationStateReadConfig);
             ((QuantizationConfigKNNCollector) knnCollector).setQuantizationState(quantizationState);
+            ((QuantizationConfigKNNCollector) knnCollector).setQuantizationStateReadConfig(quantizationStateReadConfig);
             return;
         }
         throw new UnsupportedOperationException("Search functionality using codec is not supported with Native Engine Reader");
@@ -11,6 +11,7 @@
 
 package org.opensearch.knn.index.codec.KNN990Codec;
 
+import com.google.common.annotations.VisibleForTesting;
 import lombok.extern.log4j.Log4j2;
 import org.apache.lucene.codecs.KnnFieldVectorsWriter;
 import org.apache.lucene.codecs.KnnVectorsWriter;
@@ -32,6 +33,7 @@ import org.opensearch.knn.index.vectorvalues.KNNVectorValues;
 import org.opensearch.knn.plugin.stats.KNNGraphValue;
 import org.opensearch.knn.quantization.models.quantizationParams.QuantizationParams;
 import org.opensearch.knn.quantization.models.quantizationState.QuantizationState;
+import org.opensearch.knn.quantization.quantizer.StreamingTrainer;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -47,6 +49,9 @@ import static org.opensearch.knn.index.vectorvalues.KNNVectorValuesFactory.getVe
 @Log4j2
 public class NativeEngines990KnnVectorsWriter extends KnnVectorsWriter {
     private static final long SHALLOW_SIZE = RamUsageEstimator.shallowSizeOfInstance(NativeEngines990KnnVectorsWriter.class);
+    // Flushed segments with at least this many live docs build their graph even when the build is deferred. They are
+    // large enough not to be merged away shortly after refresh, so deferring would only leave them searched exactly.
+    static final int DEFERRED_GRAPH_BUILD_MAX_FLUSH_DOCS = 100_000;
 
     private final SegmentWriteState segmentWriteState;
     private final FlatVectorsWriter flatVectorsWriter;
@@ -54,15 +59,46 @@ public class NativeEngines990KnnVectorsWriter extends KnnVectorsWriter {
     private final List<NativeEngineFieldVectorsWriter<?>> fields = new ArrayList<>();
     private boolean finished;
     private final Integer approximateThreshold;
+    private final boolean deferGraphBuildOnFlush;
+    private final int deferredGraphBuildMaxFlushDocs;
 
     public NativeEngines990KnnVectorsWriter(
         SegmentWriteState segmentWriteState,
         FlatVectorsWriter flatVectorsWriter,
         Integer approximateThreshold
+    ) {
+        this(segmentWriteState, flatVectorsWriter, approximateThreshold, false);
+    }
+
+    /**
+     * @param deferGraphBuildOnFlush when true, flushed segments with fewer than
+     *                               {@link #DEFERRED_GRAPH_BUILD_MAX_FLUSH_DOCS} live docs only write flat vectors and
+     *                               native graphs are built during merges whose live doc count reaches the approximate
+     *                               threshold. A segment that is never merged again has no graph on disk; see
+     *                               {@link org.opensearch.knn.index.KNNIndexShard#warmup()} for how it gets one.
+     */
+    public NativeEngines990KnnVectorsWriter(
+        SegmentWriteState segmentWriteState,
+        FlatVectorsWriter flatVectorsWriter,
+        Integer approximateThreshold,
+        boolean deferGraphBuildOnFlush
+    ) {
+        this(segmentWriteState, flatVectorsWriter, approximateThreshold, deferGraphBuildOnFlush, DEFERRED_GRAPH_BUILD_MAX_FLUSH_DOCS);
+    }
+
+    @VisibleForTesting
+    NativeEngines990KnnVectorsWriter(
+        SegmentWriteState segmentWriteState,
+        FlatVectorsWriter flatVectorsWriter,
+        Integer approximateThreshold,
+        boolean deferGraphBuildOnFlush,
+        int deferredGraphBuildMaxFlushDocs
     ) {
         this.segmentWriteState = segmentWriteState;
         this.flatVectorsWriter = flatVectorsWriter;
         this.approximateThreshold = approximateThreshold;
+        this.deferGraphBuildOnFlush = deferGraphBuildOnFlush;
+        this.deferredGraphBuildMaxFlushDocs = deferredGraphBuildMaxFlushDocs;
     }
 
     /**
@@ -103,7 +139,12 @@ public class NativeEngines990KnnVectorsWriter extends KnnVectorsWriter {
                 field.getDocsWithField(),
                 field.getVectors()
             );
-            final QuantizationState quantizationState = train(field.getFieldInfo(), knnVectorValuesSupplier, totalLiveDocs);
+            final QuantizationState quantizationState = train(
+                field.getFieldInfo(),
+                knnVectorValuesSupplier,
+                totalLiveDocs,
+                KNNGraphValue.REFRESH_TOTAL_QUANTIZATION_TRAINING_TIME_IN_MILLIS
+            );
             // Check only after quantization state writer finish writing its state, since it is required
             // even if there are no graph files in segment, which will be later used by exact search
             if (shouldSkipBuildingVectorDataStructure(totalLiveDocs)) {
@@ -115,6 +156,15 @@ public class NativeEngines990KnnVectorsWriter extends KnnVectorsWriter {
                 );
                 continue;
             }
+            if (deferGraphBuildOnFlush && totalLiveDocs < deferredGraphBuildMaxFlushDocs) {
+                log.debug(
+                    "Defer building vector data structure for field: {} with liveDoc: {} until merge",
+                    fieldInfo.name,
+                    totalLiveDocs
+                );
+                KNNGraphValue.REFRESH_DEFERRED_OPERATIONS.increment();
+                continue;
+            }
             final NativeIndexWriter writer = NativeIndexWriter.getWriter(fieldInfo, segmentWriteState, quantizationState);
             final KNNVectorValues<?> knnVectorValues = knnVectorValuesSupplier.get();
 
@@ -137,13 +187,24 @@ public class NativeEngines990KnnVectorsWriter extends KnnVectorsWriter {
             fieldInfo,
             mergeState
         );
-        int totalLiveDocs = getLiveDocs(knnVectorValuesSupplier.get());
+        // Merged vectors are read sequentially, so the quantizer is trained in the same pass counting the live docs
+        // instead of reading sampled vectors afterwards
+        final QuantizationService quantizationService = QuantizationService.getInstance();
+        final QuantizationParams quantizationParams = quantizationService.getQuantizationParams(fieldInfo);
+        final StreamingTrainer<?> streamingTrainer = quantizationParams == null
+            ? null
+            : quantizationService.createStreamingTrainer(quantizationParams);
+        // Only the trainer calls are timed, the counting pass itself is not part of the training time
+        final StopWatch trainingStopWatch = new StopWatch().keepTaskList(false);
+        int totalLiveDocs = getLiveDocs(knnVectorValuesSupplier.get(), streamingTrainer, trainingStopWatch);
         if (totalLiveDocs == 0) {
             log.debug("[Merge] No live docs for field {}", fieldInfo.getName());
             return;
         }
 
-        final QuantizationState quantizationState = train(fieldInfo, knnVectorValuesSupplier, totalLiveDocs);
+        final QuantizationState quantizationState = streamingTrainer == null
+            ? null
+            : finishStreamingTraining(fieldInfo, streamingTrainer, totalLiveDocs, trainingStopWatch);
         // Check only after quantization state writer finish writing its state, since it is required
         // even if there are no graph files in segment, which will be later used by exact search
         if (shouldSkipBuildingVectorDataStructure(totalLiveDocs)) {
@@ -248,7 +309,8 @@ public class NativeEngines990KnnVectorsWriter extends KnnVectorsWriter {
     private QuantizationState train(
         final FieldInfo fieldInfo,
         final Supplier<KNNVectorValues<?>> knnVectorValuesSupplier,
-        final int totalLiveDocs
+        final int totalLiveDocs,
+        final KNNGraphValue trainingTimeGraphValue
     ) throws IOException {
 
         final QuantizationService quantizationService = QuantizationService.getInstance();
@@ -257,23 +319,65 @@ public class NativeEngines990KnnVectorsWriter extends KnnVectorsWriter {
         if (quantizationParams != null && totalLiveDocs > 0) {
             initQuantizationStateWriterIfNecessary();
             KNNVectorValues<?> knnVectorValues = knnVectorValuesSupplier.get();
+            StopWatch stopWatch = new StopWatch().start();
             quantizationState = quantizationService.train(quantizationParams, knnVectorValues, totalLiveDocs);
+            long timeInMillis = stopWatch.stop().totalTime().millis();
+            trainingTimeGraphValue.incrementBy(timeInMillis);
+            log.debug(
+                "Trained quantization state for field: {} with liveDoc: {} in {} ms",
+                fieldInfo.getName(),
+                totalLiveDocs,
+                timeInMillis
+            );
             quantizationStateWriter.writeState(fieldInfo.getFieldNumber(), quantizationState);
         }
 
         return quantizationState;
     }
 
+    private QuantizationState finishStreamingTraining(
+        final FieldInfo fieldInfo,
+        final StreamingTrainer<?> streamingTrainer,
+        final int totalLiveDocs,
+        final StopWatch stopWatch
+    ) throws IOException {
+        initQuantizationStateWriterIfNecessary();
+        stopWatch.start();
+        final QuantizationState quantizationState = streamingTrainer.finish();
+        long timeInMillis = stopWatch.stop().totalTime().millis();
+        KNNGraphValue.MERGE_TOTAL_QUANTIZATION_TRAINING_TIME_IN_MILLIS.incrementBy(timeInMillis);
+        log.debug(
+            "Trained quantization state in a single pass for field: {} with liveDoc: {} in {} ms",
+            fieldInfo.getName(),
+            totalLiveDocs,
+            timeInMillis
+        );
+        quantizationStateWriter.writeState(fieldInfo.getFieldNumber(), quantizationState);
+        return quantizationState;
+    }
+
     /**
      * The {@link KNNVectorValues} will be exhausted after this function run. So make sure that you are not sending the
-     * vectorsValues object which you plan to use later
+     * vectorsValues object which you plan to use later. Every vector is fed to the streaming trainer when one is given,
+     * and the time spent in the trainer is accumulated in the given stop watch.
      */
-    private int getLiveDocs(KNNVectorValues<?> vectorValues) throws IOException {
+    @SuppressWarnings("unchecked")
+    private <T> int getLiveDocs(
+        KNNVectorValues<T> vectorValues,
+        StreamingTrainer<?> streamingTrainer,
+        StopWatch trainingStopWatch
+    ) throws IOException {
         // Count all the live docs as there vectorValues.totalLiveDocs() just gives the cost for the FloatVectorValues,
         // and doesn't tell the correct number of docs, if there are deleted docs in the segment. So we are counting
         // the total live docs here.
         int liveDocs = 0;
         while (vectorValues.nextDoc() != DocIdSetIterator.NO_MORE_DOCS) {
+            if (streamingTrainer != null) {
+                final T vector = vectorValues.getVector();
+                trainingStopWatch.start();
+                ((StreamingTrainer<T>) streamingTrainer).accept(vector);
+                trainingStopWatch.stop();
+            }
             liveDocs++;
         }
         return liveDocs;
@@ -10,6 +10,7 @@ import lombok.Setter;
 import org.apache.lucene.search.KnnCollector;
 import org.apache.lucene.search.TopDocs;
 import org.opensearch.knn.quantization.models.quantizationState.QuantizationState;
+import org.opensearch.knn.quantization.models.quantizationState.QuantizationStateReadConfig;
 
 /**
  * Collector used for passing the quantization state during query flow.
@@ -20,6 +21,10 @@ public class QuantizationConfigKNNCollector implements KnnCollector {
 
     private QuantizationState quantizationState;
 
+    // Config the quantization state is read with, so that it can be read again through the quantization state cache
+    // without searching the segment
+    private QuantizationStateReadConfig quantizationStateReadConfig;
+
     private final String NATIVE_ENGINE_SEARCH_ERROR_MESSAGE = "Search functionality using codec is not supported with Native Engine Reader";
 
     @Override
@@ -10,6 +10,9 @@ import lombok.NoArgsConstructor;
 import org.opensearch.knn.common.KNNConstants;
 import org.opensearch.knn.index.codec.nativeindex.model.BuildIndexParams;
 import org.opensearch.knn.index.codec.transfer.OffHeapVectorTransfer;
+import org.opensearch.knn.index.engine.KNNEngine;
+import org.opensearch.knn.index.memory.ModelTemplateManager;
+import org.opensearch.knn.index.util.IndexUtil;
 import org.opensearch.knn.index.vectorvalues.KNNVectorValues;
 import org.opensearch.knn.jni.JNIService;
 
@@ -65,7 +68,12 @@ final class DefaultIndexBuildStrategy implements NativeIndexBuildStrategy {
             final List<Integer> transferredDocIds = new ArrayList<>(indexInfo.getTotalLiveDocs());
 
             while (knnVectorValues.docId() != NO_MORE_DOCS) {
-                Object vector = QuantizationIndexUtils.processAndReturnVector(knnVectorValues, indexBuildSetup);
+                // Direct buffer transfers copy the vector right away, hence the vector does not need to be cloned
+                Object vector = QuantizationIndexUtils.processAndReturnVector(
+                    knnVectorValues,
+                    indexBuildSetup,
+                    vectorTransfer.isDirectBuffer() == false
+                );
                 // append is true here so off heap memory buffer isn't overwritten
                 vectorTransfer.transfer(vector, true);
                 transferredDocIds.add(knnVectorValues.docId());
@@ -75,9 +83,32 @@ final class DefaultIndexBuildStrategy implements NativeIndexBuildStrategy {
 
             final Map<String, Object> params = indexInfo.getParameters();
             long vectorAddress = vectorTransfer.getVectorAddress();
-            // Currently this is if else as there are only two cases, with more cases this will have to be made
-            // more maintainable
-            if (params.containsKey(MODEL_ID)) {
+            if (params.containsKey(MODEL_ID) && indexInfo.getKnnEngine() == KNNEngine.FAISS) {
+                // The template is deserialized once per model and cloned for every segment built from it
+                final ModelTemplateManager.ModelTemplate modelTemplate = ModelTemplateManager.getInstance()
+                    .get(
+                        (String) params.get(MODEL_ID),
+                        (byte[]) params.get(KNNConstants.MODEL_BLOB_PARAMETER),
+                        IndexUtil.isBinaryIndex(indexInfo.getKnnEngine(), params),
+                        indexInfo.getKnnEngine()
+                    );
+                try {
+                    AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
+                        JNIService.createIndexFromLoadedTemplate(
+                            intListToArray(transferredDocIds),
+                            vectorAddress,
+                            indexBuildSetup.getDimensions(),
+                            indexInfo.getIndexOutputWithBuffer(),
+                            modelTemplate.getTemplateAddress(),
+                            params,
+                            indexInfo.getKnnEngine()
+                        );
+                        return null;
+                    });
+                } finally {
+                    ModelTemplateManager.getInstance().release(modelTemplate);
+                }
+            } else if (params.containsKey(MODEL_ID)) {
                 AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
                     JNIService.createIndexFromTemplate(
                         intListToArray(transferredDocIds),
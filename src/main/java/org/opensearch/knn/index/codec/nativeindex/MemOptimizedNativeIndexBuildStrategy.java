@@ -79,7 +79,12 @@ final class MemOptimizedNativeIndexBuildStrategy implements NativeIndexBuildStra
             final List<Integer> transferredDocIds = new ArrayList<>(vectorTransfer.getTransferLimit());
 
             while (knnVectorValues.docId() != NO_MORE_DOCS) {
-                Object vector = QuantizationIndexUtils.processAndReturnVector(knnVectorValues, indexBuildSetup);
+                // Direct buffer transfers copy the vector right away, hence the vector does not need to be cloned
+                Object vector = QuantizationIndexUtils.processAndReturnVector(
+                    knnVectorValues,
+                    indexBuildSetup,
+                    vectorTransfer.isDirectBuffer() == false
+                );
                 // append is false to be able to reuse the memory location
                 boolean transferred = vectorTransfer.transfer(vector, false);
                 transferredDocIds.add(knnVectorValues.docId());
@@ -0,0 +1,108 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.codec.nativeindex;
+
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.apache.lucene.util.ThreadInterruptedException;
+import org.opensearch.knn.index.KNNSettings;
+
+import java.io.Closeable;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Admits native index builds against the node wide native build memory budget,
+ * {@link KNNSettings#KNN_NATIVE_INDEX_BUILD_MEMORY_LIMIT}. A build which does not fit next to the running builds waits until
+ * enough memory is released. A build is always admitted when no other build is running, so that a build estimated above
+ * the budget still makes progress.
+ */
+@Log4j2
+final class NativeIndexBuildAdmissionController {
+
+    private static final NativeIndexBuildAdmissionController INSTANCE = new NativeIndexBuildAdmissionController(
+        () -> KNNSettings.getNativeIndexBuildMemoryLimit().getBytes()
+    );
+    // Waiting builds re-check the budget periodically, as it is a dynamic setting
+    private static final long BUDGET_RECHECK_INTERVAL_MILLIS = TimeUnit.SECONDS.toMillis(1);
+
+    private final LongSupplier memoryLimitSupplier;
+    private long reservedBytes;
+
+    NativeIndexBuildAdmissionController(final LongSupplier memoryLimitSupplier) {
+        this.memoryLimitSupplier = memoryLimitSupplier;
+    }
+
+    static NativeIndexBuildAdmissionController getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Blocks until a build of the given estimated size fits in the budget and reserves it.
+     *
+     * @param fieldName      name of the field the index is built for
+     * @param estimatedBytes estimated native memory of the build
+     * @return {@link Reservation} to close once the build is done
+     */
+    synchronized Reservation admit(final String fieldName, final long estimatedBytes) {
+        boolean queued = false;
+        while (fits(estimatedBytes) == false) {
+            if (queued == false) {
+                log.debug(
+                    "Queuing native index build for field {}, estimated at {} bytes, {} bytes are already reserved",
+                    fieldName,
+                    estimatedBytes,
+                    reservedBytes
+                );
+                queued = true;
+            }
+            try {
+                wait(BUDGET_RECHECK_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                throw new ThreadInterruptedException(e);
+            }
+        }
+        reservedBytes += estimatedBytes;
+        return new Reservation(estimatedBytes, queued);
+    }
+
+    synchronized long getReservedBytes() {
+        return reservedBytes;
+    }
+
+    private boolean fits(final long estimatedBytes) {
+        final long memoryLimit = memoryLimitSupplier.getAsLong();
+        return memoryLimit < 0 || reservedBytes == 0 || reservedBytes + estimatedBytes <= memoryLimit;
+    }
+
+    private synchronized void release(final long bytes) {
+        reservedBytes -= bytes;
+        notifyAll();
+    }
+
+    /**
+     * Memory reserved for a running build. Closing it releases the memory for queued builds.
+     */
+    final class Reservation implements Closeable {
+        private final long bytes;
+        @Getter
+        private final boolean queued;
+        private boolean released;
+
+        private Reservation(final long bytes, final boolean queued) {
+            this.bytes = bytes;
+            this.queued = queued;
+        }
+
+        @Override
+        public void close() {
+            if (released == false) {
+                released = true;
+                release(bytes);
+            }
+        }
+    }
+}
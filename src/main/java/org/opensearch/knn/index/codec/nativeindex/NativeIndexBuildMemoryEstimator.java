@@ -0,0 +1,116 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.codec.nativeindex;
+
+import lombok.experimental.UtilityClass;
+import org.opensearch.knn.index.KNNSettings;
+import org.opensearch.knn.index.codec.nativeindex.model.BuildIndexParams;
+import org.opensearch.knn.index.engine.KNNEngine;
+import org.opensearch.knn.quantization.models.quantizationState.QuantizationState;
+
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.opensearch.knn.common.KNNConstants.FAISS_SIGNED_BYTE_SQ;
+import static org.opensearch.knn.common.KNNConstants.INDEX_DESCRIPTION_PARAMETER;
+import static org.opensearch.knn.common.KNNConstants.METHOD_PARAMETER_M;
+import static org.opensearch.knn.common.KNNConstants.MODEL_BLOB_PARAMETER;
+import static org.opensearch.knn.common.KNNConstants.PARAMETERS;
+
+/**
+ * Estimates the native memory footprint of building a native index from the {@link BuildIndexParams}. The estimate is an
+ * approximation of the memory held by the library while building: encoded vectors, ids, graph links and the vectors
+ * transferred from Java.
+ */
+@UtilityClass
+class NativeIndexBuildMemoryEstimator {
+
+    private static final Pattern FAISS_HNSW_M_PATTERN = Pattern.compile("HNSW(\\d+)");
+    private static final String FAISS_SQ_FP16_DESCRIPTION = "SQfp16";
+    // Level 0 of an HNSW graph keeps 2 * M links per node. A node is on the upper levels with probability 1 / M, so the upper
+    // levels add about M / (M - 1) links, which is rounded up to 1.
+    private static final int HNSW_UPPER_LEVEL_LINKS = 1;
+    // Per node level and neighbor offset kept next to the links
+    private static final long HNSW_NODE_OVERHEAD_IN_BYTES = Integer.BYTES + Long.BYTES;
+
+    /**
+     * Estimates the size of the native index once built. This is comparable to the size of the serialized index.
+     *
+     * @param indexInfo {@link BuildIndexParams} of the build
+     * @return estimated index size in bytes
+     */
+    static long estimateIndexSizeInBytes(final BuildIndexParams indexInfo) {
+        final long numVectors = indexInfo.getTotalLiveDocs();
+        final Map<String, Object> parameters = indexInfo.getParameters();
+        long size = numVectors * (codeSizeInBytes(indexInfo) + Long.BYTES);
+
+        final int m = hnswM(indexInfo.getKnnEngine(), parameters);
+        if (m > 0) {
+            size += numVectors * ((2L * m + HNSW_UPPER_LEVEL_LINKS) * Integer.BYTES + HNSW_NODE_OVERHEAD_IN_BYTES);
+        }
+
+        final Object modelBlob = parameters.get(MODEL_BLOB_PARAMETER);
+        if (modelBlob instanceof byte[]) {
+            size += ((byte[]) modelBlob).length;
+        }
+        return size;
+    }
+
+    /**
+     * Estimates the native memory needed to build the index: the index itself plus the vectors transferred from Java.
+     *
+     * @param indexInfo {@link BuildIndexParams} of the build
+     * @param streaming whether the vectors are streamed into the index in batches rather than transferred all at once
+     * @return estimated build memory in bytes
+     */
+    static long estimateBuildMemoryInBytes(final BuildIndexParams indexInfo, boolean streaming) {
+        long transferSize = (long) indexInfo.getTotalLiveDocs() * transferredBytesPerVector(indexInfo);
+        if (streaming) {
+            transferSize = Math.min(transferSize, KNNSettings.getVectorStreamingMemoryLimit().getBytes());
+        }
+        return estimateIndexSizeInBytes(indexInfo) + transferSize;
+    }
+
+    private static long transferredBytesPerVector(final BuildIndexParams indexInfo) {
+        final QuantizationState quantizationState = indexInfo.getQuantizationState();
+        if (quantizationState != null) {
+            return quantizationState.getBytesPerVector();
+        }
+        return indexInfo.getVectorValues().bytesPerVector();
+    }
+
+    private static long codeSizeInBytes(final BuildIndexParams indexInfo) {
+        final Object description = indexInfo.getParameters().get(INDEX_DESCRIPTION_PARAMETER);
+        if (description != null && indexInfo.getQuantizationState() == null) {
+            final int dimension = indexInfo.getVectorValues().dimension();
+            if (description.toString().contains(FAISS_SQ_FP16_DESCRIPTION)) {
+                return 2L * dimension;
+            }
+            if (description.toString().contains(FAISS_SIGNED_BYTE_SQ)) {
+                return dimension;
+            }
+        }
+        // Flat storage or an encoder which does not take more than the transferred vector
+        return transferredBytesPerVector(indexInfo);
+    }
+
+    private static int hnswM(final KNNEngine knnEngine, final Map<String, Object> parameters) {
+        final Object description = parameters.get(INDEX_DESCRIPTION_PARAMETER);
+        if (description != null) {
+            final Matcher matcher = FAISS_HNSW_M_PATTERN.matcher(description.toString());
+            return matcher.find() ? Integer.parseInt(matcher.group(1)) : 0;
+        }
+        if (KNNEngine.NMSLIB != knnEngine) {
+            return 0;
+        }
+        final Object methodParameters = parameters.get(PARAMETERS);
+        if (methodParameters instanceof Map && ((Map<?, ?>) methodParameters).get(METHOD_PARAMETER_M) instanceof Integer) {
+            return (Integer) ((Map<?, ?>) methodParameters).get(METHOD_PARAMETER_M);
+        }
+        return KNNSettings.INDEX_KNN_DEFAULT_ALGO_PARAM_M;
+    }
+}
@@ -101,10 +101,23 @@ public class NativeIndexWriter {
      */
     public void flushIndex(final KNNVectorValues<?> knnVectorValues, int totalLiveDocs) throws IOException {
         iterateVectorValuesOnce(knnVectorValues);
-        buildAndWriteIndex(knnVectorValues, totalLiveDocs);
+        buildAndWriteIndex(knnVectorValues, totalLiveDocs, false);
         recordRefreshStats();
     }
 
+    /**
+     * Builds the index of a segment whose graph build was deferred on flush. The build is counted on its own, apart
+     * from the graphs built by refreshes.
+     *
+     * @param knnVectorValues
+     * @throws IOException
+     */
+    public void buildDeferredIndex(final KNNVectorValues<?> knnVectorValues, int totalLiveDocs) throws IOException {
+        iterateVectorValuesOnce(knnVectorValues);
+        buildAndWriteIndex(knnVectorValues, totalLiveDocs, false);
+        KNNGraphValue.REFRESH_DEFERRED_GRAPH_BUILD_OPERATIONS.increment();
+    }
+
     /**
      * Merges kNN index
      * @param knnVectorValues
@@ -120,11 +133,11 @@ public class NativeIndexWriter {
 
         long bytesPerVector = knnVectorValues.bytesPerVector();
         startMergeStats(totalLiveDocs, bytesPerVector);
-        buildAndWriteIndex(knnVectorValues, totalLiveDocs);
+        buildAndWriteIndex(knnVectorValues, totalLiveDocs, true);
         endMergeStats(totalLiveDocs, bytesPerVector);
     }
 
-    private void buildAndWriteIndex(final KNNVectorValues<?> knnVectorValues, int totalLiveDocs) throws IOException {
+    private void buildAndWriteIndex(final KNNVectorValues<?> knnVectorValues, int totalLiveDocs, boolean isMerge) throws IOException {
         if (totalLiveDocs == 0) {
             log.debug("No live docs for field {}", fieldInfo.name);
             return;
@@ -146,7 +159,20 @@ public class NativeIndexWriter {
                 knnVectorValues,
                 totalLiveDocs
             );
-            indexBuilder.buildAndWriteIndex(nativeIndexParams);
+            final long estimatedIndexSize = NativeIndexBuildMemoryEstimator.estimateIndexSizeInBytes(nativeIndexParams);
+            final long estimatedBuildMemory = NativeIndexBuildMemoryEstimator.estimateBuildMemoryInBytes(
+                nativeIndexParams,
+                indexBuilder instanceof MemOptimizedNativeIndexBuildStrategy
+            );
+            try (
+                NativeIndexBuildAdmissionController.Reservation reservation = NativeIndexBuildAdmissionController.getInstance()
+                    .admit(fieldInfo.name, estimatedBuildMemory)
+            ) {
+                indexBuilder.buildAndWriteIndex(nativeIndexParams);
+                if (isMerge) {
+                    recordMergeMemoryStats(estimatedIndexSize, output.getFilePointer(), reservation.isQueued());
+                }
+            }
             CodecUtil.writeFooter(output);
         }
     }
@@ -294,6 +320,14 @@ public class NativeIndexWriter {
         KNNGraphValue.MERGE_CURRENT_SIZE_IN_BYTES.decrementBy(arraySize);
     }
 
+    private void recordMergeMemoryStats(long estimatedIndexSize, long indexSize, boolean queued) {
+        KNNGraphValue.MERGE_TOTAL_ESTIMATED_GRAPH_SIZE_IN_BYTES.incrementBy(estimatedIndexSize);
+        KNNGraphValue.MERGE_TOTAL_GRAPH_SIZE_IN_BYTES.incrementBy(indexSize);
+        if (queued) {
+            KNNGraphValue.MERGE_TOTAL_THROTTLED_OPERATIONS.increment();
+        }
+    }
+
     private void recordRefreshStats() {
         KNNGraphValue.REFRESH_TOTAL_OPERATIONS.increment();
     }
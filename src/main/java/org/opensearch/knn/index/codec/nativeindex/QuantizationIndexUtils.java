@@ -26,6 +26,25 @@ class QuantizationIndexUtils {
      * @throws IOException If an I/O error occurs while processing the vector.
      */
     static Object processAndReturnVector(KNNVectorValues<?> knnVectorValues, IndexBuildSetup indexBuildSetup) throws IOException {
+        return processAndReturnVector(knnVectorValues, indexBuildSetup, true);
+    }
+
+    /**
+     * Processes the vector from {@link KNNVectorValues} and returns either the quantized vector or the original vector.
+     *
+     * <p>If copyRequired is false, the returned array is only valid until the next call: the quantized vector is the
+     * reused buffer of the {@link QuantizationOutput} and the original vector is the one owned by {@link KNNVectorValues}.
+     * Use this with consumers which copy the vector right away, e.g. a direct buffer
+     * {@link org.opensearch.knn.index.codec.transfer.OffHeapVectorTransfer}, to avoid any per vector allocation.</p>
+     *
+     * @param knnVectorValues The KNN vector values containing the original vector.
+     * @param indexBuildSetup The setup containing the quantization state and output details.
+     * @param copyRequired    Whether the returned vector must be a copy which is safe to hold on to.
+     * @return The quantized vector (as a byte array) or the original vector.
+     * @throws IOException If an I/O error occurs while processing the vector.
+     */
+    static Object processAndReturnVector(KNNVectorValues<?> knnVectorValues, IndexBuildSetup indexBuildSetup, boolean copyRequired)
+        throws IOException {
         QuantizationService quantizationService = QuantizationService.getInstance();
         if (indexBuildSetup.getQuantizationState() != null && indexBuildSetup.getQuantizationOutput() != null) {
             quantizationService.quantize(
@@ -34,12 +53,14 @@ class QuantizationIndexUtils {
                 indexBuildSetup.getQuantizationOutput()
             );
             /**
-             * Returns a copy of the quantized vector. This is because of during transfer same vectors was getting
+             * Returns a copy of the quantized vector if required. This is because of during transfer same vectors was getting
              * added due to reference.
              */
-            return indexBuildSetup.getQuantizationOutput().getQuantizedVectorCopy();
+            return copyRequired
+                ? indexBuildSetup.getQuantizationOutput().getQuantizedVectorCopy()
+                : indexBuildSetup.getQuantizationOutput().getQuantizedVector();
         } else {
-            return knnVectorValues.conditionalCloneVector();
+            return copyRequired ? knnVectorValues.conditionalCloneVector() : knnVectorValues.getVector();
         }
     }
 
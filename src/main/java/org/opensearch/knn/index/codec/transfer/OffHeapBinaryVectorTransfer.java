@@ -8,6 +8,7 @@ package org.opensearch.knn.index.codec.transfer;
 import org.opensearch.knn.jni.JNICommons;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.List;
 
 /**
@@ -21,6 +22,10 @@ public final class OffHeapBinaryVectorTransfer extends OffHeapVectorTransfer<byt
         super(bytesPerVector, totalVectorsToTransfer);
     }
 
+    public OffHeapBinaryVectorTransfer(int bytesPerVector, int totalVectorsToTransfer, boolean useDirectBuffer) {
+        super(bytesPerVector, totalVectorsToTransfer, useDirectBuffer);
+    }
+
     @Override
     public void deallocate() {
         JNICommons.freeBinaryVectorData(getVectorAddress());
@@ -35,4 +40,20 @@ public final class OffHeapBinaryVectorTransfer extends OffHeapVectorTransfer<byt
             append
         );
     }
+
+    @Override
+    protected void writeToBuffer(final ByteBuffer buffer, final byte[] vector) {
+        buffer.put(vector);
+    }
+
+    @Override
+    protected long transfer(final ByteBuffer buffer, long numBytes, boolean append) throws IOException {
+        return JNICommons.storeBinaryVectorDataFromBuffer(
+            getVectorAddress(),
+            buffer,
+            numBytes,
+            (long) this.bytesPerVector * this.transferLimit,
+            append
+        );
+    }
 }
@@ -8,6 +8,7 @@ package org.opensearch.knn.index.codec.transfer;
 import org.opensearch.knn.jni.JNICommons;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.List;
 
 /**
@@ -21,6 +22,10 @@ public final class OffHeapByteVectorTransfer extends OffHeapVectorTransfer<byte[
         super(bytesPerVector, totalVectorsToTransfer);
     }
 
+    public OffHeapByteVectorTransfer(int bytesPerVector, int totalVectorsToTransfer, boolean useDirectBuffer) {
+        super(bytesPerVector, totalVectorsToTransfer, useDirectBuffer);
+    }
+
     @Override
     protected long transfer(List<byte[]> batch, boolean append) throws IOException {
         return JNICommons.storeByteVectorData(
@@ -35,4 +40,20 @@ public final class OffHeapByteVectorTransfer extends OffHeapVectorTransfer<byte[
     public void deallocate() {
         JNICommons.freeByteVectorData(getVectorAddress());
     }
+
+    @Override
+    protected void writeToBuffer(final ByteBuffer buffer, final byte[] vector) {
+        buffer.put(vector);
+    }
+
+    @Override
+    protected long transfer(final ByteBuffer buffer, long numBytes, boolean append) throws IOException {
+        return JNICommons.storeByteVectorDataFromBuffer(
+            getVectorAddress(),
+            buffer,
+            numBytes,
+            (long) this.bytesPerVector * this.transferLimit,
+            append
+        );
+    }
 }
@@ -8,6 +8,7 @@ package org.opensearch.knn.index.codec.transfer;
 import org.opensearch.knn.jni.JNICommons;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.List;
 
 /**
@@ -19,6 +20,10 @@ public final class OffHeapFloatVectorTransfer extends OffHeapVectorTransfer<floa
         super(bytesPerVector, totalVectorsToTransfer);
     }
 
+    public OffHeapFloatVectorTransfer(int bytesPerVector, int totalVectorsToTransfer, boolean useDirectBuffer) {
+        super(bytesPerVector, totalVectorsToTransfer, useDirectBuffer);
+    }
+
     @Override
     protected long transfer(final List<float[]> vectorsToTransfer, boolean append) throws IOException {
         return JNICommons.storeVectorData(
@@ -29,6 +34,24 @@ public final class OffHeapFloatVectorTransfer extends OffHeapVectorTransfer<floa
         );
     }
 
+    @Override
+    protected void writeToBuffer(final ByteBuffer buffer, final float[] vector) {
+        // Float view starts at the current position of the buffer, bulk put copies the whole vector at once
+        buffer.asFloatBuffer().put(vector);
+        buffer.position(buffer.position() + vector.length * Float.BYTES);
+    }
+
+    @Override
+    protected long transfer(final ByteBuffer buffer, long numBytes, boolean append) throws IOException {
+        return JNICommons.storeVectorDataFromBuffer(
+            getVectorAddress(),
+            buffer,
+            numBytes,
+            (long) (this.bytesPerVector / Float.BYTES) * this.transferLimit,
+            append
+        );
+    }
+
     @Override
     public void deallocate() {
         JNICommons.freeVectorData(getVectorAddress());
@@ -11,6 +11,8 @@ import org.opensearch.knn.index.vectorvalues.KNNVectorValues;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -19,6 +21,12 @@ import java.util.List;
  * The class is intended to transfer {@link KNNVectorValues} to off heap memory.
  * </p>
  * <p>
+ * Vectors can either be staged in a java {@link List} and transferred as a 2D array, or be written directly into a
+ * pre-sized direct {@link ByteBuffer} as they arrive. The direct buffer mode keeps a batch on-heap zero times and
+ * avoids marshalling a 2D java array on the JNI layer. Since the vector is copied into the buffer at the time of
+ * {@link #transfer(Object, boolean)}, callers are free to reuse the passed vector afterwards.
+ * </p>
+ * <p>
  * The class is not thread safe.
  * </p>
  *
@@ -30,17 +38,38 @@ public abstract class OffHeapVectorTransfer<T> implements Closeable {
     private long vectorAddress;
     @Getter
     protected final int transferLimit;
+    @Getter
+    protected final int bytesPerVector;
 
     private List<T> vectorsToTransfer;
+    private ByteBuffer vectorsBuffer;
+    private int bufferedVectorsCount;
 
     public OffHeapVectorTransfer(int bytesPerVector, int totalVectorsToTransfer) {
+        this(bytesPerVector, totalVectorsToTransfer, false);
+    }
+
+    /**
+     * @param bytesPerVector         bytes used per vector
+     * @param totalVectorsToTransfer total number of vectors that will be transferred off heap
+     * @param useDirectBuffer        if true, vectors are written into a direct {@link ByteBuffer} instead of being
+     *                               staged in a java list
+     */
+    public OffHeapVectorTransfer(int bytesPerVector, int totalVectorsToTransfer, boolean useDirectBuffer) {
+        this.bytesPerVector = bytesPerVector;
         this.transferLimit = computeTransferLimit(bytesPerVector, totalVectorsToTransfer);
-        this.vectorsToTransfer = new ArrayList<>(this.transferLimit);
+        if (useDirectBuffer) {
+            this.vectorsBuffer = ByteBuffer.allocateDirect(this.transferLimit * bytesPerVector).order(ByteOrder.nativeOrder());
+        } else {
+            this.vectorsToTransfer = new ArrayList<>(this.transferLimit);
+        }
         this.vectorAddress = 0;
     }
 
     private int computeTransferLimit(int bytesPerVector, int totalVectorsToTransfer) {
-        int limit = (int) Math.max(1, KNNSettings.getVectorStreamingMemoryLimit().getBytes() / bytesPerVector);
+        // Cap the memory limit so that a batch can always be addressed by a single ByteBuffer
+        long memoryLimit = Math.min(KNNSettings.getVectorStreamingMemoryLimit().getBytes(), Integer.MAX_VALUE);
+        int limit = (int) Math.max(1, memoryLimit / bytesPerVector);
         return Math.min(limit, totalVectorsToTransfer);
     }
 
@@ -52,6 +81,15 @@ public abstract class OffHeapVectorTransfer<T> implements Closeable {
      * @throws IOException
      */
     public boolean transfer(T vector, boolean append) throws IOException {
+        if (isDirectBuffer()) {
+            writeToBuffer(vectorsBuffer, vector);
+            bufferedVectorsCount++;
+            if (bufferedVectorsCount == this.transferLimit) {
+                transferBuffer(append);
+                return true;
+            }
+            return false;
+        }
         vectorsToTransfer.add(vector);
         if (vectorsToTransfer.size() == this.transferLimit) {
             vectorAddress = transfer(vectorsToTransfer, append);
@@ -62,7 +100,7 @@ public abstract class OffHeapVectorTransfer<T> implements Closeable {
     }
 
     /**
-     * Empties the {@link #vectorsToTransfer} if its not empty. Intended to be used before
+     * Empties the {@link #vectorsToTransfer} or the direct buffer if its not empty. Intended to be used before
      * closing the transfer
      *
      * @param append This indicates whether to append or rewrite the off-heap buffer
@@ -71,6 +109,13 @@ public abstract class OffHeapVectorTransfer<T> implements Closeable {
      */
     public boolean flush(boolean append) throws IOException {
         // flush before closing
+        if (isDirectBuffer()) {
+            if (bufferedVectorsCount > 0) {
+                transferBuffer(append);
+                return true;
+            }
+            return false;
+        }
         if (!vectorsToTransfer.isEmpty()) {
             vectorAddress = transfer(vectorsToTransfer, append);
             vectorsToTransfer.clear();
@@ -79,6 +124,13 @@ public abstract class OffHeapVectorTransfer<T> implements Closeable {
         return false;
     }
 
+    /**
+     * @return true if vectors are written into a direct buffer as they arrive, false if they are staged in a list
+     */
+    public boolean isDirectBuffer() {
+        return vectorsBuffer != null;
+    }
+
     @Override
     public void close() {
         // Remove this if condition once create and write index is separated for nmslib
@@ -98,9 +150,35 @@ public abstract class OffHeapVectorTransfer<T> implements Closeable {
     public void reset() {
         vectorAddress = 0;
         vectorsToTransfer = null;
+        vectorsBuffer = null;
+        bufferedVectorsCount = 0;
+    }
+
+    private void transferBuffer(boolean append) throws IOException {
+        vectorAddress = transfer(vectorsBuffer, (long) bufferedVectorsCount * bytesPerVector, append);
+        vectorsBuffer.clear();
+        bufferedVectorsCount = 0;
     }
 
     protected abstract void deallocate();
 
     protected abstract long transfer(final List<T> vectorsToTransfer, boolean append) throws IOException;
+
+    /**
+     * Writes the vector at the current position of the direct buffer.
+     *
+     * @param buffer direct buffer in native byte order
+     * @param vector vector to be written
+     */
+    protected abstract void writeToBuffer(final ByteBuffer buffer, final T vector);
+
+    /**
+     * Transfers the first numBytes of the direct buffer to off heap memory
+     *
+     * @param buffer   direct buffer in native byte order
+     * @param numBytes number of bytes written to the buffer
+     * @param append   This indicates whether to append or rewrite the off-heap buffer
+     * @return address of the off heap memory
+     */
+    protected abstract long transfer(final ByteBuffer buffer, long numBytes, boolean append) throws IOException;
 }
@@ -16,7 +16,8 @@ import org.opensearch.knn.index.VectorDataType;
 public final class OffHeapVectorTransferFactory {
 
     /**
-     * Gets the right vector transfer object based on vector data type
+     * Gets the right vector transfer object based on vector data type. The returned transfer writes vectors into a
+     * direct buffer as they arrive, see {@link OffHeapVectorTransfer}.
      * @param vectorDataType {@link VectorDataType}
      * @param bytesPerVector Bytes used per vector
      * @param totalVectorsToTransfer total number of vectors that will be transferred off heap
@@ -27,14 +28,32 @@ public final class OffHeapVectorTransferFactory {
         final VectorDataType vectorDataType,
         int bytesPerVector,
         int totalVectorsToTransfer
+    ) {
+        return getVectorTransfer(vectorDataType, bytesPerVector, totalVectorsToTransfer, true);
+    }
+
+    /**
+     * Gets the right vector transfer object based on vector data type
+     * @param vectorDataType {@link VectorDataType}
+     * @param bytesPerVector Bytes used per vector
+     * @param totalVectorsToTransfer total number of vectors that will be transferred off heap
+     * @param useDirectBuffer true to write vectors into a direct buffer, false to stage them in a java list
+     * @return Correct implementation of {@link OffHeapVectorTransfer}
+     * @param <T> float[] or byte[]
+     */
+    public static <T> OffHeapVectorTransfer<T> getVectorTransfer(
+        final VectorDataType vectorDataType,
+        int bytesPerVector,
+        int totalVectorsToTransfer,
+        boolean useDirectBuffer
     ) {
         switch (vectorDataType) {
             case FLOAT:
-                return (OffHeapVectorTransfer<T>) new OffHeapFloatVectorTransfer(bytesPerVector, totalVectorsToTransfer);
+                return (OffHeapVectorTransfer<T>) new OffHeapFloatVectorTransfer(bytesPerVector, totalVectorsToTransfer, useDirectBuffer);
             case BINARY:
-                return (OffHeapVectorTransfer<T>) new OffHeapBinaryVectorTransfer(bytesPerVector, totalVectorsToTransfer);
+                return (OffHeapVectorTransfer<T>) new OffHeapBinaryVectorTransfer(bytesPerVector, totalVectorsToTransfer, useDirectBuffer);
             case BYTE:
-                return (OffHeapVectorTransfer<T>) new OffHeapByteVectorTransfer(bytesPerVector, totalVectorsToTransfer);
+                return (OffHeapVectorTransfer<T>) new OffHeapByteVectorTransfer(bytesPerVector, totalVectorsToTransfer, useDirectBuffer);
             default:
                 throw new IllegalArgumentException("Unsupported vector data type: " + vectorDataType);
         }
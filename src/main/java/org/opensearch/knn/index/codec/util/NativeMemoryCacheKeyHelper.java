@@ -6,6 +6,7 @@
 package org.opensearch.knn.index.codec.util;
 
 import org.apache.lucene.index.SegmentInfo;
+import org.opensearch.knn.index.engine.KNNEngine;
 
 import java.util.Base64;
 
@@ -26,6 +27,31 @@ public final class NativeMemoryCacheKeyHelper {
         return cacheKey;
     }
 
+    /**
+     * Construct the cache key of a native index built in memory for a segment that has no vector index file, because
+     * its graph build was deferred on flush. The key holds the file name the flush would have written, so that the
+     * index is loaded the same way as one read from the segment.
+     *
+     * @param knnEngine Engine of the field
+     * @param fieldName Name of the field
+     * @param segmentInfo Segment info object of the segment
+     * @return Unique cache key that can be used for look-up and invalidating in
+     * {@link org.opensearch.knn.index.memory.NativeMemoryCacheManager}
+     */
+    public static String constructDeferredGraphCacheKey(
+        final KNNEngine knnEngine,
+        final String fieldName,
+        final SegmentInfo segmentInfo
+    ) {
+        final String vectorIndexFileName = KNNCodecUtil.buildEngineFileName(
+            segmentInfo.name,
+            knnEngine.getVersion(),
+            fieldName,
+            knnEngine.getExtension()
+        );
+        return constructCacheKey(vectorIndexFileName, segmentInfo);
+    }
+
     /**
      * From cacheKey, we extract a vector file name.
      * Note that expected format of cacheKey consists of two part with '@' as a delimiter.
@@ -20,6 +20,7 @@ import org.opensearch.knn.quantization.enums.ScalarQuantizationType;
 
 import java.util.HashMap;
 import java.util.Locale;
+import java.util.Objects;
 import java.util.Set;
 
 import static org.opensearch.knn.common.KNNConstants.FAISS_FLAT_DESCRIPTION;
@@ -32,7 +33,9 @@ public class QFrameBitEncoder implements Encoder {
 
     public static final String NAME = "binary";
     public static final String BITCOUNT_PARAM = "bits";
+    public static final String RANDOM_ROTATION_PARAM = "random_rotation";
     private static final int DEFAULT_BITS = 1;
+    private static final boolean DEFAULT_RANDOM_ROTATION = false;
     private static final Set<Integer> validBitCounts = ImmutableSet.of(1, 2, 4);
     private static final Set<VectorDataType> SUPPORTED_DATA_TYPES = ImmutableSet.of(VectorDataType.FLOAT);
 
@@ -41,7 +44,8 @@ public class QFrameBitEncoder implements Encoder {
      *   "encoder": {
      *     "name": "binary",
      *     "parameters": {
-     *       "bits": 2
+     *       "bits": 2,
+     *       "random_rotation": false
      *     }
      *   }
      * }
@@ -52,11 +56,25 @@ public class QFrameBitEncoder implements Encoder {
             BITCOUNT_PARAM,
             new Parameter.IntegerParameter(BITCOUNT_PARAM, DEFAULT_BITS, (v, context) -> validBitCounts.contains(v))
         )
+        .addParameter(
+            RANDOM_ROTATION_PARAM,
+            new Parameter.BooleanParameter(RANDOM_ROTATION_PARAM, DEFAULT_RANDOM_ROTATION, (v, context) -> Objects.nonNull(v))
+        )
         .setKnnLibraryIndexingContextGenerator(((methodComponent, methodComponentContext, knnMethodConfigContext) -> {
             QuantizationConfig quantizationConfig;
             int bitCount = (int) methodComponentContext.getParameters().getOrDefault(BITCOUNT_PARAM, DEFAULT_BITS);
+            boolean randomRotation = (boolean) methodComponentContext.getParameters()
+                .getOrDefault(RANDOM_ROTATION_PARAM, DEFAULT_RANDOM_ROTATION);
+            if (randomRotation && bitCount != 1) {
+                throw new IllegalArgumentException(
+                    String.format(Locale.ROOT, "Parameter [%s] is only supported with 1 bit, got %d bits", RANDOM_ROTATION_PARAM, bitCount)
+                );
+            }
             if (bitCount == 1) {
-                quantizationConfig = QuantizationConfig.builder().quantizationType(ScalarQuantizationType.ONE_BIT).build();
+                quantizationConfig = QuantizationConfig.builder()
+                    .quantizationType(ScalarQuantizationType.ONE_BIT)
+                    .enableRandomRotation(randomRotation)
+                    .build();
             } else if (bitCount == 2) {
                 quantizationConfig = QuantizationConfig.builder().quantizationType(ScalarQuantizationType.TWO_BIT).build();
             } else if (bitCount == 4) {
@@ -19,5 +19,7 @@ import org.opensearch.knn.quantization.enums.ScalarQuantizationType;
 public class QuantizationConfig {
     @Builder.Default
     private ScalarQuantizationType quantizationType = null;
+    @Builder.Default
+    private boolean enableRandomRotation = false;
     public static final QuantizationConfig EMPTY = QuantizationConfig.builder().build();
 }
@@ -20,10 +20,11 @@ public class QuantizationConfigParser {
     public static final String TYPE_NAME = "type";
     public static final String BINARY_TYPE = QFrameBitEncoder.NAME;
     public static final String BIT_COUNT_NAME = QFrameBitEncoder.BITCOUNT_PARAM;
+    public static final String RANDOM_ROTATION_NAME = QFrameBitEncoder.RANDOM_ROTATION_PARAM;
 
     /**
      * Parse quantization config to csv format
-     * Example: type=binary,bits=2
+     * Example: type=binary,bits=2 or type=binary,bits=1,random_rotation=true
      * @param quantizationConfig Quantization config
      * @return Csv format of quantization config
      */
@@ -34,7 +35,13 @@ public class QuantizationConfigParser {
             return "";
         }
 
-        return TYPE_NAME + SEPARATOR + BINARY_TYPE + "," + BIT_COUNT_NAME + SEPARATOR + quantizationConfig.getQuantizationType().getId();
+        String csv = TYPE_NAME + SEPARATOR + BINARY_TYPE + "," + BIT_COUNT_NAME + SEPARATOR + quantizationConfig.getQuantizationType()
+            .getId();
+        // Only written when enabled, so that the attribute of fields without rotation is unchanged
+        if (quantizationConfig.isEnableRandomRotation()) {
+            csv += "," + RANDOM_ROTATION_NAME + SEPARATOR + true;
+        }
+        return csv;
     }
 
     /**
@@ -49,7 +56,7 @@ public class QuantizationConfigParser {
         }
 
         String[] csvArray = CSVUtil.parse(csv);
-        if (csvArray.length != 2) {
+        if (csvArray.length != 2 && csvArray.length != 3) {
             throw new IllegalArgumentException(String.format(Locale.ROOT, "Invalid csv for quantization config: \"%s\"", csv));
         }
 
@@ -61,7 +68,8 @@ public class QuantizationConfigParser {
         String bitsValue = getValueOrThrow(BIT_COUNT_NAME, csvArray[1]);
         int bitCount = Integer.parseInt(bitsValue);
         ScalarQuantizationType quantizationType = ScalarQuantizationType.fromId(bitCount);
-        return QuantizationConfig.builder().quantizationType(quantizationType).build();
+        boolean enableRandomRotation = csvArray.length == 3 && Boolean.parseBoolean(getValueOrThrow(RANDOM_ROTATION_NAME, csvArray[2]));
+        return QuantizationConfig.builder().quantizationType(quantizationType).enableRandomRotation(enableRandomRotation).build();
     }
 
     private static String getValueOrThrow(String expectedKey, String keyValue) {
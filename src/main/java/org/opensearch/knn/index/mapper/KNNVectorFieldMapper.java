@@ -40,6 +40,7 @@ import org.opensearch.index.mapper.ParametrizedFieldMapper;
 import org.opensearch.index.mapper.ParseContext;
 import org.opensearch.knn.common.KNNConstants;
 import org.opensearch.knn.index.KNNSettings;
+import org.opensearch.knn.index.KNNVectorNormUtil;
 import org.opensearch.knn.index.engine.EngineResolver;
 import org.opensearch.knn.index.engine.KNNMethodConfigContext;
 import org.opensearch.knn.index.engine.KNNMethodContext;
@@ -693,6 +694,10 @@ public abstract class KNNVectorFieldMapper extends ParametrizedFieldMapper {
             final float[] array = floatsArrayOptional.get();
             getVectorValidator().validateVector(array);
             context.doc().addAll(getFieldsForFloatVector(array));
+            if (isVectorNormStored(context)) {
+                requireNormFieldIsNotMapped(context);
+                context.doc().add(KNNVectorNormUtil.createNormField(name(), array));
+            }
         } else {
             throw new IllegalArgumentException(
                 String.format(Locale.ROOT, "Cannot parse context for unsupported values provided for field [%s]", VECTOR_DATA_TYPE_FIELD)
@@ -702,6 +707,31 @@ public abstract class KNNVectorFieldMapper extends ParametrizedFieldMapper {
         context.path().remove();
     }
 
+    // The norm doc values field is not part of the mapping, so its name is reserved: a mapped field with the same name
+    // would share its doc values with the norms
+    private void requireNormFieldIsNotMapped(final ParseContext context) {
+        final String normFieldName = KNNVectorNormUtil.getNormFieldName(name());
+        if (context.mapperService().fieldType(normFieldName) != null) {
+            throw new IllegalArgumentException(
+                String.format(
+                    Locale.ROOT,
+                    "Field [%s] is reserved to store the vector norms of field [%s] and cannot be mapped",
+                    normFieldName,
+                    name()
+                )
+            );
+        }
+    }
+
+    private boolean isVectorNormStored(final ParseContext context) {
+        final KNNMethodContext resolvedKnnMethodContext = originalMappingParameters.getResolvedKnnMethodContext();
+        if (resolvedKnnMethodContext == null || resolvedKnnMethodContext.getSpaceType() != SpaceType.COSINESIMIL) {
+            return false;
+        }
+        return context.indexSettings() != null
+            && context.indexSettings().getValue(KNNSettings.INDEX_KNN_ADVANCED_STORE_VECTOR_NORMS_SETTING);
+    }
+
     // Returns an optional array of byte values where each value in the vector is parsed as a float and validated
     // if it is a finite number without any decimals and within the byte range of [-128 to 127].
     Optional<byte[]> getBytesFromContext(ParseContext context, int dimension, VectorDataType dataType) throws IOException {
@@ -0,0 +1,219 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.memory;
+
+import com.google.common.annotations.VisibleForTesting;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.opensearch.knn.index.engine.KNNEngine;
+import org.opensearch.knn.jni.JNIService;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.opensearch.knn.common.KNNConstants.BYTES_PER_KILOBYTES;
+
+/**
+ * Class manages the deserialized templates of trained models, so that the model blob is parsed once per model instead
+ * of once per segment build. Native indices are built from a clone of the template, hence a template can be used by
+ * several builds concurrently.
+ *
+ * Templates are reference counted. The manager holds one reference until the model is invalidated, and each caller
+ * of {@link ModelTemplateManager#get(String, byte[], boolean, KNNEngine)} holds one until it calls
+ * {@link ModelTemplateManager#release(ModelTemplate)}. The template is freed once the reference count goes to 0.
+ *
+ * The native memory of a template is charged to the {@link NativeMemoryCacheManager} as an anonymous allocation, so
+ * that templates count against the cache limit and the circuit breaker. If the cache evicts the allocation, the
+ * template is invalidated and loaded again by the next build.
+ */
+@Log4j2
+public class ModelTemplateManager {
+    // Map storing the loaded templates with key being the modelId.
+    private final ConcurrentHashMap<String, ModelTemplate> modelTemplateCache;
+    private final NativeMemoryCacheManager nativeMemoryCacheManager;
+
+    private static ModelTemplateManager INSTANCE;
+
+    public static synchronized ModelTemplateManager getInstance() {
+        if (INSTANCE == null) {
+            INSTANCE = new ModelTemplateManager(NativeMemoryCacheManager.getInstance());
+        }
+        return INSTANCE;
+    }
+
+    /**
+     * Constructor
+     *
+     * @param nativeMemoryCacheManager cache the native memory of the templates is charged to
+     */
+    @VisibleForTesting
+    ModelTemplateManager(NativeMemoryCacheManager nativeMemoryCacheManager) {
+        this.modelTemplateCache = new ConcurrentHashMap<>();
+        this.nativeMemoryCacheManager = nativeMemoryCacheManager;
+    }
+
+    /**
+     * Return the {@link ModelTemplate} of a model, loading it from the model blob if it is not loaded yet. Once
+     * returned, the template will be valid until {@link ModelTemplateManager#release(ModelTemplate)} is called.
+     * Caller must ensure that this is called after it is done using it.
+     *
+     * @param modelId id of the model
+     * @param modelBlob serialized template of the model
+     * @param isBinary whether the template is a binary index
+     * @param knnEngine engine the model belongs to
+     * @return ModelTemplate
+     */
+    public ModelTemplate get(String modelId, byte[] modelBlob, boolean isBinary, KNNEngine knnEngine) {
+        while (true) {
+            ModelTemplate modelTemplate = modelTemplateCache.computeIfAbsent(modelId, m -> load(modelId, modelBlob, isBinary, knnEngine));
+            if (modelTemplate.getAllocation().isClosed()) {
+                // The cache evicted the memory charged for the template, so it is invalidated and loaded again
+                if (modelTemplateCache.remove(modelId, modelTemplate) && modelTemplate.decRef() <= 0) {
+                    free(modelTemplate);
+                }
+                continue;
+            }
+            // The template may have been invalidated and released by every user between the lookup and this call, in
+            // which case it is already freed and no longer in the map.
+            if (modelTemplate.tryIncRef()) {
+                return modelTemplate;
+            }
+            modelTemplateCache.remove(modelId, modelTemplate);
+        }
+    }
+
+    /**
+     * Indicate that the {@link ModelTemplate} is no longer being used. After calling this method, the template
+     * should no longer be used by calling thread.
+     *
+     * @param modelTemplate to return to the system
+     */
+    public void release(ModelTemplate modelTemplate) {
+        if (modelTemplate.decRef() <= 0) {
+            free(modelTemplate);
+        }
+    }
+
+    /**
+     * Remove the template of a model from the cache. The template is freed once every build using it releases it.
+     * Must be called when the model is deleted or evicted so that a stale template is not used by later builds.
+     *
+     * @param modelId id of the model
+     */
+    public void invalidate(String modelId) {
+        ModelTemplate modelTemplate = modelTemplateCache.remove(modelId);
+        if (modelTemplate != null && modelTemplate.decRef() <= 0) {
+            free(modelTemplate);
+        }
+    }
+
+    @VisibleForTesting
+    boolean contains(String modelId) {
+        return modelTemplateCache.containsKey(modelId);
+    }
+
+    private ModelTemplate load(String modelId, byte[] modelBlob, boolean isBinary, KNNEngine knnEngine) {
+        log.info("Loading entry to model template cache for model {}", modelId);
+        // The deserialized template takes about as much native memory as its serialized form
+        NativeMemoryEntryContext.AnonymousEntryContext entryContext = new NativeMemoryEntryContext.AnonymousEntryContext(
+            Math.toIntExact(modelBlob.length / BYTES_PER_KILOBYTES + 1L),
+            NativeMemoryLoadStrategy.AnonymousLoadStrategy.getInstance()
+        );
+        NativeMemoryAllocation allocation;
+        try {
+            allocation = nativeMemoryCacheManager.get(entryContext, true);
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e);
+        }
+        try {
+            long templateAddress = JNIService.loadTemplate(modelBlob, isBinary, knnEngine);
+            return new ModelTemplate(templateAddress, modelId, isBinary, knnEngine, entryContext.getKey(), allocation);
+        } catch (Exception e) {
+            nativeMemoryCacheManager.invalidate(entryContext.getKey());
+            throw e;
+        }
+    }
+
+    private void free(ModelTemplate modelTemplate) {
+        log.info("Freeing template of model {}", modelTemplate.getModelId());
+        JNIService.free(modelTemplate.getTemplateAddress(), modelTemplate.getKnnEngine(), modelTemplate.isBinary());
+        nativeMemoryCacheManager.invalidate(modelTemplate.getAllocationKey());
+    }
+
+    /**
+     * Deserialized template of a model living in native memory.
+     */
+    public static final class ModelTemplate {
+        @Getter
+        private final long templateAddress;
+        @Getter
+        private final String modelId;
+        @Getter
+        private final boolean isBinary;
+        @Getter
+        private final KNNEngine knnEngine;
+        // Key and allocation of the native memory charged for the template in the cache
+        @Getter
+        private final String allocationKey;
+        @Getter
+        private final NativeMemoryAllocation allocation;
+        // The manager holds one reference until the template is invalidated
+        private final AtomicLong referenceCount;
+
+        /**
+         * Constructor
+         *
+         * @param templateAddress address of the loaded template
+         * @param modelId id of the model
+         * @param isBinary whether the template is a binary index
+         * @param knnEngine engine the model belongs to
+         * @param allocationKey cache key of the native memory charged for the template
+         * @param allocation native memory charged for the template
+         */
+        private ModelTemplate(
+            long templateAddress,
+            String modelId,
+            boolean isBinary,
+            KNNEngine knnEngine,
+            String allocationKey,
+            NativeMemoryAllocation allocation
+        ) {
+            this.templateAddress = templateAddress;
+            this.modelId = modelId;
+            this.isBinary = isBinary;
+            this.knnEngine = knnEngine;
+            this.allocationKey = allocationKey;
+            this.allocation = allocation;
+            this.referenceCount = new AtomicLong(1);
+        }
+
+        /**
+         * Increases reference count by 1 unless the template has already been freed
+         *
+         * @return true if the reference was acquired; false otherwise
+         */
+        private boolean tryIncRef() {
+            long count;
+            do {
+                count = referenceCount.get();
+                if (count <= 0) {
+                    return false;
+                }
+            } while (referenceCount.compareAndSet(count, count + 1) == false);
+            return true;
+        }
+
+        /**
+         * Decrease reference count by 1
+         *
+         * @return --referenceCount
+         */
+        private long decRef() {
+            return referenceCount.decrementAndGet();
+        }
+    }
+}
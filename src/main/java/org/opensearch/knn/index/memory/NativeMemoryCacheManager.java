@@ -354,6 +354,17 @@ public class NativeMemoryCacheManager implements Closeable {
         }
     }
 
+    /**
+     * Returns the NativeMemoryAllocation associated with the key if it is already in the cache. Unlike
+     * {@link #get(NativeMemoryEntryContext, boolean)}, this never loads the entry.
+     *
+     * @param key Identifier of the entry
+     * @return NativeMemoryAllocation associated with the key, or null if it is not in the cache
+     */
+    public NativeMemoryAllocation getIfPresent(String key) {
+        return cache.getIfPresent(key);
+    }
+
     /**
      * Returns the NativeMemoryAllocation associated with given index
      * @param indexName name of OpenSearch index
@@ -12,6 +12,7 @@
 package org.opensearch.knn.index.memory;
 
 import lombok.Getter;
+import lombok.Setter;
 import org.apache.lucene.store.Directory;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.Nullable;
@@ -22,6 +23,7 @@ import org.opensearch.knn.index.VectorDataType;
 import java.io.IOException;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.BooleanSupplier;
 
 /**
  * Encapsulates all information needed to load a component into native memory.
@@ -152,6 +154,10 @@ public abstract class NativeMemoryEntryContext<T extends NativeMemoryAllocation>
         private final VectorDataType vectorDataType;
         @Getter
         private final QuantizationConfig quantizationConfig;
+        // Checked between the collection rounds of the load, set by the training job so that cancelling it stops the load
+        @Getter
+        @Setter
+        private volatile BooleanSupplier cancellationCheck = () -> false;
 
         /**
          * Constructor
@@ -162,7 +168,7 @@ public abstract class NativeMemoryEntryContext<T extends NativeMemoryAllocation>
          * @param trainingLoadStrategy strategy to load training data into memory
          * @param clusterService service used to extract information about indices
          * @param maxVectorCount maximum number of vectors there can be
-         * @param searchSize size each search request should return during loading
+         * @param searchSize maximum number of vectors each shard returns in a collection round during loading
          */
         public TrainingDataEntryContext(
             int size,
@@ -227,7 +233,7 @@ public abstract class NativeMemoryEntryContext<T extends NativeMemoryAllocation>
         /**
          * Getter for search size.
          *
-         * @return size of results each search should return
+         * @return maximum number of vectors each shard returns in a collection round
          */
         public int getSearchSize() {
             return searchSize;
@@ -22,6 +22,7 @@ import org.opensearch.knn.index.store.IndexInputWithBuffer;
 import org.opensearch.knn.index.util.IndexUtil;
 import org.opensearch.knn.jni.JNIService;
 import org.opensearch.knn.index.engine.KNNEngine;
+import org.opensearch.knn.plugin.transport.TrainingDataCollectResponse;
 import org.opensearch.knn.training.TrainingDataConsumer;
 import org.opensearch.knn.training.VectorReader;
 
@@ -181,22 +182,33 @@ public interface NativeMemoryLoadStrategy<T extends NativeMemoryAllocation, U ex
 
             TrainingDataConsumer vectorDataConsumer = nativeMemoryEntryContext.getVectorDataType()
                 .getTrainingDataConsumer(trainingDataAllocation);
+            vectorDataConsumer.setMaxVectorCount(nativeMemoryEntryContext.getMaxVectorCount());
 
             trainingDataAllocation.writeLock();
 
-            vectorReader.read(
+            ActionListener<TrainingDataCollectResponse> loadListener = ActionListener.wrap(
+                response -> trainingDataAllocation.writeUnlock(),
+                ex -> {
+                    // Close unsafe will assume that the caller passes control of the writelock to it. It
+                    // will then handle releasing the write lock once the close operations finish.
+                    trainingDataAllocation.closeUnsafe();
+                    throw new RuntimeException(ex);
+                }
+            );
+
+            // When the vectors are quantized, the quantization state is trained on the first round, which holds a random
+            // sample of every shard, and all training vectors are quantized with it as they are transferred. The vectors are
+            // only read once. A cancelled training job stops the collection before its next round, and the failure releases the
+            // allocation.
+            vectorReader.readFromShards(
                 nativeMemoryEntryContext.getClusterService(),
                 nativeMemoryEntryContext.getTrainIndexName(),
                 nativeMemoryEntryContext.getTrainFieldName(),
                 nativeMemoryEntryContext.getMaxVectorCount(),
                 nativeMemoryEntryContext.getSearchSize(),
                 vectorDataConsumer,
-                ActionListener.wrap(response -> trainingDataAllocation.writeUnlock(), ex -> {
-                    // Close unsafe will assume that the caller passes control of the writelock to it. It
-                    // will then handle releasing the write lock once the close operations finish.
-                    trainingDataAllocation.closeUnsafe();
-                    throw new RuntimeException(ex);
-                })
+                nativeMemoryEntryContext.getCancellationCheck(),
+                loadListener
             );
 
             // The write lock is acquired before the trainingDataAllocation is returned and not released until the
@@ -18,6 +18,7 @@ import org.opensearch.knn.quantization.models.quantizationParams.QuantizationPar
 import org.opensearch.knn.quantization.models.quantizationParams.ScalarQuantizationParams;
 import org.opensearch.knn.quantization.models.quantizationState.QuantizationState;
 import org.opensearch.knn.quantization.quantizer.Quantizer;
+import org.opensearch.knn.quantization.quantizer.StreamingTrainer;
 import java.io.IOException;
 
 import static org.opensearch.knn.common.FieldInfoExtractor.extractQuantizationConfig;
@@ -71,6 +72,18 @@ public final class QuantizationService<T, R> {
         return quantizer.train(trainingRequest);
     }
 
+    /**
+     * Creates a {@link StreamingTrainer} for the quantizer determined by the given {@link QuantizationParams}, which
+     * trains the quantizer in a single sequential pass over the vectors fed by the caller.
+     *
+     * @param quantizationParams The {@link QuantizationParams} containing the parameters for quantization.
+     * @return The {@link StreamingTrainer} building the {@link QuantizationState}.
+     */
+    public StreamingTrainer<T> createStreamingTrainer(final QuantizationParams quantizationParams) {
+        Quantizer<T, R> quantizer = QuantizerFactory.getQuantizer(quantizationParams);
+        return quantizer.createStreamingTrainer();
+    }
+
     /**
      * Applies quantization to the given vector using the specified {@link QuantizationState} and
      * {@link QuantizationOutput}.
@@ -92,7 +105,7 @@ public final class QuantizationService<T, R> {
     public QuantizationParams getQuantizationParams(final FieldInfo fieldInfo) {
         QuantizationConfig quantizationConfig = extractQuantizationConfig(fieldInfo);
         if (quantizationConfig != QuantizationConfig.EMPTY && quantizationConfig.getQuantizationType() != null) {
-            return new ScalarQuantizationParams(quantizationConfig.getQuantizationType());
+            return new ScalarQuantizationParams(quantizationConfig.getQuantizationType(), quantizationConfig.isEnableRandomRotation());
         }
         return null;
     }
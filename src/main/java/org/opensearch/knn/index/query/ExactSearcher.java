@@ -13,6 +13,7 @@ import lombok.Value;
 import lombok.extern.log4j.Log4j2;
 import org.apache.lucene.index.FieldInfo;
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NumericDocValues;
 import org.apache.lucene.index.SegmentReader;
 import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.search.HitQueue;
@@ -20,6 +21,7 @@ import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.util.BitSet;
 import org.opensearch.common.lucene.Lucene;
 import org.opensearch.knn.common.FieldInfoExtractor;
+import org.opensearch.knn.index.KNNVectorNormUtil;
 import org.opensearch.knn.index.SpaceType;
 import org.opensearch.knn.index.VectorDataType;
 import org.opensearch.knn.index.query.iterators.BinaryVectorIdsKNNIterator;
@@ -190,15 +192,24 @@ public class ExactSearcher {
         final SegmentLevelQuantizationInfo segmentLevelQuantizationInfo;
         if (exactSearcherContext.isUseQuantizedVectorsForSearch()) {
             // Build Segment Level Quantization info.
-            segmentLevelQuantizationInfo = SegmentLevelQuantizationInfo.build(reader, fieldInfo, knnQuery.getField());
+            segmentLevelQuantizationInfo = SegmentLevelQuantizationInfo.build(
+                SegmentFieldDescriptor.get(reader, fieldInfo, knnQuery.getField(), modelDao)
+            );
             // Quantize the Query Vector Once.
-            quantizedQueryVector = SegmentLevelQuantizationUtil.quantizeVector(knnQuery.getQueryVector(), segmentLevelQuantizationInfo);
+            quantizedQueryVector = SegmentLevelQuantizationUtil.quantizeQueryVector(
+                knnQuery.getQueryVector(),
+                segmentLevelQuantizationInfo
+            );
         } else {
             segmentLevelQuantizationInfo = null;
             quantizedQueryVector = null;
         }
 
         final KNNVectorValues<float[]> vectorValues = KNNVectorValuesFactory.getVectorValues(fieldInfo, reader);
+        // Quantized vectors are scored with hamming, stored norms are only used for full precision cosine scoring
+        final NumericDocValues vectorNorms = SpaceType.COSINESIMIL == spaceType && quantizedQueryVector == null
+            ? KNNVectorNormUtil.getNorms(reader, knnQuery.getField())
+            : null;
         if (isNestedRequired) {
             return new NestedVectorIdsKNNIterator(
                 matchedDocs,
@@ -207,7 +218,8 @@ public class ExactSearcher {
                 spaceType,
                 knnQuery.getParentsFilter().getBitSet(leafReaderContext),
                 quantizedQueryVector,
-                segmentLevelQuantizationInfo
+                segmentLevelQuantizationInfo,
+                vectorNorms
             );
         }
         return new VectorIdsKNNIterator(
@@ -216,7 +228,8 @@ public class ExactSearcher {
             (KNNFloatVectorValues) vectorValues,
             spaceType,
             quantizedQueryVector,
-            segmentLevelQuantizationInfo
+            segmentLevelQuantizationInfo,
+            vectorNorms
         );
     }
 
@@ -20,13 +20,10 @@ import org.apache.lucene.util.BitSetIterator;
 import org.apache.lucene.util.Bits;
 import org.apache.lucene.util.FixedBitSet;
 import org.opensearch.common.lucene.Lucene;
-import org.opensearch.knn.common.FieldInfoExtractor;
 import org.opensearch.knn.common.KNNConstants;
 import org.opensearch.knn.index.KNNSettings;
 import org.opensearch.knn.index.SpaceType;
 import org.opensearch.knn.index.VectorDataType;
-import org.opensearch.knn.index.codec.util.KNNCodecUtil;
-import org.opensearch.knn.index.codec.util.NativeMemoryCacheKeyHelper;
 import org.opensearch.knn.index.memory.NativeMemoryAllocation;
 import org.opensearch.knn.index.memory.NativeMemoryCacheManager;
 import org.opensearch.knn.index.memory.NativeMemoryEntryContext;
@@ -35,24 +32,16 @@ import org.opensearch.knn.index.engine.KNNEngine;
 import org.opensearch.knn.index.quantizationservice.QuantizationService;
 import org.opensearch.knn.index.query.ExactSearcher.ExactSearcherContext.ExactSearcherContextBuilder;
 import org.opensearch.knn.indices.ModelDao;
-import org.opensearch.knn.indices.ModelMetadata;
-import org.opensearch.knn.indices.ModelUtil;
 import org.opensearch.knn.jni.JNIService;
 import org.opensearch.knn.plugin.stats.KNNCounter;
 
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 
-import static org.opensearch.knn.common.KNNConstants.KNN_ENGINE;
-import static org.opensearch.knn.common.KNNConstants.MODEL_ID;
-import static org.opensearch.knn.common.KNNConstants.SPACE_TYPE;
-import static org.opensearch.knn.common.KNNConstants.VECTOR_DATA_TYPE_FIELD;
-import static org.opensearch.knn.index.util.IndexUtil.getParametersAtLoading;
 import static org.opensearch.knn.plugin.stats.KNNCounter.GRAPH_QUERY_ERRORS;
 
 /**
@@ -234,77 +223,55 @@ public class KNNWeight extends Weight {
             return Collections.emptyMap();
         }
 
-        KNNEngine knnEngine;
-        SpaceType spaceType;
-        VectorDataType vectorDataType;
-
-        // Check if a modelId exists. If so, the space type and engine will need to be picked up from the model's
-        // metadata.
-        String modelId = fieldInfo.getAttribute(MODEL_ID);
-        if (modelId != null) {
-            ModelMetadata modelMetadata = modelDao.getMetadata(modelId);
-            if (!ModelUtil.isModelCreated(modelMetadata)) {
-                throw new RuntimeException("Model \"" + modelId + "\" is not created.");
-            }
-
-            knnEngine = modelMetadata.getKnnEngine();
-            spaceType = modelMetadata.getSpaceType();
-            vectorDataType = modelMetadata.getVectorDataType();
-        } else {
-            String engineName = fieldInfo.attributes().getOrDefault(KNN_ENGINE, KNNEngine.NMSLIB.getName());
-            knnEngine = KNNEngine.getEngine(engineName);
-            String spaceTypeName = fieldInfo.attributes().getOrDefault(SPACE_TYPE, SpaceType.L2.getValue());
-            spaceType = SpaceType.getSpace(spaceTypeName);
-            vectorDataType = VectorDataType.get(
-                fieldInfo.attributes().getOrDefault(VECTOR_DATA_TYPE_FIELD, VectorDataType.FLOAT.getValue())
-            );
-        }
+        final SegmentFieldDescriptor fieldDescriptor = SegmentFieldDescriptor.get(reader, fieldInfo, knnQuery.getField(), modelDao);
+        final KNNEngine knnEngine = fieldDescriptor.getKnnEngine();
+        final SpaceType spaceType = fieldDescriptor.getSpaceType();
 
-        final SegmentLevelQuantizationInfo segmentLevelQuantizationInfo = SegmentLevelQuantizationInfo.build(
-            reader,
-            fieldInfo,
-            knnQuery.getField()
-        );
+        final SegmentLevelQuantizationInfo segmentLevelQuantizationInfo = SegmentLevelQuantizationInfo.build(fieldDescriptor);
         // TODO: Change type of vector once more quantization methods are supported
-        final byte[] quantizedVector = SegmentLevelQuantizationUtil.quantizeVector(knnQuery.getQueryVector(), segmentLevelQuantizationInfo);
-
-        List<String> engineFiles = KNNCodecUtil.getEngineFiles(knnEngine.getExtension(), knnQuery.getField(), reader.getSegmentInfo().info);
-        if (engineFiles.isEmpty()) {
-            log.debug("[KNN] No native engine files found for field {} for segment {}", knnQuery.getField(), reader.getSegmentName());
-            return Collections.emptyMap();
-        }
-
-        final String vectorIndexFileName = engineFiles.get(0);
-        final String cacheKey = NativeMemoryCacheKeyHelper.constructCacheKey(vectorIndexFileName, reader.getSegmentInfo().info);
-
-        final KNNQueryResult[] results;
-        KNNCounter.GRAPH_QUERY_REQUESTS.increment();
+        final byte[] quantizedVector = SegmentLevelQuantizationUtil.quantizeQueryVector(
+            knnQuery.getQueryVector(),
+            segmentLevelQuantizationInfo
+        );
 
-        // We need to first get index allocation
-        NativeMemoryAllocation indexAllocation;
-        try {
-            indexAllocation = nativeMemoryCacheManager.get(
-                new NativeMemoryEntryContext.IndexEntryContext(
-                    reader.directory(),
-                    cacheKey,
-                    NativeMemoryLoadStrategy.IndexLoadStrategy.getInstance(),
-                    getParametersAtLoading(
-                        spaceType,
-                        knnEngine,
+        final NativeMemoryAllocation indexAllocation;
+        if (fieldDescriptor.getVectorIndexFileName() == null) {
+            // A segment flushed with its graph build deferred has no native engine files, but warmup may have built its
+            // graph in memory. That graph is never loaded from here, since it cannot be rebuilt from the segment files.
+            indexAllocation = fieldDescriptor.getDeferredGraphCacheKey() == null
+                ? null
+                : nativeMemoryCacheManager.getIfPresent(fieldDescriptor.getDeferredGraphCacheKey());
+            if (indexAllocation == null) {
+                log.debug("[KNN] No native engine files found for field {} for segment {}", knnQuery.getField(), reader.getSegmentName());
+                return Collections.emptyMap();
+            }
+            KNNCounter.GRAPH_QUERY_REQUESTS.increment();
+        } else {
+            KNNCounter.GRAPH_QUERY_REQUESTS.increment();
+            // We need to first get index allocation
+            try {
+                indexAllocation = nativeMemoryCacheManager.get(
+                    new NativeMemoryEntryContext.IndexEntryContext(
+                        reader.directory(),
+                        fieldDescriptor.getCacheKey(),
+                        NativeMemoryLoadStrategy.IndexLoadStrategy.getInstance(),
+                        fieldDescriptor.getParametersAtLoading(
+                            knnQuery.getIndexName(),
+                            // TODO: In the future, more vector data types will be supported with quantization
+                            quantizedVector == null ? fieldDescriptor.getVectorDataType() : VectorDataType.BINARY
+                        ),
                         knnQuery.getIndexName(),
-                        // TODO: In the future, more vector data types will be supported with quantization
-                        quantizedVector == null ? vectorDataType : VectorDataType.BINARY
+                        fieldDescriptor.getModelId()
                     ),
-                    knnQuery.getIndexName(),
-                    modelId
-                ),
-                true
-            );
-        } catch (ExecutionException e) {
-            GRAPH_QUERY_ERRORS.increment();
-            throw new RuntimeException(e);
+                    true
+                );
+            } catch (ExecutionException e) {
+                GRAPH_QUERY_ERRORS.increment();
+                throw new RuntimeException(e);
+            }
         }
 
+        final KNNQueryResult[] results;
         // From cardinality select different filterIds type
         FilterIdsSelector filterIdsSelector = FilterIdsSelector.getFilterIdSelector(filterIdsBitSet, cardinality);
         long[] filterIds = filterIdsSelector.getFilterIds();
@@ -484,12 +451,7 @@ public class KNNWeight extends Weight {
         if (fieldInfo == null) {
             return false;
         }
-        final KNNEngine knnEngine = FieldInfoExtractor.extractKNNEngine(fieldInfo);
-        final List<String> engineFiles = KNNCodecUtil.getEngineFiles(
-            knnEngine.getExtension(),
-            knnQuery.getField(),
-            reader.getSegmentInfo().info
-        );
-        return engineFiles.isEmpty();
+        // The descriptor is cached per segment core, so the segment files are not listed again on every query
+        return SegmentFieldDescriptor.get(reader, fieldInfo, knnQuery.getField(), modelDao).getVectorIndexFileName() == null;
     }
 }
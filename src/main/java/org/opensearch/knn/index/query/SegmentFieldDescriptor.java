@@ -0,0 +1,237 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.query;
+
+import com.google.common.annotations.VisibleForTesting;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.SegmentReader;
+import org.opensearch.knn.index.SpaceType;
+import org.opensearch.knn.index.VectorDataType;
+import org.opensearch.knn.index.codec.util.KNNCodecUtil;
+import org.opensearch.knn.index.codec.util.NativeMemoryCacheKeyHelper;
+import org.opensearch.knn.index.engine.KNNEngine;
+import org.opensearch.knn.index.quantizationservice.QuantizationService;
+import org.opensearch.knn.index.util.IndexUtil;
+import org.opensearch.knn.indices.ModelDao;
+import org.opensearch.knn.indices.ModelMetadata;
+import org.opensearch.knn.indices.ModelUtil;
+import org.opensearch.knn.quantization.models.quantizationParams.QuantizationParams;
+import org.opensearch.knn.quantization.models.quantizationState.QuantizationStateReadConfig;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.opensearch.knn.common.KNNConstants.KNN_ENGINE;
+import static org.opensearch.knn.common.KNNConstants.MODEL_ID;
+import static org.opensearch.knn.common.KNNConstants.SPACE_TYPE;
+import static org.opensearch.knn.common.KNNConstants.VECTOR_DATA_TYPE_FIELD;
+
+/**
+ * This class holds the details of a knn field in a segment that are needed to search its native index: the engine,
+ * space type and vector data type of the field, the native index file of the segment, and the quantization params of
+ * the field with the config its quantization state is read with. None of them change for the lifetime of the segment,
+ * so they are resolved once per segment core and shared by all queries, instead of being parsed from the field
+ * attributes and looked up in the segment files for every segment of every query.
+ */
+@Getter
+public class SegmentFieldDescriptor {
+    // Descriptors of the fields of each segment core. Entries are removed when the core is closed.
+    private static final Map<Object, Map<String, SegmentFieldDescriptor>> DESCRIPTORS = new ConcurrentHashMap<>();
+
+    private final KNNEngine knnEngine;
+    private final SpaceType spaceType;
+    private final VectorDataType vectorDataType;
+    private final String modelId;
+    // Null if the segment has no native index file for the field
+    private final String vectorIndexFileName;
+    private final String cacheKey;
+    // Key of the graph built in memory by warmup if the segment has no native index file because its graph build was
+    // deferred on flush, see KNNIndexShard#warmup. Null if the segment has a native index file.
+    private final String deferredGraphCacheKey;
+    // Null if the field is not quantized
+    private final QuantizationParams quantizationParams;
+    private final QuantizationStateReadConfig quantizationStateReadConfig;
+    @Getter(AccessLevel.NONE)
+    private final Map<VectorDataType, Map<String, Object>> parametersAtLoading = new ConcurrentHashMap<>();
+    // Last query vector quantized for the field of the segment, see SegmentLevelQuantizationUtil#quantizeQueryVector.
+    // The quantization state of a segment does not change, so the quantized vector stays valid when the state is read
+    // again.
+    @Getter(AccessLevel.NONE)
+    private volatile QuantizedQueryVector quantizedQueryVector;
+
+    private SegmentFieldDescriptor(
+        KNNEngine knnEngine,
+        SpaceType spaceType,
+        VectorDataType vectorDataType,
+        String modelId,
+        String vectorIndexFileName,
+        String cacheKey,
+        String deferredGraphCacheKey,
+        QuantizationParams quantizationParams,
+        QuantizationStateReadConfig quantizationStateReadConfig
+    ) {
+        this.knnEngine = knnEngine;
+        this.spaceType = spaceType;
+        this.vectorDataType = vectorDataType;
+        this.modelId = modelId;
+        this.vectorIndexFileName = vectorIndexFileName;
+        this.cacheKey = cacheKey;
+        this.deferredGraphCacheKey = deferredGraphCacheKey;
+        this.quantizationParams = quantizationParams;
+        this.quantizationStateReadConfig = quantizationStateReadConfig;
+    }
+
+    /**
+     * Get the descriptor of a field in a segment, resolving it if it is not resolved for the segment core yet.
+     *
+     * @param reader {@link SegmentReader} of the segment
+     * @param fieldInfo {@link FieldInfo} of the field
+     * @param fieldName name of the field
+     * @param modelDao {@link ModelDao} to look up the metadata of the model the field is built with
+     * @return {@link SegmentFieldDescriptor}
+     */
+    public static SegmentFieldDescriptor get(
+        final SegmentReader reader,
+        final FieldInfo fieldInfo,
+        final String fieldName,
+        final ModelDao modelDao
+    ) {
+        final IndexReader.CacheHelper cacheHelper = reader.getCoreCacheHelper();
+        if (cacheHelper == null) {
+            return resolve(reader, fieldInfo, fieldName, modelDao);
+        }
+        final Map<String, SegmentFieldDescriptor> fieldDescriptors = DESCRIPTORS.computeIfAbsent(cacheHelper.getKey(), key -> {
+            cacheHelper.addClosedListener(DESCRIPTORS::remove);
+            return new ConcurrentHashMap<>();
+        });
+        return fieldDescriptors.computeIfAbsent(fieldName, name -> resolve(reader, fieldInfo, fieldName, modelDao));
+    }
+
+    /**
+     * Get the parameters the native index of the field is loaded with.
+     *
+     * @param indexName name of the index the segment belongs to
+     * @param loadVectorDataType vector data type the native index is loaded as
+     * @return parameters at loading
+     */
+    public Map<String, Object> getParametersAtLoading(final String indexName, final VectorDataType loadVectorDataType) {
+        // nmslib is loaded with ef_search, which is a dynamic index setting, so its parameters cannot be reused
+        if (knnEngine == KNNEngine.NMSLIB) {
+            return IndexUtil.getParametersAtLoading(spaceType, knnEngine, indexName, loadVectorDataType);
+        }
+        return parametersAtLoading.computeIfAbsent(
+            loadVectorDataType,
+            type -> IndexUtil.getParametersAtLoading(spaceType, knnEngine, indexName, type)
+        );
+    }
+
+    /**
+     * Get the quantized vector of a query vector if it is the last one quantized for the field of this segment.
+     *
+     * @param queryVector query vector
+     * @return quantized query vector, or null if it was not quantized for the segment yet
+     */
+    byte[] getQuantizedQueryVector(final float[] queryVector) {
+        final QuantizedQueryVector quantized = quantizedQueryVector;
+        return quantized != null && quantized.queryVector == queryVector ? quantized.quantizedVector : null;
+    }
+
+    void setQuantizedQueryVector(final float[] queryVector, final byte[] quantizedVector) {
+        quantizedQueryVector = new QuantizedQueryVector(queryVector, quantizedVector);
+    }
+
+    @VisibleForTesting
+    static boolean isCached(final Object coreCacheKey) {
+        return DESCRIPTORS.containsKey(coreCacheKey);
+    }
+
+    private static SegmentFieldDescriptor resolve(
+        final SegmentReader reader,
+        final FieldInfo fieldInfo,
+        final String fieldName,
+        final ModelDao modelDao
+    ) {
+        final KNNEngine knnEngine;
+        final SpaceType spaceType;
+        final VectorDataType vectorDataType;
+
+        // Check if a modelId exists. If so, the space type and engine will need to be picked up from the model's
+        // metadata.
+        final String modelId = fieldInfo.getAttribute(MODEL_ID);
+        if (modelId != null) {
+            ModelMetadata modelMetadata = modelDao.getMetadata(modelId);
+            if (!ModelUtil.isModelCreated(modelMetadata)) {
+                throw new RuntimeException("Model \"" + modelId + "\" is not created.");
+            }
+
+            knnEngine = modelMetadata.getKnnEngine();
+            spaceType = modelMetadata.getSpaceType();
+            vectorDataType = modelMetadata.getVectorDataType();
+        } else {
+            String engineName = fieldInfo.attributes().getOrDefault(KNN_ENGINE, KNNEngine.NMSLIB.getName());
+            knnEngine = KNNEngine.getEngine(engineName);
+            String spaceTypeName = fieldInfo.attributes().getOrDefault(SPACE_TYPE, SpaceType.L2.getValue());
+            spaceType = SpaceType.getSpace(spaceTypeName);
+            vectorDataType = VectorDataType.get(
+                fieldInfo.attributes().getOrDefault(VECTOR_DATA_TYPE_FIELD, VectorDataType.FLOAT.getValue())
+            );
+        }
+
+        final QuantizationParams quantizationParams = QuantizationService.getInstance().getQuantizationParams(fieldInfo);
+        final QuantizationStateReadConfig quantizationStateReadConfig;
+        if (quantizationParams == null) {
+            quantizationStateReadConfig = null;
+        } else {
+            try {
+                quantizationStateReadConfig = SegmentLevelQuantizationUtil.getQuantizationStateReadConfig(reader, fieldName);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        final List<String> engineFiles = KNNCodecUtil.getEngineFiles(knnEngine.getExtension(), fieldName, reader.getSegmentInfo().info);
+        final String vectorIndexFileName;
+        final String cacheKey;
+        final String deferredGraphCacheKey;
+        if (engineFiles.isEmpty()) {
+            vectorIndexFileName = null;
+            cacheKey = null;
+            deferredGraphCacheKey = NativeMemoryCacheKeyHelper.constructDeferredGraphCacheKey(
+                knnEngine,
+                fieldName,
+                reader.getSegmentInfo().info
+            );
+        } else {
+            vectorIndexFileName = engineFiles.get(0);
+            cacheKey = NativeMemoryCacheKeyHelper.constructCacheKey(vectorIndexFileName, reader.getSegmentInfo().info);
+            deferredGraphCacheKey = null;
+        }
+        return new SegmentFieldDescriptor(
+            knnEngine,
+            spaceType,
+            vectorDataType,
+            modelId,
+            vectorIndexFileName,
+            cacheKey,
+            deferredGraphCacheKey,
+            quantizationParams,
+            quantizationStateReadConfig
+        );
+    }
+
+    @RequiredArgsConstructor
+    private static final class QuantizedQueryVector {
+        private final float[] queryVector;
+        private final byte[] quantizedVector;
+    }
+}
@@ -8,39 +8,55 @@ package org.opensearch.knn.index.query;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
-import org.apache.lucene.index.FieldInfo;
-import org.apache.lucene.index.LeafReader;
-import org.opensearch.knn.index.quantizationservice.QuantizationService;
 import org.opensearch.knn.quantization.models.quantizationParams.QuantizationParams;
 import org.opensearch.knn.quantization.models.quantizationState.QuantizationState;
+import org.opensearch.knn.quantization.models.quantizationState.QuantizationStateCacheManager;
 
 import java.io.IOException;
 
 /**
  * This class encapsulate the necessary details to do the quantization of the vectors present in a lucene segment.
+ * The quantization params of a field and the config its quantization state is read with are resolved once per segment
+ * core on the {@link SegmentFieldDescriptor}. The quantization state is read through the
+ * {@link org.opensearch.knn.quantization.models.quantizationState.QuantizationStateCache} on every build instead of
+ * being kept per segment, so that the states held for query time stay bounded by the limit of that cache.
  */
 @Getter
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public class SegmentLevelQuantizationInfo {
     private final QuantizationParams quantizationParams;
     private final QuantizationState quantizationState;
+    @Getter(AccessLevel.NONE)
+    private final SegmentFieldDescriptor fieldDescriptor;
 
     /**
      * A builder like function to build the {@link SegmentLevelQuantizationInfo}
-     * @param leafReader {@link LeafReader}
-     * @param fieldInfo {@link FieldInfo}
-     * @param fieldName {@link String}
-     * @return {@link SegmentLevelQuantizationInfo}
+     * @param fieldDescriptor {@link SegmentFieldDescriptor} of the field in the segment
+     * @return {@link SegmentLevelQuantizationInfo}, or null if the field is not quantized
      * @throws IOException exception while creating the {@link SegmentLevelQuantizationInfo} object.
      */
-    public static SegmentLevelQuantizationInfo build(final LeafReader leafReader, final FieldInfo fieldInfo, final String fieldName)
-        throws IOException {
-        final QuantizationParams quantizationParams = QuantizationService.getInstance().getQuantizationParams(fieldInfo);
-        if (quantizationParams == null) {
+    public static SegmentLevelQuantizationInfo build(final SegmentFieldDescriptor fieldDescriptor) throws IOException {
+        if (fieldDescriptor.getQuantizationParams() == null) {
             return null;
         }
-        final QuantizationState quantizationState = SegmentLevelQuantizationUtil.getQuantizationState(leafReader, fieldName);
-        return new SegmentLevelQuantizationInfo(quantizationParams, quantizationState);
+        return new SegmentLevelQuantizationInfo(
+            fieldDescriptor.getQuantizationParams(),
+            QuantizationStateCacheManager.getInstance().getQuantizationState(fieldDescriptor.getQuantizationStateReadConfig()),
+            fieldDescriptor
+        );
     }
 
+    /**
+     * Get the quantized vector of a query vector if it is the last one quantized for the field of this segment.
+     *
+     * @param queryVector query vector
+     * @return quantized query vector, or null if it was not quantized for the segment yet
+     */
+    byte[] getQuantizedQueryVector(final float[] queryVector) {
+        return fieldDescriptor.getQuantizedQueryVector(queryVector);
+    }
+
+    void setQuantizedQueryVector(final float[] queryVector, final byte[] quantizedVector) {
+        fieldDescriptor.setQuantizedQueryVector(queryVector, quantizedVector);
+    }
 }
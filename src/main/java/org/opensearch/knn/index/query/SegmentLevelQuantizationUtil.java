@@ -10,6 +10,7 @@ import org.apache.lucene.index.LeafReader;
 import org.opensearch.knn.index.codec.KNN990Codec.QuantizationConfigKNNCollector;
 import org.opensearch.knn.index.quantizationservice.QuantizationService;
 import org.opensearch.knn.quantization.models.quantizationState.QuantizationState;
+import org.opensearch.knn.quantization.models.quantizationState.QuantizationStateReadConfig;
 
 import java.io.IOException;
 import java.util.Locale;
@@ -43,18 +44,39 @@ public class SegmentLevelQuantizationUtil {
     }
 
     /**
-     * A utility function to get {@link QuantizationState} for a given segment and field.
+     * Quantize a query vector for a segment. Unlike {@link #quantizeVector(float[], SegmentLevelQuantizationInfo)}, the
+     * result is kept on the {@link SegmentLevelQuantizationInfo} of the segment, so that the same query vector is not
+     * quantized again when the segment is searched more than once for a query, like an exact search following the
+     * approximate search. The query vector must not be modified after it is quantized.
+     * @param queryVector array of float
+     * @return array of byte
+     */
+    public static byte[] quantizeQueryVector(final float[] queryVector, final SegmentLevelQuantizationInfo segmentLevelQuantizationInfo) {
+        if (segmentLevelQuantizationInfo == null) {
+            return null;
+        }
+        byte[] quantizedQueryVector = segmentLevelQuantizationInfo.getQuantizedQueryVector(queryVector);
+        if (quantizedQueryVector == null) {
+            quantizedQueryVector = quantizeVector(queryVector, segmentLevelQuantizationInfo);
+            segmentLevelQuantizationInfo.setQuantizedQueryVector(queryVector, quantizedQueryVector);
+        }
+        return quantizedQueryVector;
+    }
+
+    /**
+     * A utility function to get the {@link QuantizationStateReadConfig} the {@link QuantizationState} of a given segment
+     * and field is read with.
      * @param leafReader {@link LeafReader}
      * @param fieldName {@link String}
-     * @return {@link QuantizationState}
+     * @return {@link QuantizationStateReadConfig}
      * @throws IOException exception during reading the {@link QuantizationState}
      */
-    static QuantizationState getQuantizationState(final LeafReader leafReader, String fieldName) throws IOException {
+    static QuantizationStateReadConfig getQuantizationStateReadConfig(final LeafReader leafReader, String fieldName) throws IOException {
         final QuantizationConfigKNNCollector tempCollector = new QuantizationConfigKNNCollector();
         leafReader.searchNearestVectors(fieldName, new float[0], tempCollector, null);
         if (tempCollector.getQuantizationState() == null) {
             throw new IllegalStateException(String.format(Locale.ROOT, "No quantization state found for field %s", fieldName));
         }
-        return tempCollector.getQuantizationState();
+        return tempCollector.getQuantizationStateReadConfig();
     }
 }
@@ -5,6 +5,7 @@
 
 package org.opensearch.knn.index.query.iterators;
 
+import org.apache.lucene.index.NumericDocValues;
 import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.util.BitSet;
 import org.opensearch.common.Nullable;
@@ -50,7 +51,29 @@ public class NestedVectorIdsKNNIterator extends VectorIdsKNNIterator {
         final byte[] quantizedVector,
         final SegmentLevelQuantizationInfo segmentLevelQuantizationInfo
     ) throws IOException {
-        super(filterIdsArray, queryVector, knnFloatVectorValues, spaceType, quantizedVector, segmentLevelQuantizationInfo);
+        this(
+            filterIdsArray,
+            queryVector,
+            knnFloatVectorValues,
+            spaceType,
+            parentBitSet,
+            quantizedVector,
+            segmentLevelQuantizationInfo,
+            null
+        );
+    }
+
+    public NestedVectorIdsKNNIterator(
+        @Nullable final BitSet filterIdsArray,
+        final float[] queryVector,
+        final KNNFloatVectorValues knnFloatVectorValues,
+        final SpaceType spaceType,
+        final BitSet parentBitSet,
+        final byte[] quantizedVector,
+        final SegmentLevelQuantizationInfo segmentLevelQuantizationInfo,
+        @Nullable final NumericDocValues vectorNorms
+    ) throws IOException {
+        super(filterIdsArray, queryVector, knnFloatVectorValues, spaceType, quantizedVector, segmentLevelQuantizationInfo, vectorNorms);
         this.parentBitSet = parentBitSet;
     }
 
@@ -5,14 +5,17 @@
 
 package org.opensearch.knn.index.query.iterators;
 
+import org.apache.lucene.index.NumericDocValues;
 import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.util.BitSet;
 import org.apache.lucene.util.BitSetIterator;
 import org.opensearch.common.Nullable;
+import org.opensearch.knn.index.KNNVectorNormUtil;
 import org.opensearch.knn.index.SpaceType;
 import org.opensearch.knn.index.query.SegmentLevelQuantizationInfo;
 import org.opensearch.knn.index.query.SegmentLevelQuantizationUtil;
 import org.opensearch.knn.index.vectorvalues.KNNFloatVectorValues;
+import org.opensearch.knn.plugin.script.KNNScoringUtil;
 
 import java.io.IOException;
 
@@ -31,6 +34,8 @@ public class VectorIdsKNNIterator implements KNNIterator {
     protected float currentScore = Float.NEGATIVE_INFINITY;
     protected int docId;
     private final SegmentLevelQuantizationInfo segmentLevelQuantizationInfo;
+    private final NumericDocValues vectorNorms;
+    private final float queryNorm;
 
     public VectorIdsKNNIterator(
         @Nullable final BitSet filterIdsBitSet,
@@ -53,6 +58,22 @@ public class VectorIdsKNNIterator implements KNNIterator {
         final SpaceType spaceType,
         final byte[] quantizedQueryVector,
         final SegmentLevelQuantizationInfo segmentLevelQuantizationInfo
+    ) throws IOException {
+        this(filterIdsBitSet, queryVector, knnFloatVectorValues, spaceType, quantizedQueryVector, segmentLevelQuantizationInfo, null);
+    }
+
+    /**
+     * @param vectorNorms stored norms of the doc vectors, used to score {@link SpaceType#COSINESIMIL} without computing the
+     *                    norm of every doc vector. Can be null.
+     */
+    public VectorIdsKNNIterator(
+        @Nullable final BitSet filterIdsBitSet,
+        final float[] queryVector,
+        final KNNFloatVectorValues knnFloatVectorValues,
+        final SpaceType spaceType,
+        final byte[] quantizedQueryVector,
+        final SegmentLevelQuantizationInfo segmentLevelQuantizationInfo,
+        @Nullable final NumericDocValues vectorNorms
     ) throws IOException {
         this.bitSetIterator = filterIdsBitSet == null ? null : new BitSetIterator(filterIdsBitSet, filterIdsBitSet.length());
         this.queryVector = queryVector;
@@ -63,6 +84,8 @@ public class VectorIdsKNNIterator implements KNNIterator {
         this.docId = getNextDocId();
         this.quantizedQueryVector = quantizedQueryVector;
         this.segmentLevelQuantizationInfo = segmentLevelQuantizationInfo;
+        this.vectorNorms = spaceType == SpaceType.COSINESIMIL ? vectorNorms : null;
+        this.queryNorm = this.vectorNorms == null ? 0 : KNNVectorNormUtil.computeNorm(queryVector);
     }
 
     /**
@@ -93,6 +116,11 @@ public class VectorIdsKNNIterator implements KNNIterator {
         if (segmentLevelQuantizationInfo != null && quantizedQueryVector != null) {
             byte[] quantizedVector = SegmentLevelQuantizationUtil.quantizeVector(vector, segmentLevelQuantizationInfo);
             return SpaceType.HAMMING.getKnnVectorSimilarityFunction().compare(quantizedQueryVector, quantizedVector);
+        }
+        final float docNorm = vectorNorms == null ? KNNVectorNormUtil.NO_NORM : KNNVectorNormUtil.readNorm(vectorNorms, docId);
+        if (docNorm != KNNVectorNormUtil.NO_NORM) {
+            // Same translation as the cosine similarity function, without computing the norm of the doc vector
+            return Math.max((1 + KNNScoringUtil.cosinesimilWithNorms(queryVector, queryNorm, vector, docNorm)) / 2, 0);
         } else {
             // Calculates a similarity score between the two vectors with a specified function. Higher similarity
             // scores correspond to closer vectors.
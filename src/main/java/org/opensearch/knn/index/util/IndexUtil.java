@@ -55,6 +55,8 @@ public class IndexUtil {
     private static final Version MINIMAL_MODE_AND_COMPRESSION_FEATURE = Version.V_2_17_0;
     private static final Version MINIMAL_TOP_LEVEL_SPACE_TYPE_FEATURE = Version.V_2_17_0;
     private static final Version MINIMAL_SUPPORTED_VERSION_FOR_MODEL_VERSION = Version.V_2_17_0;
+    private static final Version MINIMAL_SUPPORTED_VERSION_FOR_TRAINING_JOB_CAPACITY = Version.V_3_0_0;
+    private static final Version MINIMAL_SUPPORTED_VERSION_FOR_MODEL_BLOB_CHUNKS = Version.V_3_0_0;
     // public so neural search can access it
     public static final Map<String, Version> minimalRequiredVersionMap = initializeMinimalRequiredVersionMap();
     public static final Set<VectorDataType> VECTOR_DATA_TYPES_NOT_SUPPORTING_ENCODERS = Set.of(VectorDataType.BINARY, VectorDataType.BYTE);
@@ -397,6 +399,8 @@ public class IndexUtil {
                 put(KNNConstants.MINIMAL_MODE_AND_COMPRESSION_FEATURE, MINIMAL_MODE_AND_COMPRESSION_FEATURE);
                 put(KNNConstants.TOP_LEVEL_SPACE_TYPE_FEATURE, MINIMAL_TOP_LEVEL_SPACE_TYPE_FEATURE);
                 put(KNNConstants.MODEL_VERSION, MINIMAL_SUPPORTED_VERSION_FOR_MODEL_VERSION);
+                put(KNNConstants.TRAINING_JOB_CAPACITY, MINIMAL_SUPPORTED_VERSION_FOR_TRAINING_JOB_CAPACITY);
+                put(KNNConstants.MODEL_BLOB_CHUNK_COUNT, MINIMAL_SUPPORTED_VERSION_FOR_MODEL_BLOB_CHUNKS);
             }
         };
 
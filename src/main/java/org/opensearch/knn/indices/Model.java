@@ -137,10 +137,20 @@ public class Model implements Writeable, ToXContentObject {
      * @return model instance
      */
     public static Model getModelFromSourceMap(Map<String, Object> sourceMap) {
+        return getModelFromSourceMap(sourceMap, getModelBlobFromResponse(sourceMap));
+    }
+
+    /**
+     *  Parse source map content into {@link Model} instance, with a model blob that is not stored in the source.
+     *
+     * @param sourceMap source contents
+     * @param modelBlob binary representation of model template index
+     * @return model instance
+     */
+    public static Model getModelFromSourceMap(Map<String, Object> sourceMap, @Nullable byte[] modelBlob) {
         String modelID = getModelIDFromResponse(sourceMap);
         ModelMetadata modelMetadata = ModelMetadata.getMetadataFromSourceMap(sourceMap);
-        byte[] blob = getModelBlobFromResponse(sourceMap);
-        return new Model(modelMetadata, blob, modelID);
+        return new Model(modelMetadata, modelBlob, modelID);
     }
 
     private void writeOptionalModelBlob(StreamOutput output) throws IOException {
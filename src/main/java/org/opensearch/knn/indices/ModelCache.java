@@ -18,6 +18,7 @@ import com.google.common.cache.RemovalNotification;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.knn.index.memory.ModelTemplateManager;
 
 import java.time.Instant;
 import java.util.concurrent.ExecutionException;
@@ -95,6 +96,8 @@ public final class ModelCache {
         if (RemovalCause.SIZE == removalNotification.getCause()) {
             updateEvictedDueToSizeAt();
         }
+        // Segments built after the model is evicted, updated or deleted must not use its stale template
+        ModelTemplateManager.getInstance().invalidate(removalNotification.getKey());
 
         logger.info("[KNN] Model Cache evicted. Key {}, Reason: {}", removalNotification.getKey(), removalNotification.getCause());
     }
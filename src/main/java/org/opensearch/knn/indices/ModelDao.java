@@ -18,12 +18,16 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.OpenSearchException;
 import org.opensearch.ResourceNotFoundException;
+import org.opensearch.Version;
 import org.opensearch.action.DocWriteRequest;
 import org.opensearch.action.DocWriteResponse;
 import org.opensearch.action.FailedNodeException;
 import org.opensearch.action.StepListener;
+import org.opensearch.action.bulk.BulkRequestBuilder;
+import org.opensearch.action.bulk.BulkResponse;
 import org.opensearch.action.admin.indices.create.CreateIndexRequest;
 import org.opensearch.action.admin.indices.create.CreateIndexResponse;
+import org.opensearch.action.admin.indices.mapping.put.PutMappingRequest;
 import org.opensearch.action.delete.DeleteAction;
 import org.opensearch.action.delete.DeleteRequestBuilder;
 import org.opensearch.action.delete.DeleteResponse;
@@ -34,6 +38,7 @@ import org.opensearch.action.index.IndexRequestBuilder;
 import org.opensearch.action.index.IndexResponse;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.support.PlainActionFuture;
 import org.opensearch.action.support.WriteRequest;
 import org.opensearch.action.support.master.AcknowledgedResponse;
 import org.opensearch.client.Client;
@@ -44,15 +49,21 @@ import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.json.JsonXContent;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.unit.ByteSizeUnit;
 import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.index.IndexNotFoundException;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.knn.common.KNNConstants;
 import org.opensearch.knn.common.exception.DeleteModelException;
 import org.opensearch.knn.index.engine.MethodComponentContext;
 import org.opensearch.knn.index.mapper.CompressionLevel;
 import org.opensearch.knn.index.mapper.Mode;
+import org.opensearch.knn.index.util.IndexUtil;
 import org.opensearch.knn.plugin.transport.DeleteModelResponse;
 import org.opensearch.knn.plugin.transport.GetModelResponse;
 import org.opensearch.knn.plugin.transport.RemoveModelFromCacheAction;
@@ -62,14 +73,20 @@ import org.opensearch.knn.plugin.transport.UpdateModelGraveyardAction;
 import org.opensearch.knn.plugin.transport.UpdateModelGraveyardRequest;
 import org.opensearch.knn.plugin.transport.UpdateModelMetadataAction;
 import org.opensearch.knn.plugin.transport.UpdateModelMetadataRequest;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.builder.SearchSourceBuilder;
 
 import java.io.IOException;
 import java.net.URL;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.function.Supplier;
 
@@ -184,9 +201,25 @@ public interface ModelDao {
 
         public static Logger logger = LogManager.getLogger(ModelDao.class);
 
+        // Model blobs larger than this are split into chunk documents of this size
+        static final int MODEL_BLOB_CHUNK_SIZE_IN_BYTES = (int) ByteSizeUnit.MB.toBytes(4);
+        // Enough chunks for the largest model blob a byte array can hold
+        private static final int MAX_MODEL_BLOB_CHUNK_COUNT = Integer.MAX_VALUE / MODEL_BLOB_CHUNK_SIZE_IN_BYTES + 1;
+        private static final String MODEL_BLOB_CHUNK_ID_DELIMITER = "#chunk#";
+        private static final String MODEL_INDEX_MAPPING_PROPERTIES = "properties";
+        private static final List<String> MODEL_BLOB_CHUNK_FIELDS = List.of(
+            KNNConstants.MODEL_BLOB_LENGTH,
+            KNNConstants.MODEL_BLOB_CHUNK_COUNT,
+            KNNConstants.MODEL_BLOB_CHUNK_OF,
+            KNNConstants.MODEL_BLOB_CHUNK_INDEX
+        );
+
         private int numberOfShards;
         private int numberOfReplicas;
 
+        // Model metadata parsed from the cluster state, so that it is not parsed again on every search
+        private volatile ParsedModelMetadata parsedModelMetadata = new ParsedModelMetadata(null);
+
         private static OpenSearchKNNModelDao INSTANCE;
         private static Client client;
         private static ClusterService clusterService;
@@ -317,10 +350,17 @@ public interface ModelDao {
                 throw new IllegalArgumentException("Model binary cannot be null when model state is CREATED");
             }
 
-            // Only add model if it is not null
-            if (modelBlob != null) {
+            // Only add model if it is not null. Large models are stored in chunk documents, so that neither a single
+            // document nor a single request holds the whole base64 encoded model. Chunking is storage-side only: the model
+            // is still read back as a single byte array
+            int modelBlobChunkCount = 0;
+            if (modelBlob != null && isModelBlobChunked(modelBlob, clusterService.state().nodes().getMinNodeVersion()) == false) {
                 String base64Model = Base64.getEncoder().encodeToString(modelBlob);
                 parameters.put(KNNConstants.MODEL_BLOB_PARAMETER, base64Model);
+            } else if (modelBlob != null) {
+                modelBlobChunkCount = (modelBlob.length + MODEL_BLOB_CHUNK_SIZE_IN_BYTES - 1) / MODEL_BLOB_CHUNK_SIZE_IN_BYTES;
+                parameters.put(KNNConstants.MODEL_BLOB_LENGTH, modelBlob.length);
+                parameters.put(KNNConstants.MODEL_BLOB_CHUNK_COUNT, modelBlobChunkCount);
             }
 
             final IndexRequestBuilder indexRequestBuilder = client.prepareIndex(MODEL_INDEX_NAME);
@@ -352,8 +392,25 @@ public interface ModelDao {
 
             ActionListener<IndexResponse> onIndexListener = getUpdateModelMetadataListener(model.getModelMetadata(), onMetaListener);
 
-            // Create the model index if it does not already exist
-            Runnable indexModelRunnable = () -> indexRequestBuilder.execute(onIndexListener);
+            // Create the model index if it does not already exist. The chunks of the model blob are indexed before the
+            // model document that references them.
+            final int chunkCount = modelBlobChunkCount;
+            ActionListener<Void> chunksListener = ActionListener.wrap(
+                chunksIndexed -> ModelDao.runWithStashedThreadContext(() -> indexRequestBuilder.execute(onIndexListener)),
+                onIndexListener::onFailure
+            );
+            Runnable indexModelRunnable = () -> {
+                if (chunkCount == 0) {
+                    chunksListener.onResponse(null);
+                    return;
+                }
+                putModelBlobChunkMapping(
+                    ActionListener.wrap(
+                        mappingUpdated -> putModelBlobChunks(model.getModelID(), modelBlob, 0, chunkCount, chunksListener),
+                        chunksListener::onFailure
+                    )
+                );
+            };
             if (!isCreated()) {
                 create(
                     ActionListener.wrap(
@@ -367,6 +424,175 @@ public interface ModelDao {
             ModelDao.runWithStashedThreadContext(indexModelRunnable);
         }
 
+        /**
+         * Whether a model blob is stored in chunk documents. Nodes of versions that do not store models in chunks read
+         * the blob from the model document only, so models are stored in chunks once every node of the cluster can read
+         * them.
+         *
+         * @param modelBlob model blob to store
+         * @param minNodeVersion minimum version of the nodes of the cluster
+         * @return true if the model blob is stored in chunks; false if it is stored in the model document
+         */
+        static boolean isModelBlobChunked(byte[] modelBlob, Version minNodeVersion) {
+            return modelBlob.length > MODEL_BLOB_CHUNK_SIZE_IN_BYTES
+                && IndexUtil.isVersionOnOrAfterMinRequiredVersion(minNodeVersion, KNNConstants.MODEL_BLOB_CHUNK_COUNT);
+        }
+
+        // Model indices created before models were stored in chunks do not map the chunk fields. They would be mapped
+        // dynamically, the model id of a chunk as text, which the term query finding the chunks of a model does not
+        // match. The fields are added to the mapping of such an index before its first chunk is indexed.
+        private void putModelBlobChunkMapping(ActionListener<Void> listener) {
+            IndexMetadata indexMetadata = clusterService.state().metadata().index(MODEL_INDEX_NAME);
+            if (indexMetadata != null && indexMetadata.mapping() != null) {
+                Object properties = indexMetadata.mapping().sourceAsMap().get(MODEL_INDEX_MAPPING_PROPERTIES);
+                if (properties instanceof Map && ((Map<?, ?>) properties).containsKey(KNNConstants.MODEL_BLOB_CHUNK_OF)) {
+                    listener.onResponse(null);
+                    return;
+                }
+            }
+
+            final PutMappingRequest putMappingRequest;
+            try {
+                putMappingRequest = new PutMappingRequest(MODEL_INDEX_NAME).source(getModelBlobChunkMapping());
+            } catch (IOException e) {
+                listener.onFailure(e);
+                return;
+            }
+            ModelDao.runWithStashedThreadContext(
+                () -> client.admin()
+                    .indices()
+                    .putMapping(
+                        putMappingRequest,
+                        ActionListener.wrap(acknowledgedResponse -> listener.onResponse(null), listener::onFailure)
+                    )
+            );
+        }
+
+        // Mapping of the chunk fields, taken from the mapping the model index is created with
+        private Map<String, Object> getModelBlobChunkMapping() throws IOException {
+            Map<?, ?> properties = (Map<?, ?>) XContentHelper.convertToMap(JsonXContent.jsonXContent, getMapping(), false)
+                .get(MODEL_INDEX_MAPPING_PROPERTIES);
+            Map<String, Object> chunkProperties = new HashMap<>();
+            for (String field : MODEL_BLOB_CHUNK_FIELDS) {
+                chunkProperties.put(field, properties.get(field));
+            }
+            return Collections.singletonMap(MODEL_INDEX_MAPPING_PROPERTIES, chunkProperties);
+        }
+
+        // Index the chunks of the model blob one at a time, so that each index request holds a single encoded chunk. The
+        // chunks are only needed to be searchable to delete them, so the model index is refreshed once after the last one.
+        private void putModelBlobChunks(String modelId, byte[] modelBlob, int chunk, int chunkCount, ActionListener<Void> listener) {
+            if (chunk >= chunkCount) {
+                ModelDao.runWithStashedThreadContext(
+                    () -> client.admin()
+                        .indices()
+                        .prepareRefresh(MODEL_INDEX_NAME)
+                        .execute(ActionListener.wrap(refreshResponse -> listener.onResponse(null), listener::onFailure))
+                );
+                return;
+            }
+
+            int from = chunk * MODEL_BLOB_CHUNK_SIZE_IN_BYTES;
+            int length = Math.min(MODEL_BLOB_CHUNK_SIZE_IN_BYTES, modelBlob.length - from);
+            Map<String, Object> parameters = new HashMap<>();
+            parameters.put(KNNConstants.MODEL_BLOB_CHUNK_OF, modelId);
+            parameters.put(KNNConstants.MODEL_BLOB_CHUNK_INDEX, chunk);
+            parameters.put(
+                KNNConstants.MODEL_BLOB_PARAMETER,
+                Base64.getEncoder().encodeToString(Arrays.copyOfRange(modelBlob, from, from + length))
+            );
+
+            // Chunks are always overwritten, as they may be left over from a previous attempt to store the model
+            final IndexRequestBuilder indexRequestBuilder = client.prepareIndex(MODEL_INDEX_NAME)
+                .setId(getModelBlobChunkId(modelId, chunk))
+                .setSource(parameters)
+                .setOpType(DocWriteRequest.OpType.INDEX);
+
+            ModelDao.runWithStashedThreadContext(
+                () -> indexRequestBuilder.execute(
+                    ActionListener.wrap(
+                        indexResponse -> putModelBlobChunks(modelId, modelBlob, chunk + 1, chunkCount, listener),
+                        listener::onFailure
+                    )
+                )
+            );
+        }
+
+        // Read the chunks of the model blob one at a time and copy each into the model blob, which is assembled whole on
+        // heap. Chunking only bounds the size of the stored documents and of each get request; it does not reduce the
+        // memory needed to load a model, as models are cached and passed to the native library as a byte array.
+        private void getModelBlobChunks(String modelId, byte[] modelBlob, int chunk, int chunkCount, ActionListener<byte[]> listener) {
+            if (chunk >= chunkCount) {
+                listener.onResponse(modelBlob);
+                return;
+            }
+
+            GetRequestBuilder getRequestBuilder = new GetRequestBuilder(client, GetAction.INSTANCE, MODEL_INDEX_NAME).setId(
+                getModelBlobChunkId(modelId, chunk)
+            ).setPreference("_local");
+
+            ModelDao.runWithStashedThreadContext(() -> getRequestBuilder.execute(ActionListener.wrap(response -> {
+                if (response.isSourceEmpty()) {
+                    listener.onFailure(
+                        new ResourceNotFoundException(modelId, String.format("Chunk %d of model \" %s \" does not exist", chunk, modelId))
+                    );
+                    return;
+                }
+                byte[] chunkBlob = Base64.getDecoder().decode((String) response.getSourceAsMap().get(KNNConstants.MODEL_BLOB_PARAMETER));
+                System.arraycopy(chunkBlob, 0, modelBlob, chunk * MODEL_BLOB_CHUNK_SIZE_IN_BYTES, chunkBlob.length);
+                getModelBlobChunks(modelId, modelBlob, chunk + 1, chunkCount, listener);
+            }, listener::onFailure)));
+        }
+
+        // Build the model from its document, reading the chunks of its blob if it is stored in chunks
+        private void getModelFromSourceMap(String modelId, Map<String, Object> sourceMap, ActionListener<Model> listener) {
+            Object chunkCount = sourceMap.get(KNNConstants.MODEL_BLOB_CHUNK_COUNT);
+            if (chunkCount == null) {
+                listener.onResponse(Model.getModelFromSourceMap(sourceMap));
+                return;
+            }
+
+            byte[] modelBlob = new byte[((Number) sourceMap.get(KNNConstants.MODEL_BLOB_LENGTH)).intValue()];
+            getModelBlobChunks(
+                modelId,
+                modelBlob,
+                0,
+                ((Number) chunkCount).intValue(),
+                ActionListener.wrap(blob -> listener.onResponse(Model.getModelFromSourceMap(sourceMap, blob)), listener::onFailure)
+            );
+        }
+
+        // Delete every chunk of the model blob. Chunks are found by search, so that chunks left over by a previous
+        // version of the model are deleted too.
+        private void deleteModelBlobChunks(String modelId) {
+            SearchRequest searchRequest = new SearchRequest(MODEL_INDEX_NAME).source(
+                new SearchSourceBuilder().query(QueryBuilders.termQuery(KNNConstants.MODEL_BLOB_CHUNK_OF, modelId))
+                    .size(MAX_MODEL_BLOB_CHUNK_COUNT)
+                    .fetchSource(false)
+            );
+
+            ActionListener<BulkResponse> bulkListener = ActionListener.wrap(bulkResponse -> {
+                if (bulkResponse.hasFailures()) {
+                    logger.warn("Failed to delete chunks of model \"" + modelId + "\": " + bulkResponse.buildFailureMessage());
+                }
+            }, e -> logger.warn("Failed to delete chunks of model \"" + modelId + "\"", e));
+
+            ModelDao.runWithStashedThreadContext(() -> client.search(searchRequest, ActionListener.wrap(searchResponse -> {
+                if (searchResponse.getHits().getHits().length == 0) {
+                    return;
+                }
+                BulkRequestBuilder bulkRequestBuilder = client.prepareBulk().setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
+                for (SearchHit hit : searchResponse.getHits().getHits()) {
+                    bulkRequestBuilder.add(client.prepareDelete(MODEL_INDEX_NAME, hit.getId()));
+                }
+                ModelDao.runWithStashedThreadContext(() -> bulkRequestBuilder.execute(bulkListener));
+            }, bulkListener::onFailure)));
+        }
+
+        private static String getModelBlobChunkId(String modelId, int chunk) {
+            return modelId + MODEL_BLOB_CHUNK_ID_DELIMITER + chunk;
+        }
+
         private ActionListener<IndexResponse> getUpdateModelMetadataListener(
             ModelMetadata modelMetadata,
             ActionListener<IndexResponse> listener
@@ -400,7 +626,13 @@ public interface ModelDao {
                         throw new RuntimeException(e);
                     }
                     Map<String, Object> responseMap = getResponse.getSourceAsMap();
-                    return Model.getModelFromSourceMap(responseMap);
+                    PlainActionFuture<Model> modelFuture = PlainActionFuture.newFuture();
+                    getModelFromSourceMap(modelId, responseMap, modelFuture);
+                    try {
+                        return modelFuture.get();
+                    } catch (InterruptedException | ExecutionException e) {
+                        throw new RuntimeException(e);
+                    }
                 });
             } catch (RuntimeException runtimeException) {
                 // we need to use RuntimeException as container for real exception to keep signature
@@ -431,8 +663,11 @@ public interface ModelDao {
                         return;
                     }
                     final Map<String, Object> responseMap = response.getSourceAsMap();
-                    Model model = Model.getModelFromSourceMap(responseMap);
-                    actionListener.onResponse(new GetModelResponse(model));
+                    getModelFromSourceMap(
+                        modelId,
+                        responseMap,
+                        ActionListener.wrap(model -> actionListener.onResponse(new GetModelResponse(model)), actionListener::onFailure)
+                    );
 
                 }, actionListener::onFailure));
             });
@@ -448,6 +683,13 @@ public interface ModelDao {
         public void search(SearchRequest request, ActionListener<SearchResponse> actionListener) {
             ModelDao.runWithStashedThreadContext(() -> {
                 request.indices(MODEL_INDEX_NAME);
+                // Chunks of model blobs are not models
+                SearchSourceBuilder sourceBuilder = request.source() == null ? new SearchSourceBuilder() : request.source();
+                QueryBuilder query = sourceBuilder.query() == null ? QueryBuilders.matchAllQuery() : sourceBuilder.query();
+                sourceBuilder.query(
+                    QueryBuilders.boolQuery().must(query).mustNot(QueryBuilders.existsQuery(KNNConstants.MODEL_BLOB_CHUNK_OF))
+                );
+                request.source(sourceBuilder);
                 client.search(request, actionListener);
             });
         }
@@ -461,6 +703,20 @@ public interface ModelDao {
                 return null;
             }
 
+            // Index metadata instances are reused across cluster states until the model index metadata changes, so
+            // metadata parsed from the same instance is still up to date.
+            ParsedModelMetadata parsed = parsedModelMetadata;
+            if (parsed.indexMetadata != indexMetadata) {
+                parsed = new ParsedModelMetadata(indexMetadata);
+                parsedModelMetadata = parsed;
+            }
+
+            ModelMetadata modelMetadata = parsed.modelMetadataMap.computeIfAbsent(modelId, id -> parseMetadata(indexMetadata, id));
+            // Callers may update the state of the returned metadata, so they must not share the cached instance
+            return modelMetadata == null ? null : new ModelMetadata(modelMetadata);
+        }
+
+        private ModelMetadata parseMetadata(IndexMetadata indexMetadata, String modelId) {
             Map<String, String> models = indexMetadata.getCustomData(MODEL_METADATA_FIELD);
             if (models == null) {
                 logger.debug(
@@ -479,6 +735,18 @@ public interface ModelDao {
             return ModelMetadata.fromString(modelMetadata);
         }
 
+        /**
+         * Model metadata parsed from one version of the model index metadata
+         */
+        private static final class ParsedModelMetadata {
+            private final IndexMetadata indexMetadata;
+            private final Map<String, ModelMetadata> modelMetadataMap = new ConcurrentHashMap<>();
+
+            private ParsedModelMetadata(IndexMetadata indexMetadata) {
+                this.indexMetadata = indexMetadata;
+            }
+        }
+
         private String getMapping() throws IOException {
             if (ModelDao.class.getClassLoader() == null) {
                 throw new IllegalStateException("ClassLoader of ModelDao Class is null");
@@ -567,6 +835,10 @@ public interface ModelDao {
                     return;
                 }
 
+                // The chunks of the model blob are no longer reachable once the model is deleted. Failing to delete them
+                // only leaves garbage in the index, so it does not fail the request.
+                deleteModelBlobChunks(modelId);
+
                 // After model is deleted from the index, make sure the model is evicted from every cache in the cluster
                 removeModelFromCache(modelId, clearModelFromCacheStep);
             }, e -> listener.onFailure(new OpenSearchException(e)));
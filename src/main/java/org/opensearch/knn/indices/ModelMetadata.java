@@ -168,6 +168,27 @@ public class ModelMetadata implements Writeable, ToXContentObject {
         this.version = Objects.requireNonNull(version, "model version must not be null");
     }
 
+    /**
+     * Copy constructor. The copy has its own state and error, so it can be updated without affecting the original.
+     *
+     * @param other ModelMetadata to copy
+     */
+    ModelMetadata(ModelMetadata other) {
+        this.knnEngine = other.knnEngine;
+        this.spaceType = other.spaceType;
+        this.dimension = other.dimension;
+        this.state = new AtomicReference<>(other.getState());
+        this.timestamp = other.timestamp;
+        this.description = other.description;
+        this.error = other.error;
+        this.trainingNodeAssignment = other.trainingNodeAssignment;
+        this.methodComponentContext = other.methodComponentContext;
+        this.vectorDataType = other.vectorDataType;
+        this.mode = other.mode;
+        this.compressionLevel = other.compressionLevel;
+        this.version = other.version;
+    }
+
     /**
      * getter for model's knnEngine
      *
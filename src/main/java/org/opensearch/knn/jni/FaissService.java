@@ -211,6 +211,75 @@ class FaissService {
         Map<String, Object> parameters
     );
 
+    /**
+     * Deserialize a template index so that it can be shared by every index created from it. The template must be freed
+     * with {@link #free(long, boolean)}.
+     *
+     * @param templateIndex empty template index
+     * @param isBinary whether the template is a binary index
+     * @return address of the loaded template
+     */
+    public static native long loadTemplate(byte[] templateIndex, boolean isBinary);
+
+    /**
+     * Create an index for the native library from a clone of a template loaded with {@link #loadTemplate(byte[], boolean)}
+     *
+     * @param ids array of ids mapping to the data passed in
+     * @param vectorsAddress address of native memory where vectors are stored
+     * @param dim dimension of the vector to be indexed
+     * @param output Index output wrapper having Lucene's IndexOutput to be used to flush bytes in native engines.
+     * @param templateAddress address of the loaded template
+     * @param parameters additional build time parameters
+     */
+    public static native void createIndexFromLoadedTemplate(
+        int[] ids,
+        long vectorsAddress,
+        int dim,
+        IndexOutputWithBuffer output,
+        long templateAddress,
+        Map<String, Object> parameters
+    );
+
+    /**
+     * Create a binary index for the native library from a clone of a template loaded with
+     * {@link #loadTemplate(byte[], boolean)}
+     *
+     * @param ids array of ids mapping to the data passed in
+     * @param vectorsAddress address of native memory where vectors are stored
+     * @param dim dimension of the vector to be indexed
+     * @param output Index output wrapper having Lucene's IndexOutput to be used to flush bytes in native engines.
+     * @param templateAddress address of the loaded template
+     * @param parameters additional build time parameters
+     */
+    public static native void createBinaryIndexFromLoadedTemplate(
+        int[] ids,
+        long vectorsAddress,
+        int dim,
+        IndexOutputWithBuffer output,
+        long templateAddress,
+        Map<String, Object> parameters
+    );
+
+    /**
+     * Create a byte index for the native library from a clone of a template loaded with
+     * {@link #loadTemplate(byte[], boolean)}
+     *
+     * @param ids array of ids mapping to the data passed in
+     * @param vectorsAddress address of native memory where vectors are stored
+     * @param dim dimension of the vector to be indexed
+     * @param output Index output wrapper having Lucene's IndexOutput to be used to flush bytes in native engines.
+     * @param templateAddress address of the loaded template
+     * @param parameters additional build time parameters
+     */
+    public static native void createByteIndexFromLoadedTemplate(
+        int[] ids,
+        long vectorsAddress,
+        int dim,
+        IndexOutputWithBuffer output,
+        long templateAddress,
+        Map<String, Object> parameters
+    );
+
     /**
      * Load an index into memory
      *
@@ -372,15 +441,66 @@ class FaissService {
      */
     public static native void initLibrary();
 
+    /**
+     * Create the native progress of a training. It must be freed with {@link #freeTrainingProgress(long)}
+     *
+     * @return address of the training progress
+     */
+    public static native long createTrainingProgress();
+
+    /**
+     * Cancel the training using the progress. Training stops with an exception before its next k-means iteration.
+     *
+     * @param trainingProgressAddress address of the training progress
+     */
+    public static native void cancelTraining(long trainingProgressAddress);
+
+    /**
+     * Get the number of k-means iterations done on the coarse quantizer
+     *
+     * @param trainingProgressAddress address of the training progress
+     * @return number of iterations done
+     */
+    public static native int getTrainingIterations(long trainingProgressAddress);
+
+    /**
+     * Get the total number of k-means iterations of the coarse quantizer
+     *
+     * @param trainingProgressAddress address of the training progress
+     * @return total number of iterations, or 0 if the index is not trained iteratively
+     */
+    public static native int getTrainingTotalIterations(long trainingProgressAddress);
+
+    /**
+     * Get the k-means objective after the last iteration
+     *
+     * @param trainingProgressAddress address of the training progress
+     * @return objective of the last iteration
+     */
+    public static native double getTrainingObjective(long trainingProgressAddress);
+
+    /**
+     * Free the native progress of a training
+     *
+     * @param trainingProgressAddress address of the training progress
+     */
+    public static native void freeTrainingProgress(long trainingProgressAddress);
+
     /**
      * Train an empty index
      *
      * @param indexParameters parameters used to build index
      * @param dimension dimension for the index
      * @param trainVectorsPointer pointer to where training vectors are stored in native memory
+     * @param trainingProgressAddress address of the progress created with {@link #createTrainingProgress()}, or 0
      * @return bytes array of trained template index
      */
-    public static native byte[] trainIndex(Map<String, Object> indexParameters, int dimension, long trainVectorsPointer);
+    public static native byte[] trainIndex(
+        Map<String, Object> indexParameters,
+        int dimension,
+        long trainVectorsPointer,
+        long trainingProgressAddress
+    );
 
     /**
      * Train an empty binary index
@@ -388,9 +508,15 @@ class FaissService {
      * @param indexParameters parameters used to build index
      * @param dimension dimension for the index
      * @param trainVectorsPointer pointer to where training vectors are stored in native memory
+     * @param trainingProgressAddress address of the progress created with {@link #createTrainingProgress()}, or 0
      * @return bytes array of trained template index
      */
-    public static native byte[] trainBinaryIndex(Map<String, Object> indexParameters, int dimension, long trainVectorsPointer);
+    public static native byte[] trainBinaryIndex(
+        Map<String, Object> indexParameters,
+        int dimension,
+        long trainVectorsPointer,
+        long trainingProgressAddress
+    );
 
     /**
      * Train an empty byte index
@@ -398,9 +524,15 @@ class FaissService {
      * @param indexParameters parameters used to build index
      * @param dimension dimension for the index
      * @param trainVectorsPointer pointer to where training vectors are stored in native memory
+     * @param trainingProgressAddress address of the progress created with {@link #createTrainingProgress()}, or 0
      * @return bytes array of trained template index
      */
-    public static native byte[] trainByteIndex(Map<String, Object> indexParameters, int dimension, long trainVectorsPointer);
+    public static native byte[] trainByteIndex(
+        Map<String, Object> indexParameters,
+        int dimension,
+        long trainVectorsPointer,
+        long trainingProgressAddress
+    );
 
     /**
      * <p>
@@ -13,6 +13,7 @@ package org.opensearch.knn.jni;
 
 import org.opensearch.knn.common.KNNConstants;
 
+import java.nio.ByteBuffer;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 
@@ -151,6 +152,69 @@ public class JNICommons {
      */
     public static native long storeByteVectorData(long memoryAddress, byte[][] data, long initialCapacity, boolean append);
 
+    /**
+     * Same as {@link JNICommons#storeVectorData(long, float[][], long, boolean)}, but reads the vectors from a direct
+     * {@link ByteBuffer} holding floats in {@link java.nio.ByteOrder#nativeOrder()}. This avoids marshalling a 2D java
+     * array on the JNI layer, the buffer content is copied once into the native memory location.
+     *
+     * <p>
+     * The function is not threadsafe. If multiple threads are trying to insert on same memory location, then it can
+     * lead to data corruption.
+     * </p>
+     *
+     * @param memoryAddress   The address of the memory location where data will be stored.
+     * @param data            direct ByteBuffer containing the vectors laid out back to back.
+     * @param numBytes        number of bytes to read from the start of the buffer.
+     * @param initialCapacity The initial capacity of the memory location, in number of floats.
+     * @param append          append the data or rewrite the memory location
+     * @return memory address where the data is stored.
+     */
+    public static native long storeVectorDataFromBuffer(
+        long memoryAddress,
+        ByteBuffer data,
+        long numBytes,
+        long initialCapacity,
+        boolean append
+    );
+
+    /**
+     * Same as {@link JNICommons#storeBinaryVectorData(long, byte[][], long, boolean)}, but reads the vectors from a
+     * direct {@link ByteBuffer}.
+     *
+     * @param memoryAddress   The address of the memory location where data will be stored.
+     * @param data            direct ByteBuffer containing the vectors laid out back to back.
+     * @param numBytes        number of bytes to read from the start of the buffer.
+     * @param initialCapacity The initial capacity of the memory location, in number of bytes.
+     * @param append          append the data or rewrite the memory location
+     * @return memory address where the data is stored.
+     */
+    public static native long storeBinaryVectorDataFromBuffer(
+        long memoryAddress,
+        ByteBuffer data,
+        long numBytes,
+        long initialCapacity,
+        boolean append
+    );
+
+    /**
+     * Same as {@link JNICommons#storeByteVectorData(long, byte[][], long, boolean)}, but reads the vectors from a
+     * direct {@link ByteBuffer}.
+     *
+     * @param memoryAddress   The address of the memory location where data will be stored.
+     * @param data            direct ByteBuffer containing the vectors laid out back to back.
+     * @param numBytes        number of bytes to read from the start of the buffer.
+     * @param initialCapacity The initial capacity of the memory location, in number of bytes.
+     * @param append          append the data or rewrite the memory location
+     * @return memory address where the data is stored.
+     */
+    public static native long storeByteVectorDataFromBuffer(
+        long memoryAddress,
+        ByteBuffer data,
+        long numBytes,
+        long initialCapacity,
+        boolean append
+    );
+
     /**
      * Free up the memory allocated for the data stored in memory address. This function should be used with the memory
      * address returned by {@link JNICommons#storeVectorData(long, float[][], long, boolean)}
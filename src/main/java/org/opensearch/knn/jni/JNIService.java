@@ -185,6 +185,64 @@ public class JNIService {
         );
     }
 
+    /**
+     * Deserialize a template index so that it can be shared by every index created from it
+     *
+     * @param templateIndex empty template index
+     * @param isBinary      whether the template is a binary index
+     * @param knnEngine     engine the template belongs to
+     * @return address of the loaded template, to be freed with {@link #free(long, KNNEngine, boolean)}
+     */
+    public static long loadTemplate(byte[] templateIndex, boolean isBinary, KNNEngine knnEngine) {
+        if (KNNEngine.FAISS == knnEngine) {
+            return FaissService.loadTemplate(templateIndex, isBinary);
+        }
+
+        throw new IllegalArgumentException(
+            String.format(Locale.ROOT, "LoadTemplate not supported for provided engine : %s", knnEngine.getName())
+        );
+    }
+
+    /**
+     * Create an index for the native library from a clone of a template loaded with
+     * {@link #loadTemplate(byte[], boolean, KNNEngine)}
+     *
+     * @param ids             array of ids mapping to the data passed in
+     * @param vectorsAddress  address of native memory where vectors are stored
+     * @param dim             dimension of vectors to be indexed
+     * @param output          Index output wrapper having Lucene's IndexOutput to be used to flush bytes in native engines.
+     * @param templateAddress address of the loaded template
+     * @param parameters      parameters to build index
+     * @param knnEngine       engine to build index for
+     */
+    public static void createIndexFromLoadedTemplate(
+        int[] ids,
+        long vectorsAddress,
+        int dim,
+        IndexOutputWithBuffer output,
+        long templateAddress,
+        Map<String, Object> parameters,
+        KNNEngine knnEngine
+    ) {
+        if (KNNEngine.FAISS == knnEngine) {
+            if (IndexUtil.isBinaryIndex(knnEngine, parameters)) {
+                FaissService.createBinaryIndexFromLoadedTemplate(ids, vectorsAddress, dim, output, templateAddress, parameters);
+                return;
+            }
+            if (IndexUtil.isByteIndex(parameters)) {
+                FaissService.createByteIndexFromLoadedTemplate(ids, vectorsAddress, dim, output, templateAddress, parameters);
+                return;
+            }
+
+            FaissService.createIndexFromLoadedTemplate(ids, vectorsAddress, dim, output, templateAddress, parameters);
+            return;
+        }
+
+        throw new IllegalArgumentException(
+            String.format(Locale.ROOT, "CreateIndexFromLoadedTemplate not supported for provided engine : %s", knnEngine.getName())
+        );
+    }
+
     /**
      * Load an index via Lucene's IndexInput.
      *
@@ -404,14 +462,34 @@ public class JNIService {
      * @return bytes array of trained template index
      */
     public static byte[] trainIndex(Map<String, Object> indexParameters, int dimension, long trainVectorsPointer, KNNEngine knnEngine) {
+        return trainIndex(indexParameters, dimension, trainVectorsPointer, 0, knnEngine);
+    }
+
+    /**
+     * Train an empty index, reporting its progress
+     *
+     * @param indexParameters         parameters used to build index
+     * @param dimension               dimension for the index
+     * @param trainVectorsPointer     pointer to where training vectors are stored in native memory
+     * @param trainingProgressAddress address of the progress created with {@link #createTrainingProgress(KNNEngine)}, or 0
+     * @param knnEngine               engine to perform the training
+     * @return bytes array of trained template index
+     */
+    public static byte[] trainIndex(
+        Map<String, Object> indexParameters,
+        int dimension,
+        long trainVectorsPointer,
+        long trainingProgressAddress,
+        KNNEngine knnEngine
+    ) {
         if (KNNEngine.FAISS == knnEngine) {
             if (IndexUtil.isBinaryIndex(knnEngine, indexParameters)) {
-                return FaissService.trainBinaryIndex(indexParameters, dimension, trainVectorsPointer);
+                return FaissService.trainBinaryIndex(indexParameters, dimension, trainVectorsPointer, trainingProgressAddress);
             }
             if (IndexUtil.isByteIndex(indexParameters)) {
-                return FaissService.trainByteIndex(indexParameters, dimension, trainVectorsPointer);
+                return FaissService.trainByteIndex(indexParameters, dimension, trainVectorsPointer, trainingProgressAddress);
             }
-            return FaissService.trainIndex(indexParameters, dimension, trainVectorsPointer);
+            return FaissService.trainIndex(indexParameters, dimension, trainVectorsPointer, trainingProgressAddress);
         }
 
         throw new IllegalArgumentException(
@@ -419,6 +497,107 @@ public class JNIService {
         );
     }
 
+    /**
+     * Create the native progress of a training
+     *
+     * @param knnEngine engine to perform the training
+     * @return address of the training progress, to be freed with {@link #freeTrainingProgress(long, KNNEngine)}
+     */
+    public static long createTrainingProgress(KNNEngine knnEngine) {
+        if (KNNEngine.FAISS == knnEngine) {
+            return FaissService.createTrainingProgress();
+        }
+
+        throw new IllegalArgumentException(
+            String.format(Locale.ROOT, "CreateTrainingProgress not supported for provided engine : %s", knnEngine.getName())
+        );
+    }
+
+    /**
+     * Cancel the training using the progress
+     *
+     * @param trainingProgressAddress address of the training progress
+     * @param knnEngine               engine performing the training
+     */
+    public static void cancelTraining(long trainingProgressAddress, KNNEngine knnEngine) {
+        if (KNNEngine.FAISS == knnEngine) {
+            FaissService.cancelTraining(trainingProgressAddress);
+            return;
+        }
+
+        throw new IllegalArgumentException(
+            String.format(Locale.ROOT, "CancelTraining not supported for provided engine : %s", knnEngine.getName())
+        );
+    }
+
+    /**
+     * Get the number of k-means iterations done by the training
+     *
+     * @param trainingProgressAddress address of the training progress
+     * @param knnEngine               engine performing the training
+     * @return number of iterations done
+     */
+    public static int getTrainingIterations(long trainingProgressAddress, KNNEngine knnEngine) {
+        if (KNNEngine.FAISS == knnEngine) {
+            return FaissService.getTrainingIterations(trainingProgressAddress);
+        }
+
+        throw new IllegalArgumentException(
+            String.format(Locale.ROOT, "GetTrainingIterations not supported for provided engine : %s", knnEngine.getName())
+        );
+    }
+
+    /**
+     * Get the total number of k-means iterations of the training
+     *
+     * @param trainingProgressAddress address of the training progress
+     * @param knnEngine               engine performing the training
+     * @return total number of iterations, or 0 if the index is not trained iteratively
+     */
+    public static int getTrainingTotalIterations(long trainingProgressAddress, KNNEngine knnEngine) {
+        if (KNNEngine.FAISS == knnEngine) {
+            return FaissService.getTrainingTotalIterations(trainingProgressAddress);
+        }
+
+        throw new IllegalArgumentException(
+            String.format(Locale.ROOT, "GetTrainingTotalIterations not supported for provided engine : %s", knnEngine.getName())
+        );
+    }
+
+    /**
+     * Get the k-means objective after the last iteration of the training
+     *
+     * @param trainingProgressAddress address of the training progress
+     * @param knnEngine               engine performing the training
+     * @return objective of the last iteration
+     */
+    public static double getTrainingObjective(long trainingProgressAddress, KNNEngine knnEngine) {
+        if (KNNEngine.FAISS == knnEngine) {
+            return FaissService.getTrainingObjective(trainingProgressAddress);
+        }
+
+        throw new IllegalArgumentException(
+            String.format(Locale.ROOT, "GetTrainingObjective not supported for provided engine : %s", knnEngine.getName())
+        );
+    }
+
+    /**
+     * Free the native progress of a training
+     *
+     * @param trainingProgressAddress address of the training progress
+     * @param knnEngine               engine performing the training
+     */
+    public static void freeTrainingProgress(long trainingProgressAddress, KNNEngine knnEngine) {
+        if (KNNEngine.FAISS == knnEngine) {
+            FaissService.freeTrainingProgress(trainingProgressAddress);
+            return;
+        }
+
+        throw new IllegalArgumentException(
+            String.format(Locale.ROOT, "FreeTrainingProgress not supported for provided engine : %s", knnEngine.getName())
+        );
+    }
+
     /**
      * <p>
      * The function is deprecated. Use {@link JNICommons#storeVectorData(long, float[][], long, boolean)}
@@ -68,6 +68,8 @@ import org.opensearch.knn.plugin.transport.RemoveModelFromCacheAction;
 import org.opensearch.knn.plugin.transport.RemoveModelFromCacheTransportAction;
 import org.opensearch.knn.plugin.transport.SearchModelAction;
 import org.opensearch.knn.plugin.transport.SearchModelTransportAction;
+import org.opensearch.knn.plugin.transport.TrainingDataCollectAction;
+import org.opensearch.knn.plugin.transport.TrainingDataCollectTransportAction;
 import org.opensearch.knn.plugin.transport.TrainingJobRouteDecisionInfoAction;
 import org.opensearch.knn.plugin.transport.TrainingJobRouteDecisionInfoTransportAction;
 import org.opensearch.knn.plugin.transport.TrainingJobRouterAction;
@@ -81,6 +83,7 @@ import org.opensearch.knn.plugin.transport.UpdateModelGraveyardAction;
 import org.opensearch.knn.plugin.transport.UpdateModelGraveyardTransportAction;
 import org.opensearch.knn.training.TrainingJobClusterStateListener;
 import org.opensearch.knn.training.TrainingJobRunner;
+import org.opensearch.knn.training.TrainingTask;
 import org.opensearch.knn.training.VectorReader;
 import org.opensearch.plugins.ActionPlugin;
 import org.opensearch.plugins.EnginePlugin;
@@ -97,6 +100,7 @@ import org.opensearch.script.ScriptContext;
 import org.opensearch.script.ScriptEngine;
 import org.opensearch.script.ScriptService;
 import org.opensearch.search.deciders.ConcurrentSearchRequestDecider;
+import org.opensearch.tasks.Task;
 import org.opensearch.threadpool.ExecutorBuilder;
 import org.opensearch.threadpool.FixedExecutorBuilder;
 import org.opensearch.threadpool.ThreadPool;
@@ -199,7 +203,11 @@ public class KNNPlugin extends Plugin
         KNNClusterUtil.instance().initialize(clusterService);
         ModelDao.OpenSearchKNNModelDao.initialize(client, clusterService, environment.settings());
         ModelCache.initialize(ModelDao.OpenSearchKNNModelDao.getInstance(), clusterService);
-        TrainingJobRunner.initialize(threadPool, ModelDao.OpenSearchKNNModelDao.getInstance());
+        TrainingJobRunner.initialize(
+            threadPool,
+            ModelDao.OpenSearchKNNModelDao.getInstance(),
+            KNNSettings.KNN_TRAINING_MAX_CONCURRENT_JOBS_SETTING.get(environment.settings())
+        );
         TrainingJobClusterStateListener.initialize(threadPool, ModelDao.OpenSearchKNNModelDao.getInstance(), clusterService);
         KNNCircuitBreaker.getInstance().initialize(threadPool, clusterService, client);
         KNNQueryBuilder.initialize(ModelDao.OpenSearchKNNModelDao.getInstance());
@@ -268,7 +276,8 @@ public class KNNPlugin extends Plugin
             new ActionHandler<>(RemoveModelFromCacheAction.INSTANCE, RemoveModelFromCacheTransportAction.class),
             new ActionHandler<>(SearchModelAction.INSTANCE, SearchModelTransportAction.class),
             new ActionHandler<>(UpdateModelGraveyardAction.INSTANCE, UpdateModelGraveyardTransportAction.class),
-            new ActionHandler<>(ClearCacheAction.INSTANCE, ClearCacheTransportAction.class)
+            new ActionHandler<>(ClearCacheAction.INSTANCE, ClearCacheTransportAction.class),
+            new ActionHandler<>(TrainingDataCollectAction.INSTANCE, TrainingDataCollectTransportAction.class)
         );
     }
 
@@ -324,7 +333,17 @@ public class KNNPlugin extends Plugin
 
     @Override
     public List<ExecutorBuilder<?>> getExecutorBuilders(Settings settings) {
-        return ImmutableList.of(new FixedExecutorBuilder(settings, TRAIN_THREAD_POOL, 1, 1, KNN_THREAD_POOL_PREFIX, false));
+        int maxConcurrentTrainingJobs = KNNSettings.KNN_TRAINING_MAX_CONCURRENT_JOBS_SETTING.get(settings);
+        return ImmutableList.of(
+            new FixedExecutorBuilder(
+                settings,
+                TRAIN_THREAD_POOL,
+                maxConcurrentTrainingJobs,
+                maxConcurrentTrainingJobs,
+                KNN_THREAD_POOL_PREFIX,
+                false
+            )
+        );
     }
 
     @Override
@@ -333,6 +352,7 @@ public class KNNPlugin extends Plugin
 
         entries.add(new NamedWriteableRegistry.Entry(Metadata.Custom.class, ModelGraveyard.TYPE, ModelGraveyard::new));
         entries.add(new NamedWriteableRegistry.Entry(NamedDiff.class, ModelGraveyard.TYPE, ModelGraveyard::readDiffFrom));
+        entries.add(new NamedWriteableRegistry.Entry(Task.Status.class, TrainingTask.Status.NAME, TrainingTask.Status::new));
         return entries;
     }
 
@@ -5,7 +5,11 @@
 
 package org.opensearch.knn.plugin.script;
 
+import org.apache.lucene.index.NumericDocValues;
 import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.knn.index.KNNVectorNormUtil;
 import org.opensearch.knn.index.KNNVectorScriptDocValues;
 import org.apache.lucene.index.LeafReaderContext;
 import org.opensearch.index.fielddata.ScriptDocValues;
@@ -13,25 +17,29 @@ import org.opensearch.script.ScoreScript;
 import org.opensearch.search.lookup.SearchLookup;
 
 import java.io.IOException;
-import java.math.BigInteger;
 import java.util.Map;
-import java.util.function.BiFunction;
 
 /**
  * KNNScoreScript is used for adjusting the score of query results based on similarity distance methods. Scripts
  * operate on a per document basis. Because the scoring method is passed in during construction, KNNScoreScripts are
  * only concerned with the types of the query and docs being processed.
+ *
+ * A script is created per segment and its documents are scored in increasing doc id order, so the doc values of the
+ * field are resolved once and then advanced forward by the script itself, reading the vectors of the segment
+ * sequentially instead of going through the doc lookup for every document. The script_score query calls the script one
+ * document at a time and does not expose the upcoming documents, so scoring stays per document, without boxing.
  */
 public abstract class KNNScoreScript<T> extends ScoreScript {
     protected final T queryValue;
     protected final String field;
-    protected final BiFunction<T, T, Float> scoringMethod;
+    protected final ScoringMethod<T> scoringMethod;
+    private ScriptDocValues<?> fieldDocValues;
 
     public KNNScoreScript(
         Map<String, Object> params,
         T queryValue,
         String field,
-        BiFunction<T, T, Float> scoringMethod,
+        ScoringMethod<T> scoringMethod,
         SearchLookup lookup,
         LeafReaderContext leafContext,
         IndexSearcher searcher
@@ -42,6 +50,26 @@ public abstract class KNNScoreScript<T> extends ScoreScript {
         this.scoringMethod = scoringMethod;
     }
 
+    /**
+     * Returns the doc values of the field positioned on the current document.
+     *
+     * @return {@link ScriptDocValues} of the field
+     */
+    @SuppressWarnings("unchecked")
+    protected <V extends ScriptDocValues<?>> V getScriptDocValues() {
+        if (fieldDocValues == null) {
+            // The lookup positions the doc values on the current document
+            fieldDocValues = getDoc().get(this.field);
+            return (V) fieldDocValues;
+        }
+        try {
+            fieldDocValues.setNextDocId(_getDocId());
+        } catch (IOException e) {
+            throw ExceptionsHelper.convertToOpenSearchException(e);
+        }
+        return (V) fieldDocValues;
+    }
+
     /**
      * KNNScoreScript with Long type. The query value passed in as well as the DocValues being searched over are
      * expected to be Longs.
@@ -51,7 +79,7 @@ public abstract class KNNScoreScript<T> extends ScoreScript {
             Map<String, Object> params,
             Long queryValue,
             String field,
-            BiFunction<Long, Long, Float> scoringMethod,
+            ScoringMethod<Long> scoringMethod,
             SearchLookup lookup,
             LeafReaderContext leafContext,
             IndexSearcher searcher
@@ -68,24 +96,24 @@ public abstract class KNNScoreScript<T> extends ScoreScript {
          */
         @Override
         public double execute(ScoreScript.ExplanationHolder explanationHolder) {
-            ScriptDocValues.Longs scriptDocValues = (ScriptDocValues.Longs) getDoc().get(this.field);
+            ScriptDocValues.Longs scriptDocValues = getScriptDocValues();
             if (scriptDocValues.isEmpty()) {
                 return 0.0;
             }
-            return this.scoringMethod.apply(this.queryValue, scriptDocValues.getValue());
+            return this.scoringMethod.score(this.queryValue, scriptDocValues.getValue());
         }
     }
 
     /**
-     * KNNScoreScript with BigInteger type. The query value passed in as well as the DocValues being searched over
-     * are expected to be BigInteger.
+     * KNNScoreScript with binary type. The query value passed in as well as the DocValues being searched over are
+     * expected to be unsigned big-endian magnitudes, scored as is.
      */
-    public static class BigIntegerType extends KNNScoreScript<BigInteger> {
-        public BigIntegerType(
+    public static class BinaryType extends KNNScoreScript<BytesRef> {
+        public BinaryType(
             Map<String, Object> params,
-            BigInteger queryValue,
+            BytesRef queryValue,
             String field,
-            BiFunction<BigInteger, BigInteger, Float> scoringMethod,
+            ScoringMethod<BytesRef> scoringMethod,
             SearchLookup lookup,
             LeafReaderContext leafContext,
             IndexSearcher searcher
@@ -102,11 +130,11 @@ public abstract class KNNScoreScript<T> extends ScoreScript {
          */
         @Override
         public double execute(ScoreScript.ExplanationHolder explanationHolder) {
-            ScriptDocValues.BytesRefs scriptDocValues = (ScriptDocValues.BytesRefs) getDoc().get(this.field);
+            ScriptDocValues.BytesRefs scriptDocValues = getScriptDocValues();
             if (scriptDocValues.isEmpty()) {
                 return 0.0;
             }
-            return this.scoringMethod.apply(this.queryValue, new BigInteger(1, scriptDocValues.getValue().bytes));
+            return this.scoringMethod.score(this.queryValue, scriptDocValues.getValue());
         }
     }
 
@@ -120,7 +148,7 @@ public abstract class KNNScoreScript<T> extends ScoreScript {
             Map<String, Object> params,
             float[] queryValue,
             String field,
-            BiFunction<float[], float[], Float> scoringMethod,
+            ScoringMethod<float[]> scoringMethod,
             SearchLookup lookup,
             LeafReaderContext leafContext,
             IndexSearcher searcher
@@ -137,11 +165,70 @@ public abstract class KNNScoreScript<T> extends ScoreScript {
          */
         @Override
         public double execute(ScoreScript.ExplanationHolder explanationHolder) {
-            KNNVectorScriptDocValues scriptDocValues = (KNNVectorScriptDocValues) getDoc().get(this.field);
+            KNNVectorScriptDocValues scriptDocValues = getScriptDocValues();
             if (scriptDocValues.isEmpty()) {
                 return 0.0;
             }
-            return this.scoringMethod.apply(this.queryValue, scriptDocValues.getValue());
+            return this.scoringMethod.score(this.queryValue, scriptDocValues.getValue());
+        }
+    }
+
+    /**
+     * Scoring method of a script. The score is returned as a primitive, so that scoring a doc does not box it.
+     */
+    @FunctionalInterface
+    public interface ScoringMethod<T> {
+        float score(T queryValue, T inputValue);
+    }
+
+    /**
+     * Scoring method using the norm of the doc vector stored at index time instead of computing it from the vector.
+     */
+    @FunctionalInterface
+    public interface VectorNormScoringMethod {
+        float score(float[] queryVector, float[] inputVector, float inputNorm);
+    }
+
+    /**
+     * KNNVectors with float[] type whose norms were stored at index time. Docs indexed without a norm are scored with
+     * the regular scoring method.
+     */
+    public static class KNNVectorWithNormType extends KNNVectorType {
+        private final VectorNormScoringMethod normScoringMethod;
+        private final NumericDocValues vectorNorms;
+
+        public KNNVectorWithNormType(
+            Map<String, Object> params,
+            float[] queryValue,
+            String field,
+            ScoringMethod<float[]> scoringMethod,
+            VectorNormScoringMethod normScoringMethod,
+            NumericDocValues vectorNorms,
+            SearchLookup lookup,
+            LeafReaderContext leafContext,
+            IndexSearcher searcher
+        ) throws IOException {
+            super(params, queryValue, field, scoringMethod, lookup, leafContext, searcher);
+            this.normScoringMethod = normScoringMethod;
+            this.vectorNorms = vectorNorms;
+        }
+
+        @Override
+        public double execute(ScoreScript.ExplanationHolder explanationHolder) {
+            KNNVectorScriptDocValues scriptDocValues = getScriptDocValues();
+            if (scriptDocValues.isEmpty()) {
+                return 0.0;
+            }
+            final float inputNorm;
+            try {
+                inputNorm = KNNVectorNormUtil.readNorm(vectorNorms, _getDocId());
+            } catch (IOException e) {
+                throw ExceptionsHelper.convertToOpenSearchException(e);
+            }
+            if (inputNorm == KNNVectorNormUtil.NO_NORM) {
+                return this.scoringMethod.score(this.queryValue, scriptDocValues.getValue());
+            }
+            return normScoringMethod.score(this.queryValue, scriptDocValues.getValue(), inputNorm);
         }
     }
 }
@@ -7,8 +7,11 @@ package org.opensearch.knn.plugin.script;
 
 import lombok.Getter;
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NumericDocValues;
 import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.util.BytesRef;
 import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.knn.index.KNNVectorNormUtil;
 import org.opensearch.knn.index.SpaceType;
 import org.opensearch.knn.index.VectorDataType;
 import org.opensearch.knn.index.mapper.KNNVectorFieldMapperUtil;
@@ -18,19 +21,17 @@ import org.opensearch.script.ScoreScript;
 import org.opensearch.search.lookup.SearchLookup;
 
 import java.io.IOException;
-import java.math.BigInteger;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
-import java.util.function.BiFunction;
 
 import static org.opensearch.knn.plugin.script.KNNScoringSpaceUtil.getVectorMagnitudeSquared;
 import static org.opensearch.knn.plugin.script.KNNScoringSpaceUtil.isBinaryFieldType;
 import static org.opensearch.knn.plugin.script.KNNScoringSpaceUtil.isKNNVectorFieldType;
 import static org.opensearch.knn.plugin.script.KNNScoringSpaceUtil.isLongFieldType;
-import static org.opensearch.knn.plugin.script.KNNScoringSpaceUtil.parseToBigInteger;
 import static org.opensearch.knn.plugin.script.KNNScoringSpaceUtil.parseToFloatArray;
 import static org.opensearch.knn.plugin.script.KNNScoringSpaceUtil.parseToLong;
+import static org.opensearch.knn.plugin.script.KNNScoringSpaceUtil.parseToMagnitude;
 
 public interface KNNScoringSpace {
     /**
@@ -53,9 +54,9 @@ public interface KNNScoringSpace {
     abstract class KNNFieldSpace implements KNNScoringSpace {
         public static final Set<VectorDataType> DATA_TYPES_DEFAULT = Set.of(VectorDataType.FLOAT, VectorDataType.BYTE);
 
-        private float[] processedQuery;
+        protected float[] processedQuery;
         @Getter
-        private BiFunction<float[], float[], Float> scoringMethod;
+        private KNNScoreScript.ScoringMethod<float[]> scoringMethod;
 
         public KNNFieldSpace(final Object query, final MappedFieldType fieldType, final String spaceName) {
             this(query, fieldType, spaceName, DATA_TYPES_DEFAULT);
@@ -120,7 +121,7 @@ public interface KNNScoringSpace {
             );
         }
 
-        protected abstract BiFunction<float[], float[], Float> getScoringMethod(final float[] processedQuery);
+        protected abstract KNNScoreScript.ScoringMethod<float[]> getScoringMethod(final float[] processedQuery);
 
     }
 
@@ -130,7 +131,7 @@ public interface KNNScoringSpace {
         }
 
         @Override
-        public BiFunction<float[], float[], Float> getScoringMethod(final float[] processedQuery) {
+        public KNNScoreScript.ScoringMethod<float[]> getScoringMethod(final float[] processedQuery) {
             return (float[] q, float[] v) -> 1 / (1 + KNNScoringUtil.l2Squared(q, v));
         }
     }
@@ -141,11 +142,37 @@ public interface KNNScoringSpace {
         }
 
         @Override
-        protected BiFunction<float[], float[], Float> getScoringMethod(final float[] processedQuery) {
+        protected KNNScoreScript.ScoringMethod<float[]> getScoringMethod(final float[] processedQuery) {
             SpaceType.COSINESIMIL.validateVector(processedQuery);
             float qVectorSquaredMagnitude = getVectorMagnitudeSquared(processedQuery);
             return (float[] q, float[] v) -> 1 + KNNScoringUtil.cosinesimilOptimized(q, v, qVectorSquaredMagnitude);
         }
+
+        @Override
+        public ScoreScript getScoreScript(
+            Map<String, Object> params,
+            String field,
+            SearchLookup lookup,
+            LeafReaderContext ctx,
+            IndexSearcher searcher
+        ) throws IOException {
+            final NumericDocValues vectorNorms = KNNVectorNormUtil.getNorms(ctx.reader(), field);
+            if (vectorNorms == null) {
+                return super.getScoreScript(params, field, lookup, ctx, searcher);
+            }
+            final float queryNorm = KNNVectorNormUtil.computeNorm(this.processedQuery);
+            return new KNNScoreScript.KNNVectorWithNormType(
+                params,
+                this.processedQuery,
+                field,
+                getScoringMethod(),
+                (float[] q, float[] v, float vNorm) -> 1 + KNNScoringUtil.cosinesimilWithNorms(q, queryNorm, v, vNorm),
+                vectorNorms,
+                lookup,
+                ctx,
+                searcher
+            );
+        }
     }
 
     class L1 extends KNNFieldSpace {
@@ -154,7 +181,7 @@ public interface KNNScoringSpace {
         }
 
         @Override
-        protected BiFunction<float[], float[], Float> getScoringMethod(final float[] processedQuery) {
+        protected KNNScoreScript.ScoringMethod<float[]> getScoringMethod(final float[] processedQuery) {
             return (float[] q, float[] v) -> 1 / (1 + KNNScoringUtil.l1Norm(q, v));
         }
     }
@@ -165,7 +192,7 @@ public interface KNNScoringSpace {
         }
 
         @Override
-        protected BiFunction<float[], float[], Float> getScoringMethod(final float[] processedQuery) {
+        protected KNNScoreScript.ScoringMethod<float[]> getScoringMethod(final float[] processedQuery) {
             return (float[] q, float[] v) -> 1 / (1 + KNNScoringUtil.lInfNorm(q, v));
         }
     }
@@ -176,7 +203,7 @@ public interface KNNScoringSpace {
         }
 
         @Override
-        protected BiFunction<float[], float[], Float> getScoringMethod(final float[] processedQuery) {
+        protected KNNScoreScript.ScoringMethod<float[]> getScoringMethod(final float[] processedQuery) {
             return (float[] q, float[] v) -> KNNWeight.normalizeScore(-KNNScoringUtil.innerProduct(q, v));
         }
     }
@@ -189,9 +216,28 @@ public interface KNNScoringSpace {
         }
 
         @Override
-        protected BiFunction<float[], float[], Float> getScoringMethod(final float[] processedQuery) {
-            // TODO we want to avoid converting back and forth between byte and float
-            return (float[] q, float[] v) -> 1 / (1 + KNNScoringUtil.calculateHammingBit(toByte(q), toByte(v)));
+        protected KNNScoreScript.ScoringMethod<float[]> getScoringMethod(final float[] processedQuery) {
+            // The query is converted to bytes once, doc vectors are compared in place
+            final byte[] queryBytes = toByte(processedQuery);
+            return (float[] q, float[] v) -> 1 / (1 + calculateHammingBit(queryBytes, v));
+        }
+
+        private static float calculateHammingBit(final byte[] queryVector, final float[] inputVector) {
+            if (queryVector.length != inputVector.length) {
+                throw new IllegalArgumentException(
+                    String.format(
+                        Locale.ROOT,
+                        "query vector dimension mismatch. Expected: %d, Given: %d",
+                        inputVector.length,
+                        queryVector.length
+                    )
+                );
+            }
+            int distance = 0;
+            for (int i = 0; i < queryVector.length; i++) {
+                distance += Integer.bitCount((queryVector[i] ^ (byte) inputVector[i]) & 0xFF);
+            }
+            return distance;
         }
 
         private byte[] toByte(final float[] vector) {
@@ -204,9 +250,16 @@ public interface KNNScoringSpace {
     }
 
     class HammingBit implements KNNScoringSpace {
+        /**
+         * Optional script parameter for binary fields. Docs whose distance exceeds it score 0, which lets the distance
+         * computation stop as soon as the threshold is exceeded.
+         */
+        public static final String MAX_DISTANCE_PARAMETER = "max_distance";
 
+        // Long for long fields. For binary fields, the unsigned big-endian magnitude of the query, which is scored
+        // against the doc values bytes as is
         Object processedQuery;
-        BiFunction<?, ?, Float> scoringMethod;
+        KNNScoreScript.ScoringMethod<?> scoringMethod;
 
         /**
          * Constructor for HammingBit scoring space. HammingBit scoring space expects values to either be of type
@@ -220,8 +273,8 @@ public interface KNNScoringSpace {
                 this.processedQuery = parseToLong(query);
                 this.scoringMethod = (Long q, Long v) -> 1.0f / (1 + KNNScoringUtil.calculateHammingBit(q, v));
             } else if (isBinaryFieldType(fieldType)) {
-                this.processedQuery = parseToBigInteger(query);
-                this.scoringMethod = (BigInteger q, BigInteger v) -> 1.0f / (1 + KNNScoringUtil.calculateHammingBit(q, v));
+                this.processedQuery = parseToMagnitude(query);
+                this.scoringMethod = (BytesRef q, BytesRef v) -> 1.0f / (1 + KNNScoringUtil.calculateHammingBitOfMagnitudes(q, v));
             } else {
                 throw new IllegalArgumentException(
                     "Incompatible field_type for hammingbit space. The field type must of type long or binary."
@@ -242,22 +295,31 @@ public interface KNNScoringSpace {
                     params,
                     (Long) this.processedQuery,
                     field,
-                    (BiFunction<Long, Long, Float>) this.scoringMethod,
+                    (KNNScoreScript.ScoringMethod<Long>) this.scoringMethod,
                     lookup,
                     ctx,
                     searcher
                 );
             }
 
-            return new KNNScoreScript.BigIntegerType(
-                params,
-                (BigInteger) this.processedQuery,
-                field,
-                (BiFunction<BigInteger, BigInteger, Float>) this.scoringMethod,
-                lookup,
-                ctx,
-                searcher
-            );
+            final int maxDistance = getMaxDistance(params);
+            return new KNNScoreScript.BinaryType(params, (BytesRef) this.processedQuery, field, (BytesRef q, BytesRef v) -> {
+                final float distance = KNNScoringUtil.calculateHammingBitOfMagnitudes(q, v, maxDistance);
+                return distance > maxDistance ? 0.0f : 1.0f / (1 + distance);
+            }, lookup, ctx, searcher);
+        }
+
+        private static int getMaxDistance(final Map<String, Object> params) {
+            final Object maxDistance = params.get(MAX_DISTANCE_PARAMETER);
+            if (maxDistance == null) {
+                return Integer.MAX_VALUE;
+            }
+            if (maxDistance instanceof Number == false || ((Number) maxDistance).intValue() < 0) {
+                throw new IllegalArgumentException(
+                    String.format(Locale.ROOT, "[%s] must be a non-negative integer, got [%s]", MAX_DISTANCE_PARAMETER, maxDistance)
+                );
+            }
+            return ((Number) maxDistance).intValue();
         }
     }
 }
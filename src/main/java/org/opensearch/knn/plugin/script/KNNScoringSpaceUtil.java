@@ -6,6 +6,7 @@
 package org.opensearch.knn.plugin.script;
 
 import java.util.List;
+import org.apache.lucene.util.BytesRef;
 import org.opensearch.knn.index.VectorDataType;
 import org.opensearch.knn.index.mapper.KNNVectorFieldType;
 import org.opensearch.knn.plugin.stats.KNNCounter;
@@ -93,6 +94,18 @@ public class KNNScoringSpaceUtil {
         return new BigInteger(1, Base64.getDecoder().decode((String) object));
     }
 
+    /**
+     * Convert an Object to the unsigned big-endian magnitude of the BigInteger returned by
+     * {@link #parseToBigInteger(Object)}, without creating that BigInteger. Leading zero bytes are kept, which does not
+     * change the hamming distance between magnitudes.
+     *
+     * @param object Base64 encoded String
+     * @return BytesRef containing the bytes of decoded object
+     */
+    public static BytesRef parseToMagnitude(Object object) {
+        return new BytesRef(Base64.getDecoder().decode((String) object));
+    }
+
     /**
      * Convert an Object to a float array.
      *
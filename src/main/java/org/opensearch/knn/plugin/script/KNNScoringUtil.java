@@ -9,8 +9,11 @@ import java.math.BigInteger;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
+import java.util.function.BiFunction;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.lucene.util.BitUtil;
+import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.VectorUtil;
 import org.opensearch.knn.index.KNNVectorScriptDocValues;
 import org.opensearch.knn.index.SpaceType;
@@ -20,6 +23,17 @@ import static org.opensearch.knn.common.KNNValidationUtil.validateByteVectorValu
 
 public class KNNScoringUtil {
     private static Logger logger = LogManager.getLogger(KNNScoringUtil.class);
+    private static final int UNROLL_FACTOR = 4;
+
+    // Query vector converters of the painless functions. They are constants so that doc values convert the query vector
+    // once per leaf, see KNNVectorScriptDocValues#getQueryVector
+    private static final BiFunction<List<Number>, VectorDataType, float[]> FLOAT_QUERY_CONVERTER = KNNScoringUtil::toFloat;
+    private static final BiFunction<List<Number>, VectorDataType, float[]> COSINE_QUERY_CONVERTER = (queryVector, vectorDataType) -> {
+        float[] inputVector = toFloat(queryVector, vectorDataType);
+        SpaceType.COSINESIMIL.validateVector(inputVector);
+        return inputVector;
+    };
+    private static final BiFunction<List<Number>, VectorDataType, byte[]> BYTE_QUERY_CONVERTER = KNNScoringUtil::toByte;
 
     /**
      * checks both query vector and input vector has equal dimension
@@ -155,12 +169,9 @@ public class KNNScoringUtil {
      */
     public static float cosinesimilOptimized(float[] queryVector, float[] inputVector, float normQueryVector) {
         requireEqualDimension(queryVector, inputVector);
-        float dotProduct = 0.0f;
-        float normInputVector = 0.0f;
-        for (int i = 0; i < queryVector.length; i++) {
-            dotProduct += queryVector[i] * inputVector[i];
-            normInputVector += inputVector[i] * inputVector[i];
-        }
+        // Two vectorized passes are cheaper than a single scalar pass computing both sums
+        float dotProduct = VectorUtil.dotProduct(queryVector, inputVector);
+        float normInputVector = VectorUtil.dotProduct(inputVector, inputVector);
         float normalizedProduct = normQueryVector * normInputVector;
         if (normalizedProduct == 0) {
             logger.debug("Invalid vectors for cosine. Returning minimum score to put this result to end");
@@ -169,6 +180,26 @@ public class KNNScoringUtil {
         return (float) (dotProduct / (Math.sqrt(normalizedProduct)));
     }
 
+    /**
+     * This method calculates cosine similarity from the norms of both vectors, computed ahead of time, so that only
+     * the dot product is computed per document.
+     *
+     * @param queryVector query vector
+     * @param queryNorm   norm of the query vector
+     * @param inputVector input vector
+     * @param inputNorm   norm of the input vector
+     * @return cosine score
+     */
+    public static float cosinesimilWithNorms(float[] queryVector, float queryNorm, float[] inputVector, float inputNorm) {
+        requireEqualDimension(queryVector, inputVector);
+        float normalizedProduct = queryNorm * inputNorm;
+        if (normalizedProduct == 0) {
+            logger.debug("Invalid vectors for cosine. Returning minimum score to put this result to end");
+            return 0.0f;
+        }
+        return VectorUtil.dotProduct(queryVector, inputVector) / normalizedProduct;
+    }
+
     /**
      * This method calculates hamming distance on 2 BigIntegers
      *
@@ -204,6 +235,53 @@ public class KNNScoringUtil {
         return VectorUtil.xorBitCount(queryVector, inputVector);
     }
 
+    /**
+     * This method calculates hamming distance between 2 unsigned big-endian magnitudes of possibly different lengths,
+     * the same as {@link #calculateHammingBit(BigInteger, BigInteger)} on the BigIntegers of these magnitudes but without
+     * creating them.
+     *
+     * @param queryMagnitude query magnitude
+     * @param inputMagnitude input magnitude
+     * @return hamming distance
+     */
+    public static float calculateHammingBitOfMagnitudes(BytesRef queryMagnitude, BytesRef inputMagnitude) {
+        return calculateHammingBitOfMagnitudes(queryMagnitude, inputMagnitude, Integer.MAX_VALUE);
+    }
+
+    /**
+     * This method calculates hamming distance between 2 unsigned big-endian magnitudes of possibly different lengths, and
+     * stops counting once the distance exceeds maxDistance.
+     *
+     * @param queryMagnitude query magnitude
+     * @param inputMagnitude input magnitude
+     * @param maxDistance    distance above which counting stops
+     * @return hamming distance, or a value greater than maxDistance if the distance exceeds it
+     */
+    public static float calculateHammingBitOfMagnitudes(BytesRef queryMagnitude, BytesRef inputMagnitude, int maxDistance) {
+        final BytesRef longer = queryMagnitude.length >= inputMagnitude.length ? queryMagnitude : inputMagnitude;
+        final BytesRef shorter = longer == queryMagnitude ? inputMagnitude : queryMagnitude;
+        final int leadingBytes = longer.length - shorter.length;
+        int distance = 0;
+        // Bytes of the longer magnitude without counterpart are xor-ed with zeros
+        for (int i = 0; i < leadingBytes; i++) {
+            distance += Integer.bitCount(longer.bytes[longer.offset + i] & 0xFF);
+        }
+        final int longerOffset = longer.offset + leadingBytes;
+        int i = 0;
+        for (final int bound = shorter.length & ~(Long.BYTES - 1); i < bound; i += Long.BYTES) {
+            final long longerBits = (long) BitUtil.VH_LE_LONG.get(longer.bytes, longerOffset + i);
+            final long shorterBits = (long) BitUtil.VH_LE_LONG.get(shorter.bytes, shorter.offset + i);
+            distance += Long.bitCount(longerBits ^ shorterBits);
+            if (distance > maxDistance) {
+                return distance;
+            }
+        }
+        for (; i < shorter.length; i++) {
+            distance += Integer.bitCount((longer.bytes[longerOffset + i] ^ shorter.bytes[shorter.offset + i]) & 0xFF);
+        }
+        return distance;
+    }
+
     /**
      * This method calculates L1 distance between query vector
      * and input vector
@@ -214,12 +292,24 @@ public class KNNScoringUtil {
      */
     public static float l1Norm(float[] queryVector, float[] inputVector) {
         requireEqualDimension(queryVector, inputVector);
-        float distance = 0;
-        for (int i = 0; i < inputVector.length; i++) {
-            float diff = queryVector[i] - inputVector[i];
-            distance += Math.abs(diff);
+        // Scalar loop unrolled with independent accumulators, which shortens the dependency chain between iterations.
+        // Unlike cosine and inner product, Lucene's VectorUtil has no L1 or L-inf kernel to delegate to, so these two
+        // are not vectorized.
+        float distance0 = 0;
+        float distance1 = 0;
+        float distance2 = 0;
+        float distance3 = 0;
+        int i = 0;
+        for (int bound = inputVector.length & ~(UNROLL_FACTOR - 1); i < bound; i += UNROLL_FACTOR) {
+            distance0 += Math.abs(queryVector[i] - inputVector[i]);
+            distance1 += Math.abs(queryVector[i + 1] - inputVector[i + 1]);
+            distance2 += Math.abs(queryVector[i + 2] - inputVector[i + 2]);
+            distance3 += Math.abs(queryVector[i + 3] - inputVector[i + 3]);
         }
-        return distance;
+        for (; i < inputVector.length; i++) {
+            distance0 += Math.abs(queryVector[i] - inputVector[i]);
+        }
+        return distance0 + distance1 + distance2 + distance3;
     }
 
     /**
@@ -232,12 +322,21 @@ public class KNNScoringUtil {
      */
     public static float lInfNorm(float[] queryVector, float[] inputVector) {
         requireEqualDimension(queryVector, inputVector);
-        float distance = 0;
-        for (int i = 0; i < inputVector.length; i++) {
-            float diff = queryVector[i] - inputVector[i];
-            distance = Math.max(Math.abs(diff), distance);
+        float distance0 = 0;
+        float distance1 = 0;
+        float distance2 = 0;
+        float distance3 = 0;
+        int i = 0;
+        for (int bound = inputVector.length & ~(UNROLL_FACTOR - 1); i < bound; i += UNROLL_FACTOR) {
+            distance0 = Math.max(Math.abs(queryVector[i] - inputVector[i]), distance0);
+            distance1 = Math.max(Math.abs(queryVector[i + 1] - inputVector[i + 1]), distance1);
+            distance2 = Math.max(Math.abs(queryVector[i + 2] - inputVector[i + 2]), distance2);
+            distance3 = Math.max(Math.abs(queryVector[i + 3] - inputVector[i + 3]), distance3);
         }
-        return distance;
+        for (; i < inputVector.length; i++) {
+            distance0 = Math.max(Math.abs(queryVector[i] - inputVector[i]), distance0);
+        }
+        return Math.max(Math.max(distance0, distance1), Math.max(distance2, distance3));
     }
 
     /**
@@ -277,7 +376,7 @@ public class KNNScoringUtil {
      */
     public static float l2Squared(List<Number> queryVector, KNNVectorScriptDocValues docValues) {
         requireNonBinaryType("l2Squared", docValues.getVectorDataType());
-        return l2Squared(toFloat(queryVector, docValues.getVectorDataType()), docValues.getValue());
+        return l2Squared(docValues.getQueryVector(queryVector, FLOAT_QUERY_CONVERTER), docValues.getValue());
     }
 
     /**
@@ -298,7 +397,7 @@ public class KNNScoringUtil {
      */
     public static float lInfNorm(List<Number> queryVector, KNNVectorScriptDocValues docValues) {
         requireNonBinaryType("lInfNorm", docValues.getVectorDataType());
-        return lInfNorm(toFloat(queryVector, docValues.getVectorDataType()), docValues.getValue());
+        return lInfNorm(docValues.getQueryVector(queryVector, FLOAT_QUERY_CONVERTER), docValues.getValue());
     }
 
     /**
@@ -319,7 +418,7 @@ public class KNNScoringUtil {
      */
     public static float l1Norm(List<Number> queryVector, KNNVectorScriptDocValues docValues) {
         requireNonBinaryType("l1Norm", docValues.getVectorDataType());
-        return l1Norm(toFloat(queryVector, docValues.getVectorDataType()), docValues.getValue());
+        return l1Norm(docValues.getQueryVector(queryVector, FLOAT_QUERY_CONVERTER), docValues.getValue());
     }
 
     /**
@@ -340,7 +439,7 @@ public class KNNScoringUtil {
      */
     public static float innerProduct(List<Number> queryVector, KNNVectorScriptDocValues docValues) {
         requireNonBinaryType("innerProduct", docValues.getVectorDataType());
-        return innerProduct(toFloat(queryVector, docValues.getVectorDataType()), docValues.getValue());
+        return innerProduct(docValues.getQueryVector(queryVector, FLOAT_QUERY_CONVERTER), docValues.getValue());
     }
 
     /**
@@ -361,9 +460,7 @@ public class KNNScoringUtil {
      */
     public static float cosineSimilarity(List<Number> queryVector, KNNVectorScriptDocValues docValues) {
         requireNonBinaryType("cosineSimilarity", docValues.getVectorDataType());
-        float[] inputVector = toFloat(queryVector, docValues.getVectorDataType());
-        SpaceType.COSINESIMIL.validateVector(inputVector);
-        return cosinesimil(inputVector, docValues.getValue());
+        return cosinesimil(docValues.getQueryVector(queryVector, COSINE_QUERY_CONVERTER), docValues.getValue());
     }
 
     /**
@@ -385,9 +482,11 @@ public class KNNScoringUtil {
      */
     public static float cosineSimilarity(List<Number> queryVector, KNNVectorScriptDocValues docValues, Number queryVectorMagnitude) {
         requireNonBinaryType("cosineSimilarity", docValues.getVectorDataType());
-        float[] inputVector = toFloat(queryVector, docValues.getVectorDataType());
-        SpaceType.COSINESIMIL.validateVector(inputVector);
-        return cosinesimilOptimized(inputVector, docValues.getValue(), queryVectorMagnitude.floatValue());
+        return cosinesimilOptimized(
+            docValues.getQueryVector(queryVector, COSINE_QUERY_CONVERTER),
+            docValues.getValue(),
+            queryVectorMagnitude.floatValue()
+        );
     }
 
     /**
@@ -408,15 +507,6 @@ public class KNNScoringUtil {
      */
     public static float hamming(List<Number> queryVector, KNNVectorScriptDocValues docValues) {
         requireBinaryType("hamming", docValues.getVectorDataType());
-        byte[] queryVectorInByte = toByte(queryVector, docValues.getVectorDataType());
-
-        // TODO Optimization need be done for doc value to return byte[] instead of float[]
-        float[] docVectorInFloat = docValues.getValue();
-        byte[] docVectorInByte = new byte[docVectorInFloat.length];
-        for (int i = 0; i < docVectorInByte.length; i++) {
-            docVectorInByte[i] = (byte) docVectorInFloat[i];
-        }
-
-        return calculateHammingBit(queryVectorInByte, docVectorInByte);
+        return calculateHammingBit(docValues.getQueryVector(queryVector, BYTE_QUERY_CONVERTER), docValues.getByteValue());
     }
 }
@@ -14,13 +14,20 @@ public enum KNNGraphValue {
 
     REFRESH_TOTAL_OPERATIONS("total"),
     REFRESH_TOTAL_TIME_IN_MILLIS("total_time_in_millis"),
+    REFRESH_DEFERRED_OPERATIONS("deferred"),
+    REFRESH_DEFERRED_GRAPH_BUILD_OPERATIONS("deferred_graph_builds"),
+    REFRESH_TOTAL_QUANTIZATION_TRAINING_TIME_IN_MILLIS("total_quantization_training_time_in_millis"),
     MERGE_CURRENT_OPERATIONS("current"),
     MERGE_CURRENT_DOCS("current_docs"),
     MERGE_CURRENT_SIZE_IN_BYTES("current_size_in_bytes"),
     MERGE_TOTAL_OPERATIONS("total"),
     MERGE_TOTAL_TIME_IN_MILLIS("total_time_in_millis"),
     MERGE_TOTAL_DOCS("total_docs"),
-    MERGE_TOTAL_SIZE_IN_BYTES("total_size_in_bytes");
+    MERGE_TOTAL_SIZE_IN_BYTES("total_size_in_bytes"),
+    MERGE_TOTAL_ESTIMATED_GRAPH_SIZE_IN_BYTES("total_estimated_graph_size_in_bytes"),
+    MERGE_TOTAL_GRAPH_SIZE_IN_BYTES("total_graph_size_in_bytes"),
+    MERGE_TOTAL_THROTTLED_OPERATIONS("total_throttled"),
+    MERGE_TOTAL_QUANTIZATION_TRAINING_TIME_IN_MILLIS("total_quantization_training_time_in_millis");
 
     private String name;
     private AtomicLong value;
@@ -210,9 +210,28 @@ public class KNNStats {
         mergeMap.put(KNNGraphValue.MERGE_TOTAL_TIME_IN_MILLIS.getName(), KNNGraphValue.MERGE_TOTAL_TIME_IN_MILLIS.getValue());
         mergeMap.put(KNNGraphValue.MERGE_TOTAL_DOCS.getName(), KNNGraphValue.MERGE_TOTAL_DOCS.getValue());
         mergeMap.put(KNNGraphValue.MERGE_TOTAL_SIZE_IN_BYTES.getName(), KNNGraphValue.MERGE_TOTAL_SIZE_IN_BYTES.getValue());
+        mergeMap.put(
+            KNNGraphValue.MERGE_TOTAL_ESTIMATED_GRAPH_SIZE_IN_BYTES.getName(),
+            KNNGraphValue.MERGE_TOTAL_ESTIMATED_GRAPH_SIZE_IN_BYTES.getValue()
+        );
+        mergeMap.put(KNNGraphValue.MERGE_TOTAL_GRAPH_SIZE_IN_BYTES.getName(), KNNGraphValue.MERGE_TOTAL_GRAPH_SIZE_IN_BYTES.getValue());
+        mergeMap.put(KNNGraphValue.MERGE_TOTAL_THROTTLED_OPERATIONS.getName(), KNNGraphValue.MERGE_TOTAL_THROTTLED_OPERATIONS.getValue());
+        mergeMap.put(
+            KNNGraphValue.MERGE_TOTAL_QUANTIZATION_TRAINING_TIME_IN_MILLIS.getName(),
+            KNNGraphValue.MERGE_TOTAL_QUANTIZATION_TRAINING_TIME_IN_MILLIS.getValue()
+        );
         Map<String, Object> refreshMap = new HashMap<>();
         refreshMap.put(KNNGraphValue.REFRESH_TOTAL_OPERATIONS.getName(), KNNGraphValue.REFRESH_TOTAL_OPERATIONS.getValue());
         refreshMap.put(KNNGraphValue.REFRESH_TOTAL_TIME_IN_MILLIS.getName(), KNNGraphValue.REFRESH_TOTAL_TIME_IN_MILLIS.getValue());
+        refreshMap.put(KNNGraphValue.REFRESH_DEFERRED_OPERATIONS.getName(), KNNGraphValue.REFRESH_DEFERRED_OPERATIONS.getValue());
+        refreshMap.put(
+            KNNGraphValue.REFRESH_DEFERRED_GRAPH_BUILD_OPERATIONS.getName(),
+            KNNGraphValue.REFRESH_DEFERRED_GRAPH_BUILD_OPERATIONS.getValue()
+        );
+        refreshMap.put(
+            KNNGraphValue.REFRESH_TOTAL_QUANTIZATION_TRAINING_TIME_IN_MILLIS.getName(),
+            KNNGraphValue.REFRESH_TOTAL_QUANTIZATION_TRAINING_TIME_IN_MILLIS.getValue()
+        );
         Map<String, Map<String, Object>> graphStatsMap = new HashMap<>();
         graphStatsMap.put(StatNames.MERGE.getName(), mergeMap);
         graphStatsMap.put(StatNames.REFRESH.getName(), refreshMap);
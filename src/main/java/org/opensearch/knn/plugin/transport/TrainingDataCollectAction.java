@@ -0,0 +1,28 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.plugin.transport;
+
+import org.opensearch.action.ActionType;
+import org.opensearch.core.common.io.stream.Writeable;
+
+/**
+ * Action to collect training vectors directly from the shards of an index. It is an index read action, so that the
+ * index permissions and document level security of the caller apply to the shards it reads, as they do to a search.
+ */
+public class TrainingDataCollectAction extends ActionType<TrainingDataCollectResponse> {
+
+    public static final TrainingDataCollectAction INSTANCE = new TrainingDataCollectAction();
+    public static final String NAME = "indices:data/read/knn/training_data_collect";
+
+    private TrainingDataCollectAction() {
+        super(NAME, TrainingDataCollectResponse::new);
+    }
+
+    @Override
+    public Writeable.Reader<TrainingDataCollectResponse> getResponseReader() {
+        return TrainingDataCollectResponse::new;
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.plugin.transport;
+
+import lombok.Getter;
+import org.opensearch.action.support.broadcast.BroadcastRequest;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.index.seqno.SequenceNumbers;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Request to collect training vectors from the shards of an index. Shards return their vectors in the order of their
+ * sampling keys, a mix of the sequence number of each doc with the seed of the collection, so that every round is a
+ * random sample of the shard. Each shard resumes from its cursor, the last sampling key the previous round of the shard
+ * returned, and returns at most limit vectors, fewer if they do not fit in limitInBytes, so that vectors can be collected
+ * in rounds of bounded size without reading the shard from its start again. Sequence numbers do not change when segments
+ * are merged, unlike doc ids, so a vector is not collected twice across rounds.
+ */
+@Getter
+public class TrainingDataCollectRequest extends BroadcastRequest<TrainingDataCollectRequest> {
+
+    private final String fieldName;
+    private final Map<Integer, Long> shardCursors;
+    private final int limit;
+    private final long limitInBytes;
+    private final long seed;
+
+    /**
+     * Constructor
+     *
+     * @param in input stream
+     * @throws IOException if read from stream fails
+     */
+    public TrainingDataCollectRequest(StreamInput in) throws IOException {
+        super(in);
+        this.fieldName = in.readString();
+        this.shardCursors = in.readMap(StreamInput::readVInt, StreamInput::readZLong);
+        this.limit = in.readVInt();
+        this.limitInBytes = in.readVLong();
+        this.seed = in.readLong();
+    }
+
+    /**
+     * Constructor
+     *
+     * @param indexName name of the index containing the vectors
+     * @param fieldName name of the field containing the vectors
+     * @param shardCursors sampling key to resume after for each shard id, shards that are missing are read from their start
+     * @param limit maximum number of vectors to return from each shard
+     * @param limitInBytes maximum size in bytes of the vectors to return from each shard
+     * @param seed seed of the sampling keys, the same for all the rounds of a collection
+     */
+    public TrainingDataCollectRequest(
+        String indexName,
+        String fieldName,
+        Map<Integer, Long> shardCursors,
+        int limit,
+        long limitInBytes,
+        long seed
+    ) {
+        super(indexName);
+        this.fieldName = fieldName;
+        this.shardCursors = shardCursors;
+        this.limit = limit;
+        this.limitInBytes = limitInBytes;
+        this.seed = seed;
+    }
+
+    /**
+     * @param shardId id of the shard
+     * @return sampling key the shard resumes after, {@link SequenceNumbers#NO_OPS_PERFORMED} to read it from its start
+     */
+    public long getShardCursor(int shardId) {
+        return shardCursors.getOrDefault(shardId, SequenceNumbers.NO_OPS_PERFORMED);
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeString(fieldName);
+        out.writeMap(shardCursors, StreamOutput::writeVInt, StreamOutput::writeZLong);
+        out.writeVInt(limit);
+        out.writeVLong(limitInBytes);
+        out.writeLong(seed);
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.plugin.transport;
+
+import lombok.Getter;
+import org.opensearch.action.support.broadcast.BroadcastResponse;
+import org.opensearch.core.action.support.DefaultShardOperationFailedException;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Response containing the training vectors collected from each shard
+ */
+public class TrainingDataCollectResponse extends BroadcastResponse {
+
+    @Getter
+    private final List<TrainingDataCollectShardResult> shardResults;
+
+    /**
+     * Constructor
+     *
+     * @param in input stream
+     * @throws IOException if read from stream fails
+     */
+    public TrainingDataCollectResponse(StreamInput in) throws IOException {
+        super(in);
+        this.shardResults = in.readList(TrainingDataCollectShardResult::new);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param totalShards total number of shards on which the collection was performed
+     * @param successfulShards number of shards that succeeded
+     * @param failedShards number of shards that failed
+     * @param shardFailures list of shard failure exceptions
+     * @param shardResults vectors collected from each successful shard
+     */
+    public TrainingDataCollectResponse(
+        int totalShards,
+        int successfulShards,
+        int failedShards,
+        List<DefaultShardOperationFailedException> shardFailures,
+        List<TrainingDataCollectShardResult> shardResults
+    ) {
+        super(totalShards, successfulShards, failedShards, shardFailures);
+        this.shardResults = shardResults;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeList(shardResults);
+    }
+}
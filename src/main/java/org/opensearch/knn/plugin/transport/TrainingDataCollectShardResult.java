@@ -0,0 +1,146 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.plugin.transport;
+
+import lombok.Getter;
+import org.apache.lucene.util.ArrayUtil;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.index.seqno.SequenceNumbers;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Training vectors collected from one shard. Vectors are kept packed one after the other in a single primitive array,
+ * floats for float vectors and bytes for byte and binary vectors, so that they are transferred without per vector
+ * overhead.
+ */
+public class TrainingDataCollectShardResult implements Writeable {
+
+    @Getter
+    private final int shardId;
+    private final boolean floatVectors;
+    @Getter
+    private int dimension;
+    @Getter
+    private int count;
+    @Getter
+    private boolean hasMore;
+    /**
+     * Sampling key the next round of the shard resumes after, the sampling key of the last collected vector.
+     */
+    @Getter
+    private long cursor = SequenceNumbers.NO_OPS_PERFORMED;
+    private float[] packedFloats;
+    private byte[] packedBytes;
+
+    /**
+     * Constructor
+     *
+     * @param shardId id of the shard the vectors are collected from
+     * @param floatVectors true if the collected vectors are float vectors, false for byte and binary vectors
+     */
+    public TrainingDataCollectShardResult(int shardId, boolean floatVectors) {
+        this.shardId = shardId;
+        this.floatVectors = floatVectors;
+        this.packedFloats = floatVectors ? new float[0] : null;
+        this.packedBytes = floatVectors ? null : new byte[0];
+    }
+
+    /**
+     * Constructor
+     *
+     * @param in input stream
+     * @throws IOException if read from stream fails
+     */
+    public TrainingDataCollectShardResult(StreamInput in) throws IOException {
+        this.shardId = in.readVInt();
+        this.floatVectors = in.readBoolean();
+        this.dimension = in.readVInt();
+        this.count = in.readVInt();
+        this.hasMore = in.readBoolean();
+        this.cursor = in.readZLong();
+        if (floatVectors) {
+            this.packedFloats = in.readFloatArray();
+        } else {
+            this.packedBytes = in.readByteArray();
+        }
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVInt(shardId);
+        out.writeBoolean(floatVectors);
+        out.writeVInt(dimension);
+        out.writeVInt(count);
+        out.writeBoolean(hasMore);
+        out.writeZLong(cursor);
+        if (floatVectors) {
+            out.writeFloatArray(Arrays.copyOf(packedFloats, count * dimension));
+        } else {
+            out.writeByteArray(Arrays.copyOf(packedBytes, count * dimension));
+        }
+    }
+
+    /**
+     * Appends a vector to the result.
+     *
+     * @param vector float[] for float vectors, byte[] for byte and binary vectors
+     */
+    void add(Object vector) {
+        int length = floatVectors ? ((float[]) vector).length : ((byte[]) vector).length;
+        if (count == 0) {
+            dimension = length;
+        } else if (length != dimension) {
+            throw new IllegalStateException(String.format(Locale.ROOT, "Expected vectors of dimension %d but got %d", dimension, length));
+        }
+
+        int offset = count * dimension;
+        if (floatVectors) {
+            packedFloats = ArrayUtil.grow(packedFloats, offset + dimension);
+            System.arraycopy(vector, 0, packedFloats, offset, dimension);
+        } else {
+            packedBytes = ArrayUtil.grow(packedBytes, offset + dimension);
+            System.arraycopy(vector, 0, packedBytes, offset, dimension);
+        }
+        count++;
+    }
+
+    /**
+     * Marks that the shard has more vectors than the ones collected.
+     *
+     * @param cursor sampling key of the last collected vector
+     */
+    void markHasMore(long cursor) {
+        this.hasMore = true;
+        this.cursor = cursor;
+    }
+
+    /**
+     * Unpacks the collected vectors.
+     *
+     * @param maxVectors maximum number of vectors to return
+     * @return list of float[] for float vectors, byte[] for byte and binary vectors
+     */
+    public List<?> getVectors(int maxVectors) {
+        int vectorsToReturn = Math.min(maxVectors, count);
+        List<Object> vectors = new ArrayList<>(vectorsToReturn);
+        for (int i = 0; i < vectorsToReturn; i++) {
+            int from = i * dimension;
+            if (floatVectors) {
+                vectors.add(Arrays.copyOfRange(packedFloats, from, from + dimension));
+            } else {
+                vectors.add(Arrays.copyOfRange(packedBytes, from, from + dimension));
+            }
+        }
+        return vectors;
+    }
+}
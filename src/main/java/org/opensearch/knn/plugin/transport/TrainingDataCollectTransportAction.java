@@ -0,0 +1,344 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.plugin.transport;
+
+import com.google.common.annotations.VisibleForTesting;
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.index.ReaderUtil;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.FieldExistsQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.SimpleCollector;
+import org.apache.lucene.util.PriorityQueue;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.broadcast.node.TransportBroadcastByNodeAction;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.block.ClusterBlockException;
+import org.opensearch.cluster.block.ClusterBlockLevel;
+import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
+import org.opensearch.cluster.routing.ShardRouting;
+import org.opensearch.cluster.routing.ShardsIterator;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.core.action.support.DefaultShardOperationFailedException;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.index.engine.Engine;
+import org.opensearch.index.mapper.SeqNoFieldMapper;
+import org.opensearch.index.seqno.SequenceNumbers;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.indices.IndicesService;
+import org.opensearch.knn.common.FieldInfoExtractor;
+import org.opensearch.knn.index.VectorDataType;
+import org.opensearch.knn.index.vectorvalues.KNNVectorValues;
+import org.opensearch.knn.index.vectorvalues.KNNVectorValuesFactory;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Transport Action to collect training vectors directly from the vector values of each primary shard of an index.
+ * TransportBroadcastByNodeAction distributes the request to the nodes holding the shards, so that shards are read in
+ * parallel and only the packed vectors are sent back to the training node, instead of parsing the source of every hit.
+ * Shards are read through the searcher of the shard, which applies the document level security of the caller like a
+ * search does.
+ */
+public class TrainingDataCollectTransportAction extends TransportBroadcastByNodeAction<
+    TrainingDataCollectRequest,
+    TrainingDataCollectResponse,
+    TrainingDataCollectShardResult> {
+
+    private final IndicesService indicesService;
+
+    /**
+     * Constructor
+     *
+     * @param clusterService ClusterService
+     * @param transportService TransportService
+     * @param actionFilters ActionFilters
+     * @param indexNameExpressionResolver IndexNameExpressionResolver
+     * @param indicesService IndicesService
+     */
+    @Inject
+    public TrainingDataCollectTransportAction(
+        ClusterService clusterService,
+        TransportService transportService,
+        ActionFilters actionFilters,
+        IndexNameExpressionResolver indexNameExpressionResolver,
+        IndicesService indicesService
+    ) {
+        super(
+            TrainingDataCollectAction.NAME,
+            clusterService,
+            transportService,
+            actionFilters,
+            indexNameExpressionResolver,
+            TrainingDataCollectRequest::new,
+            ThreadPool.Names.SEARCH
+        );
+        this.indicesService = indicesService;
+    }
+
+    @Override
+    protected TrainingDataCollectShardResult readShardResult(StreamInput in) throws IOException {
+        return new TrainingDataCollectShardResult(in);
+    }
+
+    @Override
+    protected TrainingDataCollectResponse newResponse(
+        TrainingDataCollectRequest request,
+        int totalShards,
+        int successfulShards,
+        int failedShards,
+        List<TrainingDataCollectShardResult> shardResults,
+        List<DefaultShardOperationFailedException> shardFailures,
+        ClusterState clusterState
+    ) {
+        return new TrainingDataCollectResponse(totalShards, successfulShards, failedShards, shardFailures, shardResults);
+    }
+
+    @Override
+    protected TrainingDataCollectRequest readRequestFrom(StreamInput in) throws IOException {
+        return new TrainingDataCollectRequest(in);
+    }
+
+    @Override
+    protected TrainingDataCollectShardResult shardOperation(TrainingDataCollectRequest request, ShardRouting shardRouting)
+        throws IOException {
+        IndexShard indexShard = indicesService.indexServiceSafe(shardRouting.shardId().getIndex()).getShard(shardRouting.shardId().id());
+        try (Engine.Searcher searcher = indexShard.acquireSearcher("knn-training-data-collect")) {
+            return collectVectors(
+                shardRouting.shardId().id(),
+                searcher,
+                request.getFieldName(),
+                request.getSeed(),
+                request.getShardCursor(shardRouting.shardId().id()),
+                request.getLimit(),
+                request.getLimitInBytes()
+            );
+        }
+    }
+
+    /**
+     * Reads the live vectors of a field in a pseudo random order, after the cursor of the shard, returning at most limit
+     * vectors. The order is given by the sampling key of each doc, a mix of its sequence number with the seed of the
+     * collection, so that every round is a uniform sample of the vectors the previous rounds did not return, and the first
+     * round is not made of the oldest docs of the shard. Sequence numbers are not changed by merges, so a round neither
+     * reads again the vectors of the previous rounds nor skips vectors when the segments of the shard were merged in
+     * between. Nested docs share the sequence number, hence the sampling key, of their parent, so a round ends before a
+     * parent whose nested vectors do not all fit in it. Only a parent with more nested vectors than the limit is partly
+     * collected. The limit is lowered to the number of vectors that fit in limitInBytes, so that the size of a round does
+     * not grow with the dimension of the vectors.
+     *
+     * @param shardId id of the shard
+     * @param searcher searcher of the shard
+     * @param fieldName name of the field containing the vectors
+     * @param seed seed of the collection, the same for all of its rounds
+     * @param cursor sampling key of the shard to resume after
+     * @param limit maximum number of vectors to return
+     * @param limitInBytes maximum size in bytes of the vectors to return, at least one vector is returned
+     * @return {@link TrainingDataCollectShardResult}
+     * @throws IOException if the vectors cannot be read
+     */
+    @VisibleForTesting
+    static TrainingDataCollectShardResult collectVectors(
+        int shardId,
+        IndexSearcher searcher,
+        String fieldName,
+        long seed,
+        long cursor,
+        int limit,
+        long limitInBytes
+    ) throws IOException {
+        limit = Math.min(limit, vectorsWithin(searcher, fieldName, limitInBytes));
+        // One more doc than the limit tells whether the shard has more vectors
+        SampledDocs sampledDocs = new SampledDocs(seed, cursor, limit + 1);
+        searcher.search(new FieldExistsQuery(fieldName), sampledDocs);
+        SampledDoc[] docs = sampledDocs.sortedByKey();
+        boolean hasMore = docs.length > limit;
+        if (hasMore) {
+            // The nested docs of a parent are not split across rounds, unless they do not fit in a single round
+            long nextKey = docs[limit].key;
+            int end = limit;
+            while (end > 0 && docs[end - 1].key == nextKey) {
+                end--;
+            }
+            docs = Arrays.copyOf(docs, end == 0 ? limit : end);
+        }
+        if (docs.length == 0) {
+            return new TrainingDataCollectShardResult(shardId, true);
+        }
+        long lastKey = docs[docs.length - 1].key;
+
+        // Vectors are read in doc id order, so that the vector values of each segment only move forward
+        Arrays.sort(docs, Comparator.comparingInt(doc -> doc.doc));
+        List<LeafReaderContext> leaves = searcher.getIndexReader().leaves();
+        TrainingDataCollectShardResult result = null;
+        LeafReaderContext leafReaderContext = null;
+        KNNVectorValues<?> vectorValues = null;
+        for (SampledDoc sampledDoc : docs) {
+            if (leafReaderContext == null || sampledDoc.doc >= leafReaderContext.docBase + leafReaderContext.reader().maxDoc()) {
+                leafReaderContext = leaves.get(ReaderUtil.subIndex(sampledDoc.doc, leaves));
+                LeafReader leafReader = leafReaderContext.reader();
+                FieldInfo fieldInfo = leafReader.getFieldInfos().fieldInfo(fieldName);
+                vectorValues = KNNVectorValuesFactory.getVectorValues(fieldInfo, leafReader);
+                if (result == null) {
+                    result = new TrainingDataCollectShardResult(
+                        shardId,
+                        FieldInfoExtractor.extractVectorDataType(fieldInfo) == VectorDataType.FLOAT
+                    );
+                }
+            }
+            vectorValues.advance(sampledDoc.doc - leafReaderContext.docBase);
+            result.add(vectorValues.getVector());
+        }
+        if (hasMore) {
+            result.markHasMore(lastKey);
+        }
+        return result;
+    }
+
+    /**
+     * Number of vectors of a field that fit in a size, from the size of the first vector of the field. All the vectors of a
+     * field have the same size, its dimension times the size of an element.
+     *
+     * @param searcher searcher of the shard
+     * @param fieldName name of the field containing the vectors
+     * @param limitInBytes size the vectors must fit in
+     * @return number of vectors, at least one so that every round makes progress
+     * @throws IOException if the vectors cannot be read
+     */
+    private static int vectorsWithin(IndexSearcher searcher, String fieldName, long limitInBytes) throws IOException {
+        for (LeafReaderContext leafReaderContext : searcher.getIndexReader().leaves()) {
+            LeafReader leafReader = leafReaderContext.reader();
+            FieldInfo fieldInfo = leafReader.getFieldInfos().fieldInfo(fieldName);
+            if (fieldInfo == null) {
+                continue;
+            }
+            KNNVectorValues<?> vectorValues = KNNVectorValuesFactory.getVectorValues(fieldInfo, leafReader);
+            if (vectorValues.nextDoc() == DocIdSetIterator.NO_MORE_DOCS) {
+                continue;
+            }
+            vectorValues.getVector();
+            return (int) Math.max(1, Math.min(Integer.MAX_VALUE, limitInBytes / vectorValues.bytesPerVector()));
+        }
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * Sampling key of a sequence number. The murmur3 finalizer spreads consecutive sequence numbers uniformly, and the key
+     * is kept positive so that {@link SequenceNumbers#NO_OPS_PERFORMED} is below every key.
+     *
+     * @param seqNo sequence number of the doc
+     * @param seed seed of the collection
+     * @return sampling key
+     */
+    @VisibleForTesting
+    static long samplingKey(long seqNo, long seed) {
+        long key = seqNo ^ seed;
+        key = (key ^ (key >>> 33)) * 0xff51afd7ed558ccdL;
+        key = (key ^ (key >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return (key ^ (key >>> 33)) >>> 1;
+    }
+
+    private static final class SampledDoc {
+        private final long key;
+        private final int doc;
+
+        private SampledDoc(long key, int doc) {
+            this.key = key;
+            this.doc = doc;
+        }
+    }
+
+    /**
+     * Keeps the docs with the smallest sampling keys above the cursor. Only the sequence numbers doc values are read, the
+     * vectors are read for the kept docs only.
+     */
+    private static final class SampledDocs extends SimpleCollector {
+        private final long seed;
+        private final long cursor;
+        private final int size;
+        private final PriorityQueue<SampledDoc> queue;
+        private NumericDocValues seqNos;
+        private int docBase;
+
+        private SampledDocs(long seed, long cursor, int size) {
+            this.seed = seed;
+            this.cursor = cursor;
+            this.size = size;
+            // The doc with the largest key is on top, so that it is the first one evicted
+            this.queue = new PriorityQueue<>(size) {
+                @Override
+                protected boolean lessThan(SampledDoc a, SampledDoc b) {
+                    return a.key > b.key;
+                }
+            };
+        }
+
+        @Override
+        protected void doSetNextReader(LeafReaderContext context) throws IOException {
+            seqNos = DocValues.getNumeric(context.reader(), SeqNoFieldMapper.NAME);
+            docBase = context.docBase;
+        }
+
+        @Override
+        public void collect(int doc) throws IOException {
+            if (seqNos.advanceExact(doc) == false) {
+                return;
+            }
+            long key = samplingKey(seqNos.longValue(), seed);
+            // Docs that would be evicted right away are not allocated
+            if (key > cursor && (queue.size() < size || key < queue.top().key)) {
+                queue.insertWithOverflow(new SampledDoc(key, docBase + doc));
+            }
+        }
+
+        @Override
+        public ScoreMode scoreMode() {
+            return ScoreMode.COMPLETE_NO_SCORES;
+        }
+
+        private SampledDoc[] sortedByKey() {
+            SampledDoc[] docs = new SampledDoc[queue.size()];
+            for (int i = docs.length - 1; i >= 0; i--) {
+                docs[i] = queue.pop();
+            }
+            return docs;
+        }
+    }
+
+    /**
+     * Only primaries are read so that every vector is collected once.
+     *
+     * @param state ClusterState
+     * @param request TrainingDataCollectRequest
+     * @param concreteIndices Indices in the request
+     * @return ShardsIterator with the primary shards of the given concrete indices
+     */
+    @Override
+    protected ShardsIterator shards(ClusterState state, TrainingDataCollectRequest request, String[] concreteIndices) {
+        return state.routingTable().allShardsSatisfyingPredicate(concreteIndices, ShardRouting::primary);
+    }
+
+    @Override
+    protected ClusterBlockException checkGlobalBlock(ClusterState state, TrainingDataCollectRequest request) {
+        return state.blocks().globalBlockedException(ClusterBlockLevel.READ);
+    }
+
+    @Override
+    protected ClusterBlockException checkRequestBlock(ClusterState state, TrainingDataCollectRequest request, String[] concreteIndices) {
+        return state.blocks().indicesBlockedException(ClusterBlockLevel.READ, concreteIndices);
+    }
+}
@@ -18,6 +18,8 @@ import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.ToXContentFragment;
 import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.knn.common.KNNConstants;
+import org.opensearch.knn.index.util.IndexUtil;
 
 import java.io.IOException;
 
@@ -28,7 +30,15 @@ import static org.opensearch.knn.common.KNNConstants.TRAINING_JOB_COUNT_FIELD_NA
  */
 public class TrainingJobRouteDecisionInfoNodeResponse extends BaseNodeResponse implements ToXContentFragment {
 
+    // Nodes that do not report their capacity run a single training job at a time and are not memory checked
+    private static final int DEFAULT_MAX_TRAINING_JOB_COUNT = 1;
+    private static final long DEFAULT_AVAILABLE_NATIVE_MEMORY_IN_KB = Long.MAX_VALUE;
+    private static final long DEFAULT_MAX_NATIVE_MEMORY_IN_KB = Long.MAX_VALUE;
+
     private final Integer trainingJobCount;
+    private final int maxTrainingJobCount;
+    private final long availableNativeMemoryInKB;
+    private final long maxNativeMemoryInKB;
 
     /**
      * Constructor
@@ -39,22 +49,76 @@ public class TrainingJobRouteDecisionInfoNodeResponse extends BaseNodeResponse i
     public TrainingJobRouteDecisionInfoNodeResponse(StreamInput in) throws IOException {
         super(in);
         this.trainingJobCount = in.readInt();
+        if (IndexUtil.isVersionOnOrAfterMinRequiredVersion(in.getVersion(), KNNConstants.TRAINING_JOB_CAPACITY)) {
+            this.maxTrainingJobCount = in.readVInt();
+            this.availableNativeMemoryInKB = in.readLong();
+            this.maxNativeMemoryInKB = in.readLong();
+        } else {
+            this.maxTrainingJobCount = DEFAULT_MAX_TRAINING_JOB_COUNT;
+            this.availableNativeMemoryInKB = DEFAULT_AVAILABLE_NATIVE_MEMORY_IN_KB;
+            this.maxNativeMemoryInKB = DEFAULT_MAX_NATIVE_MEMORY_IN_KB;
+        }
     }
 
     /**
      * Constructor
      *
      * @param node node
+     * @param trainingJobCount number of training jobs running on the node
      */
     public TrainingJobRouteDecisionInfoNodeResponse(DiscoveryNode node, Integer trainingJobCount) {
+        this(node, trainingJobCount, DEFAULT_MAX_TRAINING_JOB_COUNT, DEFAULT_AVAILABLE_NATIVE_MEMORY_IN_KB);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param node node
+     * @param trainingJobCount number of training jobs running on the node
+     * @param maxTrainingJobCount maximum number of training jobs the node runs at the same time
+     * @param availableNativeMemoryInKB native memory still available to the node's cache in kilobytes
+     */
+    public TrainingJobRouteDecisionInfoNodeResponse(
+        DiscoveryNode node,
+        Integer trainingJobCount,
+        int maxTrainingJobCount,
+        long availableNativeMemoryInKB
+    ) {
+        this(node, trainingJobCount, maxTrainingJobCount, availableNativeMemoryInKB, DEFAULT_MAX_NATIVE_MEMORY_IN_KB);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param node node
+     * @param trainingJobCount number of training jobs running on the node
+     * @param maxTrainingJobCount maximum number of training jobs the node runs at the same time
+     * @param availableNativeMemoryInKB native memory still available to the node's cache in kilobytes
+     * @param maxNativeMemoryInKB native memory limit of the node's cache in kilobytes
+     */
+    public TrainingJobRouteDecisionInfoNodeResponse(
+        DiscoveryNode node,
+        Integer trainingJobCount,
+        int maxTrainingJobCount,
+        long availableNativeMemoryInKB,
+        long maxNativeMemoryInKB
+    ) {
         super(node);
         this.trainingJobCount = trainingJobCount;
+        this.maxTrainingJobCount = maxTrainingJobCount;
+        this.availableNativeMemoryInKB = availableNativeMemoryInKB;
+        this.maxNativeMemoryInKB = maxNativeMemoryInKB;
     }
 
     @Override
     public void writeTo(StreamOutput out) throws IOException {
         super.writeTo(out);
         out.writeInt(trainingJobCount);
+        if (IndexUtil.isVersionOnOrAfterMinRequiredVersion(out.getVersion(), KNNConstants.TRAINING_JOB_CAPACITY)) {
+            out.writeVInt(maxTrainingJobCount);
+            out.writeLong(availableNativeMemoryInKB);
+            out.writeLong(maxNativeMemoryInKB);
+        }
     }
 
     /**
@@ -66,6 +130,33 @@ public class TrainingJobRouteDecisionInfoNodeResponse extends BaseNodeResponse i
         return trainingJobCount;
     }
 
+    /**
+     * Getter for maximum training job count
+     *
+     * @return The maximum number of training jobs the node runs at the same time
+     */
+    public int getMaxTrainingJobCount() {
+        return maxTrainingJobCount;
+    }
+
+    /**
+     * Getter for available native memory
+     *
+     * @return The native memory still available to the node's cache in kilobytes
+     */
+    public long getAvailableNativeMemoryInKB() {
+        return availableNativeMemoryInKB;
+    }
+
+    /**
+     * Getter for the native memory limit
+     *
+     * @return The native memory limit of the node's cache in kilobytes, which no training job larger than it can fit in
+     */
+    public long getMaxNativeMemoryInKB() {
+        return maxNativeMemoryInKB;
+    }
+
     /**
      * Add training job route decision info to xcontent builder
      *
@@ -17,6 +17,7 @@ import org.opensearch.action.support.nodes.TransportNodesAction;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.inject.Inject;
 import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.knn.index.memory.NativeMemoryCacheManager;
 import org.opensearch.knn.training.TrainingJobRunner;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.TransportService;
@@ -82,6 +83,14 @@ public class TrainingJobRouteDecisionInfoTransportAction extends TransportNodesA
 
     @Override
     protected TrainingJobRouteDecisionInfoNodeResponse nodeOperation(TrainingJobRouteDecisionInfoNodeRequest request) {
-        return new TrainingJobRouteDecisionInfoNodeResponse(clusterService.localNode(), TrainingJobRunner.getInstance().getJobCount());
+        TrainingJobRunner trainingJobRunner = TrainingJobRunner.getInstance();
+        NativeMemoryCacheManager nativeMemoryCacheManager = NativeMemoryCacheManager.getInstance();
+        return new TrainingJobRouteDecisionInfoNodeResponse(
+            clusterService.localNode(),
+            trainingJobRunner.getJobCount(),
+            trainingJobRunner.getMaxJobCount(),
+            Math.max(0L, nativeMemoryCacheManager.getMaxCacheSizeInKilobytes() - nativeMemoryCacheManager.getCacheSizeInKilobytes()),
+            nativeMemoryCacheManager.getMaxCacheSizeInKilobytes()
+        );
     }
 }
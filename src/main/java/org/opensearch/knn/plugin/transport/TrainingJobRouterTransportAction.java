@@ -11,7 +11,8 @@
 
 package org.opensearch.knn.plugin.transport;
 
-import org.apache.commons.lang.StringUtils;
+import lombok.AllArgsConstructor;
+import org.opensearch.ExceptionsHelper;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.action.ActionListenerResponseHandler;
 import org.opensearch.action.search.SearchRequest;
@@ -22,12 +23,23 @@ import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.ValidationException;
 import org.opensearch.common.inject.Inject;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
+import org.opensearch.knn.index.KNNSettings;
 import org.opensearch.knn.index.VectorDataType;
+import org.opensearch.knn.plugin.stats.KNNCounter;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.tasks.Task;
+import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.TransportRequestOptions;
 import org.opensearch.transport.TransportService;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
 import static org.opensearch.knn.common.KNNConstants.BYTES_PER_KILOBYTES;
@@ -38,9 +50,16 @@ import static org.opensearch.search.internal.SearchContext.DEFAULT_TERMINATE_AFT
  */
 public class TrainingJobRouterTransportAction extends HandledTransportAction<TrainingModelRequest, TrainingModelResponse> {
 
+    private static final TimeValue INITIAL_ROUTE_RETRY_DELAY = TimeValue.timeValueSeconds(1);
+    private static final TimeValue MAX_ROUTE_RETRY_DELAY = TimeValue.timeValueSeconds(30);
+
     private final TransportService transportService;
     private final ClusterService clusterService;
     private final Client client;
+    // Requests waiting for a node, in the order they were received. Only the request at the head is routed.
+    private final Deque<QueuedTrainingRequest> queuedRequests = new ArrayDeque<>();
+    // Guarded by queuedRequests, true while a routing round is running or scheduled
+    private boolean routing;
 
     @Inject
     public TrainingJobRouterTransportAction(
@@ -58,43 +77,191 @@ public class TrainingJobRouterTransportAction extends HandledTransportAction<Tra
     @Override
     protected void doExecute(Task task, TrainingModelRequest request, ActionListener<TrainingModelResponse> listener) {
         // Get the size of the training request and then route the request. We get/set this here, as opposed to in
-        // TrainingModelTransportAction, because in the future, we may want to use size to factor into our routing
-        // decision.
+        // TrainingModelTransportAction, because the size factors into our routing decision.
         getTrainingIndexSizeInKB(request, ActionListener.wrap(size -> {
             request.setTrainingDataSizeInKB(size);
             routeRequest(request, listener);
         }, listener::onFailure));
     }
 
+    /**
+     * Queues the request to be routed to a node with the capacity to train it. Requests are routed one at a time, in
+     * the order this node received them, so a request is never overtaken by a later one. While no node can take the
+     * request at the head of the queue, routing is retried with an exponential backoff until a node frees up or the
+     * request has been queued for longer than the queue timeout.
+     *
+     * @param request training request
+     * @param listener listener of the training response
+     */
     protected void routeRequest(TrainingModelRequest request, ActionListener<TrainingModelResponse> listener) {
+        enqueue(new QueuedTrainingRequest(request, listener, System.nanoTime()), false);
+    }
+
+    private void enqueue(QueuedTrainingRequest queuedRequest, boolean rejected) {
+        synchronized (queuedRequests) {
+            if (rejected) {
+                queuedRequests.addFirst(queuedRequest);
+            } else {
+                queuedRequests.addLast(queuedRequest);
+            }
+            // A routing round is already running or scheduled, it will get to this request
+            if (routing) {
+                return;
+            }
+            routing = true;
+        }
+        if (rejected) {
+            // Give the node that rejected the request time to report the job it took before routing again
+            scheduleRouteNextRequest(INITIAL_ROUTE_RETRY_DELAY, INITIAL_ROUTE_RETRY_DELAY);
+            return;
+        }
+        routeNextRequest(INITIAL_ROUTE_RETRY_DELAY);
+    }
+
+    private void routeNextRequest(TimeValue retryDelay) {
+        QueuedTrainingRequest queuedRequest;
+        synchronized (queuedRequests) {
+            queuedRequest = queuedRequests.peekFirst();
+            if (queuedRequest == null) {
+                routing = false;
+                return;
+            }
+        }
+
         // Pick a node and then use the transport service to forward the request
+        TrainingModelRequest request = queuedRequest.request;
         client.execute(
             TrainingJobRouteDecisionInfoAction.INSTANCE,
             new TrainingJobRouteDecisionInfoRequest(),
             ActionListener.wrap(response -> {
-                DiscoveryNode node = selectNode(request.getPreferredNodeId(), response);
+                if (exceedsNativeMemoryLimitOfEveryNode(response, request.getTrainingDataSizeInKB())) {
+                    // Waiting cannot help, no node would ever hold the training data
+                    ValidationException exception = new ValidationException();
+                    exception.addValidationError(
+                        String.format(
+                            Locale.ROOT,
+                            "Training data of %d KB exceeds the native memory limit of every node",
+                            request.getTrainingDataSizeInKB()
+                        )
+                    );
+                    failAndRouteNextRequest(queuedRequest, exception);
+                    return;
+                }
 
+                DiscoveryNode node = selectNode(request.getPreferredNodeId(), response, request.getTrainingDataSizeInKB());
                 if (node == null) {
-                    ValidationException exception = new ValidationException();
-                    exception.addValidationError("Cluster does not have capacity to train");
-                    listener.onFailure(exception);
+                    // Every node is busy or short on memory. Keep the requests queued until a node frees up or the queue
+                    // timeout expires.
+                    scheduleRetry(retryDelay);
                     return;
                 }
 
-                transportService.sendRequest(
-                    node,
-                    TrainingModelAction.NAME,
-                    request,
-                    TransportRequestOptions.EMPTY,
-                    new ActionListenerResponseHandler<>(listener, TrainingModelResponse::new)
-                );
-            }, listener::onFailure)
+                synchronized (queuedRequests) {
+                    queuedRequests.remove(queuedRequest);
+                }
+                sendRequest(node, queuedRequest);
+                routeNextRequest(INITIAL_ROUTE_RETRY_DELAY);
+            }, e -> failAndRouteNextRequest(queuedRequest, e))
         );
     }
 
+    private void sendRequest(DiscoveryNode node, QueuedTrainingRequest queuedRequest) {
+        transportService.sendRequest(
+            node,
+            TrainingModelAction.NAME,
+            queuedRequest.request,
+            TransportRequestOptions.EMPTY,
+            new ActionListenerResponseHandler<>(ActionListener.wrap(queuedRequest.listener::onResponse, e -> {
+                // The node took another job between the route decision and the request. The request keeps its place at
+                // the head of the queue instead of failing.
+                if (ExceptionsHelper.unwrapCause(e) instanceof OpenSearchRejectedExecutionException) {
+                    enqueue(queuedRequest, true);
+                    return;
+                }
+                queuedRequest.listener.onFailure(e);
+            }), TrainingModelResponse::new)
+        );
+    }
+
+    private void failAndRouteNextRequest(QueuedTrainingRequest queuedRequest, Exception exception) {
+        synchronized (queuedRequests) {
+            queuedRequests.remove(queuedRequest);
+        }
+        queuedRequest.listener.onFailure(exception);
+        routeNextRequest(INITIAL_ROUTE_RETRY_DELAY);
+    }
+
+    private void scheduleRetry(TimeValue retryDelay) {
+        // Fail the requests that would still be queued past the timeout by the next retry
+        TimeValue queueTimeout = KNNSettings.state().getSettingValue(KNNSettings.KNN_TRAINING_QUEUE_TIMEOUT);
+        long nowNanos = System.nanoTime();
+        List<QueuedTrainingRequest> expiredRequests = new ArrayList<>();
+        synchronized (queuedRequests) {
+            Iterator<QueuedTrainingRequest> iterator = queuedRequests.iterator();
+            while (iterator.hasNext()) {
+                QueuedTrainingRequest queuedRequest = iterator.next();
+                if (nowNanos - queuedRequest.queuedAtNanos + retryDelay.nanos() > queueTimeout.nanos()) {
+                    iterator.remove();
+                    expiredRequests.add(queuedRequest);
+                }
+            }
+        }
+        // A rejected job is queued again rather than failed, so only the requests that time out in the queue count as errors
+        for (QueuedTrainingRequest expiredRequest : expiredRequests) {
+            KNNCounter.TRAINING_ERRORS.increment();
+            ValidationException exception = new ValidationException();
+            exception.addValidationError("Cluster does not have capacity to train");
+            expiredRequest.listener.onFailure(exception);
+        }
+
+        TimeValue nextRetryDelay = TimeValue.timeValueMillis(Math.min(retryDelay.millis() * 2, MAX_ROUTE_RETRY_DELAY.millis()));
+        scheduleRouteNextRequest(retryDelay, nextRetryDelay);
+    }
+
+    private void scheduleRouteNextRequest(TimeValue delay, TimeValue nextRetryDelay) {
+        transportService.getThreadPool().schedule(() -> routeNextRequest(nextRetryDelay), delay, ThreadPool.Names.GENERIC);
+    }
+
+    /**
+     * Checks whether the training data is larger than the native memory limit of every node that reported it, in which
+     * case no node can ever train the request.
+     *
+     * @param jobInfo training job route decision info of every node
+     * @param trainingDataSizeInKB estimated size of the training data in kilobytes
+     * @return true if at least one node reported and none of them can ever hold the training data
+     */
+    protected boolean exceedsNativeMemoryLimitOfEveryNode(TrainingJobRouteDecisionInfoResponse jobInfo, int trainingDataSizeInKB) {
+        Map<String, DiscoveryNode> eligibleNodes = clusterService.state().nodes().getDataNodes();
+        boolean anyEligibleNode = false;
+        for (TrainingJobRouteDecisionInfoNodeResponse response : jobInfo.getNodes()) {
+            if (!eligibleNodes.containsKey(response.getNode().getId())) {
+                continue;
+            }
+            if (response.getMaxNativeMemoryInKB() >= trainingDataSizeInKB) {
+                return false;
+            }
+            anyEligibleNode = true;
+        }
+        return anyEligibleNode;
+    }
+
     protected DiscoveryNode selectNode(String preferredNode, TrainingJobRouteDecisionInfoResponse jobInfo) {
+        return selectNode(preferredNode, jobInfo, 0);
+    }
+
+    /**
+     * Selects the node to train on. A node can take the job if it runs fewer jobs than its maximum and its native
+     * memory can hold the training data. The preferred node is used if it can take the job. Otherwise, the node with
+     * the most free job slots is selected, then the one with the most free native memory.
+     *
+     * @param preferredNode id of the node the user prefers, may be null
+     * @param jobInfo training job route decision info of every node
+     * @param trainingDataSizeInKB estimated size of the training data in kilobytes
+     * @return node to train on or null if no node can take the job
+     */
+    protected DiscoveryNode selectNode(String preferredNode, TrainingJobRouteDecisionInfoResponse jobInfo, int trainingDataSizeInKB) {
 
-        DiscoveryNode selectedNode = null;
+        TrainingJobRouteDecisionInfoNodeResponse selectedResponse = null;
 
         Map<String, DiscoveryNode> eligibleNodes = clusterService.state().nodes().getDataNodes();
         DiscoveryNode currentNode;
@@ -102,20 +269,34 @@ public class TrainingJobRouterTransportAction extends HandledTransportAction<Tra
         for (TrainingJobRouteDecisionInfoNodeResponse response : jobInfo.getNodes()) {
             currentNode = response.getNode();
 
-            if (!eligibleNodes.containsKey(currentNode.getId())) {
+            if (!eligibleNodes.containsKey(currentNode.getId())
+                || response.getTrainingJobCount() >= response.getMaxTrainingJobCount()
+                || response.getAvailableNativeMemoryInKB() < trainingDataSizeInKB) {
                 continue;
             }
 
-            if (response.getTrainingJobCount() < 1) {
-                selectedNode = currentNode;
-                // Return right away if the user didnt pass a preferred node or this is the preferred node
-                if (StringUtils.isEmpty(preferredNode) || selectedNode.getId().equals(preferredNode)) {
-                    return selectedNode;
-                }
+            // Return right away if this is the preferred node
+            if (currentNode.getId().equals(preferredNode)) {
+                return currentNode;
+            }
+
+            if (selectedResponse == null || compareCapacity(response, selectedResponse) > 0) {
+                selectedResponse = response;
             }
         }
 
-        return selectedNode;
+        return selectedResponse == null ? null : selectedResponse.getNode();
+    }
+
+    private static int compareCapacity(TrainingJobRouteDecisionInfoNodeResponse first, TrainingJobRouteDecisionInfoNodeResponse second) {
+        int freeSlotsComparison = Integer.compare(
+            first.getMaxTrainingJobCount() - first.getTrainingJobCount(),
+            second.getMaxTrainingJobCount() - second.getTrainingJobCount()
+        );
+        if (freeSlotsComparison != 0) {
+            return freeSlotsComparison;
+        }
+        return Long.compare(first.getAvailableNativeMemoryInKB(), second.getAvailableNativeMemoryInKB());
     }
 
     protected void getTrainingIndexSizeInKB(TrainingModelRequest trainingModelRequest, ActionListener<Integer> listener) {
@@ -157,4 +338,11 @@ public class TrainingJobRouterTransportAction extends HandledTransportAction<Tra
                 return Math.toIntExact(((Float.BYTES * dimension * vectorCount) / BYTES_PER_KILOBYTES) + 1L);
         }
     }
+
+    @AllArgsConstructor
+    private static class QueuedTrainingRequest {
+        private final TrainingModelRequest request;
+        private final ActionListener<TrainingModelResponse> listener;
+        private final long queuedAtNanos;
+    }
 }
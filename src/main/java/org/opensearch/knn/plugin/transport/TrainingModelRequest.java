@@ -207,7 +207,7 @@ public class TrainingModelRequest extends ActionRequest {
     }
 
     /**
-     * Setter for search size.
+     * Setter for search size, the maximum number of training vectors each shard returns in a collection round.
      *
      * @param searchSize to be set. Must be greater than 0 and less than 10,000
      */
@@ -106,6 +106,7 @@ public class TrainingModelTransportAction extends HandledTransportAction<Trainin
             TrainingJobRunner.getInstance()
                 .execute(
                     trainingJob,
+                    taskManager,
                     ActionListener.wrap(
                         indexResponse -> wrappedListener.onResponse(new TrainingModelResponse(indexResponse.getId())),
                         wrappedListener::onFailure
@@ -32,6 +32,11 @@ final class QuantizerRegistrar {
             ScalarQuantizationParams.generateTypeIdentifier(ScalarQuantizationType.ONE_BIT),
             new OneBitScalarQuantizer()
         );
+        // Register OneBitScalarQuantizer training a random rotation applied before thresholding
+        QuantizerRegistry.register(
+            ScalarQuantizationParams.generateTypeIdentifier(ScalarQuantizationType.ONE_BIT, true),
+            new OneBitScalarQuantizer(true)
+        );
         // Register MultiBitScalarQuantizer for SQParams with VALUE_QUANTIZATION with bit per co-ordinate = 2
         QuantizerRegistry.register(
             ScalarQuantizationParams.generateTypeIdentifier(ScalarQuantizationType.TWO_BIT),
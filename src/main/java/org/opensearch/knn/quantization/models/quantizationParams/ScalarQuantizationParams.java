@@ -5,7 +5,6 @@
 
 package org.opensearch.knn.quantization.models.quantizationParams;
 
-import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -20,11 +19,26 @@ import java.io.IOException;
  * This class implements the QuantizationParams interface and includes the type of scalar quantization.
  */
 @Getter
-@AllArgsConstructor
 @NoArgsConstructor // No-argument constructor for deserialization
 @EqualsAndHashCode
 public class ScalarQuantizationParams implements QuantizationParams {
+    private static final String RANDOM_ROTATION_SUFFIX = "_random_rotation";
+
     private ScalarQuantizationType sqType;
+    /**
+     * Whether the quantizer trains a random rotation applied before thresholding. It only selects the quantizer used for
+     * training and is not serialized, the trained rotation is part of the quantization state.
+     */
+    private boolean randomRotation;
+
+    public ScalarQuantizationParams(final ScalarQuantizationType sqType) {
+        this(sqType, false);
+    }
+
+    public ScalarQuantizationParams(final ScalarQuantizationType sqType, final boolean randomRotation) {
+        this.sqType = sqType;
+        this.randomRotation = randomRotation;
+    }
 
     /**
      * Static method to generate type identifier based on ScalarQuantizationType.
@@ -36,6 +50,17 @@ public class ScalarQuantizationParams implements QuantizationParams {
         return generateIdentifier(sqType.getId());
     }
 
+    /**
+     * Static method to generate type identifier based on ScalarQuantizationType and whether a random rotation is trained.
+     *
+     * @param sqType the scalar quantization type.
+     * @param randomRotation whether a random rotation is trained.
+     * @return A string representing the unique type identifier.
+     */
+    public static String generateTypeIdentifier(ScalarQuantizationType sqType, boolean randomRotation) {
+        return randomRotation ? generateIdentifier(sqType.getId()) + RANDOM_ROTATION_SUFFIX : generateIdentifier(sqType.getId());
+    }
+
     /**
      * Provides a unique type identifier for the ScalarQuantizationParams, combining the SQ type.
      * This identifier is useful for distinguishing between different configurations of scalar quantization parameters.
@@ -44,7 +69,7 @@ public class ScalarQuantizationParams implements QuantizationParams {
      */
     @Override
     public String getTypeIdentifier() {
-        return generateIdentifier(sqType.getId());
+        return generateTypeIdentifier(sqType, randomRotation);
     }
 
     /**
@@ -5,7 +5,6 @@
 
 package org.opensearch.knn.quantization.models.quantizationState;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.apache.lucene.util.RamUsageEstimator;
@@ -22,7 +21,6 @@ import java.io.IOException;
  */
 @Getter
 @NoArgsConstructor // No-argument constructor for deserialization
-@AllArgsConstructor
 public final class OneBitScalarQuantizationState implements QuantizationState {
     private ScalarQuantizationParams quantizationParams;
     /**
@@ -34,6 +32,30 @@ public final class OneBitScalarQuantizationState implements QuantizationState {
      * The quantized vector will be [0, 1, 1].
      */
     private float[] meanThresholds;
+    /**
+     * Rotation applied to the vectors before they are compared with the mean thresholds, which are computed on rotated
+     * vectors. Null when the vectors are thresholded as they are.
+     */
+    private RandomHadamardRotation rotation;
+    /**
+     * Written before the version by states with a rotation. Versions are positive, so the marker tells the rotation
+     * apart from the end of states written without one, which keep their original format.
+     */
+    private static final int ROTATION_FORMAT_MARKER = -1;
+
+    public OneBitScalarQuantizationState(final ScalarQuantizationParams quantizationParams, final float[] meanThresholds) {
+        this(quantizationParams, meanThresholds, null);
+    }
+
+    public OneBitScalarQuantizationState(
+        final ScalarQuantizationParams quantizationParams,
+        final float[] meanThresholds,
+        final RandomHadamardRotation rotation
+    ) {
+        this.quantizationParams = quantizationParams;
+        this.meanThresholds = meanThresholds;
+        this.rotation = rotation;
+    }
 
     @Override
     public ScalarQuantizationParams getQuantizationParams() {
@@ -48,9 +70,15 @@ public final class OneBitScalarQuantizationState implements QuantizationState {
      */
     @Override
     public void writeTo(StreamOutput out) throws IOException {
+        if (rotation != null) {
+            out.writeVInt(ROTATION_FORMAT_MARKER);
+        }
         out.writeVInt(Version.CURRENT.id); // Write the version
         quantizationParams.writeTo(out);
         out.writeFloatArray(meanThresholds);
+        if (rotation != null) {
+            rotation.writeTo(out);
+        }
     }
 
     /**
@@ -61,8 +89,15 @@ public final class OneBitScalarQuantizationState implements QuantizationState {
      */
     public OneBitScalarQuantizationState(StreamInput in) throws IOException {
         int version = in.readVInt(); // Read the version
+        final boolean hasRotation = version == ROTATION_FORMAT_MARKER;
+        if (hasRotation) {
+            version = in.readVInt();
+        }
         this.quantizationParams = new ScalarQuantizationParams(in, version);
         this.meanThresholds = in.readFloatArray();
+        if (hasRotation) {
+            this.rotation = new RandomHadamardRotation(in);
+        }
     }
 
     /**
@@ -139,6 +174,9 @@ public final class OneBitScalarQuantizationState implements QuantizationState {
         long size = RamUsageEstimator.shallowSizeOfInstance(OneBitScalarQuantizationState.class);
         size += RamUsageEstimator.shallowSizeOf(quantizationParams);
         size += RamUsageEstimator.sizeOf(meanThresholds);
+        if (rotation != null) {
+            size += rotation.ramBytesUsed();
+        }
         return size;
     }
 }
@@ -13,10 +13,10 @@ import com.google.common.cache.RemovalNotification;
 import lombok.Getter;
 import lombok.extern.log4j.Log4j2;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.unit.ByteSizeUnit;
 import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.knn.index.KNNSettings;
 
-import java.io.IOException;
 import java.time.Instant;
 import java.util.concurrent.TimeUnit;
 
@@ -58,13 +58,10 @@ public class QuantizationStateCache {
     }
 
     private void buildCache() {
-        this.cache = CacheBuilder.newBuilder().concurrencyLevel(1).maximumWeight(maxCacheSizeInKB).weigher((k, v) -> {
-            try {
-                return ((QuantizationState) v).toByteArray().length;
-            } catch (IOException e) {
-                throw new RuntimeException(e);
-            }
-        })
+        // Weights are in KB to match the maximum weight, rounded up so that every state counts towards the limit
+        this.cache = CacheBuilder.newBuilder()
+            .maximumWeight(maxCacheSizeInKB)
+            .weigher((k, v) -> weightInKB((QuantizationState) v))
             .expireAfterAccess(
                 ((TimeValue) KNNSettings.state().getSettingValue(QUANTIZATION_STATE_CACHE_EXPIRY_TIME_MINUTES)).getMinutes(),
                 TimeUnit.MINUTES
@@ -73,6 +70,11 @@ public class QuantizationStateCache {
             .build();
     }
 
+    private static int weightInKB(final QuantizationState quantizationState) {
+        final long bytesPerKB = ByteSizeUnit.KB.toBytes(1);
+        return (int) Math.max(1, (quantizationState.ramBytesUsed() + bytesPerKB - 1) / bytesPerKB);
+    }
+
     synchronized void rebuildCache() {
         clear();
         buildCache();
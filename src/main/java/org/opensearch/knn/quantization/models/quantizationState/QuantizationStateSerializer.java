@@ -7,6 +7,7 @@ package org.opensearch.knn.quantization.models.quantizationState;
 
 import lombok.experimental.UtilityClass;
 import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.common.io.stream.StreamInput;
 
 import java.io.IOException;
@@ -36,7 +37,8 @@ class QuantizationStateSerializer {
     static byte[] serialize(QuantizationState state) throws IOException {
         try (BytesStreamOutput out = new BytesStreamOutput()) {
             state.writeTo(out);
-            return out.bytes().toBytesRef().bytes;
+            // The backing array of the stream may be larger than what was written, only copy the written bytes
+            return BytesReference.toBytes(out.bytes());
         }
     }
 
@@ -0,0 +1,129 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.quantization.models.quantizationState;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+
+import java.io.IOException;
+import java.util.Random;
+
+/**
+ * Random orthogonal rotation applied to vectors before they are thresholded, so that the variance of the vectors is spread
+ * evenly across dimensions. The rotation is a randomized Hadamard transform: the coordinates are multiplied by random signs
+ * and mixed with a normalized Walsh-Hadamard transform over the largest power of two block of dimensions. Two rounds are
+ * applied, on the first and on the last block, so that every dimension is mixed when the dimension is not a power of two.
+ *
+ * <p>Only the seed and the dimension are serialized, the random signs are regenerated from the seed. As the rotation is
+ * orthogonal, it preserves L2 distances and inner products.</p>
+ */
+@EqualsAndHashCode(of = { "seed", "dimension" })
+public final class RandomHadamardRotation implements Writeable {
+    @Getter
+    private final long seed;
+    @Getter
+    private final int dimension;
+    private final int blockSize;
+    private final float normalization;
+    private final float[] firstRoundSigns;
+    private final float[] secondRoundSigns;
+
+    /**
+     * @param seed seed of the random signs
+     * @param dimension dimension of the rotated vectors
+     */
+    public RandomHadamardRotation(final long seed, final int dimension) {
+        if (dimension <= 0) {
+            throw new IllegalArgumentException("Dimension of the rotation must be positive.");
+        }
+        this.seed = seed;
+        this.dimension = dimension;
+        this.blockSize = Integer.highestOneBit(dimension);
+        this.normalization = (float) (1 / Math.sqrt(blockSize));
+        final Random random = new Random(seed);
+        this.firstRoundSigns = randomSigns(random, dimension);
+        this.secondRoundSigns = randomSigns(random, dimension);
+    }
+
+    public RandomHadamardRotation(final StreamInput in) throws IOException {
+        this(in.readLong(), in.readVInt());
+    }
+
+    @Override
+    public void writeTo(final StreamOutput out) throws IOException {
+        out.writeLong(seed);
+        out.writeVInt(dimension);
+    }
+
+    /**
+     * Rotates the vector into a new array.
+     *
+     * @param vector vector to rotate
+     * @return rotated vector
+     */
+    public float[] rotate(final float[] vector) {
+        final float[] rotated = new float[dimension];
+        rotate(vector, rotated);
+        return rotated;
+    }
+
+    /**
+     * Rotates the vector into the given output.
+     *
+     * @param vector vector to rotate
+     * @param output array of the dimension of the rotation receiving the rotated vector
+     */
+    public void rotate(final float[] vector, final float[] output) {
+        if (vector.length != dimension || output.length != dimension) {
+            throw new IllegalArgumentException("Vector must match the dimension of the rotation.");
+        }
+        for (int i = 0; i < dimension; i++) {
+            output[i] = vector[i] * firstRoundSigns[i];
+        }
+        transformBlock(output, 0);
+        for (int i = 0; i < dimension; i++) {
+            output[i] *= secondRoundSigns[i];
+        }
+        transformBlock(output, dimension - blockSize);
+    }
+
+    /**
+     * @return estimated memory usage in bytes
+     */
+    public long ramBytesUsed() {
+        return RamUsageEstimator.shallowSizeOfInstance(RandomHadamardRotation.class) + RamUsageEstimator.sizeOf(firstRoundSigns)
+            + RamUsageEstimator.sizeOf(secondRoundSigns);
+    }
+
+    // In place normalized fast Walsh-Hadamard transform of output[offset, offset + blockSize)
+    private void transformBlock(final float[] output, final int offset) {
+        for (int half = 1; half < blockSize; half <<= 1) {
+            for (int start = offset; start < offset + blockSize; start += half << 1) {
+                for (int i = start; i < start + half; i++) {
+                    final float a = output[i];
+                    final float b = output[i + half];
+                    output[i] = a + b;
+                    output[i + half] = a - b;
+                }
+            }
+        }
+        for (int i = offset; i < offset + blockSize; i++) {
+            output[i] *= normalization;
+        }
+    }
+
+    private static float[] randomSigns(final Random random, final int dimension) {
+        final float[] signs = new float[dimension];
+        for (int i = 0; i < dimension; i++) {
+            signs[i] = random.nextBoolean() ? 1f : -1f;
+        }
+        return signs;
+    }
+}
@@ -84,9 +84,10 @@ class BitPacker {
      *
      * <p><b>Bitwise Operations Explanation:</b></p>
      * <ul>
-     *     <li><b>byteIndex:</b> This is calculated using <code>byteIndex = bitPosition >> 3</code>, which is equivalent to <code>bitPosition / 8</code>. It determines which byte in the byte array the current bit should be placed in.</li>
      *     <li><b>bitIndex:</b> This is calculated using <code>bitIndex = 7 - (bitPosition & 7)</code>, which is equivalent to <code>7 - (bitPosition % 8)</code>. It determines the exact bit position within the byte.</li>
-     *     <li><b>Setting the bit:</b> The bit is set using <code>packedBits[byteIndex] |= (1 << bitIndex)</code>. This shifts a 1 into the correct bit position and ORs it with the existing byte value to set the bit.</li>
+     *     <li><b>Setting the bit:</b> The bit is set using <code>currentByte |= (1 << bitIndex)</code> on a local accumulator. Once 8 bits
+     *     have been accumulated, the byte is written to <code>packedBits[bitPosition >> 3]</code>. Every byte of the output is written
+     *     exactly once, so the byte array does not need to be zeroed beforehand and no read-modify-write is done on it.</li>
      * </ul>
      *
      * @param vector             the floating-point vector to be quantized.
@@ -95,21 +96,11 @@ class BitPacker {
      * @param packedBits         the byte array where the quantized bits will be packed.
      */
     void quantizeAndPackBits(final float[] vector, final float[][] thresholds, final int bitsPerCoordinate, byte[] packedBits) {
-        int vectorLength = vector.length;
-
+        int bitPosition = 0;
         for (int i = 0; i < bitsPerCoordinate; i++) {
-            for (int j = 0; j < vectorLength; j++) {
-                if (vector[j] > thresholds[i][j]) {
-                    int bitPosition = i * vectorLength + j;
-                    // Calculate the index of the byte in the packedBits array.
-                    int byteIndex = bitPosition >> 3; // Equivalent to bitPosition / 8
-                    // Calculate the bit index within the byte.
-                    int bitIndex = 7 - (bitPosition & 7); // Equivalent to 7 - (bitPosition % 8)
-                    // Set the bit at the calculated position.
-                    packedBits[byteIndex] |= (1 << bitIndex); // Set the bit at bitIndex
-                }
-            }
+            bitPosition = packBits(vector, thresholds[i], bitPosition, packedBits);
         }
+        clearTrailingBytes(bitPosition, packedBits);
     }
 
     /**
@@ -138,6 +129,43 @@ class BitPacker {
      * @param packedBits the byte array where the quantized bits will be packed.
      */
     void quantizeAndPackBits(final float[] vector, final float[] thresholds, byte[] packedBits) {
-        quantizeAndPackBits(vector, new float[][] { thresholds }, 1, packedBits);
+        int bitPosition = packBits(vector, thresholds, 0, packedBits);
+        clearTrailingBytes(bitPosition, packedBits);
+    }
+
+    /**
+     * Compares each coordinate of the vector against its threshold and packs the results starting at bitPosition.
+     * Bits of a byte which is not yet complete are kept in packedBits at the byte index, so that a subsequent call
+     * continuing at the returned bit position can complete it.
+     *
+     * @return the bit position following the last packed bit
+     */
+    private int packBits(final float[] vector, final float[] thresholds, int bitPosition, byte[] packedBits) {
+        int vectorLength = vector.length;
+        // Restore bits of a partially filled byte left by a previous call
+        int currentByte = (bitPosition & 7) == 0 ? 0 : packedBits[bitPosition >> 3];
+        for (int j = 0; j < vectorLength; j++) {
+            if (vector[j] > thresholds[j]) {
+                currentByte |= (1 << (7 - (bitPosition & 7))); // Equivalent to 7 - (bitPosition % 8)
+            }
+            bitPosition++;
+            if ((bitPosition & 7) == 0) {
+                packedBits[(bitPosition >> 3) - 1] = (byte) currentByte;
+                currentByte = 0;
+            }
+        }
+        if ((bitPosition & 7) != 0) {
+            packedBits[bitPosition >> 3] = (byte) currentByte;
+        }
+        return bitPosition;
+    }
+
+    /**
+     * Clears the bytes after the last packed bit, so that a reused byte array does not carry bits of a previous vector.
+     */
+    private void clearTrailingBytes(int bitPosition, byte[] packedBits) {
+        for (int byteIndex = (bitPosition + 7) >> 3; byteIndex < packedBits.length; byteIndex++) {
+            packedBits[byteIndex] = 0;
+        }
     }
 }
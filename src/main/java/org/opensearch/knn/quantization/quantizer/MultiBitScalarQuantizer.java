@@ -119,6 +119,32 @@ public class MultiBitScalarQuantizer implements Quantizer<float[], byte[]> {
         return new MultiBitScalarQuantizationState(params, thresholds);
     }
 
+    /**
+     * Creates a trainer computing the mean and standard deviation of each dimension with online statistics over all the
+     * vectors, from which the thresholds are derived as in {@link #train(TrainingRequest)}.
+     *
+     * @return a StreamingTrainer building a MultiBitScalarQuantizationState.
+     */
+    @Override
+    public StreamingTrainer<float[]> createStreamingTrainer() {
+        final OnlineVectorStatistics statistics = new OnlineVectorStatistics(true);
+        return new StreamingTrainer<>() {
+            @Override
+            public void accept(float[] vector) {
+                statistics.accept(vector);
+            }
+
+            @Override
+            public QuantizationState finish() {
+                float[][] thresholds = calculateThresholds(statistics.getMeans(), statistics.getStdDevs());
+                ScalarQuantizationParams params = (bitsPerCoordinate == 2)
+                    ? new ScalarQuantizationParams(ScalarQuantizationType.TWO_BIT)
+                    : new ScalarQuantizationParams(ScalarQuantizationType.FOUR_BIT);
+                return new MultiBitScalarQuantizationState(params, thresholds);
+            }
+        };
+    }
+
     /**
      * Quantizes the provided vector using the provided quantization state, producing a quantized output.
      * The vector is quantized based on the thresholds in the quantization state.
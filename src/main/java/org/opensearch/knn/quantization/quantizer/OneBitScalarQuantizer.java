@@ -10,6 +10,7 @@ import org.opensearch.knn.quantization.models.quantizationOutput.QuantizationOut
 import org.opensearch.knn.quantization.models.quantizationParams.ScalarQuantizationParams;
 import org.opensearch.knn.quantization.models.quantizationState.OneBitScalarQuantizationState;
 import org.opensearch.knn.quantization.models.quantizationState.QuantizationState;
+import org.opensearch.knn.quantization.models.quantizationState.RandomHadamardRotation;
 import org.opensearch.knn.quantization.models.requests.TrainingRequest;
 import org.opensearch.knn.quantization.sampler.Sampler;
 import org.opensearch.knn.quantization.sampler.SamplerType;
@@ -20,7 +21,8 @@ import java.io.IOException;
 /**
  * OneBitScalarQuantizer is responsible for quantizing vectors using a single bit per dimension.
  * It computes the mean of each dimension during training and then uses these means as thresholds
- * for quantizing the vectors.
+ * for quantizing the vectors. When configured with a random rotation, the vectors are rotated before the means are
+ * computed and before they are thresholded, which spreads the variance evenly across dimensions.
  */
 public class OneBitScalarQuantizer implements Quantizer<float[], byte[]> {
     private final int samplingSize; // Sampling size for training
@@ -31,12 +33,26 @@ public class OneBitScalarQuantizer implements Quantizer<float[], byte[]> {
     // to having consistent, Will revisit
     // if this requires change
     private static final int DEFAULT_SAMPLE_SIZE = 25000;
+    // Fixed seed so that the rotation of a field is the same across segments
+    private static final long ROTATION_SEED = 0x5DEECE66DL;
+    private final boolean randomRotation;
+    // Quantizers are shared across threads, each thread rotates the vectors it quantizes into its own buffer
+    private static final ThreadLocal<float[]> ROTATION_BUFFER = ThreadLocal.withInitial(() -> new float[0]);
 
     /**
      * Constructs a OneBitScalarQuantizer with a default sampling size of 25000.
      */
     public OneBitScalarQuantizer() {
-        this(DEFAULT_SAMPLE_SIZE, SamplingFactory.getSampler(SamplerType.RESERVOIR));
+        this(false);
+    }
+
+    /**
+     * Constructs a OneBitScalarQuantizer with a default sampling size of 25000.
+     *
+     * @param randomRotation whether a random rotation is trained and applied before thresholding.
+     */
+    public OneBitScalarQuantizer(final boolean randomRotation) {
+        this(DEFAULT_SAMPLE_SIZE, SamplingFactory.getSampler(SamplerType.RESERVOIR), randomRotation);
     }
 
     /**
@@ -45,9 +61,19 @@ public class OneBitScalarQuantizer implements Quantizer<float[], byte[]> {
      * @param samplingSize the number of samples to use for training.
      */
     public OneBitScalarQuantizer(final int samplingSize, final Sampler sampler) {
+        this(samplingSize, sampler, false);
+    }
 
+    /**
+     * Constructs a OneBitScalarQuantizer with a specified sampling size.
+     *
+     * @param samplingSize the number of samples to use for training.
+     * @param randomRotation whether a random rotation is trained and applied before thresholding.
+     */
+    public OneBitScalarQuantizer(final int samplingSize, final Sampler sampler, final boolean randomRotation) {
         this.samplingSize = samplingSize;
         this.sampler = sampler;
+        this.randomRotation = randomRotation;
     }
 
     /**
@@ -60,8 +86,54 @@ public class OneBitScalarQuantizer implements Quantizer<float[], byte[]> {
     @Override
     public QuantizationState train(final TrainingRequest<float[]> trainingRequest) throws IOException {
         int[] sampledDocIds = sampler.sample(trainingRequest.getTotalNumberOfVectors(), samplingSize);
-        float[] meanThresholds = QuantizerHelper.calculateMeanThresholds(trainingRequest, sampledDocIds);
-        return new OneBitScalarQuantizationState(new ScalarQuantizationParams(ScalarQuantizationType.ONE_BIT), meanThresholds);
+        if (randomRotation == false) {
+            float[] meanThresholds = QuantizerHelper.calculateMeanThresholds(trainingRequest, sampledDocIds);
+            return new OneBitScalarQuantizationState(new ScalarQuantizationParams(ScalarQuantizationType.ONE_BIT), meanThresholds);
+        }
+        RotatedTrainingRequest rotatedTrainingRequest = new RotatedTrainingRequest(trainingRequest);
+        float[] meanThresholds = QuantizerHelper.calculateMeanThresholds(rotatedTrainingRequest, sampledDocIds);
+        return new OneBitScalarQuantizationState(
+            new ScalarQuantizationParams(ScalarQuantizationType.ONE_BIT, true),
+            meanThresholds,
+            rotatedTrainingRequest.rotation
+        );
+    }
+
+    /**
+     * Creates a trainer computing the mean of each dimension with online statistics over all the vectors.
+     *
+     * @return a StreamingTrainer building a OneBitScalarQuantizationState.
+     */
+    @Override
+    public StreamingTrainer<float[]> createStreamingTrainer() {
+        return new StreamingTrainer<>() {
+            private final OnlineVectorStatistics statistics = new OnlineVectorStatistics(false);
+            private RandomHadamardRotation rotation;
+            private float[] rotated;
+
+            @Override
+            public void accept(float[] vector) {
+                if (randomRotation == false) {
+                    statistics.accept(vector);
+                    return;
+                }
+                if (rotation == null) {
+                    rotation = new RandomHadamardRotation(ROTATION_SEED, vector.length);
+                    rotated = new float[vector.length];
+                }
+                rotation.rotate(vector, rotated);
+                statistics.accept(rotated);
+            }
+
+            @Override
+            public QuantizationState finish() {
+                return new OneBitScalarQuantizationState(
+                    new ScalarQuantizationParams(ScalarQuantizationType.ONE_BIT, randomRotation),
+                    statistics.getMeans(),
+                    rotation
+                );
+            }
+        };
     }
 
     /**
@@ -85,7 +157,22 @@ public class OneBitScalarQuantizer implements Quantizer<float[], byte[]> {
             throw new IllegalArgumentException("Thresholds must not be null and must match the dimension of the vector.");
         }
         output.prepareQuantizedVector(vectorLength);
-        BitPacker.quantizeAndPackBits(vector, thresholds, output.getQuantizedVector());
+        RandomHadamardRotation rotation = binaryState.getRotation();
+        BitPacker.quantizeAndPackBits(rotation == null ? vector : rotate(rotation, vector), thresholds, output.getQuantizedVector());
+    }
+
+    /**
+     * Rotates the vector into the buffer of the current thread, so that quantizing does not allocate per vector. The
+     * rotated vector is only valid until the thread rotates another vector.
+     */
+    private static float[] rotate(final RandomHadamardRotation rotation, final float[] vector) {
+        float[] rotated = ROTATION_BUFFER.get();
+        if (rotated.length != vector.length) {
+            rotated = new float[vector.length];
+            ROTATION_BUFFER.set(rotated);
+        }
+        rotation.rotate(vector, rotated);
+        return rotated;
     }
 
     /**
@@ -99,4 +186,30 @@ public class OneBitScalarQuantizer implements Quantizer<float[], byte[]> {
             throw new IllegalArgumentException("Quantization state must be of type OneBitScalarQuantizationState.");
         }
     }
+
+    /**
+     * Training request rotating the vectors of the wrapped request. The rotation is created from the dimension of the first
+     * vector, as training requests do not expose the dimension.
+     */
+    private static final class RotatedTrainingRequest extends TrainingRequest<float[]> {
+        private final TrainingRequest<float[]> trainingRequest;
+        private RandomHadamardRotation rotation;
+
+        RotatedTrainingRequest(final TrainingRequest<float[]> trainingRequest) {
+            super(trainingRequest.getTotalNumberOfVectors());
+            this.trainingRequest = trainingRequest;
+        }
+
+        @Override
+        public float[] getVectorAtThePosition(int position) throws IOException {
+            float[] vector = trainingRequest.getVectorAtThePosition(position);
+            if (vector == null) {
+                return null;
+            }
+            if (rotation == null) {
+                rotation = new RandomHadamardRotation(ROTATION_SEED, vector.length);
+            }
+            return rotation.rotate(vector);
+        }
+    }
 }
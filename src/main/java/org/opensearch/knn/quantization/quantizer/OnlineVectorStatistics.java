@@ -0,0 +1,77 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.quantization.quantizer;
+
+/**
+ * Per dimension mean and variance of a stream of vectors, computed with Welford's online algorithm, which stays
+ * numerically stable when the vectors are far from the origin, unlike accumulating sums and sums of squares.
+ */
+final class OnlineVectorStatistics {
+    private final boolean withVariance;
+    private long count;
+    private double[] means;
+    private double[] squaredDeviations;
+
+    /**
+     * @param withVariance whether the variance is tracked on top of the mean.
+     */
+    OnlineVectorStatistics(final boolean withVariance) {
+        this.withVariance = withVariance;
+    }
+
+    void accept(final float[] vector) {
+        if (means == null) {
+            means = new double[vector.length];
+            squaredDeviations = withVariance ? new double[vector.length] : null;
+        } else if (vector.length != means.length) {
+            throw new IllegalArgumentException(
+                "All vectors must have the same dimension, expected " + means.length + " got " + vector.length
+            );
+        }
+        count++;
+        for (int j = 0; j < means.length; j++) {
+            double delta = vector[j] - means[j];
+            means[j] += delta / count;
+            if (squaredDeviations != null) {
+                squaredDeviations[j] += delta * (vector[j] - means[j]);
+            }
+        }
+    }
+
+    long getCount() {
+        return count;
+    }
+
+    float[] getMeans() {
+        checkNotEmpty();
+        float[] result = new float[means.length];
+        for (int j = 0; j < means.length; j++) {
+            result[j] = (float) means[j];
+        }
+        return result;
+    }
+
+    /**
+     * @return the population standard deviation of each dimension.
+     */
+    float[] getStdDevs() {
+        checkNotEmpty();
+        if (squaredDeviations == null) {
+            throw new IllegalStateException("Variance is not tracked by these statistics.");
+        }
+        float[] result = new float[squaredDeviations.length];
+        for (int j = 0; j < squaredDeviations.length; j++) {
+            result[j] = (float) Math.sqrt(Math.max(0, squaredDeviations[j] / count));
+        }
+        return result;
+    }
+
+    private void checkNotEmpty() {
+        if (count == 0) {
+            throw new IllegalStateException("No vectors were accumulated to train the quantizer.");
+        }
+    }
+}
@@ -31,6 +31,14 @@ public interface Quantizer<T, R> {
      */
     QuantizationState train(TrainingRequest<T> trainingRequest) throws IOException;
 
+    /**
+     * Creates a trainer learning the same parameters as {@link #train(TrainingRequest)} in a single sequential pass over
+     * all the vectors, instead of reading sampled vectors.
+     *
+     * @return a new {@link StreamingTrainer}.
+     */
+    StreamingTrainer<T> createStreamingTrainer();
+
     /**
      * Quantizes the provided vector using the specified quantization state.
      *
@@ -10,6 +10,7 @@ import lombok.experimental.UtilityClass;
 import oshi.util.tuples.Pair;
 
 import java.io.IOException;
+import java.util.Arrays;
 
 /**
  * Utility class providing common methods for quantizer operations, such as parameter validation and
@@ -28,26 +29,14 @@ class QuantizerHelper {
      * @throws IllegalStateException    If the mean array is unexpectedly null after processing the vectors.
      */
     static float[] calculateMeanThresholds(TrainingRequest<float[]> samplingRequest, int[] sampledIndices) throws IOException {
-        int totalSamples = sampledIndices.length;
-        float[] mean = null;
-        int lastIndex = 0;
-        for (int docId : sampledIndices) {
-            float[] vector = samplingRequest.getVectorAtThePosition(docId);
-            if (vector == null) {
-                throw new IllegalArgumentException("Vector at sampled index " + docId + " is null.");
-            }
-            if (mean == null) {
-                mean = new float[vector.length];
-            }
-            for (int j = 0; j < vector.length; j++) {
-                mean[j] += vector[j];
-            }
-        }
-        if (mean == null) {
+        double[][] sums = accumulateSums(samplingRequest, sampledIndices, false);
+        if (sums == null) {
             throw new IllegalStateException("Mean array should not be null after processing vectors.");
         }
+        int totalSamples = sampledIndices.length;
+        float[] mean = new float[sums[0].length];
         for (int j = 0; j < mean.length; j++) {
-            mean[j] /= totalSamples;
+            mean[j] = (float) (sums[0][j] / totalSamples);
         }
         return mean;
     }
@@ -68,41 +57,68 @@ class QuantizerHelper {
      */
     static Pair<float[], float[]> calculateMeanAndStdDev(TrainingRequest<float[]> trainingRequest, int[] sampledIndices)
         throws IOException {
-        float[] meanArray = null;
-        float[] stdDevArray = null;
+        double[][] sums = accumulateSums(trainingRequest, sampledIndices, true);
+        if (sums == null) {
+            throw new IllegalStateException("Mean and StdDev should not be null after processing vectors.");
+        }
         int totalSamples = sampledIndices.length;
-        int lastIndex = 0;
-        for (int docId : sampledIndices) {
+        float[] meanArray = new float[sums[0].length];
+        float[] stdDevArray = new float[sums[0].length];
+
+        // Calculate mean and standard deviation in one pass
+        for (int j = 0; j < meanArray.length; j++) {
+            double mean = sums[0][j] / totalSamples;
+            meanArray[j] = (float) mean;
+            stdDevArray[j] = (float) Math.sqrt(Math.max(0, (sums[1][j] / totalSamples) - (mean * mean)));
+        }
+
+        // Return both arrays as a Pair
+        return new Pair<>(meanArray, stdDevArray);
+    }
+
+    /**
+     * Accumulates the per dimension sums, and optionally sums of squares, of the sampled vectors.
+     * <p>
+     * Vectors are read in ascending position order, so that the training request can walk its vector values forward only.
+     * They are accumulated on the calling thread, which already runs on a bounded pool during flush and merge.
+     *
+     * @return the sums at index 0 and the sums of squares at index 1 (null if not requested), or null if nothing was sampled
+     */
+    private static double[][] accumulateSums(TrainingRequest<float[]> trainingRequest, int[] sampledIndices, boolean withSquares)
+        throws IOException {
+        double[] sums = null;
+        double[] squares = null;
+        for (int docId : sortedIndices(sampledIndices)) {
             float[] vector = trainingRequest.getVectorAtThePosition(docId);
             if (vector == null) {
                 throw new IllegalArgumentException("Vector at sampled index " + docId + " is null.");
             }
-            int dimension = vector.length;
-
-            // Initialize meanArray and stdDevArray on the first iteration
-            if (meanArray == null) {
-                meanArray = new float[dimension];
-            }
-            if (stdDevArray == null) {
-                stdDevArray = new float[dimension];
+            if (sums == null) {
+                sums = new double[vector.length];
+                squares = withSquares ? new double[vector.length] : null;
             }
-
-            for (int j = 0; j < dimension; j++) {
-                meanArray[j] += vector[j];
-                stdDevArray[j] += vector[j] * vector[j];
+            for (int j = 0; j < vector.length; j++) {
+                double value = vector[j];
+                sums[j] += value;
+                if (squares != null) {
+                    squares[j] += value * value;
+                }
             }
         }
-        if (meanArray == null || stdDevArray == null) {
-            throw new IllegalStateException("Mean and StdDev should not be null after processing vectors.");
+        if (sums == null) {
+            return null;
         }
+        return new double[][] { sums, squares };
+    }
 
-        // Calculate mean and standard deviation in one pass
-        for (int j = 0; j < meanArray.length; j++) {
-            meanArray[j] = meanArray[j] / totalSamples;
-            stdDevArray[j] = (float) Math.sqrt((stdDevArray[j] / totalSamples) - (meanArray[j] * meanArray[j]));
+    private static int[] sortedIndices(int[] sampledIndices) {
+        for (int i = 1; i < sampledIndices.length; i++) {
+            if (sampledIndices[i - 1] > sampledIndices[i]) {
+                int[] sorted = sampledIndices.clone();
+                Arrays.sort(sorted);
+                return sorted;
+            }
         }
-
-        // Return both arrays as a Pair
-        return new Pair<>(meanArray, stdDevArray);
+        return sampledIndices;
     }
 }
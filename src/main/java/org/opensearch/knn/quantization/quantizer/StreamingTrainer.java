@@ -0,0 +1,32 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.quantization.quantizer;
+
+import org.opensearch.knn.quantization.models.quantizationState.QuantizationState;
+
+/**
+ * Trains a quantizer in a single sequential pass over the vectors, without sampling and without random access to the
+ * vectors. It is fed by a caller already iterating the vectors, for instance while counting the live docs of a merge.
+ *
+ * @param <T> The type of the vectors to train on.
+ */
+public interface StreamingTrainer<T> {
+
+    /**
+     * Accumulates a vector. The vector is not retained, so a reused buffer can be passed.
+     *
+     * @param vector the vector to accumulate.
+     */
+    void accept(T vector);
+
+    /**
+     * Builds the quantization state from the accumulated vectors.
+     *
+     * @return a QuantizationState containing the learned parameters.
+     * @throws IllegalStateException if no vector was accumulated.
+     */
+    QuantizationState finish();
+}
@@ -11,12 +11,9 @@
 
 package org.opensearch.knn.training;
 
-import org.opensearch.action.search.SearchResponse;
 import org.opensearch.knn.index.memory.NativeMemoryAllocation;
 import org.opensearch.knn.jni.JNICommons;
-import org.opensearch.search.SearchHit;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -35,35 +32,16 @@ public class ByteTrainingDataConsumer extends TrainingDataConsumer {
 
     @Override
     public void accept(List<?> byteVectors) {
+        if (byteVectors.isEmpty()) {
+            return;
+        }
+        byte[][] vectors = byteVectors.toArray(new byte[0][0]);
         long memoryAddress = trainingDataAllocation.getMemoryAddress();
-        memoryAddress = JNICommons.storeByteVectorData(memoryAddress, byteVectors.toArray(new byte[0][0]), byteVectors.size());
+        memoryAddress = JNICommons.storeByteVectorData(
+            memoryAddress,
+            vectors,
+            getInitialCapacity(vectors.length, vectors[0].length, Byte.BYTES)
+        );
         trainingDataAllocation.setMemoryAddress(memoryAddress);
     }
-
-    @Override
-    public void processTrainingVectors(SearchResponse searchResponse, int vectorsToAdd, String fieldName) {
-        SearchHit[] hits = searchResponse.getHits().getHits();
-        List<byte[]> vectors = new ArrayList<>();
-        String[] fieldPath = fieldName.split("\\.");
-
-        for (int vector = 0; vector < vectorsToAdd; vector++) {
-            Object fieldValue = extractFieldValue(hits[vector], fieldPath);
-
-            byte[] byteArray;
-            if (!(fieldValue instanceof List<?>)) {
-                continue;
-            }
-            List<Number> fieldList = (List<Number>) fieldValue;
-            byteArray = new byte[fieldList.size()];
-            for (int i = 0; i < fieldList.size(); i++) {
-                byteArray[i] = fieldList.get(i).byteValue();
-            }
-
-            vectors.add(byteArray);
-        }
-
-        setTotalVectorsCountAdded(getTotalVectorsCountAdded() + vectors.size());
-
-        accept(vectors);
-    }
 }
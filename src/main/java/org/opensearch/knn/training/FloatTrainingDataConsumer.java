@@ -11,11 +11,8 @@
 
 package org.opensearch.knn.training;
 
-import org.apache.commons.lang.ArrayUtils;
-import org.opensearch.action.search.SearchResponse;
 import org.opensearch.knn.index.engine.qframe.QuantizationConfig;
 import org.opensearch.knn.jni.JNICommons;
-import org.opensearch.knn.jni.JNIService;
 import org.opensearch.knn.index.memory.NativeMemoryAllocation;
 import org.opensearch.knn.quantization.factory.QuantizerFactory;
 import org.opensearch.knn.quantization.models.quantizationOutput.BinaryQuantizationOutput;
@@ -23,7 +20,6 @@ import org.opensearch.knn.quantization.models.quantizationParams.ScalarQuantizat
 import org.opensearch.knn.quantization.models.quantizationState.QuantizationState;
 import org.opensearch.knn.quantization.models.requests.TrainingRequest;
 import org.opensearch.knn.quantization.quantizer.Quantizer;
-import org.opensearch.search.SearchHit;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -35,6 +31,11 @@ import java.util.List;
 public class FloatTrainingDataConsumer extends TrainingDataConsumer {
 
     private final QuantizationConfig quantizationConfig;
+    /**
+     * State used to quantize all the training vectors, trained on the first batch, which holds the first collection
+     * round, a random sample of every shard.
+     */
+    private QuantizationState quantizationState;
 
     /**
      * Constructor
@@ -48,61 +49,55 @@ public class FloatTrainingDataConsumer extends TrainingDataConsumer {
 
     @Override
     public void accept(List<?> floats) {
+        if (floats.isEmpty()) {
+            return;
+        }
         if (isValidFloatsAndQuantizationConfig(floats)) {
             try {
-                List<byte[]> byteVectors = quantizeVectors(floats);
+                byte[][] byteVectors = quantizeVectors(floats).toArray(new byte[0][0]);
                 long memoryAddress = trainingDataAllocation.getMemoryAddress();
-                memoryAddress = JNICommons.storeBinaryVectorData(memoryAddress, byteVectors.toArray(new byte[0][0]), byteVectors.size());
+                memoryAddress = JNICommons.storeBinaryVectorData(
+                    memoryAddress,
+                    byteVectors,
+                    getInitialCapacity(byteVectors.length, byteVectors[0].length, Byte.BYTES)
+                );
                 trainingDataAllocation.setMemoryAddress(memoryAddress);
             } catch (IOException e) {
                 throw new RuntimeException(e);
             }
         } else {
+            float[][] vectors = floats.toArray(new float[0][0]);
             trainingDataAllocation.setMemoryAddress(
-                JNIService.transferVectors(
+                JNICommons.storeVectorData(
                     trainingDataAllocation.getMemoryAddress(),
-                    floats.stream().map(v -> ArrayUtils.toPrimitive((Float[]) v)).toArray(float[][]::new)
+                    vectors,
+                    getInitialCapacity(vectors.length, vectors[0].length, Float.BYTES)
                 )
             );
         }
     }
 
-    @Override
-    public void processTrainingVectors(SearchResponse searchResponse, int vectorsToAdd, String fieldName) {
-        SearchHit[] hits = searchResponse.getHits().getHits();
-        List<Float[]> vectors = new ArrayList<>();
-        String[] fieldPath = fieldName.split("\\.");
-
-        for (int vector = 0; vector < vectorsToAdd; vector++) {
-            Object fieldValue = extractFieldValue(hits[vector], fieldPath);
-            if (!(fieldValue instanceof List<?>)) {
-                continue;
-            }
-
-            List<Number> fieldList = (List<Number>) fieldValue;
-            vectors.add(fieldList.stream().map(Number::floatValue).toArray(Float[]::new));
-        }
-
-        setTotalVectorsCountAdded(getTotalVectorsCountAdded() + vectors.size());
-
-        accept(vectors);
-    }
-
     private List<byte[]> quantizeVectors(List<?> vectors) throws IOException {
         List<byte[]> bytes = new ArrayList<>();
-        ScalarQuantizationParams quantizationParams = new ScalarQuantizationParams(quantizationConfig.getQuantizationType());
+        ScalarQuantizationParams quantizationParams = new ScalarQuantizationParams(
+            quantizationConfig.getQuantizationType(),
+            quantizationConfig.isEnableRandomRotation()
+        );
         Quantizer<float[], byte[]> quantizer = QuantizerFactory.getQuantizer(quantizationParams);
-        // Create training request
-        TrainingRequest<float[]> trainingRequest = new TrainingRequest<float[]>(vectors.size()) {
-            @Override
-            public float[] getVectorAtThePosition(int position) {
-                return ArrayUtils.toPrimitive((Float[]) vectors.get(position));
-            }
-        };
-        QuantizationState quantizationState = quantizer.train(trainingRequest);
+        if (quantizationState == null) {
+            // The state is trained on the first batch and reused for the next batches so that all vectors are quantized
+            // consistently
+            TrainingRequest<float[]> trainingRequest = new TrainingRequest<float[]>(vectors.size()) {
+                @Override
+                public float[] getVectorAtThePosition(int position) {
+                    return (float[]) vectors.get(position);
+                }
+            };
+            quantizationState = quantizer.train(trainingRequest);
+        }
         BinaryQuantizationOutput binaryQuantizationOutput = new BinaryQuantizationOutput(quantizationConfig.getQuantizationType().getId());
         for (int i = 0; i < vectors.size(); i++) {
-            quantizer.quantize(ArrayUtils.toPrimitive((Float[]) vectors.get(i)), quantizationState, binaryQuantizationOutput);
+            quantizer.quantize((float[]) vectors.get(i), quantizationState, binaryQuantizationOutput);
             bytes.add(binaryQuantizationOutput.getQuantizedVectorCopy());
         }
 
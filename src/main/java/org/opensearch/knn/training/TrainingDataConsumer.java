@@ -13,12 +13,10 @@ package org.opensearch.knn.training;
 
 import lombok.Getter;
 import lombok.Setter;
-import org.opensearch.action.search.SearchResponse;
+import org.opensearch.core.common.unit.ByteSizeUnit;
 import org.opensearch.knn.index.memory.NativeMemoryAllocation;
-import org.opensearch.search.SearchHit;
 
 import java.util.List;
-import java.util.Map;
 
 /**
  * TrainingDataConsumer is an abstract class that defines the interface for consuming training data.
@@ -29,6 +27,13 @@ public abstract class TrainingDataConsumer {
     @Setter
     @Getter
     private int totalVectorsCountAdded = 0;
+    /**
+     * Maximum number of vectors the consumer will transfer. The native buffer is reserved from it on the first transfer,
+     * so that it is not reallocated and copied as batches are appended.
+     */
+    @Setter
+    @Getter
+    private int maxVectorCount = 0;
     protected final NativeMemoryAllocation.TrainingDataAllocation trainingDataAllocation;
 
     /**
@@ -42,23 +47,30 @@ public abstract class TrainingDataConsumer {
 
     protected abstract void accept(List<?> vectors);
 
-    public abstract void processTrainingVectors(SearchResponse searchResponse, int vectorsToAdd, String fieldName);
+    /**
+     * Transfers vectors collected directly from the shards of the training index.
+     *
+     * @param vectors float[] for float vectors, byte[] for byte and binary vectors
+     */
+    public void processTrainingVectors(List<?> vectors) {
+        setTotalVectorsCountAdded(getTotalVectorsCountAdded() + vectors.size());
+        accept(vectors);
+    }
 
     /**
-     * Traverses the hit to the desired field and extracts its value.
+     * Number of elements to reserve for the native training buffer. The reservation is bounded by the size accounted
+     * for the allocation in the native memory cache, and never smaller than the first batch.
      *
-     * @param hit The search hit to extract the field value from
-     * @param fieldPath The path to the desired field
-     * @return The extracted field value, or null if the field does not exist
+     * @param batchSize number of vectors in the batch being transferred
+     * @param vectorLength number of elements of each vector in native memory
+     * @param bytesPerElement number of bytes of each element in native memory
+     * @return number of elements to reserve
      */
-    protected Object extractFieldValue(SearchHit hit, String[] fieldPath) {
-        Map<String, Object> currentMap = hit.getSourceAsMap();
-        for (int pathPart = 0; pathPart < fieldPath.length - 1; pathPart++) {
-            currentMap = (Map<String, Object>) currentMap.get(fieldPath[pathPart]);
-            if (currentMap == null) {
-                return null;
-            }
-        }
-        return currentMap.get(fieldPath[fieldPath.length - 1]);
+    protected long getInitialCapacity(int batchSize, int vectorLength, int bytesPerElement) {
+        long expectedCapacity = Math.min(
+            (long) maxVectorCount * vectorLength,
+            ByteSizeUnit.KB.toBytes(trainingDataAllocation.getSizeInKB()) / bytesPerElement
+        );
+        return Math.max((long) batchSize * vectorLength, expectedCapacity);
     }
 }
@@ -19,6 +19,7 @@ import org.opensearch.common.UUIDs;
 import org.opensearch.knn.common.KNNConstants;
 import org.opensearch.knn.index.KNNSettings;
 import org.opensearch.knn.index.VectorDataType;
+import org.opensearch.knn.index.engine.KNNEngine;
 import org.opensearch.knn.index.engine.KNNLibraryIndexingContext;
 import org.opensearch.knn.index.engine.KNNMethodConfigContext;
 import org.opensearch.knn.index.engine.qframe.QuantizationConfig;
@@ -38,6 +39,7 @@ import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Encapsulates all information required to generate and train a model.
@@ -57,6 +59,16 @@ public class TrainingJob implements Runnable {
     @Getter
     private final String modelId;
 
+    // Guards the native training progress, which only lives while the index is trained
+    private final Object trainingProgressLock = new Object();
+    private long trainingProgressAddress;
+    private int iterations;
+    private int totalIterations;
+    private double objective;
+    private volatile long startTimeNanos;
+    @Getter
+    private volatile boolean cancelled;
+
     /**
      * Constructor.
      *
@@ -112,9 +124,11 @@ public class TrainingJob implements Runnable {
         NativeMemoryAllocation trainingDataAllocation = null;
         NativeMemoryAllocation modelAnonymousAllocation = null;
         ModelMetadata modelMetadata = model.getModelMetadata();
+        startTimeNanos = System.nanoTime();
 
         try {
-            // Get training data
+            // Get training data, stopping the collection if the job is cancelled while it is loaded
+            trainingDataEntryContext.setCancellationCheck(this::isCancelled);
             trainingDataAllocation = nativeMemoryCacheManager.get(trainingDataEntryContext, false);
 
             // Acquire lock on allocation -- this will wait until training data is loaded
@@ -179,10 +193,7 @@ public class TrainingJob implements Runnable {
                 .getKNNLibraryIndexingContext(knnMethodContext, knnMethodConfigContext);
 
             Map<String, Object> trainParameters = libraryIndexingContext.getLibraryParameters();
-            trainParameters.put(
-                KNNConstants.INDEX_THREAD_QTY,
-                KNNSettings.state().getSettingValue(KNNSettings.KNN_ALGO_PARAM_INDEX_THREAD_QTY)
-            );
+            trainParameters.put(KNNConstants.INDEX_THREAD_QTY, getTrainingThreadQuantity());
 
             if (libraryIndexingContext.getQuantizationConfig() != QuantizationConfig.EMPTY) {
                 trainParameters.put(KNNConstants.VECTOR_DATA_TYPE_FIELD, VectorDataType.BINARY.getValue());
@@ -190,25 +201,25 @@ public class TrainingJob implements Runnable {
                 trainParameters.put(KNNConstants.VECTOR_DATA_TYPE_FIELD, modelMetadata.getVectorDataType().getValue());
             }
 
-            byte[] modelBlob = JNIService.trainIndex(
-                trainParameters,
-                model.getModelMetadata().getDimension(),
-                trainingDataAllocation.getMemoryAddress(),
-                model.getModelMetadata().getKnnEngine()
-            );
+            byte[] modelBlob = trainWithProgress(trainParameters, trainingDataAllocation.getMemoryAddress());
 
             // Once training finishes, update model
             model.setModelBlob(modelBlob);
             modelMetadata.setState(ModelState.CREATED);
         } catch (Exception e) {
-            logger.error("Failed to run training job for model \"" + modelId + "\": ", e);
             modelMetadata.setState(ModelState.FAILED);
-            modelMetadata.setError(
-                "Failed to execute training. May be caused by an invalid method definition or " + "not enough memory to perform training."
-            );
-
-            KNNCounter.TRAINING_ERRORS.increment();
+            if (cancelled) {
+                logger.info("Training job for model \"{}\" was cancelled", modelId);
+                modelMetadata.setError("Training job was cancelled.");
+            } else {
+                logger.error("Failed to run training job for model \"" + modelId + "\": ", e);
+                modelMetadata.setError(
+                    "Failed to execute training. May be caused by an invalid method definition or "
+                        + "not enough memory to perform training."
+                );
 
+                KNNCounter.TRAINING_ERRORS.increment();
+            }
         } finally {
             // Invalidate right away so we dont run into any big memory problems
             trainingDataAllocation.readUnlock();
@@ -217,4 +228,74 @@ public class TrainingJob implements Runnable {
             nativeMemoryCacheManager.invalidate(modelAnonymousEntryContext.getKey());
         }
     }
+
+    /**
+     * Cancels the job. If the index is being trained, training stops before its next k-means iteration.
+     */
+    public void cancel() {
+        synchronized (trainingProgressLock) {
+            cancelled = true;
+            if (trainingProgressAddress != 0) {
+                JNIService.cancelTraining(trainingProgressAddress, model.getModelMetadata().getKnnEngine());
+            }
+        }
+    }
+
+    /**
+     * Get the progress of the job. Iterations and objective are those of the k-means training of the coarse quantizer.
+     *
+     * @return {@link TrainingTask.Status} of the job
+     */
+    public TrainingTask.Status getStatus() {
+        synchronized (trainingProgressLock) {
+            if (trainingProgressAddress != 0) {
+                updateProgress();
+            }
+            long runningTimeInMillis = startTimeNanos == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTimeNanos);
+            return new TrainingTask.Status(modelId, iterations, totalIterations, objective, runningTimeInMillis, cancelled);
+        }
+    }
+
+    private byte[] trainWithProgress(Map<String, Object> trainParameters, long trainVectorsPointer) {
+        KNNEngine knnEngine = model.getModelMetadata().getKnnEngine();
+        long progressAddress;
+        synchronized (trainingProgressLock) {
+            if (cancelled) {
+                throw new IllegalStateException("Training job was cancelled before training started");
+            }
+            progressAddress = JNIService.createTrainingProgress(knnEngine);
+            trainingProgressAddress = progressAddress;
+        }
+
+        try {
+            return JNIService.trainIndex(
+                trainParameters,
+                model.getModelMetadata().getDimension(),
+                trainVectorsPointer,
+                progressAddress,
+                knnEngine
+            );
+        } finally {
+            synchronized (trainingProgressLock) {
+                updateProgress();
+                trainingProgressAddress = 0;
+                JNIService.freeTrainingProgress(progressAddress, knnEngine);
+            }
+        }
+    }
+
+    private void updateProgress() {
+        KNNEngine knnEngine = model.getModelMetadata().getKnnEngine();
+        iterations = JNIService.getTrainingIterations(trainingProgressAddress, knnEngine);
+        totalIterations = JNIService.getTrainingTotalIterations(trainingProgressAddress, knnEngine);
+        objective = JNIService.getTrainingObjective(trainingProgressAddress, knnEngine);
+    }
+
+    private static int getTrainingThreadQuantity() {
+        Integer trainingThreadQuantity = KNNSettings.state().getSettingValue(KNNSettings.KNN_TRAINING_THREAD_QTY);
+        if (trainingThreadQuantity > 0) {
+            return trainingThreadQuantity;
+        }
+        return KNNSettings.state().getSettingValue(KNNSettings.KNN_ALGO_PARAM_INDEX_THREAD_QTY);
+    }
 }
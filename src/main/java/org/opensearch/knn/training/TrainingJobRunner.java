@@ -15,14 +15,19 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.action.index.IndexResponse;
-import org.opensearch.common.ValidationException;
+import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
+import org.opensearch.core.tasks.TaskId;
 import org.opensearch.knn.indices.ModelDao;
 import org.opensearch.knn.indices.ModelMetadata;
 import org.opensearch.knn.indices.ModelState;
 import org.opensearch.knn.plugin.stats.KNNCounter;
+import org.opensearch.tasks.Task;
+import org.opensearch.tasks.TaskAwareRequest;
+import org.opensearch.tasks.TaskManager;
 import org.opensearch.threadpool.ThreadPool;
 
 import java.io.IOException;
+import java.util.Map;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.Semaphore;
@@ -38,11 +43,17 @@ public class TrainingJobRunner {
 
     public static Logger logger = LogManager.getLogger(TrainingJobRunner.class);
 
+    /**
+     * Action of the tasks registered for running training jobs
+     */
+    public static final String TRAINING_TASK_ACTION = "cluster:admin/knn_training_model_action[job]";
+
     private static TrainingJobRunner INSTANCE;
     private static ModelDao modelDao;
     private static ThreadPool threadPool;
 
-    private final Semaphore semaphore;
+    private volatile Semaphore semaphore;
+    private volatile int maxJobCount;
     private final AtomicInteger jobCount;
 
     /**
@@ -59,7 +70,8 @@ public class TrainingJobRunner {
 
     private TrainingJobRunner() {
         this.jobCount = new AtomicInteger(0);
-        this.semaphore = new Semaphore(1);
+        this.maxJobCount = 1;
+        this.semaphore = new Semaphore(maxJobCount);
     }
 
     /**
@@ -73,6 +85,21 @@ public class TrainingJobRunner {
         TrainingJobRunner.modelDao = modelDao;
     }
 
+    /**
+     * Initializes static components and the number of training jobs the node runs at the same time. It must be called
+     * before any job is executed, and the training thread pool must have at least maxJobCount threads.
+     *
+     * @param threadPool threadPool to use to get KNN Training Executor
+     * @param modelDao modelDao used to serialize the models
+     * @param maxJobCount maximum number of training jobs running at the same time on the node
+     */
+    public static void initialize(ThreadPool threadPool, ModelDao modelDao, int maxJobCount) {
+        initialize(threadPool, modelDao);
+        TrainingJobRunner trainingJobRunner = getInstance();
+        trainingJobRunner.maxJobCount = maxJobCount;
+        trainingJobRunner.semaphore = new Semaphore(maxJobCount);
+    }
+
     /**
      * Execute a training job. This function will first grab a permit, and then serialize the initial model, then
      * execute training, and then serialize the final result.
@@ -82,14 +109,25 @@ public class TrainingJobRunner {
      */
     public void execute(TrainingJob trainingJob, ActionListener<IndexResponse> listener) throws IOException, ExecutionException,
         InterruptedException {
+        execute(trainingJob, null, listener);
+    }
+
+    /**
+     * Execute a training job and register a {@link TrainingTask} for it while it is submitted to the training thread
+     * pool, so that the job can be monitored and cancelled through the tasks API.
+     *
+     * @param trainingJob training job to be executed
+     * @param taskManager task manager to register the job with, or null to not register it
+     * @param listener listener to handle final model serialization response (or exception)
+     */
+    public void execute(TrainingJob trainingJob, TaskManager taskManager, ActionListener<IndexResponse> listener) throws IOException,
+        ExecutionException, InterruptedException {
         // If the semaphore cannot be acquired, the node is unable to execute this job. This allows us to limit
         // the number of training jobs that enter this function. Although the training threadpool size will also prevent
-        // this, we want to prevent this before we perform any serialization.
+        // this, we want to prevent this before we perform any serialization. The job is rejected, rather than invalid,
+        // so that the router can queue it again when it raced with another job for the last slot of the node.
         if (!semaphore.tryAcquire()) {
-            ValidationException exception = new ValidationException();
-            exception.addValidationError("Unable to run training job: No training capacity on node.");
-            KNNCounter.TRAINING_ERRORS.increment();
-            throw exception;
+            throw new OpenSearchRejectedExecutionException("Unable to run training job: No training capacity on node.");
         }
 
         jobCount.incrementAndGet();
@@ -100,7 +138,7 @@ public class TrainingJobRunner {
             serializeModel(trainingJob, ActionListener.wrap(indexResponse -> {
                 // Respond to the request with the initial index response
                 listener.onResponse(indexResponse);
-                train(trainingJob);
+                train(trainingJob, taskManager);
             }, exception -> {
                 // Serialization failed. Let listener handle the exception, but free up resources.
                 jobCount.decrementAndGet();
@@ -115,7 +153,7 @@ public class TrainingJobRunner {
         }
     }
 
-    private void train(TrainingJob trainingJob) {
+    private void train(TrainingJob trainingJob, TaskManager taskManager) {
         // Attempt to submit job to training thread pool. On failure, release the resources and serialize the failure.
 
         // Listener for update model after training index action
@@ -127,6 +165,8 @@ public class TrainingJobRunner {
             }
         );
 
+        Task trainingTask = registerTask(trainingJob, taskManager);
+
         try {
             threadPool.executor(TRAIN_THREAD_POOL).execute(() -> {
                 try {
@@ -139,6 +179,7 @@ public class TrainingJobRunner {
                     logger.error("Unable to complete training for \"" + trainingJob.getModelId() + "\": " + e.getMessage());
                     KNNCounter.TRAINING_ERRORS.increment();
                 } finally {
+                    unregisterTask(trainingTask, taskManager);
                     jobCount.decrementAndGet();
                     semaphore.release();
                 }
@@ -155,6 +196,7 @@ public class TrainingJobRunner {
             } catch (IOException | ExecutionException | InterruptedException e) {
                 logger.error("Unable to serialize the failure for model \"{}\": ", trainingJob.getModelId(), e);
             } finally {
+                unregisterTask(trainingTask, taskManager);
                 jobCount.decrementAndGet();
                 semaphore.release();
                 KNNCounter.TRAINING_ERRORS.increment();
@@ -162,6 +204,36 @@ public class TrainingJobRunner {
         }
     }
 
+    private Task registerTask(TrainingJob trainingJob, TaskManager taskManager) {
+        if (taskManager == null) {
+            return null;
+        }
+        return taskManager.register(TrainingTask.TASK_TYPE, TRAINING_TASK_ACTION, new TaskAwareRequest() {
+            private TaskId parentTaskId = TaskId.EMPTY_TASK_ID;
+
+            @Override
+            public void setParentTask(TaskId taskId) {
+                this.parentTaskId = taskId;
+            }
+
+            @Override
+            public TaskId getParentTask() {
+                return parentTaskId;
+            }
+
+            @Override
+            public Task createTask(long id, String type, String action, TaskId parentTaskId, Map<String, String> headers) {
+                return new TrainingTask(id, type, action, parentTaskId, headers, trainingJob);
+            }
+        });
+    }
+
+    private void unregisterTask(Task trainingTask, TaskManager taskManager) {
+        if (trainingTask != null) {
+            taskManager.unregister(trainingTask);
+        }
+    }
+
     private void serializeModel(TrainingJob trainingJob, ActionListener<IndexResponse> listener, boolean update) throws IOException,
         ExecutionException, InterruptedException {
         if (update) {
@@ -184,4 +256,13 @@ public class TrainingJobRunner {
     public int getJobCount() {
         return jobCount.get();
     }
+
+    /**
+     * Get the maximum number of jobs the runner runs at the same time.
+     *
+     * @return maximum number of running jobs.
+     */
+    public int getMaxJobCount() {
+        return maxJobCount;
+    }
 }
@@ -0,0 +1,122 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.training;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.tasks.TaskId;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.knn.common.KNNConstants;
+import org.opensearch.tasks.CancellableTask;
+import org.opensearch.tasks.Task;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Task registered while a {@link TrainingJob} runs, so that training shows up in the tasks API with its progress and
+ * can be cancelled with it. Cancelling the task stops the training before its next k-means iteration.
+ */
+public class TrainingTask extends CancellableTask {
+
+    public static final String TASK_TYPE = "transport";
+
+    private final TrainingJob trainingJob;
+
+    /**
+     * Constructor
+     *
+     * @param id id of the task
+     * @param type type of the task
+     * @param action action of the task
+     * @param parentTaskId id of the parent task
+     * @param headers headers of the task
+     * @param trainingJob job the task tracks
+     */
+    public TrainingTask(long id, String type, String action, TaskId parentTaskId, Map<String, String> headers, TrainingJob trainingJob) {
+        super(id, type, action, "model_id[" + trainingJob.getModelId() + "]", parentTaskId, headers);
+        this.trainingJob = trainingJob;
+    }
+
+    @Override
+    public boolean shouldCancelChildrenOnCancellation() {
+        return false;
+    }
+
+    @Override
+    protected void onCancelled() {
+        trainingJob.cancel();
+    }
+
+    @Override
+    public Status getStatus() {
+        return trainingJob.getStatus();
+    }
+
+    /**
+     * Progress of a training job
+     */
+    @AllArgsConstructor
+    @Getter
+    @EqualsAndHashCode
+    public static class Status implements Task.Status {
+
+        public static final String NAME = "knn_training_job";
+
+        private final String modelId;
+        private final int iterations;
+        private final int totalIterations;
+        private final double objective;
+        private final long runningTimeInMillis;
+        private final boolean cancelled;
+
+        /**
+         * Constructor from stream.
+         *
+         * @param in StreamInput to read from
+         * @throws IOException on failure to read from stream
+         */
+        public Status(StreamInput in) throws IOException {
+            this.modelId = in.readString();
+            this.iterations = in.readVInt();
+            this.totalIterations = in.readVInt();
+            this.objective = in.readDouble();
+            this.runningTimeInMillis = in.readVLong();
+            this.cancelled = in.readBoolean();
+        }
+
+        @Override
+        public String getWriteableName() {
+            return NAME;
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            out.writeString(modelId);
+            out.writeVInt(iterations);
+            out.writeVInt(totalIterations);
+            out.writeDouble(objective);
+            out.writeVLong(runningTimeInMillis);
+            out.writeBoolean(cancelled);
+        }
+
+        @Override
+        public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+            builder.startObject();
+            builder.field(KNNConstants.MODEL_ID, modelId);
+            builder.field("iterations", iterations);
+            builder.field("total_iterations", totalIterations);
+            builder.field("objective", objective);
+            builder.field("running_time_in_millis", runningTimeInMillis);
+            builder.field("cancelled", cancelled);
+            builder.endObject();
+            return builder;
+        }
+    }
+}
@@ -14,63 +14,75 @@ package org.opensearch.knn.training;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.core.action.ActionListener;
-import org.opensearch.action.search.SearchRequestBuilder;
-import org.opensearch.action.search.SearchResponse;
-import org.opensearch.action.search.SearchScrollRequestBuilder;
 import org.opensearch.client.Client;
 import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.ValidationException;
-import org.opensearch.common.unit.TimeValue;
-import org.opensearch.index.query.ExistsQueryBuilder;
+import org.opensearch.core.action.support.DefaultShardOperationFailedException;
+import org.opensearch.core.common.unit.ByteSizeUnit;
+import org.opensearch.core.tasks.TaskCancelledException;
 import org.opensearch.knn.index.util.IndexUtil;
-import org.opensearch.search.SearchHit;
-import org.opensearch.search.sort.SortOrder;
+import org.opensearch.knn.plugin.transport.TrainingDataCollectAction;
+import org.opensearch.knn.plugin.transport.TrainingDataCollectRequest;
+import org.opensearch.knn.plugin.transport.TrainingDataCollectResponse;
+import org.opensearch.knn.plugin.transport.TrainingDataCollectShardResult;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BooleanSupplier;
 
 public class VectorReader {
 
     public static Logger logger = LogManager.getLogger(VectorReader.class);
 
+    // Maximum size of the vectors returned by all the shards in a round, shared evenly between the shards
+    static final long MAX_ROUND_SIZE_IN_BYTES = ByteSizeUnit.MB.toBytes(16);
+
     private final Client client;
-    private final TimeValue scrollTime = new TimeValue(60000);
 
     /**
      * Constructor
      *
-     * @param client used to make search requests against the cluster
+     * @param client used to make collection requests against the cluster
      */
     public VectorReader(Client client) {
         this.client = client;
     }
 
     /**
-     * Read vectors from a provided index/field and pass them to vectorConsumer that will do something with them.
+     * Read vectors from a provided index/field directly from the vector values of its primary shards and pass them to
+     * vectorConsumer. Shards are read in parallel in rounds, each shard returning at most its share of maxVectorCount
+     * per round, capped by searchSize and by its share of {@link #MAX_ROUND_SIZE_IN_BYTES} so that the size of a round
+     * stays bounded whatever the dimension of the vectors, until maxVectorCount vectors are collected or the shards are
+     * exhausted. Each round is a random sample of the vectors the previous rounds did not
+     * return. The collection is aborted with a {@link TaskCancelledException} before the next round once isCancelled
+     * returns true.
      *
      * @param clusterService cluster service to get information about the index
      * @param indexName name of index containing vectors
      * @param fieldName name of field containing vectors
      * @param maxVectorCount maximum number of vectors to return
-     * @param searchSize maximum number of vectors to return in a given search
-     * @param vectorConsumer consumer used to do something with the collected vectors after each search
-     * @param listener ActionListener that should be called once all search operations complete
+     * @param searchSize maximum number of vectors each shard returns in a round
+     * @param vectorConsumer consumer used to do something with the collected vectors after each round
+     * @param isCancelled checked before each collection round, aborts the collection when it returns true
+     * @param listener ActionListener that should be called once all collection rounds complete
      */
-    public <T> void read(
+    public void readFromShards(
         ClusterService clusterService,
         String indexName,
         String fieldName,
         int maxVectorCount,
         int searchSize,
         TrainingDataConsumer vectorConsumer,
-        ActionListener<SearchResponse> listener
+        BooleanSupplier isCancelled,
+        ActionListener<TrainingDataCollectResponse> listener
     ) {
-
         ValidationException validationException = null;
 
-        // Validate arguments
         if (maxVectorCount <= 0) {
             validationException = new ValidationException();
             validationException.addValidationError("maxVectorCount must be >= 0");
@@ -81,6 +93,31 @@ public class VectorReader {
             validationException.addValidationError("searchSize must be > 0 and <= 10000");
         }
 
+        validateKnnField(clusterService, indexName, fieldName, validationException);
+
+        int numberOfShards = clusterService.state().metadata().index(indexName).getNumberOfShards();
+        int vectorsPerShard = Math.min((maxVectorCount + numberOfShards - 1) / numberOfShards, searchSize);
+        long bytesPerShard = Math.max(1, MAX_ROUND_SIZE_IN_BYTES / numberOfShards);
+        new ShardVectorReaderListener(
+            client,
+            indexName,
+            fieldName,
+            maxVectorCount,
+            vectorsPerShard,
+            bytesPerShard,
+            ThreadLocalRandom.current().nextLong(),
+            isCancelled,
+            listener,
+            vectorConsumer
+        ).start();
+    }
+
+    private void validateKnnField(
+        ClusterService clusterService,
+        String indexName,
+        String fieldName,
+        ValidationException validationException
+    ) {
         IndexMetadata indexMetadata = clusterService.state().metadata().index(indexName);
         if (indexMetadata == null) {
             validationException = validationException == null ? new ValidationException() : validationException;
@@ -91,167 +128,128 @@ public class VectorReader {
         ValidationException fieldValidationException = IndexUtil.validateKnnField(indexMetadata, fieldName, -1, null, null, null);
         if (fieldValidationException != null) {
             validationException = validationException == null ? new ValidationException() : validationException;
-            validationException.addValidationErrors(validationException.validationErrors());
+            validationException.addValidationErrors(fieldValidationException.validationErrors());
         }
 
         if (validationException != null) {
             throw validationException;
         }
-
-        // Start reading vectors from index
-        SearchScrollRequestBuilder searchScrollRequestBuilder = createSearchScrollRequestBuilder();
-
-        ActionListener<SearchResponse> vectorReaderListener = new VectorReaderListener(
-            client,
-            fieldName,
-            maxVectorCount,
-            0,
-            listener,
-            vectorConsumer,
-            searchScrollRequestBuilder
-        );
-
-        createSearchRequestBuilder(indexName, fieldName, Integer.min(maxVectorCount, searchSize)).execute(vectorReaderListener);
-    }
-
-    private SearchRequestBuilder createSearchRequestBuilder(String indexName, String fieldName, int resultSize) {
-        ExistsQueryBuilder queryBuilder = new ExistsQueryBuilder(fieldName);
-
-        SearchRequestBuilder searchRequestBuilder = client.prepareSearch(indexName);
-        searchRequestBuilder.setScroll(scrollTime);
-        searchRequestBuilder.setQuery(queryBuilder);
-        searchRequestBuilder.setSize(resultSize);
-        searchRequestBuilder.addSort("_doc", SortOrder.ASC);
-
-        // We are only interested in reading vectors from a particular field
-        searchRequestBuilder.setFetchSource(fieldName, null);
-
-        return searchRequestBuilder;
-    }
-
-    private SearchScrollRequestBuilder createSearchScrollRequestBuilder() {
-        SearchScrollRequestBuilder searchScrollRequestBuilder = client.prepareSearchScroll(null);
-        searchScrollRequestBuilder.setScroll(scrollTime);
-        return searchScrollRequestBuilder;
     }
 
-    private static class VectorReaderListener<T> implements ActionListener<SearchResponse> {
+    private static class ShardVectorReaderListener implements ActionListener<TrainingDataCollectResponse> {
 
         final Client client;
+        final String indexName;
         final String fieldName;
         final int maxVectorCount;
-        int collectedVectorCount;
-        final ActionListener<SearchResponse> listener;
+        final int vectorsPerShard;
+        final long bytesPerShard;
+        // Seed of the sampling keys of the shards, the same for all rounds
+        final long seed;
+        // Sampling key each shard resumes after in the next round
+        final Map<Integer, Long> shardCursors;
+        final BooleanSupplier isCancelled;
+        final ActionListener<TrainingDataCollectResponse> listener;
         final TrainingDataConsumer vectorConsumer;
-        SearchScrollRequestBuilder searchScrollRequestBuilder;
 
         /**
          * Constructor
          *
+         * @param indexName name of index to read vectors from
          * @param fieldName name of field to read vectors from
-         * @param maxVectorCount maximum total number of vectors that should be read from scroll queries
-         * @param collectedVectorCount number of vectors that have already been collected
-         * @param listener Search Response listener to be called when all queries complete
+         * @param maxVectorCount maximum total number of vectors that should be read from the shards
+         * @param vectorsPerShard maximum number of vectors read from each shard in a round
+         * @param bytesPerShard maximum size in bytes of the vectors read from each shard in a round
+         * @param seed seed of the sampling keys of the shards
+         * @param isCancelled checked before each round, the collection is aborted when it returns true
+         * @param listener listener to be called when all rounds complete
          * @param vectorConsumer Consumer used to do something with the vectors
-         * @param searchScrollRequestBuilder Search scroll request builder used to get next set of vectors
          */
-        public VectorReaderListener(
+        public ShardVectorReaderListener(
             Client client,
+            String indexName,
             String fieldName,
             int maxVectorCount,
-            int collectedVectorCount,
-            ActionListener<SearchResponse> listener,
-            TrainingDataConsumer vectorConsumer,
-            SearchScrollRequestBuilder searchScrollRequestBuilder
+            int vectorsPerShard,
+            long bytesPerShard,
+            long seed,
+            BooleanSupplier isCancelled,
+            ActionListener<TrainingDataCollectResponse> listener,
+            TrainingDataConsumer vectorConsumer
         ) {
             this.client = client;
+            this.indexName = indexName;
             this.fieldName = fieldName;
             this.maxVectorCount = maxVectorCount;
-            this.collectedVectorCount = collectedVectorCount;
+            this.vectorsPerShard = vectorsPerShard;
+            this.bytesPerShard = bytesPerShard;
+            this.seed = seed;
+            this.shardCursors = new HashMap<>();
+            this.isCancelled = isCancelled;
             this.listener = listener;
             this.vectorConsumer = vectorConsumer;
-            this.searchScrollRequestBuilder = searchScrollRequestBuilder;
         }
 
-        @Override
-        @SuppressWarnings("unchecked")
-        public void onResponse(SearchResponse searchResponse) {
-            // Get the vectors from the search response
-            // Either add the entire set of returned hits, or maxVectorCount - collectedVectorCount hits
-            SearchHit[] hits = searchResponse.getHits().getHits();
-            int vectorsToAdd = Integer.min(maxVectorCount - collectedVectorCount, hits.length);
-
-            vectorConsumer.processTrainingVectors(searchResponse, vectorsToAdd, fieldName);
-            this.collectedVectorCount = vectorConsumer.getTotalVectorsCountAdded();
+        void start() {
+            if (isCancelled.getAsBoolean()) {
+                listener.onFailure(new TaskCancelledException("Collection of training vectors from index " + indexName + " was cancelled"));
+                return;
+            }
+            client.execute(
+                TrainingDataCollectAction.INSTANCE,
+                new TrainingDataCollectRequest(indexName, fieldName, shardCursors, vectorsPerShard, bytesPerShard, seed),
+                this
+            );
+        }
 
-            if (vectorsToAdd <= 0 || this.collectedVectorCount >= maxVectorCount) {
-                // Clear scroll context
-                String scrollId = searchResponse.getScrollId();
+        @Override
+        public void onResponse(TrainingDataCollectResponse response) {
+            if (response.getFailedShards() > 0) {
+                DefaultShardOperationFailedException shardFailure = response.getShardFailures()[0];
+                listener.onFailure(
+                    new IllegalStateException(
+                        String.format(
+                            Locale.ROOT,
+                            "Failed to collect training vectors from %d shards of index %s",
+                            response.getFailedShards(),
+                            indexName
+                        ),
+                        shardFailure.getCause()
+                    )
+                );
+                return;
+            }
 
-                if (scrollId != null) {
-                    client.prepareClearScroll()
-                        .addScrollId(scrollId)
-                        .execute(ActionListener.wrap(clearScrollResponse -> listener.onResponse(searchResponse), listener::onFailure));
-                } else {
-                    listener.onResponse(searchResponse);
+            // Shards that were not exhausted are read again after their cursor, as long as vectors are missing, and exhausted
+            // shards return nothing. The cursor is a sampling key derived from sequence numbers, so segments merged between
+            // rounds are read from the same position. The vectors of all shards are passed to the consumer as a single batch
+            // per round, so that a consumer training a quantization state on its first batch trains it on a random sample of
+            // every shard.
+            boolean hasMore = false;
+            List<Object> roundVectors = new ArrayList<>();
+            for (TrainingDataCollectShardResult shardResult : response.getShardResults()) {
+                int vectorsToAdd = maxVectorCount - vectorConsumer.getTotalVectorsCountAdded() - roundVectors.size();
+                if (vectorsToAdd <= 0) {
+                    break;
                 }
+                roundVectors.addAll(shardResult.getVectors(vectorsToAdd));
+                hasMore |= shardResult.isHasMore();
+                shardCursors.put(shardResult.getShardId(), shardResult.getCursor());
+            }
+            if (roundVectors.isEmpty() == false) {
+                vectorConsumer.processTrainingVectors(roundVectors);
+            }
 
+            if (hasMore && vectorConsumer.getTotalVectorsCountAdded() < maxVectorCount) {
+                start();
             } else {
-                // Create a new search that starts where the last search left off
-                searchScrollRequestBuilder.setScrollId(searchResponse.getScrollId());
-                searchScrollRequestBuilder.execute(this);
+                listener.onResponse(response);
             }
         }
 
         @Override
         public void onFailure(Exception e) {
-            // Clear scroll context
-            String scrollId = searchScrollRequestBuilder.request().scrollId();
-
-            if (scrollId != null) {
-                client.prepareClearScroll()
-                    .addScrollId(scrollId)
-                    .execute(ActionListener.wrap(clearScrollResponse -> listener.onFailure(e), listener::onFailure));
-            } else {
-                listener.onFailure(e);
-            }
-        }
-
-        /**
-         * Extracts vectors from the hits in a search response
-         *
-         * @param searchResponse Search response to extract vectors from
-         * @param vectorsToAdd number of vectors to extract
-         * @return list of vectors
-         */
-        private List<Float[]> extractVectorsFromHits(SearchResponse searchResponse, int vectorsToAdd) {
-            SearchHit[] hits = searchResponse.getHits().getHits();
-            List<Float[]> trainingData = new ArrayList<>();
-            String[] fieldPath = fieldName.split("\\.");
-            int nullVectorCount = 0;
-
-            for (int vector = 0; vector < vectorsToAdd; vector++) {
-                Map<String, Object> currentMap = hits[vector].getSourceAsMap();
-                // The field name may be a nested field, so we need to split it and traverse the map.
-                // Example fieldName: "my_field" or "my_field.nested_field.nested_nested_field"
-
-                for (int pathPart = 0; pathPart < fieldPath.length - 1; pathPart++) {
-                    currentMap = (Map<String, Object>) currentMap.get(fieldPath[pathPart]);
-                }
-
-                if (currentMap.get(fieldPath[fieldPath.length - 1]) instanceof List<?> == false) {
-                    nullVectorCount++;
-                    continue;
-                }
-
-                List<Number> fieldList = (List<Number>) currentMap.get(fieldPath[fieldPath.length - 1]);
-
-                trainingData.add(fieldList.stream().map(Number::floatValue).toArray(Float[]::new));
-            }
-            if (nullVectorCount > 0) {
-                logger.warn("Found {} documents with null vectors in field {}", nullVectorCount, fieldName);
-            }
-            return trainingData;
+            listener.onFailure(e);
         }
     }
 }
@@ -14,12 +14,14 @@ import org.apache.lucene.store.Directory;
 import org.apache.lucene.util.StringHelper;
 import org.apache.lucene.util.Version;
 import org.mockito.Mockito;
+import org.opensearch.action.support.WriteRequest;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.knn.KNNSingleNodeTestCase;
 import org.opensearch.index.IndexService;
 import org.opensearch.index.engine.Engine;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.knn.index.memory.NativeMemoryCacheManager;
+import org.opensearch.knn.plugin.stats.KNNGraphValue;
 
 import java.io.IOException;
 import java.lang.reflect.Field;
@@ -106,6 +108,72 @@ public class KNNIndexShardTests extends KNNSingleNodeTestCase {
         assertEquals(2, NativeMemoryCacheManager.getInstance().getIndicesCacheStats().get(testIndexName).get(GRAPH_COUNT));
     }
 
+    public void testWarmup_whenGraphBuildIsDeferredOnFlush_thenGraphIsBuiltInMemory() throws InterruptedException, ExecutionException,
+        IOException {
+        IndexService indexService = createIndex(
+            testIndexName,
+            Settings.builder()
+                .put(getKNNDefaultIndexSettings())
+                .put(KNNSettings.INDEX_KNN_ADVANCED_APPROXIMATE_THRESHOLD, 0)
+                .put(KNNSettings.INDEX_KNN_ADVANCED_DEFER_GRAPH_BUILD_ON_FLUSH, true)
+                .build()
+        );
+        createKnnIndexMapping(testIndexName, testFieldName, dimensions);
+        addKnnDoc(testIndexName, "1", testFieldName, new Float[] { 2.5F, 3.5F });
+
+        IndexShard indexShard = indexService.iterator().next();
+        KNNIndexShard knnIndexShard = new KNNIndexShard(indexShard);
+        try (Engine.Searcher searcher = indexShard.acquireSearcher("test-deferred-graph")) {
+            assertEquals(0, knnIndexShard.getAllEngineFileContexts(searcher.getIndexReader()).size());
+            assertEquals(1, knnIndexShard.getDeferredGraphContexts(searcher.getIndexReader()).size());
+        }
+        assertNull(NativeMemoryCacheManager.getInstance().getIndicesCacheStats().get(testIndexName));
+
+        final long refreshOperationsBefore = KNNGraphValue.REFRESH_TOTAL_OPERATIONS.getValue();
+        final long deferredGraphBuildsBefore = KNNGraphValue.REFRESH_DEFERRED_GRAPH_BUILD_OPERATIONS.getValue();
+        knnIndexShard.warmup();
+        assertEquals(1, NativeMemoryCacheManager.getInstance().getIndicesCacheStats().get(testIndexName).get(GRAPH_COUNT));
+        // The in memory build is not a refresh
+        assertEquals(refreshOperationsBefore, (long) KNNGraphValue.REFRESH_TOTAL_OPERATIONS.getValue());
+        assertEquals(deferredGraphBuildsBefore + 1, (long) KNNGraphValue.REFRESH_DEFERRED_GRAPH_BUILD_OPERATIONS.getValue());
+        searchKNNIndex(testIndexName, testFieldName, new float[] { 1.0f, 2.0f }, 1);
+
+        // The graph is built once, and released with the rest of the shard's graphs
+        knnIndexShard.warmup();
+        assertEquals(1, NativeMemoryCacheManager.getInstance().getIndicesCacheStats().get(testIndexName).get(GRAPH_COUNT));
+        knnIndexShard.clearCache();
+        assertNull(NativeMemoryCacheManager.getInstance().getIndicesCacheStats().get(testIndexName));
+    }
+
+    public void testWarmup_whenDeferredSegmentHasDeletedDocs_thenDeletedDocsAreNotCountedTowardsThreshold() throws IOException {
+        IndexService indexService = createIndex(
+            testIndexName,
+            Settings.builder()
+                .put(getKNNDefaultIndexSettings())
+                .put(KNNSettings.INDEX_KNN_ADVANCED_APPROXIMATE_THRESHOLD, 2)
+                .put(KNNSettings.INDEX_KNN_ADVANCED_DEFER_GRAPH_BUILD_ON_FLUSH, true)
+                .build()
+        );
+        createKnnIndexMapping(testIndexName, testFieldName, dimensions);
+        // Both docs are flushed to the same segment, then one of them is deleted
+        client().prepareBulk()
+            .add(client().prepareIndex(testIndexName).setId("1").setSource(testFieldName, new float[] { 2.5F, 3.5F }))
+            .add(client().prepareIndex(testIndexName).setId("2").setSource(testFieldName, new float[] { 4.5F, 5.5F }))
+            .setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE)
+            .get();
+        client().prepareDelete(testIndexName, "2").setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE).get();
+
+        IndexShard indexShard = indexService.iterator().next();
+        KNNIndexShard knnIndexShard = new KNNIndexShard(indexShard);
+        try (Engine.Searcher searcher = indexShard.acquireSearcher("test-deferred-graph-deletes")) {
+            assertEquals(1, knnIndexShard.getDeferredGraphContexts(searcher.getIndexReader()).size());
+        }
+
+        // The segment holds two vectors but a single live doc, below the threshold
+        knnIndexShard.warmup();
+        assertNull(NativeMemoryCacheManager.getInstance().getIndicesCacheStats().get(testIndexName));
+    }
+
     public void testGetAllEngineFileContexts() throws IOException, ExecutionException, InterruptedException {
         IndexService indexService = createKNNIndex(testIndexName);
         createKnnIndexMapping(testIndexName, testFieldName, dimensions);
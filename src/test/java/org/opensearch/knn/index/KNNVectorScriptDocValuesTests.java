@@ -27,6 +27,10 @@ import org.junit.Assert;
 import org.junit.Before;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
 
 public class KNNVectorScriptDocValuesTests extends KNNTestCase {
 
@@ -96,6 +100,30 @@ public class KNNVectorScriptDocValuesTests extends KNNTestCase {
         expectThrows(IllegalStateException.class, () -> scriptDocValues.getValue());
     }
 
+    public void testGetByteValue() throws IOException {
+        expectThrows(IllegalStateException.class, () -> scriptDocValues.getByteValue());
+        scriptDocValues.setNextDocId(0);
+        Assert.assertArrayEquals(SAMPLE_BYTE_VECTOR_DATA, scriptDocValues.getByteValue());
+    }
+
+    public void testGetQueryVector_whenSameQueryVector_thenConvertedOnce() {
+        List<Number> queryVector = Arrays.asList(1.0f, 2.0f);
+        AtomicInteger conversions = new AtomicInteger();
+        BiFunction<List<Number>, VectorDataType, float[]> converter = (vector, vectorDataType) -> {
+            conversions.incrementAndGet();
+            return new float[] { vector.get(0).floatValue(), vector.get(1).floatValue() };
+        };
+
+        float[] converted = scriptDocValues.getQueryVector(queryVector, converter);
+        Assert.assertArrayEquals(SAMPLE_VECTOR_DATA, converted, 0.1f);
+        assertSame(converted, scriptDocValues.getQueryVector(queryVector, converter));
+        assertEquals(1, conversions.get());
+
+        // A different list is converted again
+        scriptDocValues.getQueryVector(Arrays.asList(1.0f, 2.0f), converter);
+        assertEquals(2, conversions.get());
+    }
+
     public void testSize() throws IOException {
         Assert.assertEquals(0, scriptDocValues.size());
         scriptDocValues.setNextDocId(0);
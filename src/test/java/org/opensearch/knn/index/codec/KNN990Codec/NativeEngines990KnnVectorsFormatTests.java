@@ -313,6 +313,22 @@ public class NativeEngines990KnnVectorsFormatTests extends KNNTestCase {
         );
     }
 
+    public void testToString_whenFormatsHaveDifferentParameters_thenEachKeepsItsOwn() {
+        final NativeEngines990KnnVectorsFormat deferredFormat = new NativeEngines990KnnVectorsFormat(
+            new Lucene99FlatVectorsFormat(FlatVectorScorerUtil.getLucene99FlatVectorsScorer()),
+            10,
+            true
+        );
+        final NativeEngines990KnnVectorsFormat format = new NativeEngines990KnnVectorsFormat(
+            new Lucene99FlatVectorsFormat(FlatVectorScorerUtil.getLucene99FlatVectorsScorer()),
+            20,
+            false
+        );
+        // Creating a format for another index must not change the parameters of an existing one
+        assertTrue(deferredFormat.toString().contains("approximateThreshold=10, deferGraphBuildOnFlush=true"));
+        assertTrue(format.toString().contains("approximateThreshold=20, deferGraphBuildOnFlush=false"));
+    }
+
     private List<String> getFilesFromSegment(Directory dir, String fileFormat) throws IOException {
         return Arrays.stream(dir.listAll()).filter(x -> x.contains(fileFormat)).collect(Collectors.toList());
     }
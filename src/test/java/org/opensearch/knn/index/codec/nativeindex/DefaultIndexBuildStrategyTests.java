@@ -18,6 +18,7 @@ import org.opensearch.knn.index.codec.nativeindex.model.BuildIndexParams;
 import org.opensearch.knn.index.codec.transfer.OffHeapVectorTransfer;
 import org.opensearch.knn.index.codec.transfer.OffHeapVectorTransferFactory;
 import org.opensearch.knn.index.engine.KNNEngine;
+import org.opensearch.knn.index.memory.ModelTemplateManager;
 import org.opensearch.knn.index.quantizationservice.QuantizationService;
 import org.opensearch.knn.index.store.IndexOutputWithBuffer;
 import org.opensearch.knn.index.vectorvalues.KNNFloatVectorValues;
@@ -286,4 +287,64 @@ public class DefaultIndexBuildStrategyTests extends OpenSearchTestCase {
             }
         }
     }
+
+    @SneakyThrows
+    public void testBuildAndWriteWithModel_whenFaiss_thenLoadedTemplateIsCloned() {
+        // Given
+        final Map<Integer, float[]> docs = Map.of(0, new float[] { 1, 2 }, 1, new float[] { 2, 3 });
+        DocsWithFieldSet docsWithFieldSet = new DocsWithFieldSet();
+        docs.keySet().stream().sorted().forEach(docsWithFieldSet::add);
+
+        byte[] modelBlob = new byte[] { 1 };
+        Map<String, Object> parameters = Map.of("model_id", "faiss-model-id", "model_blob", modelBlob);
+
+        try (
+            MockedStatic<JNIService> mockedJNIService = mockStatic(JNIService.class);
+            MockedStatic<OffHeapVectorTransferFactory> mockedOffHeapVectorTransferFactory = mockStatic(OffHeapVectorTransferFactory.class)
+        ) {
+            OffHeapVectorTransfer offHeapVectorTransfer = mock(OffHeapVectorTransfer.class);
+            mockedOffHeapVectorTransferFactory.when(() -> OffHeapVectorTransferFactory.getVectorTransfer(VectorDataType.FLOAT, 8, 2))
+                .thenReturn(offHeapVectorTransfer);
+            when(offHeapVectorTransfer.getVectorAddress()).thenReturn(200L);
+            mockedJNIService.when(() -> JNIService.loadTemplate(modelBlob, false, KNNEngine.FAISS)).thenReturn(300L);
+
+            IndexOutputWithBuffer indexOutputWithBuffer = Mockito.mock(IndexOutputWithBuffer.class);
+
+            // When two segments are built from the same model
+            for (int i = 0; i < 2; i++) {
+                KNNFloatVectorValues knnVectorValues = (KNNFloatVectorValues) KNNVectorValuesFactory.getVectorValues(
+                    VectorDataType.FLOAT,
+                    docsWithFieldSet,
+                    docs
+                );
+                BuildIndexParams buildIndexParams = BuildIndexParams.builder()
+                    .indexOutputWithBuffer(indexOutputWithBuffer)
+                    .knnEngine(KNNEngine.FAISS)
+                    .vectorDataType(VectorDataType.FLOAT)
+                    .parameters(parameters)
+                    .vectorValues(knnVectorValues)
+                    .totalLiveDocs((int) knnVectorValues.totalLiveDocs())
+                    .build();
+                DefaultIndexBuildStrategy.getInstance().buildAndWriteIndex(buildIndexParams);
+            }
+
+            // Then the template is deserialized once
+            mockedJNIService.verify(() -> JNIService.loadTemplate(modelBlob, false, KNNEngine.FAISS), times(1));
+            mockedJNIService.verify(
+                () -> JNIService.createIndexFromLoadedTemplate(
+                    eq(new int[] { 0, 1 }),
+                    eq(200L),
+                    eq(2),
+                    eq(indexOutputWithBuffer),
+                    eq(300L),
+                    eq(parameters),
+                    eq(KNNEngine.FAISS)
+                ),
+                times(2)
+            );
+
+            ModelTemplateManager.getInstance().invalidate("faiss-model-id");
+            mockedJNIService.verify(() -> JNIService.free(300L, KNNEngine.FAISS, false));
+        }
+    }
 }
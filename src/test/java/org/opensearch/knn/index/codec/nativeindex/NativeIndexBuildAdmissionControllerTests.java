@@ -0,0 +1,61 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.codec.nativeindex;
+
+import lombok.SneakyThrows;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class NativeIndexBuildAdmissionControllerTests extends OpenSearchTestCase {
+
+    public void testAdmit_whenLimitIsDisabled_thenBuildsAreAdmitted() {
+        NativeIndexBuildAdmissionController admissionController = new NativeIndexBuildAdmissionController(() -> -1L);
+        try (
+            NativeIndexBuildAdmissionController.Reservation first = admissionController.admit("field", 100);
+            NativeIndexBuildAdmissionController.Reservation second = admissionController.admit("field", 100)
+        ) {
+            assertFalse(first.isQueued());
+            assertFalse(second.isQueued());
+            assertEquals(200, admissionController.getReservedBytes());
+        }
+        assertEquals(0, admissionController.getReservedBytes());
+    }
+
+    public void testAdmit_whenBuildIsAboveLimitAndNothingRuns_thenBuildIsAdmitted() {
+        NativeIndexBuildAdmissionController admissionController = new NativeIndexBuildAdmissionController(() -> 10L);
+        try (NativeIndexBuildAdmissionController.Reservation reservation = admissionController.admit("field", 100)) {
+            assertFalse(reservation.isQueued());
+            assertEquals(100, admissionController.getReservedBytes());
+        }
+        assertEquals(0, admissionController.getReservedBytes());
+    }
+
+    @SneakyThrows
+    public void testAdmit_whenBuildDoesNotFit_thenBuildIsQueuedUntilMemoryIsReleased() {
+        NativeIndexBuildAdmissionController admissionController = new NativeIndexBuildAdmissionController(() -> 150L);
+        NativeIndexBuildAdmissionController.Reservation first = admissionController.admit("field", 100);
+        AtomicReference<NativeIndexBuildAdmissionController.Reservation> second = new AtomicReference<>();
+        Thread thread = new Thread(() -> second.set(admissionController.admit("field", 100)));
+        thread.start();
+
+        thread.join(200);
+        assertTrue(thread.isAlive());
+        assertEquals(100, admissionController.getReservedBytes());
+
+        first.close();
+        // Closing twice must not release the memory twice
+        first.close();
+        thread.join(TimeUnit.SECONDS.toMillis(10));
+        assertFalse(thread.isAlive());
+        try (NativeIndexBuildAdmissionController.Reservation reservation = second.get()) {
+            assertTrue(reservation.isQueued());
+            assertEquals(100, admissionController.getReservedBytes());
+        }
+        assertEquals(0, admissionController.getReservedBytes());
+    }
+}
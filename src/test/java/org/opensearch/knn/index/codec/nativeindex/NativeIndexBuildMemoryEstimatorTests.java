@@ -0,0 +1,89 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.codec.nativeindex;
+
+import org.mockito.MockedStatic;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.knn.index.KNNSettings;
+import org.opensearch.knn.index.VectorDataType;
+import org.opensearch.knn.index.codec.nativeindex.model.BuildIndexParams;
+import org.opensearch.knn.index.engine.KNNEngine;
+import org.opensearch.knn.index.vectorvalues.KNNVectorValues;
+import org.opensearch.knn.quantization.models.quantizationState.QuantizationState;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.Map;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+import static org.opensearch.knn.common.KNNConstants.INDEX_DESCRIPTION_PARAMETER;
+import static org.opensearch.knn.common.KNNConstants.METHOD_PARAMETER_M;
+import static org.opensearch.knn.common.KNNConstants.PARAMETERS;
+
+public class NativeIndexBuildMemoryEstimatorTests extends OpenSearchTestCase {
+
+    private static final int NUM_DOCS = 1000;
+    private static final int DIMENSION = 128;
+
+    public void testEstimateIndexSizeInBytes_whenFaissHnswFlat_thenVectorsIdsAndLinksAreCounted() {
+        BuildIndexParams indexInfo = buildIndexParams(KNNEngine.FAISS, Map.of(INDEX_DESCRIPTION_PARAMETER, "HNSW16,Flat"), null);
+        // 512 bytes per vector, 8 bytes per id and (2 * 16 + 1) * 4 + 12 bytes of links per node
+        assertEquals(NUM_DOCS * (512L + 8 + 144), NativeIndexBuildMemoryEstimator.estimateIndexSizeInBytes(indexInfo));
+    }
+
+    public void testEstimateIndexSizeInBytes_whenFaissHnswSQfp16_thenEncodedSizeIsCounted() {
+        BuildIndexParams indexInfo = buildIndexParams(KNNEngine.FAISS, Map.of(INDEX_DESCRIPTION_PARAMETER, "HNSW16,SQfp16"), null);
+        assertEquals(NUM_DOCS * (256L + 8 + 144), NativeIndexBuildMemoryEstimator.estimateIndexSizeInBytes(indexInfo));
+    }
+
+    public void testEstimateIndexSizeInBytes_whenFaissIvf_thenNoLinksAreCounted() {
+        BuildIndexParams indexInfo = buildIndexParams(KNNEngine.FAISS, Map.of(INDEX_DESCRIPTION_PARAMETER, "IVF4,Flat"), null);
+        assertEquals(NUM_DOCS * (512L + 8), NativeIndexBuildMemoryEstimator.estimateIndexSizeInBytes(indexInfo));
+    }
+
+    public void testEstimateIndexSizeInBytes_whenNmslib_thenMIsReadFromParameters() {
+        BuildIndexParams indexInfo = buildIndexParams(KNNEngine.NMSLIB, Map.of(PARAMETERS, Map.of(METHOD_PARAMETER_M, 32)), null);
+        assertEquals(NUM_DOCS * (512L + 8 + 272), NativeIndexBuildMemoryEstimator.estimateIndexSizeInBytes(indexInfo));
+    }
+
+    public void testEstimateIndexSizeInBytes_whenQuantized_thenQuantizedSizeIsCounted() {
+        QuantizationState quantizationState = mock(QuantizationState.class);
+        when(quantizationState.getBytesPerVector()).thenReturn(16);
+        BuildIndexParams indexInfo = buildIndexParams(
+            KNNEngine.FAISS,
+            Map.of(INDEX_DESCRIPTION_PARAMETER, "BHNSW16,Flat"),
+            quantizationState
+        );
+        assertEquals(NUM_DOCS * (16L + 8 + 144), NativeIndexBuildMemoryEstimator.estimateIndexSizeInBytes(indexInfo));
+    }
+
+    public void testEstimateBuildMemoryInBytes_thenTransferredVectorsAreCounted() {
+        BuildIndexParams indexInfo = buildIndexParams(KNNEngine.FAISS, Map.of(INDEX_DESCRIPTION_PARAMETER, "HNSW16,Flat"), null);
+        long indexSize = NativeIndexBuildMemoryEstimator.estimateIndexSizeInBytes(indexInfo);
+        try (MockedStatic<KNNSettings> mockedKNNSettings = mockStatic(KNNSettings.class)) {
+            mockedKNNSettings.when(KNNSettings::getVectorStreamingMemoryLimit).thenReturn(new ByteSizeValue(1024));
+
+            assertEquals(indexSize + NUM_DOCS * 512L, NativeIndexBuildMemoryEstimator.estimateBuildMemoryInBytes(indexInfo, false));
+            assertEquals(indexSize + 1024, NativeIndexBuildMemoryEstimator.estimateBuildMemoryInBytes(indexInfo, true));
+        }
+    }
+
+    private BuildIndexParams buildIndexParams(KNNEngine knnEngine, Map<String, Object> parameters, QuantizationState quantizationState) {
+        KNNVectorValues<?> vectorValues = mock(KNNVectorValues.class);
+        when(vectorValues.dimension()).thenReturn(DIMENSION);
+        when(vectorValues.bytesPerVector()).thenReturn(DIMENSION * Float.BYTES);
+        return BuildIndexParams.builder()
+            .fieldName("test-field")
+            .knnEngine(knnEngine)
+            .vectorDataType(VectorDataType.FLOAT)
+            .parameters(parameters)
+            .quantizationState(quantizationState)
+            .vectorValues(vectorValues)
+            .totalLiveDocs(NUM_DOCS)
+            .build();
+    }
+}
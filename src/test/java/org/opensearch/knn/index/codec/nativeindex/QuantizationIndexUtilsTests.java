@@ -106,4 +106,30 @@ public class QuantizationIndexUtilsTests extends KNNTestCase {
         assertTrue(result instanceof byte[]);
         assertArrayEquals(new byte[] { 0x00 }, (byte[]) result);
     }
+
+    public void testProcessAndReturnVector_withQuantizationAndNoCopy_thenOutputBufferIsReused() throws IOException {
+        ScalarQuantizationParams params = new ScalarQuantizationParams(ScalarQuantizationType.ONE_BIT);
+        float[] mean = { 4.0f, 5.0f, 6.0f };
+        knnVectorValues.nextDoc();
+        OneBitScalarQuantizationState state = new OneBitScalarQuantizationState(params, mean);
+        when(buildIndexParams.getQuantizationState()).thenReturn(state);
+        IndexBuildSetup setup = QuantizationIndexUtils.prepareIndexBuild(knnVectorValues, buildIndexParams);
+
+        Object first = QuantizationIndexUtils.processAndReturnVector(knnVectorValues, setup, false);
+        assertSame(setup.getQuantizationOutput().getQuantizedVector(), first);
+        assertArrayEquals(new byte[] { 0x00 }, (byte[]) first);
+
+        knnVectorValues.nextDoc();
+        knnVectorValues.nextDoc();
+        Object second = QuantizationIndexUtils.processAndReturnVector(knnVectorValues, setup, false);
+        assertSame(first, second);
+        assertArrayEquals(new byte[] { (byte) 0xE0 }, (byte[]) second);
+    }
+
+    public void testProcessAndReturnVector_withoutQuantizationAndNoCopy_thenVectorIsNotCloned() throws IOException {
+        when(buildIndexParams.getQuantizationState()).thenReturn(null);
+        knnVectorValues.nextDoc();
+        IndexBuildSetup setup = QuantizationIndexUtils.prepareIndexBuild(knnVectorValues, buildIndexParams);
+        assertSame(knnVectorValues.getVector(), QuantizationIndexUtils.processAndReturnVector(knnVectorValues, setup, false));
+    }
 }
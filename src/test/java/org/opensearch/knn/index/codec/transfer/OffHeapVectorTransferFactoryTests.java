@@ -31,4 +31,15 @@ public class OffHeapVectorTransferFactoryTests extends OpenSearchTestCase {
             assertNotSame(binaryVectorTransfer, OffHeapVectorTransferFactory.getVectorTransfer(VectorDataType.BINARY, 10, 10));
         }
     }
+
+    public void testOffHeapVectorTransferFactory_whenDirectBufferFlag_thenTransferModeMatches() {
+        try (MockedStatic<KNNSettings> mockedKNNSettings = mockStatic(KNNSettings.class)) {
+            mockedKNNSettings.when(KNNSettings::getVectorStreamingMemoryLimit).thenReturn(new ByteSizeValue(16));
+            for (VectorDataType vectorDataType : VectorDataType.values()) {
+                assertTrue(OffHeapVectorTransferFactory.getVectorTransfer(vectorDataType, 8, 10).isDirectBuffer());
+                assertTrue(OffHeapVectorTransferFactory.getVectorTransfer(vectorDataType, 8, 10, true).isDirectBuffer());
+                assertFalse(OffHeapVectorTransferFactory.getVectorTransfer(vectorDataType, 8, 10, false).isDirectBuffer());
+            }
+        }
+    }
 }
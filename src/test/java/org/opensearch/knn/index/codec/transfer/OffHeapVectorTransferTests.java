@@ -106,4 +106,59 @@ public class OffHeapVectorTransferTests extends KNNTestCase {
             vectorTransfer.close();
         }
     }
+
+    @SneakyThrows
+    public void testFloatTransfer_whenDirectBuffer_thenVectorsAreCopiedOnTransfer() {
+        float[] reusedVector = new float[2];
+
+        try (MockedStatic<KNNSettings> mockedKNNSettings = mockStatic(KNNSettings.class)) {
+            mockedKNNSettings.when(KNNSettings::getVectorStreamingMemoryLimit).thenReturn(new ByteSizeValue(16));
+
+            OffHeapFloatVectorTransfer vectorTransfer = new OffHeapFloatVectorTransfer(8, 5, true);
+            assertTrue(vectorTransfer.isDirectBuffer());
+            assertEquals(2, vectorTransfer.getTransferLimit());
+            reusedVector[0] = 0.1f;
+            reusedVector[1] = 0.2f;
+            assertFalse(vectorTransfer.transfer(reusedVector, false));
+            assertEquals(0, vectorTransfer.getVectorAddress());
+            // Mutating the vector after transfer must not change what was written to the buffer
+            reusedVector[0] = 0.3f;
+            reusedVector[1] = 0.4f;
+            assertTrue(vectorTransfer.transfer(reusedVector, false));
+            long vectorAddress = vectorTransfer.getVectorAddress();
+            assertNotEquals(0, vectorAddress);
+            assertFalse(vectorTransfer.transfer(reusedVector, false));
+            assertEquals(vectorAddress, vectorTransfer.getVectorAddress());
+            assertTrue(vectorTransfer.flush(false));
+            assertEquals(vectorAddress, vectorTransfer.getVectorAddress());
+            assertFalse(vectorTransfer.flush(false));
+            vectorTransfer.close();
+            assertEquals(0, vectorTransfer.getVectorAddress());
+        }
+    }
+
+    @SneakyThrows
+    public void testByteTransfer_whenDirectBuffer_thenSuccess() {
+        List<byte[]> vectors = List.of(new byte[] { 0, 1 }, new byte[] { 2, 3 }, new byte[] { 4, 5 });
+
+        try (MockedStatic<KNNSettings> mockedKNNSettings = mockStatic(KNNSettings.class)) {
+            mockedKNNSettings.when(KNNSettings::getVectorStreamingMemoryLimit).thenReturn(new ByteSizeValue(4));
+            for (OffHeapVectorTransfer<byte[]> vectorTransfer : List.of(
+                new OffHeapByteVectorTransfer(2, 3, true),
+                new OffHeapBinaryVectorTransfer(2, 3, true)
+            )) {
+                assertTrue(vectorTransfer.isDirectBuffer());
+                assertFalse(vectorTransfer.transfer(vectors.get(0), false));
+                assertEquals(0, vectorTransfer.getVectorAddress());
+                assertTrue(vectorTransfer.transfer(vectors.get(1), false));
+                long vectorAddress = vectorTransfer.getVectorAddress();
+                assertNotEquals(0, vectorAddress);
+                assertFalse(vectorTransfer.transfer(vectors.get(2), false));
+                assertTrue(vectorTransfer.flush(false));
+                assertEquals(vectorAddress, vectorTransfer.getVectorAddress());
+                vectorTransfer.close();
+                assertEquals(0, vectorTransfer.getVectorAddress());
+            }
+        }
+    }
 }
@@ -26,6 +26,7 @@ import static org.opensearch.knn.common.KNNConstants.INDEX_DESCRIPTION_PARAMETER
 import static org.opensearch.knn.common.KNNConstants.METHOD_ENCODER_PARAMETER;
 import static org.opensearch.knn.common.KNNConstants.METHOD_HNSW;
 import static org.opensearch.knn.index.engine.faiss.QFrameBitEncoder.BITCOUNT_PARAM;
+import static org.opensearch.knn.index.engine.faiss.QFrameBitEncoder.RANDOM_ROTATION_PARAM;
 
 public class QFrameBitEncoderTests extends KNNTestCase {
     public void testGetLibraryIndexingContext() {
@@ -65,6 +66,25 @@ public class QFrameBitEncoderTests extends KNNTestCase {
             QuantizationConfig.builder().quantizationType(ScalarQuantizationType.TWO_BIT).build(),
             knnLibraryIndexingContext.getQuantizationConfig()
         );
+
+        methodComponentContext = new MethodComponentContext(
+            QFrameBitEncoder.NAME,
+            ImmutableMap.of(BITCOUNT_PARAM, 1, RANDOM_ROTATION_PARAM, true)
+        );
+        knnLibraryIndexingContext = methodComponent.getKNNLibraryIndexingContext(methodComponentContext, knnMethodConfigContext);
+        assertEquals(
+            QuantizationConfig.builder().quantizationType(ScalarQuantizationType.ONE_BIT).enableRandomRotation(true).build(),
+            knnLibraryIndexingContext.getQuantizationConfig()
+        );
+
+        MethodComponentContext multiBitRotationContext = new MethodComponentContext(
+            QFrameBitEncoder.NAME,
+            ImmutableMap.of(BITCOUNT_PARAM, 2, RANDOM_ROTATION_PARAM, true)
+        );
+        expectThrows(
+            IllegalArgumentException.class,
+            () -> methodComponent.getKNNLibraryIndexingContext(multiBitRotationContext, knnMethodConfigContext)
+        );
     }
 
     public void testValidate() {
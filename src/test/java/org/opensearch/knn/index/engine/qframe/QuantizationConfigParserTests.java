@@ -61,6 +61,13 @@ public class QuantizationConfigParserTests extends KNNTestCase {
                     + "=4"
             )
         );
+
+        assertEquals(
+            QuantizationConfig.builder().quantizationType(ScalarQuantizationType.ONE_BIT).enableRandomRotation(true).build(),
+            QuantizationConfigParser.fromCsv("type=binary,bits=1,random_rotation=true")
+        );
+
+        expectThrows(IllegalArgumentException.class, () -> QuantizationConfigParser.fromCsv("type=binary,bits=1,invalid=true"));
     }
 
     public void testToCsv() {
@@ -70,5 +77,11 @@ public class QuantizationConfigParserTests extends KNNTestCase {
             "type=binary,bits=2",
             QuantizationConfigParser.toCsv(QuantizationConfig.builder().quantizationType(ScalarQuantizationType.TWO_BIT).build())
         );
+        assertEquals(
+            "type=binary,bits=1,random_rotation=true",
+            QuantizationConfigParser.toCsv(
+                QuantizationConfig.builder().quantizationType(ScalarQuantizationType.ONE_BIT).enableRandomRotation(true).build()
+            )
+        );
     }
 }
@@ -9,6 +9,7 @@ import lombok.SneakyThrows;
 import lombok.extern.log4j.Log4j2;
 import org.apache.lucene.document.KnnByteVectorField;
 import org.apache.lucene.document.KnnFloatVectorField;
+import org.apache.lucene.document.NumericDocValuesField;
 import org.apache.lucene.index.IndexableField;
 import org.apache.lucene.index.VectorEncoding;
 import org.apache.lucene.util.BytesRef;
@@ -33,6 +34,7 @@ import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.index.mapper.ContentPath;
 import org.opensearch.index.mapper.FieldMapper;
+import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.index.mapper.Mapper;
 import org.opensearch.index.mapper.MapperParsingException;
 import org.opensearch.index.mapper.MapperService;
@@ -40,6 +42,7 @@ import org.opensearch.index.mapper.ParseContext;
 import org.opensearch.knn.KNNTestCase;
 import org.opensearch.knn.common.KNNConstants;
 import org.opensearch.knn.index.KNNSettings;
+import org.opensearch.knn.index.KNNVectorNormUtil;
 import org.opensearch.knn.index.SpaceType;
 import org.opensearch.knn.index.VectorDataType;
 import org.opensearch.knn.index.VectorField;
@@ -1401,6 +1404,97 @@ public class KNNVectorFieldMapperTests extends KNNTestCase {
         assertArrayEquals(TEST_VECTOR, knnVectorField.vectorValue(), 0.001f);
     }
 
+    @SneakyThrows
+    public void testLuceneFieldMapper_parseCreateField_whenVectorNormsAreStored_thenNormIsWrittenForCosineOnly() {
+        // Cosine field of an index storing norms: the norm is written next to the vector
+        ParseContext.Document document = parseFloatVectorWithNormSetting(SpaceType.COSINESIMIL, true);
+        List<IndexableField> fields = document.getFields();
+        assertEquals(2, fields.size());
+        assertTrue(fields.get(0) instanceof KnnFloatVectorField);
+        IndexableField normField = fields.get(1);
+        assertTrue(normField instanceof NumericDocValuesField);
+        assertEquals(KNNVectorNormUtil.getNormFieldName(TEST_FIELD_NAME), normField.name());
+        assertEquals(KNNVectorNormUtil.computeNorm(TEST_VECTOR), Float.intBitsToFloat(normField.numericValue().intValue()), 0.0f);
+
+        // Cosine field of an index not storing norms
+        document = parseFloatVectorWithNormSetting(SpaceType.COSINESIMIL, false);
+        assertEquals(1, document.getFields().size());
+        assertTrue(document.getFields().get(0) instanceof KnnFloatVectorField);
+
+        // Other spaces never store norms
+        document = parseFloatVectorWithNormSetting(SpaceType.L2, true);
+        assertEquals(1, document.getFields().size());
+        assertTrue(document.getFields().get(0) instanceof KnnFloatVectorField);
+    }
+
+    public void testLuceneFieldMapper_parseCreateField_whenNormFieldIsMapped_thenThrowException() {
+        MapperService mapperService = mock(MapperService.class);
+        when(mapperService.fieldType(KNNVectorNormUtil.getNormFieldName(TEST_FIELD_NAME))).thenReturn(mock(MappedFieldType.class));
+
+        IllegalArgumentException exception = expectThrows(
+            IllegalArgumentException.class,
+            () -> parseFloatVectorWithNormSetting(SpaceType.COSINESIMIL, true, mapperService)
+        );
+        assertTrue(exception.getMessage().contains("is reserved to store the vector norms"));
+
+        // The name is only reserved when norms are stored
+        assertEquals(1, parseFloatVectorWithNormSetting(SpaceType.COSINESIMIL, false, mapperService).getFields().size());
+    }
+
+    private ParseContext.Document parseFloatVectorWithNormSetting(final SpaceType spaceType, final boolean storeVectorNorms)
+        throws IOException {
+        return parseFloatVectorWithNormSetting(spaceType, storeVectorNorms, mock(MapperService.class));
+    }
+
+    private ParseContext.Document parseFloatVectorWithNormSetting(
+        final SpaceType spaceType,
+        final boolean storeVectorNorms,
+        final MapperService mapperService
+    ) throws IOException {
+        ParseContext.Document document = new ParseContext.Document();
+        ParseContext parseContext = mock(ParseContext.class);
+        when(parseContext.doc()).thenReturn(document);
+        when(parseContext.mapperService()).thenReturn(mapperService);
+        when(parseContext.path()).thenReturn(new ContentPath());
+        when(parseContext.parser()).thenReturn(createXContentParser(VectorDataType.FLOAT));
+        IndexSettings indexSettings = mock(IndexSettings.class);
+        when(indexSettings.getValue(KNNSettings.INDEX_KNN_ADVANCED_STORE_VECTOR_NORMS_SETTING)).thenReturn(storeVectorNorms);
+        when(parseContext.indexSettings()).thenReturn(indexSettings);
+
+        KNNMethodConfigContext knnMethodConfigContext = KNNMethodConfigContext.builder()
+            .vectorDataType(VectorDataType.FLOAT)
+            .versionCreated(CURRENT)
+            .dimension(TEST_DIMENSION)
+            .build();
+        KNNMethodContext knnMethodContext = new KNNMethodContext(
+            KNNEngine.LUCENE,
+            spaceType,
+            new MethodComponentContext(METHOD_HNSW, Collections.emptyMap())
+        );
+        OriginalMappingParameters originalMappingParameters = new OriginalMappingParameters(
+            VectorDataType.FLOAT,
+            TEST_DIMENSION,
+            knnMethodContext,
+            Mode.NOT_CONFIGURED.getName(),
+            CompressionLevel.NOT_CONFIGURED.getName(),
+            null,
+            SpaceType.UNDEFINED.getValue()
+        );
+        originalMappingParameters.setResolvedKnnMethodContext(originalMappingParameters.getKnnMethodContext());
+        LuceneFieldMapper.CreateLuceneFieldMapperInput.CreateLuceneFieldMapperInputBuilder inputBuilder =
+            createLuceneFieldMapperInputBuilder();
+        inputBuilder.hasDocValues(false);
+        LuceneFieldMapper luceneFieldMapper = LuceneFieldMapper.createFieldMapper(
+            TEST_FIELD_NAME,
+            Collections.emptyMap(),
+            knnMethodConfigContext,
+            inputBuilder.build(),
+            originalMappingParameters
+        );
+        luceneFieldMapper.parseCreateField(parseContext, TEST_DIMENSION, VectorDataType.FLOAT);
+        return document;
+    }
+
     @SneakyThrows
     public void testLuceneFieldMapper_parseCreateField_docValues_withBytes() {
         // Create a lucene field mapper that creates a binary doc values field as well as KnnByteVectorField
@@ -0,0 +1,153 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.memory;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.mockito.ArgumentCaptor;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.opensearch.knn.KNNTestCase;
+import org.opensearch.knn.index.engine.KNNEngine;
+import org.opensearch.knn.jni.JNIService;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ModelTemplateManagerTests extends KNNTestCase {
+    private static MockedStatic<JNIService> jniServiceMockedStatic;
+    private final static long TEST_TEMPLATE_ADDRESS = 123;
+    private final static byte[] TEST_MODEL_BLOB = new byte[] { 1, 2, 3 };
+    private final static String TEST_MODEL_ID = "test-model-id";
+    private final static KNNEngine TEST_KNN_ENGINE = KNNEngine.FAISS;
+
+    @BeforeClass
+    public static void setUpClass() {
+        jniServiceMockedStatic = mockStatic(JNIService.class);
+        jniServiceMockedStatic.when(() -> JNIService.loadTemplate(TEST_MODEL_BLOB, false, TEST_KNN_ENGINE))
+            .thenReturn(TEST_TEMPLATE_ADDRESS);
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+        jniServiceMockedStatic.close();
+    }
+
+    private NativeMemoryCacheManager nativeMemoryCacheManager;
+    private NativeMemoryAllocation.AnonymousAllocation allocation;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        jniServiceMockedStatic.clearInvocations();
+        allocation = mock(NativeMemoryAllocation.AnonymousAllocation.class);
+        nativeMemoryCacheManager = mock(NativeMemoryCacheManager.class);
+        when(nativeMemoryCacheManager.get(any(NativeMemoryEntryContext.AnonymousEntryContext.class), eq(true))).thenReturn(allocation);
+    }
+
+    public void testGet_whenCalledTwice_thenTemplateLoadedOnce() {
+        ModelTemplateManager modelTemplateManager = new ModelTemplateManager(nativeMemoryCacheManager);
+        ModelTemplateManager.ModelTemplate first = modelTemplateManager.get(TEST_MODEL_ID, TEST_MODEL_BLOB, false, TEST_KNN_ENGINE);
+        ModelTemplateManager.ModelTemplate second = modelTemplateManager.get(TEST_MODEL_ID, TEST_MODEL_BLOB, false, TEST_KNN_ENGINE);
+
+        assertSame(first, second);
+        assertEquals(TEST_TEMPLATE_ADDRESS, first.getTemplateAddress());
+        assertEquals(TEST_MODEL_ID, first.getModelId());
+        assertFalse(first.isBinary());
+        assertEquals(TEST_KNN_ENGINE, first.getKnnEngine());
+        jniServiceMockedStatic.verify(() -> JNIService.loadTemplate(TEST_MODEL_BLOB, false, TEST_KNN_ENGINE), Mockito.times(1));
+
+        // Releasing every user keeps the template cached until the model is invalidated
+        modelTemplateManager.release(first);
+        modelTemplateManager.release(second);
+        assertTrue(modelTemplateManager.contains(TEST_MODEL_ID));
+        jniServiceMockedStatic.verify(() -> JNIService.free(anyLong(), any(KNNEngine.class), anyBoolean()), Mockito.times(0));
+    }
+
+    public void testInvalidate_whenTemplateInUse_thenFreedOnLastRelease() {
+        ModelTemplateManager modelTemplateManager = new ModelTemplateManager(nativeMemoryCacheManager);
+        ModelTemplateManager.ModelTemplate modelTemplate = modelTemplateManager.get(
+            TEST_MODEL_ID,
+            TEST_MODEL_BLOB,
+            false,
+            TEST_KNN_ENGINE
+        );
+
+        modelTemplateManager.invalidate(TEST_MODEL_ID);
+        assertFalse(modelTemplateManager.contains(TEST_MODEL_ID));
+        jniServiceMockedStatic.verify(() -> JNIService.free(TEST_TEMPLATE_ADDRESS, TEST_KNN_ENGINE, false), Mockito.times(0));
+
+        modelTemplateManager.release(modelTemplate);
+        jniServiceMockedStatic.verify(() -> JNIService.free(TEST_TEMPLATE_ADDRESS, TEST_KNN_ENGINE, false), Mockito.times(1));
+
+        // A later build loads the template again
+        modelTemplateManager.get(TEST_MODEL_ID, TEST_MODEL_BLOB, false, TEST_KNN_ENGINE);
+        jniServiceMockedStatic.verify(() -> JNIService.loadTemplate(TEST_MODEL_BLOB, false, TEST_KNN_ENGINE), Mockito.times(2));
+    }
+
+    public void testInvalidate_whenTemplateNotInUse_thenFreed() {
+        ModelTemplateManager modelTemplateManager = new ModelTemplateManager(nativeMemoryCacheManager);
+        modelTemplateManager.release(modelTemplateManager.get(TEST_MODEL_ID, TEST_MODEL_BLOB, false, TEST_KNN_ENGINE));
+
+        modelTemplateManager.invalidate(TEST_MODEL_ID);
+        jniServiceMockedStatic.verify(() -> JNIService.free(TEST_TEMPLATE_ADDRESS, TEST_KNN_ENGINE, false), Mockito.times(1));
+
+        // Invalidating a model without a template is a no-op
+        modelTemplateManager.invalidate(TEST_MODEL_ID);
+        jniServiceMockedStatic.verify(() -> JNIService.free(TEST_TEMPLATE_ADDRESS, TEST_KNN_ENGINE, false), Mockito.times(1));
+    }
+
+    public void testGet_whenTemplateIsLoaded_thenItsMemoryIsChargedToTheCacheUntilFreed() throws Exception {
+        ModelTemplateManager modelTemplateManager = new ModelTemplateManager(nativeMemoryCacheManager);
+        ModelTemplateManager.ModelTemplate modelTemplate = modelTemplateManager.get(
+            TEST_MODEL_ID,
+            TEST_MODEL_BLOB,
+            false,
+            TEST_KNN_ENGINE
+        );
+
+        ArgumentCaptor<NativeMemoryEntryContext.AnonymousEntryContext> entryContext = ArgumentCaptor.forClass(
+            NativeMemoryEntryContext.AnonymousEntryContext.class
+        );
+        verify(nativeMemoryCacheManager).get(entryContext.capture(), eq(true));
+        assertEquals(1, entryContext.getValue().calculateSizeInKB().intValue());
+        assertEquals(entryContext.getValue().getKey(), modelTemplate.getAllocationKey());
+
+        modelTemplateManager.invalidate(TEST_MODEL_ID);
+        verify(nativeMemoryCacheManager, Mockito.times(0)).invalidate(entryContext.getValue().getKey());
+        modelTemplateManager.release(modelTemplate);
+        verify(nativeMemoryCacheManager, Mockito.times(1)).invalidate(entryContext.getValue().getKey());
+    }
+
+    public void testGet_whenChargedMemoryIsEvicted_thenTemplateIsLoadedAgain() {
+        ModelTemplateManager modelTemplateManager = new ModelTemplateManager(nativeMemoryCacheManager);
+        ModelTemplateManager.ModelTemplate first = modelTemplateManager.get(TEST_MODEL_ID, TEST_MODEL_BLOB, false, TEST_KNN_ENGINE);
+
+        // The cache evicts the allocation while a build still uses the template
+        when(allocation.isClosed()).thenReturn(true);
+        NativeMemoryAllocation.AnonymousAllocation otherAllocation = mock(NativeMemoryAllocation.AnonymousAllocation.class);
+        when(nativeMemoryCacheManager.get(any(NativeMemoryEntryContext.AnonymousEntryContext.class), eq(true))).thenReturn(
+            otherAllocation
+        );
+
+        ModelTemplateManager.ModelTemplate second = modelTemplateManager.get(TEST_MODEL_ID, TEST_MODEL_BLOB, false, TEST_KNN_ENGINE);
+        assertNotSame(first, second);
+        assertSame(otherAllocation, second.getAllocation());
+        jniServiceMockedStatic.verify(() -> JNIService.loadTemplate(TEST_MODEL_BLOB, false, TEST_KNN_ENGINE), Mockito.times(2));
+        jniServiceMockedStatic.verify(() -> JNIService.free(TEST_TEMPLATE_ADDRESS, TEST_KNN_ENGINE, false), Mockito.times(0));
+
+        // The evicted template is freed once its last build releases it
+        modelTemplateManager.release(first);
+        jniServiceMockedStatic.verify(() -> JNIService.free(TEST_TEMPLATE_ADDRESS, TEST_KNN_ENGINE, false), Mockito.times(1));
+        assertTrue(modelTemplateManager.contains(TEST_MODEL_ID));
+    }
+}
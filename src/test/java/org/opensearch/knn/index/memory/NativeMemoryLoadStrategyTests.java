@@ -14,7 +14,6 @@ package org.opensearch.knn.index.memory;
 import com.google.common.collect.ImmutableMap;
 import org.apache.lucene.store.Directory;
 import org.opensearch.core.action.ActionListener;
-import org.opensearch.action.search.SearchResponse;
 import org.opensearch.knn.KNNTestCase;
 import org.opensearch.knn.TestUtils;
 import org.opensearch.knn.common.KNNConstants;
@@ -25,6 +24,7 @@ import org.opensearch.knn.jni.JNIService;
 import org.opensearch.knn.index.query.KNNQueryResult;
 import org.opensearch.knn.index.SpaceType;
 import org.opensearch.knn.index.engine.KNNEngine;
+import org.opensearch.knn.plugin.transport.TrainingDataCollectResponse;
 import org.opensearch.knn.training.FloatTrainingDataConsumer;
 import org.opensearch.knn.training.VectorReader;
 
@@ -142,13 +142,14 @@ public class NativeMemoryLoadStrategyTests extends KNNTestCase {
         // Mock the vector reader so that on read, it waits 2 seconds, transfers vectors to the consumer, and then calls
         // listener onResponse to release the write lock
         VectorReader vectorReader = mock(VectorReader.class);
-        ArrayList<Float[]> vectors = new ArrayList<>();
-        vectors.add(new Float[] { 1.0F, 2.0F });
+        ArrayList<float[]> vectors = new ArrayList<>();
+        vectors.add(new float[] { 1.0F, 2.0F });
         logger.info("J0");
         doAnswer(invocationOnMock -> {
             logger.info("J1");
             FloatTrainingDataConsumer floatTrainingDataConsumer = (FloatTrainingDataConsumer) invocationOnMock.getArguments()[5];
-            ActionListener<SearchResponse> listener = (ActionListener<SearchResponse>) invocationOnMock.getArguments()[6];
+            ActionListener<TrainingDataCollectResponse> listener = (ActionListener<TrainingDataCollectResponse>) invocationOnMock
+                .getArguments()[7];
             Thread thread = new Thread(() -> {
                 try {
                     Thread.sleep(2000);
@@ -162,7 +163,7 @@ public class NativeMemoryLoadStrategyTests extends KNNTestCase {
 
             thread.start();
             return null;
-        }).when(vectorReader).read(eq(null), eq("test"), eq("test"), eq(0), eq(0), any(), any());
+        }).when(vectorReader).readFromShards(eq(null), eq("test"), eq("test"), eq(0), eq(0), any(), any(), any());
 
         NativeMemoryLoadStrategy.TrainingLoadStrategy.initialize(vectorReader);
 
@@ -63,6 +63,8 @@ import org.opensearch.knn.quantization.models.quantizationParams.QuantizationPar
 import org.opensearch.knn.quantization.models.quantizationParams.ScalarQuantizationParams;
 import org.opensearch.knn.quantization.models.quantizationState.OneBitScalarQuantizationState;
 import org.opensearch.knn.quantization.models.quantizationState.QuantizationState;
+import org.opensearch.knn.quantization.models.quantizationState.QuantizationStateCacheManager;
+import org.opensearch.knn.quantization.models.quantizationState.QuantizationStateReadConfig;
 
 import java.io.IOException;
 import java.nio.file.Path;
@@ -594,7 +596,7 @@ public class KNNWeightTests extends KNNTestCase {
                 .thenReturn(engineFiles);
 
             try (MockedStatic<SegmentLevelQuantizationUtil> quantizationUtilMockedStatic = mockStatic(SegmentLevelQuantizationUtil.class)) {
-                quantizationUtilMockedStatic.when(() -> SegmentLevelQuantizationUtil.quantizeVector(any(), any()))
+                quantizationUtilMockedStatic.when(() -> SegmentLevelQuantizationUtil.quantizeQueryVector(any(), any()))
                     .thenReturn(quantizedVector);
 
                 // When: Call the scorer method
@@ -1617,12 +1619,24 @@ public class KNNWeightTests extends KNNTestCase {
             float[] meanThresholds = new float[] { 1.2f, 2.3f, 3.4f, 4.5f };
             QuantizationState quantizationState = new OneBitScalarQuantizationState(quantizationParams, meanThresholds);
 
+            final QuantizationStateReadConfig quantizationStateReadConfig = mock(QuantizationStateReadConfig.class);
+            final QuantizationStateCacheManager quantizationStateCacheManager = mock(QuantizationStateCacheManager.class);
+            when(quantizationStateCacheManager.getQuantizationState(quantizationStateReadConfig)).thenReturn(quantizationState);
+
             try (
                 MockedConstruction<QuantizationConfigKNNCollector> quantizationCollectorMockedConstruction = Mockito.mockConstruction(
                     QuantizationConfigKNNCollector.class,
-                    (mock, context) -> Mockito.when(mock.getQuantizationState()).thenReturn(quantizationState)
+                    (mock, context) -> {
+                        Mockito.when(mock.getQuantizationState()).thenReturn(quantizationState);
+                        Mockito.when(mock.getQuantizationStateReadConfig()).thenReturn(quantizationStateReadConfig);
+                    }
+                );
+                MockedStatic<QuantizationStateCacheManager> quantizationStateCacheManagerMockedStatic = Mockito.mockStatic(
+                    QuantizationStateCacheManager.class
                 )
             ) {
+                quantizationStateCacheManagerMockedStatic.when(QuantizationStateCacheManager::getInstance)
+                    .thenReturn(quantizationStateCacheManager);
 
                 // Given
                 int k = 3;
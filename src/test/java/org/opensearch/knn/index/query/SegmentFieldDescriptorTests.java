@@ -0,0 +1,151 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.query;
+
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.SegmentCommitInfo;
+import org.apache.lucene.index.SegmentInfo;
+import org.apache.lucene.index.SegmentReader;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.StringHelper;
+import org.apache.lucene.util.Version;
+import org.mockito.ArgumentCaptor;
+import org.mockito.MockedStatic;
+import org.opensearch.knn.KNNTestCase;
+import org.opensearch.knn.index.SpaceType;
+import org.opensearch.knn.index.VectorDataType;
+import org.opensearch.knn.index.codec.KNNCodecVersion;
+import org.opensearch.knn.index.codec.util.KNNCodecUtil;
+import org.opensearch.knn.index.codec.util.NativeMemoryCacheKeyHelper;
+import org.opensearch.knn.index.engine.KNNEngine;
+import org.opensearch.knn.indices.ModelDao;
+import org.opensearch.knn.indices.ModelMetadata;
+import org.opensearch.knn.indices.ModelState;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.knn.common.KNNConstants.KNN_ENGINE;
+import static org.opensearch.knn.common.KNNConstants.MODEL_ID;
+import static org.opensearch.knn.common.KNNConstants.SPACE_TYPE;
+import static org.opensearch.knn.common.KNNConstants.VECTOR_DATA_TYPE_FIELD;
+
+public class SegmentFieldDescriptorTests extends KNNTestCase {
+
+    private static final String FIELD_NAME = "target_field";
+    private static final String ENGINE_FILE = "_0_165_target_field.faiss";
+
+    public void testGet_whenSegmentCoreIsCached_thenResolvedOnceAndRemovedOnClose() throws Exception {
+        final SegmentInfo segmentInfo = createSegmentInfo();
+        final SegmentReader reader = mockSegmentReader(segmentInfo);
+        final IndexReader.CacheHelper cacheHelper = mock(IndexReader.CacheHelper.class);
+        final IndexReader.CacheKey cacheKey = mock(IndexReader.CacheKey.class);
+        when(cacheHelper.getKey()).thenReturn(cacheKey);
+        when(reader.getCoreCacheHelper()).thenReturn(cacheHelper);
+
+        final FieldInfo fieldInfo = mock(FieldInfo.class);
+        when(fieldInfo.attributes()).thenReturn(
+            Map.of(KNN_ENGINE, KNNEngine.FAISS.getName(), SPACE_TYPE, SpaceType.INNER_PRODUCT.getValue(), VECTOR_DATA_TYPE_FIELD, "byte")
+        );
+
+        try (MockedStatic<KNNCodecUtil> knnCodecUtilMockedStatic = mockStatic(KNNCodecUtil.class)) {
+            knnCodecUtilMockedStatic.when(() -> KNNCodecUtil.getEngineFiles(anyString(), eq(FIELD_NAME), eq(segmentInfo)))
+                .thenReturn(List.of(ENGINE_FILE));
+
+            final SegmentFieldDescriptor descriptor = SegmentFieldDescriptor.get(reader, fieldInfo, FIELD_NAME, mock(ModelDao.class));
+            assertEquals(KNNEngine.FAISS, descriptor.getKnnEngine());
+            assertEquals(SpaceType.INNER_PRODUCT, descriptor.getSpaceType());
+            assertEquals(VectorDataType.BYTE, descriptor.getVectorDataType());
+            assertNull(descriptor.getModelId());
+            assertEquals(ENGINE_FILE, descriptor.getVectorIndexFileName());
+            assertEquals(NativeMemoryCacheKeyHelper.constructCacheKey(ENGINE_FILE, segmentInfo), descriptor.getCacheKey());
+            assertNull(descriptor.getDeferredGraphCacheKey());
+            assertSame(
+                descriptor.getParametersAtLoading("test-index", VectorDataType.BYTE),
+                descriptor.getParametersAtLoading("test-index", VectorDataType.BYTE)
+            );
+
+            assertSame(descriptor, SegmentFieldDescriptor.get(reader, fieldInfo, FIELD_NAME, mock(ModelDao.class)));
+            knnCodecUtilMockedStatic.verify(() -> KNNCodecUtil.getEngineFiles(anyString(), eq(FIELD_NAME), eq(segmentInfo)), times(1));
+            assertTrue(SegmentFieldDescriptor.isCached(cacheKey));
+
+            final ArgumentCaptor<IndexReader.ClosedListener> closedListener = ArgumentCaptor.forClass(IndexReader.ClosedListener.class);
+            verify(cacheHelper).addClosedListener(closedListener.capture());
+            closedListener.getValue().onClose(cacheKey);
+            assertFalse(SegmentFieldDescriptor.isCached(cacheKey));
+        }
+    }
+
+    public void testGet_whenFieldIsBuiltWithModel_thenResolvedFromModelMetadata() throws Exception {
+        final SegmentInfo segmentInfo = createSegmentInfo();
+        final SegmentReader reader = mockSegmentReader(segmentInfo);
+        final String modelId = "test-model";
+
+        final FieldInfo fieldInfo = mock(FieldInfo.class);
+        when(fieldInfo.getAttribute(MODEL_ID)).thenReturn(modelId);
+
+        final ModelDao modelDao = mock(ModelDao.class);
+        final ModelMetadata modelMetadata = mock(ModelMetadata.class);
+        when(modelMetadata.getKnnEngine()).thenReturn(KNNEngine.FAISS);
+        when(modelMetadata.getSpaceType()).thenReturn(SpaceType.L2);
+        when(modelMetadata.getVectorDataType()).thenReturn(VectorDataType.FLOAT);
+        when(modelDao.getMetadata(modelId)).thenReturn(modelMetadata);
+
+        try (MockedStatic<KNNCodecUtil> knnCodecUtilMockedStatic = mockStatic(KNNCodecUtil.class)) {
+            knnCodecUtilMockedStatic.when(() -> KNNCodecUtil.getEngineFiles(anyString(), eq(FIELD_NAME), eq(segmentInfo)))
+                .thenReturn(List.of());
+
+            when(modelMetadata.getState()).thenReturn(ModelState.TRAINING);
+            expectThrows(RuntimeException.class, () -> SegmentFieldDescriptor.get(reader, fieldInfo, FIELD_NAME, modelDao));
+
+            when(modelMetadata.getState()).thenReturn(ModelState.CREATED);
+            final SegmentFieldDescriptor descriptor = SegmentFieldDescriptor.get(reader, fieldInfo, FIELD_NAME, modelDao);
+            assertEquals(KNNEngine.FAISS, descriptor.getKnnEngine());
+            assertEquals(SpaceType.L2, descriptor.getSpaceType());
+            assertEquals(VectorDataType.FLOAT, descriptor.getVectorDataType());
+            assertEquals(modelId, descriptor.getModelId());
+            assertNull(descriptor.getVectorIndexFileName());
+            assertNull(descriptor.getCacheKey());
+            // The segment has no engine file, so its graph can only be built in memory under the key of the missing file
+            assertEquals(
+                NativeMemoryCacheKeyHelper.constructCacheKey("_0_" + KNNEngine.FAISS.getVersion() + "_" + FIELD_NAME + ".faiss", segmentInfo),
+                descriptor.getDeferredGraphCacheKey()
+            );
+        }
+    }
+
+    private SegmentReader mockSegmentReader(final SegmentInfo segmentInfo) {
+        final SegmentReader reader = mock(SegmentReader.class);
+        when(reader.getSegmentInfo()).thenReturn(new SegmentCommitInfo(segmentInfo, 0, 0, 0, 0, 0, new byte[StringHelper.ID_LENGTH]));
+        return reader;
+    }
+
+    private SegmentInfo createSegmentInfo() {
+        return new SegmentInfo(
+            mock(Directory.class),
+            Version.LATEST,
+            Version.LATEST,
+            "0",
+            100,
+            false,
+            false,
+            KNNCodecVersion.current().getDefaultCodecDelegate(),
+            Map.of(),
+            new byte[StringHelper.ID_LENGTH],
+            Map.of(),
+            Sort.RELEVANCE
+        );
+    }
+}
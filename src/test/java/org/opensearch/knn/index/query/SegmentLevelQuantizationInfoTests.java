@@ -0,0 +1,191 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.query;
+
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.SegmentCommitInfo;
+import org.apache.lucene.index.SegmentInfo;
+import org.apache.lucene.index.SegmentReader;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.StringHelper;
+import org.apache.lucene.util.Version;
+import org.mockito.MockedStatic;
+import org.opensearch.knn.KNNTestCase;
+import org.opensearch.knn.common.KNNConstants;
+import org.opensearch.knn.index.codec.KNN990Codec.QuantizationConfigKNNCollector;
+import org.opensearch.knn.index.codec.KNNCodecVersion;
+import org.opensearch.knn.index.codec.util.KNNCodecUtil;
+import org.opensearch.knn.index.engine.qframe.QuantizationConfig;
+import org.opensearch.knn.index.engine.qframe.QuantizationConfigParser;
+import org.opensearch.knn.indices.ModelDao;
+import org.opensearch.knn.quantization.enums.ScalarQuantizationType;
+import org.opensearch.knn.quantization.models.quantizationParams.ScalarQuantizationParams;
+import org.opensearch.knn.quantization.models.quantizationState.OneBitScalarQuantizationState;
+import org.opensearch.knn.quantization.models.quantizationState.QuantizationStateCacheManager;
+import org.opensearch.knn.quantization.models.quantizationState.QuantizationStateReadConfig;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class SegmentLevelQuantizationInfoTests extends KNNTestCase {
+
+    private static final String FIELD_NAME = "target_field";
+
+    public void testBuild_whenFieldIsQuantized_thenStateIsReadThroughCacheWithConfigOfDescriptor() throws Exception {
+        final OneBitScalarQuantizationState quantizationState = new OneBitScalarQuantizationState(
+            new ScalarQuantizationParams(ScalarQuantizationType.ONE_BIT),
+            new float[] { 4.0f, 5.0f, 6.0f }
+        );
+        final QuantizationStateReadConfig readConfig = mock(QuantizationStateReadConfig.class);
+        final SegmentReader reader = mockSegmentReader(quantizationState, readConfig);
+        final FieldInfo quantizedFieldInfo = quantizedFieldInfo();
+
+        try (
+            MockedStatic<KNNCodecUtil> knnCodecUtilMockedStatic = mockStatic(KNNCodecUtil.class);
+            MockedStatic<QuantizationStateCacheManager> cacheManagerMockedStatic = mockStatic(QuantizationStateCacheManager.class)
+        ) {
+            knnCodecUtilMockedStatic.when(() -> KNNCodecUtil.getEngineFiles(anyString(), eq(FIELD_NAME), any())).thenReturn(List.of());
+            final QuantizationStateCacheManager cacheManager = mock(QuantizationStateCacheManager.class);
+            when(cacheManager.getQuantizationState(readConfig)).thenReturn(quantizationState);
+            cacheManagerMockedStatic.when(QuantizationStateCacheManager::getInstance).thenReturn(cacheManager);
+
+            final SegmentFieldDescriptor descriptor = SegmentFieldDescriptor.get(
+                reader,
+                quantizedFieldInfo,
+                FIELD_NAME,
+                mock(ModelDao.class)
+            );
+            assertSame(readConfig, descriptor.getQuantizationStateReadConfig());
+
+            final SegmentLevelQuantizationInfo quantizationInfo = SegmentLevelQuantizationInfo.build(descriptor);
+            assertSame(quantizationState, quantizationInfo.getQuantizationState());
+            final SegmentLevelQuantizationInfo otherQuantizationInfo = SegmentLevelQuantizationInfo.build(descriptor);
+            assertSame(quantizationInfo.getQuantizationParams(), otherQuantizationInfo.getQuantizationParams());
+            verify(quantizedFieldInfo, times(1)).getAttribute(KNNConstants.QFRAMEWORK_CONFIG);
+            // The segment is searched once for the read config, the state is read through the quantization state cache
+            // on every build
+            verify(reader, times(1)).searchNearestVectors(eq(FIELD_NAME), any(float[].class), any(), any());
+            verify(cacheManager, times(2)).getQuantizationState(readConfig);
+
+            // The last quantized query vector is kept for the segment
+            final float[] queryVector = { 3.0f, 6.0f, 9.0f };
+            assertSame(
+                SegmentLevelQuantizationUtil.quantizeQueryVector(queryVector, quantizationInfo),
+                SegmentLevelQuantizationUtil.quantizeQueryVector(queryVector, otherQuantizationInfo)
+            );
+        }
+    }
+
+    public void testBuild_whenFieldIsNotQuantized_thenNull() throws Exception {
+        final SegmentReader reader = mockSegmentReader(null, null);
+        try (MockedStatic<KNNCodecUtil> knnCodecUtilMockedStatic = mockStatic(KNNCodecUtil.class)) {
+            knnCodecUtilMockedStatic.when(() -> KNNCodecUtil.getEngineFiles(anyString(), eq(FIELD_NAME), any())).thenReturn(List.of());
+
+            final SegmentFieldDescriptor descriptor = SegmentFieldDescriptor.get(
+                reader,
+                mock(FieldInfo.class),
+                FIELD_NAME,
+                mock(ModelDao.class)
+            );
+            assertNull(descriptor.getQuantizationParams());
+            assertNull(descriptor.getQuantizationStateReadConfig());
+            assertNull(SegmentLevelQuantizationInfo.build(descriptor));
+            verify(reader, never()).searchNearestVectors(eq(FIELD_NAME), any(float[].class), any(), any());
+        }
+    }
+
+    public void testQuantizeQueryVector_whenQueryVectorIsQuantizedAgain_thenQuantizedVectorIsReused() throws Exception {
+        final OneBitScalarQuantizationState quantizationState = new OneBitScalarQuantizationState(
+            new ScalarQuantizationParams(ScalarQuantizationType.ONE_BIT),
+            new float[] { 4.0f, 5.0f, 6.0f }
+        );
+        final QuantizationStateReadConfig readConfig = mock(QuantizationStateReadConfig.class);
+        final SegmentLevelQuantizationInfo quantizationInfo;
+        try (
+            MockedStatic<KNNCodecUtil> knnCodecUtilMockedStatic = mockStatic(KNNCodecUtil.class);
+            MockedStatic<QuantizationStateCacheManager> cacheManagerMockedStatic = mockStatic(QuantizationStateCacheManager.class)
+        ) {
+            knnCodecUtilMockedStatic.when(() -> KNNCodecUtil.getEngineFiles(anyString(), eq(FIELD_NAME), any())).thenReturn(List.of());
+            final QuantizationStateCacheManager cacheManager = mock(QuantizationStateCacheManager.class);
+            when(cacheManager.getQuantizationState(readConfig)).thenReturn(quantizationState);
+            cacheManagerMockedStatic.when(QuantizationStateCacheManager::getInstance).thenReturn(cacheManager);
+
+            quantizationInfo = SegmentLevelQuantizationInfo.build(
+                SegmentFieldDescriptor.get(
+                    mockSegmentReader(quantizationState, readConfig),
+                    quantizedFieldInfo(),
+                    FIELD_NAME,
+                    mock(ModelDao.class)
+                )
+            );
+        }
+
+        final float[] queryVector = { 3.0f, 6.0f, 9.0f };
+        final byte[] quantizedQueryVector = SegmentLevelQuantizationUtil.quantizeQueryVector(queryVector, quantizationInfo);
+        assertArrayEquals(new byte[] { 0b01100000 }, quantizedQueryVector);
+        assertSame(quantizedQueryVector, SegmentLevelQuantizationUtil.quantizeQueryVector(queryVector, quantizationInfo));
+
+        // Another query vector is quantized again, even if it is equal
+        final byte[] otherQuantizedQueryVector = SegmentLevelQuantizationUtil.quantizeQueryVector(queryVector.clone(), quantizationInfo);
+        assertNotSame(quantizedQueryVector, otherQuantizedQueryVector);
+        assertArrayEquals(quantizedQueryVector, otherQuantizedQueryVector);
+
+        assertNull(SegmentLevelQuantizationUtil.quantizeQueryVector(queryVector, null));
+    }
+
+    private SegmentReader mockSegmentReader(
+        final OneBitScalarQuantizationState quantizationState,
+        final QuantizationStateReadConfig readConfig
+    ) throws Exception {
+        final SegmentReader reader = mock(SegmentReader.class);
+        final SegmentInfo segmentInfo = createSegmentInfo();
+        when(reader.getSegmentInfo()).thenReturn(new SegmentCommitInfo(segmentInfo, 0, 0, 0, 0, 0, new byte[StringHelper.ID_LENGTH]));
+        doAnswer(invocation -> {
+            final QuantizationConfigKNNCollector collector = invocation.getArgument(2);
+            collector.setQuantizationState(quantizationState);
+            collector.setQuantizationStateReadConfig(readConfig);
+            return null;
+        }).when(reader).searchNearestVectors(eq(FIELD_NAME), any(float[].class), any(), any());
+        return reader;
+    }
+
+    private FieldInfo quantizedFieldInfo() {
+        final FieldInfo fieldInfo = mock(FieldInfo.class);
+        when(fieldInfo.getAttribute(KNNConstants.QFRAMEWORK_CONFIG)).thenReturn(
+            QuantizationConfigParser.toCsv(QuantizationConfig.builder().quantizationType(ScalarQuantizationType.ONE_BIT).build())
+        );
+        return fieldInfo;
+    }
+
+    private SegmentInfo createSegmentInfo() {
+        return new SegmentInfo(
+            mock(Directory.class),
+            Version.LATEST,
+            Version.LATEST,
+            "0",
+            100,
+            false,
+            false,
+            KNNCodecVersion.current().getDefaultCodecDelegate(),
+            Map.of(),
+            new byte[StringHelper.ID_LENGTH],
+            Map.of(),
+            Sort.RELEVANCE
+        );
+    }
+}
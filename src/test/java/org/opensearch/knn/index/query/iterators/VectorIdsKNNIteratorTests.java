@@ -6,10 +6,12 @@
 package org.opensearch.knn.index.query.iterators;
 
 import lombok.SneakyThrows;
+import org.apache.lucene.index.NumericDocValues;
 import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.util.FixedBitSet;
 import org.mockito.stubbing.OngoingStubbing;
 import org.opensearch.knn.KNNTestCase;
+import org.opensearch.knn.index.KNNVectorNormUtil;
 import org.opensearch.knn.index.SpaceType;
 import org.opensearch.knn.index.vectorvalues.KNNFloatVectorValues;
 
@@ -56,6 +58,34 @@ public class VectorIdsKNNIteratorTests extends KNNTestCase {
         assertEquals(DocIdSetIterator.NO_MORE_DOCS, iterator.nextDoc());
     }
 
+    @SneakyThrows
+    public void testNextDoc_whenCosineWithStoredNorms_thenScoresMatchSimilarityFunction() {
+        final SpaceType spaceType = SpaceType.COSINESIMIL;
+        final float[] queryVector = { 1.0f, 2.0f, 3.0f };
+        final int[] filterIds = { 1, 2 };
+        final List<float[]> dataVectors = Arrays.asList(new float[] { 11.0f, -12.0f, 13.0f }, new float[] { 14.0f, 15.0f, -16.0f });
+
+        KNNFloatVectorValues values = mock(KNNFloatVectorValues.class);
+        when(values.getVector()).thenReturn(dataVectors.get(0), dataVectors.get(1));
+        FixedBitSet filterBitSet = new FixedBitSet(3);
+        for (int id : filterIds) {
+            when(values.advance(id)).thenReturn(id);
+            filterBitSet.set(id);
+        }
+        // Only the first doc was indexed with a norm, the second one falls back to the similarity function
+        NumericDocValues vectorNorms = mock(NumericDocValues.class);
+        when(vectorNorms.advanceExact(1)).thenReturn(true);
+        when(vectorNorms.longValue()).thenReturn((long) Float.floatToIntBits(KNNVectorNormUtil.computeNorm(dataVectors.get(0))));
+
+        VectorIdsKNNIterator iterator = new VectorIdsKNNIterator(filterBitSet, queryVector, values, spaceType, null, null, vectorNorms);
+        for (int i = 0; i < filterIds.length; i++) {
+            assertEquals(filterIds[i], iterator.nextDoc());
+            assertEquals(spaceType.getKnnVectorSimilarityFunction().compare(queryVector, dataVectors.get(i)), iterator.score(), 1e-6f);
+        }
+        assertEquals(DocIdSetIterator.NO_MORE_DOCS, iterator.nextDoc());
+        verify(vectorNorms).advanceExact(2);
+    }
+
     @SneakyThrows
     public void testNextDoc_whenCalledWithoutFilters_thenIterateAllDocs() {
         final SpaceType spaceType = SpaceType.L2;
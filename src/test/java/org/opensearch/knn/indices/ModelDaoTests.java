@@ -24,15 +24,20 @@ import org.opensearch.core.action.ActionListener;
 import org.opensearch.action.DocWriteResponse;
 import org.opensearch.action.StepListener;
 import org.opensearch.action.admin.indices.create.CreateIndexResponse;
+import org.opensearch.action.admin.indices.mapping.put.PutMappingRequest;
 import org.opensearch.action.delete.DeleteAction;
 import org.opensearch.action.delete.DeleteRequestBuilder;
 import org.opensearch.action.delete.DeleteResponse;
 import org.opensearch.action.index.IndexResponse;
+import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.support.WriteRequest;
 import org.opensearch.action.support.master.AcknowledgedResponse;
 import org.opensearch.index.IndexNotFoundException;
 import org.opensearch.index.engine.VersionConflictEngineException;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.knn.KNNSingleNodeTestCase;
+import org.opensearch.knn.common.KNNConstants;
 import org.opensearch.knn.common.exception.DeleteModelException;
 import org.opensearch.knn.index.engine.MethodComponentContext;
 import org.opensearch.knn.index.SpaceType;
@@ -55,6 +60,7 @@ import java.io.IOException;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.Collections;
+import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
@@ -66,6 +72,7 @@ import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.opensearch.knn.common.KNNConstants.MODEL_INDEX_NAME;
+import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertAcked;
 
 public class ModelDaoTests extends KNNSingleNodeTestCase {
 
@@ -246,6 +253,153 @@ public class ModelDaoTests extends KNNSingleNodeTestCase {
         assertTrue(inProgressLatch2.await(100, TimeUnit.SECONDS));
     }
 
+    public void testPut_whenModelBlobIsChunked() throws InterruptedException, IOException {
+        createIndex(MODEL_INDEX_NAME);
+
+        ModelDao modelDao = ModelDao.OpenSearchKNNModelDao.getInstance();
+        String modelId = "chunkedmodel";
+        byte[] modelBlob = randomByteArrayOfLength(2 * ModelDao.OpenSearchKNNModelDao.MODEL_BLOB_CHUNK_SIZE_IN_BYTES + 7);
+        int dimension = 2;
+
+        Model model = new Model(
+            new ModelMetadata(
+                KNNEngine.DEFAULT,
+                SpaceType.DEFAULT,
+                dimension,
+                ModelState.CREATED,
+                ZonedDateTime.now(ZoneOffset.UTC).toString(),
+                "",
+                "",
+                "",
+                new MethodComponentContext("test", Collections.emptyMap()),
+                VectorDataType.DEFAULT,
+                Mode.NOT_CONFIGURED,
+                CompressionLevel.NOT_CONFIGURED,
+                Version.CURRENT
+            ),
+            modelBlob,
+            modelId
+        );
+
+        final CountDownLatch inProgressLatch = new CountDownLatch(1);
+        ActionListener<IndexResponse> docCreationListener = ActionListener.wrap(response -> {
+            assertEquals(modelId, response.getId());
+
+            // We need to use executor service here so main thread does not block
+            modelGetterExecutor.submit(() -> {
+                try {
+                    Model storedModel = modelDao.get(modelId);
+                    assertEquals(model, storedModel);
+                    assertArrayEquals(modelBlob, storedModel.getModelBlob());
+                } catch (ExecutionException | InterruptedException e) {
+                    fail(e.getMessage());
+                }
+                inProgressLatch.countDown();
+            });
+
+        }, exception -> fail("Unable to put the model: " + exception));
+
+        modelDao.put(model, docCreationListener);
+        assertTrue(inProgressLatch.await(100, TimeUnit.SECONDS));
+
+        // The blob is reassembled by the non-blocking get as well
+        final CountDownLatch getLatch = new CountDownLatch(1);
+        modelDao.get(modelId, ActionListener.wrap(response -> {
+            assertArrayEquals(modelBlob, response.getModel().getModelBlob());
+            getLatch.countDown();
+        }, exception -> fail("Unable to get the model: " + exception)));
+        assertTrue(getLatch.await(100, TimeUnit.SECONDS));
+
+        // Chunks are not returned as models
+        final CountDownLatch searchLatch = new CountDownLatch(1);
+        modelDao.search(new SearchRequest(), ActionListener.wrap(response -> {
+            assertEquals(1, response.getHits().getHits().length);
+            assertEquals(modelId, response.getHits().getHits()[0].getId());
+            searchLatch.countDown();
+        }, exception -> fail("Unable to search the models: " + exception)));
+        assertTrue(searchLatch.await(100, TimeUnit.SECONDS));
+    }
+
+    public void testIsModelBlobChunked() {
+        byte[] smallModelBlob = new byte[ModelDao.OpenSearchKNNModelDao.MODEL_BLOB_CHUNK_SIZE_IN_BYTES];
+        byte[] largeModelBlob = new byte[ModelDao.OpenSearchKNNModelDao.MODEL_BLOB_CHUNK_SIZE_IN_BYTES + 1];
+
+        assertFalse(ModelDao.OpenSearchKNNModelDao.isModelBlobChunked(smallModelBlob, Version.CURRENT));
+        assertTrue(ModelDao.OpenSearchKNNModelDao.isModelBlobChunked(largeModelBlob, Version.CURRENT));
+        // Nodes of older versions cannot read chunked models, so large models are stored in the model document
+        assertFalse(ModelDao.OpenSearchKNNModelDao.isModelBlobChunked(largeModelBlob, Version.V_2_17_0));
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testPut_whenModelIndexPredatesChunks_thenChunkFieldsAreMappedAndChunksAreDeletedWithModel() throws Exception {
+        // Model index created with the mapping of a version that did not store models in chunks
+        createIndex(MODEL_INDEX_NAME);
+        assertAcked(
+            client().admin()
+                .indices()
+                .putMapping(new PutMappingRequest(MODEL_INDEX_NAME).source("model_id", "type=keyword", "model_blob", "type=binary"))
+                .actionGet()
+        );
+
+        ModelDao modelDao = ModelDao.OpenSearchKNNModelDao.getInstance();
+        String modelId = "chunkedmodel";
+        Model model = new Model(
+            new ModelMetadata(
+                KNNEngine.DEFAULT,
+                SpaceType.DEFAULT,
+                2,
+                ModelState.CREATED,
+                ZonedDateTime.now(ZoneOffset.UTC).toString(),
+                "",
+                "",
+                "",
+                new MethodComponentContext("test", Collections.emptyMap()),
+                VectorDataType.DEFAULT,
+                Mode.NOT_CONFIGURED,
+                CompressionLevel.NOT_CONFIGURED,
+                Version.CURRENT
+            ),
+            randomByteArrayOfLength(2 * ModelDao.OpenSearchKNNModelDao.MODEL_BLOB_CHUNK_SIZE_IN_BYTES + 7),
+            modelId
+        );
+
+        final CountDownLatch putLatch = new CountDownLatch(1);
+        modelDao.put(model, ActionListener.wrap(response -> putLatch.countDown(), exception -> fail("Unable to put the model: " + exception)));
+        assertTrue(putLatch.await(100, TimeUnit.SECONDS));
+
+        Map<String, Object> properties = (Map<String, Object>) client().admin()
+            .indices()
+            .prepareGetMappings(MODEL_INDEX_NAME)
+            .get()
+            .mappings()
+            .get(MODEL_INDEX_NAME)
+            .sourceAsMap()
+            .get("properties");
+        assertEquals("keyword", ((Map<String, Object>) properties.get(KNNConstants.MODEL_BLOB_CHUNK_OF)).get("type"));
+        assertEquals("integer", ((Map<String, Object>) properties.get(KNNConstants.MODEL_BLOB_CHUNK_INDEX)).get("type"));
+
+        // The chunks are searchable once the model is stored, without refreshing the index again
+        QueryBuilder chunksQuery = QueryBuilders.termQuery(KNNConstants.MODEL_BLOB_CHUNK_OF, modelId);
+        assertEquals(3, client().prepareSearch(MODEL_INDEX_NAME).setQuery(chunksQuery).get().getHits().getTotalHits().value);
+
+        final CountDownLatch deleteLatch = new CountDownLatch(1);
+        modelDao.delete(
+            modelId,
+            ActionListener.wrap(response -> deleteLatch.countDown(), exception -> fail("Unable to delete the model: " + exception))
+        );
+        assertTrue(deleteLatch.await(100, TimeUnit.SECONDS));
+
+        // Chunks are deleted in the background
+        assertBusy(
+            () -> assertEquals(
+                0,
+                client().prepareSearch(MODEL_INDEX_NAME).setQuery(chunksQuery).get().getHits().getTotalHits().value
+            ),
+            100,
+            TimeUnit.SECONDS
+        );
+    }
+
     public void testPut_withoutModel() throws InterruptedException, IOException {
         createIndex(MODEL_INDEX_NAME);
 
@@ -402,6 +556,7 @@ public class ModelDaoTests extends KNNSingleNodeTestCase {
         modelDao.put(model, docCreationListener);
 
         assertTrue(inProgressLatch1.await(100, TimeUnit.SECONDS));
+        assertEquals(ModelState.TRAINING, modelDao.getMetadata(modelId).getState());
 
         // User provided model id that already exists - should be able to update
         Model updatedModel = new Model(
@@ -427,6 +582,8 @@ public class ModelDaoTests extends KNNSingleNodeTestCase {
         final CountDownLatch inProgressLatch2 = new CountDownLatch(1);
         ActionListener<IndexResponse> updateListener = ActionListener.wrap(response -> {
             assertEquals(modelId, response.getId());
+            // Metadata parsed before the update must not be returned anymore
+            assertEquals(ModelState.CREATED, modelDao.getMetadata(modelId).getState());
 
             // We need to use executor service here so main thread does not block
             modelGetterExecutor.submit(() -> {
@@ -549,6 +706,13 @@ public class ModelDaoTests extends KNNSingleNodeTestCase {
             ModelMetadata modelMetadata1 = modelDao.getMetadata(modelId);
             assertEquals(modelMetadata, modelMetadata1);
 
+            // Updating the returned metadata does not affect later lookups
+            modelMetadata1.setState(ModelState.FAILED);
+            modelMetadata1.setError("error");
+            ModelMetadata modelMetadata2 = modelDao.getMetadata(modelId);
+            assertNotSame(modelMetadata1, modelMetadata2);
+            assertEquals(modelMetadata, modelMetadata2);
+
             inProgressLatch1.countDown();
         }, exception -> fail("Unable to put the model: " + exception));
 
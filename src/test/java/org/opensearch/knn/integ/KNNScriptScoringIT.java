@@ -766,7 +766,7 @@ public class KNNScriptScoringIT extends KNNRestTestCase {
             case COSINESIMIL:
             case INNER_PRODUCT:
             case HAMMING:
-                return ((KNNScoringSpace.KNNFieldSpace) knnScoringSpace).getScoringMethod();
+                return ((KNNScoringSpace.KNNFieldSpace) knnScoringSpace).getScoringMethod()::score;
             default:
                 throw new IllegalArgumentException();
         }
@@ -0,0 +1,199 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.plugin.script;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.KnnFloatVectorField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.tests.analysis.MockAnalyzer;
+import org.opensearch.knn.KNNTestCase;
+import org.opensearch.knn.index.KNNVectorNormUtil;
+import org.opensearch.knn.index.KNNVectorScriptDocValues;
+import org.opensearch.knn.index.VectorDataType;
+import org.opensearch.knn.index.mapper.KNNVectorFieldType;
+import org.opensearch.script.ScoreScript;
+import org.opensearch.search.lookup.LeafDocLookup;
+import org.opensearch.search.lookup.LeafSearchLookup;
+import org.opensearch.search.lookup.SearchLookup;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class KNNScoreScriptTests extends KNNTestCase {
+
+    private static final String FIELD_NAME = "test-field";
+    private static final float[] QUERY_VECTOR = new float[] { 1.0f, 2.0f };
+
+    public void testExecute_whenDocsAreScoredInOrder_thenDocValuesAreResolvedOnce() throws IOException {
+        // Docs 1 and 3 have no vector
+        final float[][] docVectors = new float[][] { { 1.0f, 2.0f }, null, { 3.0f, 4.0f }, null, { 1.0f, 3.0f } };
+        try (Directory directory = newDirectory()) {
+            indexDocs(directory, docVectors);
+            try (DirectoryReader reader = DirectoryReader.open(directory)) {
+                final LeafReaderContext leafContext = reader.leaves().get(0);
+                final LeafDocLookup leafDocLookup = mock(LeafDocLookup.class);
+                final KNNScoreScript.KNNVectorType script = new KNNScoreScript.KNNVectorType(
+                    Collections.emptyMap(),
+                    QUERY_VECTOR,
+                    FIELD_NAME,
+                    (float[] q, float[] v) -> 1 / (1 + KNNScoringUtil.l2Squared(q, v)),
+                    mockSearchLookup(leafContext, leafDocLookup),
+                    leafContext,
+                    null
+                );
+
+                final float[] expectedScores = new float[] { 1.0f, 0.0f, 1 / (1 + 8.0f), 0.0f, 1 / (1 + 1.0f) };
+                for (int docId = 0; docId < docVectors.length; docId++) {
+                    script.setDocument(docId);
+                    assertEquals(expectedScores[docId], script.execute(null), 0.0001f);
+                }
+                verify(leafDocLookup, times(1)).get(FIELD_NAME);
+            }
+        }
+    }
+
+    public void testExecute_whenVectorNormsAreStored_thenStoredNormIsUsedAndDocsWithoutNormFallBack() throws IOException {
+        final float[][] docVectors = new float[][] { { 3.0f, 4.0f }, { 3.0f, 4.0f }, null, { -2.0f, 1.0f } };
+        // Doc 1 was indexed before norms were stored
+        final boolean[] docsWithNorm = new boolean[] { true, false, false, true };
+        try (Directory directory = newDirectory()) {
+            indexDocs(directory, docVectors, docsWithNorm);
+            try (DirectoryReader reader = DirectoryReader.open(directory)) {
+                final LeafReaderContext leafContext = reader.leaves().get(0);
+                final float queryNorm = KNNVectorNormUtil.computeNorm(QUERY_VECTOR);
+                final AtomicInteger scoredWithNorm = new AtomicInteger();
+                final AtomicInteger scoredWithoutNorm = new AtomicInteger();
+                final KNNScoreScript.KNNVectorWithNormType script = new KNNScoreScript.KNNVectorWithNormType(
+                    Collections.emptyMap(),
+                    QUERY_VECTOR,
+                    FIELD_NAME,
+                    (float[] q, float[] v) -> {
+                        scoredWithoutNorm.incrementAndGet();
+                        return 1 + KNNScoringUtil.cosinesimilOptimized(q, v, KNNScoringSpaceUtil.getVectorMagnitudeSquared(q));
+                    },
+                    (float[] q, float[] v, float vNorm) -> {
+                        scoredWithNorm.incrementAndGet();
+                        return 1 + KNNScoringUtil.cosinesimilWithNorms(q, queryNorm, v, vNorm);
+                    },
+                    KNNVectorNormUtil.getNorms(leafContext.reader(), FIELD_NAME),
+                    mockSearchLookup(leafContext, mock(LeafDocLookup.class)),
+                    leafContext,
+                    null
+                );
+
+                // cos({1, 2}, {3, 4}) = 11 / (sqrt(5) * 5) and cos({1, 2}, {-2, 1}) = 0
+                final float cosineScore = 1 + 11 / ((float) Math.sqrt(5) * 5);
+                final float[] expectedScores = new float[] { cosineScore, cosineScore, 0, 1 };
+                for (int docId = 0; docId < docVectors.length; docId++) {
+                    script.setDocument(docId);
+                    assertEquals(expectedScores[docId], script.execute(null), 0.0001f);
+                }
+                assertEquals(2, scoredWithNorm.get());
+                assertEquals(1, scoredWithoutNorm.get());
+            }
+        }
+    }
+
+    public void testCosineSimilarity_whenSegmentHasNorms_thenScoredWithNormsAndSameScores() throws IOException {
+        final KNNVectorFieldType fieldType = new KNNVectorFieldType(
+            FIELD_NAME,
+            Collections.emptyMap(),
+            VectorDataType.FLOAT,
+            getMappingConfigForMethodMapping(getDefaultKNNMethodContext(), QUERY_VECTOR.length)
+        );
+        final KNNScoringSpace.CosineSimilarity cosineSimilarity = new KNNScoringSpace.CosineSimilarity(List.of(1.0, 2.0), fieldType);
+        final float[][] docVectors = new float[][] { { 3.0f, 4.0f }, null, { -2.0f, 1.0f } };
+        final float[] expectedScores = new float[] { 1 + 11 / ((float) Math.sqrt(5) * 5), 0, 1 };
+        for (boolean withNorms : new boolean[] { true, false }) {
+            try (Directory directory = newDirectory()) {
+                indexDocs(directory, docVectors, new boolean[] { withNorms, withNorms, withNorms });
+                try (DirectoryReader reader = DirectoryReader.open(directory)) {
+                    final LeafReaderContext leafContext = reader.leaves().get(0);
+                    final ScoreScript script = cosineSimilarity.getScoreScript(
+                        Collections.emptyMap(),
+                        FIELD_NAME,
+                        mockSearchLookup(leafContext, mock(LeafDocLookup.class)),
+                        leafContext,
+                        null
+                    );
+                    assertEquals(
+                        withNorms ? KNNScoreScript.KNNVectorWithNormType.class : KNNScoreScript.KNNVectorType.class,
+                        script.getClass()
+                    );
+                    for (int docId = 0; docId < docVectors.length; docId++) {
+                        script.setDocument(docId);
+                        assertEquals(expectedScores[docId], script.execute(null), 0.0001f);
+                    }
+                }
+            }
+        }
+    }
+
+    static void indexDocs(final Directory directory, final float[][] docVectors) throws IOException {
+        indexDocs(directory, docVectors, new boolean[docVectors.length]);
+    }
+
+    static void indexDocs(final Directory directory, final float[][] docVectors, final boolean[] docsWithNorm) throws IOException {
+        // A default config flushes all docs into a single segment, in order
+        try (IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig(new MockAnalyzer(random())))) {
+            int docs = 0;
+            for (float[] docVector : docVectors) {
+                final Document document = new Document();
+                if (docVector == null) {
+                    document.add(new StringField("other-field", "value", StringField.Store.NO));
+                } else {
+                    document.add(new KnnFloatVectorField(FIELD_NAME, docVector));
+                }
+                if (docVector != null && docsWithNorm[docs]) {
+                    document.add(KNNVectorNormUtil.createNormField(FIELD_NAME, docVector));
+                }
+                docs++;
+                writer.addDocument(document);
+            }
+        }
+    }
+
+    /**
+     * Mocks a lookup whose doc values of the field are positioned on the current document when they are looked up, as
+     * the doc lookup of a script does.
+     */
+    static SearchLookup mockSearchLookup(final LeafReaderContext leafContext, final LeafDocLookup leafDocLookup) throws IOException {
+        final KNNVectorScriptDocValues scriptDocValues = KNNVectorScriptDocValues.create(
+            leafContext.reader().getFloatVectorValues(FIELD_NAME),
+            FIELD_NAME,
+            VectorDataType.FLOAT
+        );
+        final int[] currentDocId = new int[] { -1 };
+        final LeafSearchLookup leafSearchLookup = mock(LeafSearchLookup.class);
+        when(leafSearchLookup.doc()).thenReturn(leafDocLookup);
+        doAnswer(invocation -> {
+            currentDocId[0] = invocation.getArgument(0);
+            return null;
+        }).when(leafSearchLookup).setDocument(anyInt());
+        when(leafDocLookup.get(FIELD_NAME)).thenAnswer(invocation -> {
+            scriptDocValues.setNextDocId(currentDocId[0]);
+            return scriptDocValues;
+        });
+
+        final SearchLookup searchLookup = mock(SearchLookup.class);
+        when(searchLookup.getLeafSearchLookup(leafContext)).thenReturn(leafSearchLookup);
+        return searchLookup;
+    }
+}
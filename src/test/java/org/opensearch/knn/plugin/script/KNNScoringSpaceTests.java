@@ -18,14 +18,13 @@ import org.opensearch.knn.index.VectorDataType;
 import org.opensearch.index.mapper.BinaryFieldMapper;
 import org.opensearch.index.mapper.NumberFieldMapper;
 import org.opensearch.knn.index.mapper.KNNVectorFieldType;
+import org.apache.lucene.util.BytesRef;
 
-import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.Collections;
 import java.util.List;
-import java.util.function.BiFunction;
 
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -65,7 +64,7 @@ public class KNNScoringSpaceTests extends KNNTestCase {
             getMappingConfigForMethodMapping(knnMethodContext, 3)
         );
         KNNScoringSpace.L2 l2 = new KNNScoringSpace.L2(arrayListQueryObject, fieldType);
-        assertEquals(1F, l2.getScoringMethod().apply(arrayFloat, arrayFloat), 0.1F);
+        assertEquals(1F, l2.getScoringMethod().score(arrayFloat, arrayFloat), 0.1F);
     }
 
     @SneakyThrows
@@ -86,7 +85,7 @@ public class KNNScoringSpaceTests extends KNNTestCase {
             getMappingConfigForMethodMapping(knnMethodContext, 3)
         );
         KNNScoringSpace.CosineSimilarity cosineSimilarity = new KNNScoringSpace.CosineSimilarity(arrayListQueryObject, fieldType);
-        assertEquals(2F, cosineSimilarity.getScoringMethod().apply(arrayFloat2, arrayFloat), 0.1F);
+        assertEquals(2F, cosineSimilarity.getScoringMethod().score(arrayFloat2, arrayFloat), 0.1F);
 
         // invalid zero vector
         final List<Float> queryZeroVector = List.of(0.0f, 0.0f, 0.0f);
@@ -140,7 +139,7 @@ public class KNNScoringSpaceTests extends KNNTestCase {
         );
         KNNScoringSpace.InnerProd innerProd = new KNNScoringSpace.InnerProd(arrayListQueryObject_case1, fieldType);
 
-        assertEquals(7.0F, innerProd.getScoringMethod().apply(arrayFloat_case1, arrayFloat2_case1), 0.001F);
+        assertEquals(7.0F, innerProd.getScoringMethod().score(arrayFloat_case1, arrayFloat2_case1), 0.001F);
 
         float[] arrayFloat_case2 = new float[] { 100_000.0f, 200_000.0f, 300_000.0f };
         List<Double> arrayListQueryObject_case2 = new ArrayList<>(Arrays.asList(100_000.0, 200_000.0, 300_000.0));
@@ -148,7 +147,7 @@ public class KNNScoringSpaceTests extends KNNTestCase {
 
         innerProd = new KNNScoringSpace.InnerProd(arrayListQueryObject_case2, fieldType);
 
-        assertEquals(7.142857143E-12F, innerProd.getScoringMethod().apply(arrayFloat_case2, arrayFloat2_case2), 1.0E-11F);
+        assertEquals(7.142857143E-12F, innerProd.getScoringMethod().score(arrayFloat_case2, arrayFloat2_case2), 1.0E-11F);
 
         float[] arrayFloat_case3 = new float[] { 100_000.0f, 200_000.0f, 300_000.0f };
         List<Double> arrayListQueryObject_case3 = new ArrayList<>(Arrays.asList(100_000.0, 200_000.0, 300_000.0));
@@ -156,7 +155,7 @@ public class KNNScoringSpaceTests extends KNNTestCase {
 
         innerProd = new KNNScoringSpace.InnerProd(arrayListQueryObject_case3, fieldType);
 
-        assertEquals(140_000_000_001F, innerProd.getScoringMethod().apply(arrayFloat_case3, arrayFloat2_case3), 0.01F);
+        assertEquals(140_000_000_001F, innerProd.getScoringMethod().score(arrayFloat_case3, arrayFloat2_case3), 0.01F);
     }
 
     @SneakyThrows
@@ -172,7 +171,7 @@ public class KNNScoringSpaceTests extends KNNTestCase {
         Long longObject2 = 2468L; // ..._0000_1001_1010_0100
         KNNScoringSpace.HammingBit hammingBit = new KNNScoringSpace.HammingBit(longObject1, fieldType);
 
-        assertEquals(0.1111F, ((BiFunction<Long, Long, Float>) hammingBit.scoringMethod).apply(longObject1, longObject2), 0.1F);
+        assertEquals(0.1111F, ((KNNScoreScript.ScoringMethod<Long>) hammingBit.scoringMethod).score(longObject1, longObject2), 0.1F);
     }
 
     @SuppressWarnings("unchecked")
@@ -192,9 +191,9 @@ public class KNNScoringSpaceTests extends KNNTestCase {
 
         assertEquals(
             expectedResult,
-            ((BiFunction<BigInteger, BigInteger, Float>) hammingBit.scoringMethod).apply(
-                new BigInteger(Base64.getDecoder().decode(base64Object1)),
-                new BigInteger(Base64.getDecoder().decode(base64Object2))
+            ((KNNScoreScript.ScoringMethod<BytesRef>) hammingBit.scoringMethod).score(
+                new BytesRef(Base64.getDecoder().decode(base64Object1)),
+                new BytesRef(Base64.getDecoder().decode(base64Object2))
             ),
             0.1F
         );
@@ -213,7 +212,7 @@ public class KNNScoringSpaceTests extends KNNTestCase {
         KNNScoringSpace.Hamming hamming = new KNNScoringSpace.Hamming(arrayListQueryObject, fieldType);
 
         float[] arrayFloat = new float[] { 1.0f, 2.0f, 3.0f };
-        assertEquals(1F, hamming.getScoringMethod().apply(arrayFloat, arrayFloat), 0.1F);
+        assertEquals(1F, hamming.getScoringMethod().score(arrayFloat, arrayFloat), 0.1F);
     }
 
     public void testHamming_whenNonBinaryVectorDataType_thenException() {
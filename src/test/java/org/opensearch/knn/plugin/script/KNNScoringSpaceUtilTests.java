@@ -5,6 +5,7 @@
 
 package org.opensearch.knn.plugin.script;
 
+import org.apache.lucene.util.BytesRef;
 import org.opensearch.knn.KNNTestCase;
 import org.opensearch.knn.index.VectorDataType;
 import org.opensearch.index.mapper.BinaryFieldMapper;
@@ -56,6 +57,7 @@ public class KNNScoringSpaceUtilTests extends KNNTestCase {
          */
 
         assertEquals(new BigInteger("4ABB4567", 16), KNNScoringSpaceUtil.parseToBigInteger(base64String));
+        assertEquals(new BytesRef(new byte[] { 0x4A, (byte) 0xBB, 0x45, 0x67 }), KNNScoringSpaceUtil.parseToMagnitude(base64String));
     }
 
     public void testParseKNNVectorQuery() {
@@ -8,6 +8,7 @@ package org.opensearch.knn.plugin.script;
 import java.util.Arrays;
 import java.util.Locale;
 import org.opensearch.knn.KNNTestCase;
+import org.opensearch.knn.index.KNNVectorNormUtil;
 import org.opensearch.knn.index.KNNVectorScriptDocValues;
 import org.opensearch.knn.index.SpaceType;
 import org.opensearch.knn.index.VectorDataType;
@@ -22,12 +23,14 @@ import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.NoMergePolicy;
 import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BytesRef;
 
 import java.io.IOException;
 import java.math.BigInteger;
 import java.util.List;
 import java.util.function.BiFunction;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -80,6 +83,20 @@ public class KNNScoringUtilTests extends KNNTestCase {
         assertEquals(expectedScore, actualScore, 0.0001);
     }
 
+    public void testCosineSimilWithNormsScoringFunction() {
+        float[] queryVector = { 1.0f, 1.0f, 1.0f };
+        float[] inputVector = { 4.0f, 4.0f, 4.0f };
+        float expected = KNNScoringUtil.cosinesimil(queryVector, inputVector);
+        float actual = KNNScoringUtil.cosinesimilWithNorms(
+            queryVector,
+            KNNVectorNormUtil.computeNorm(queryVector),
+            inputVector,
+            KNNVectorNormUtil.computeNorm(inputVector)
+        );
+        assertEquals(expected, actual, 0.0001);
+        assertEquals(0.0f, KNNScoringUtil.cosinesimilWithNorms(queryVector, 0.0f, inputVector, 1.0f), 0.0f);
+    }
+
     public void testGetInvalidVectorMagnitudeSquared() {
         float[] queryVector = null;
         // vector cannot be null
@@ -278,6 +295,51 @@ public class KNNScoringUtilTests extends KNNTestCase {
         assertEquals(10, KNNScoringUtil.calculateHammingBit(v1, v2), 0.001f);
     }
 
+    public void testCalculateHammingBitOfMagnitudes_whenDifferentLengths_thenSameAsBigInteger() {
+        for (int i = 0; i < 100; i++) {
+            byte[] magnitude1 = randomByteArrayOfLength(randomIntBetween(0, 40));
+            byte[] magnitude2 = randomByteArrayOfLength(randomIntBetween(0, 40));
+            float expected = KNNScoringUtil.calculateHammingBit(new BigInteger(1, magnitude1), new BigInteger(1, magnitude2));
+            // Magnitudes read through a BytesRef window of a larger array
+            byte[] padded = new byte[magnitude1.length + 2];
+            Arrays.fill(padded, (byte) -1);
+            System.arraycopy(magnitude1, 0, padded, 1, magnitude1.length);
+            BytesRef bytesRef1 = new BytesRef(padded, 1, magnitude1.length);
+            BytesRef bytesRef2 = new BytesRef(magnitude2);
+            assertEquals(expected, KNNScoringUtil.calculateHammingBitOfMagnitudes(bytesRef1, bytesRef2), 0.0f);
+            assertEquals(expected, KNNScoringUtil.calculateHammingBitOfMagnitudes(bytesRef2, bytesRef1), 0.0f);
+        }
+    }
+
+    public void testCalculateHammingBitOfMagnitudes_whenMaxDistanceExceeded_thenStopsAboveMaxDistance() {
+        BytesRef zeros = new BytesRef(new byte[32]);
+        byte[] allOnes = new byte[32];
+        Arrays.fill(allOnes, (byte) -1);
+        BytesRef ones = new BytesRef(allOnes);
+        assertEquals(256.0f, KNNScoringUtil.calculateHammingBitOfMagnitudes(zeros, ones), 0.0f);
+        float distance = KNNScoringUtil.calculateHammingBitOfMagnitudes(zeros, ones, 10);
+        assertTrue(distance > 10);
+        assertTrue(distance < 256);
+        assertEquals(256.0f, KNNScoringUtil.calculateHammingBitOfMagnitudes(zeros, ones, 256), 0.0f);
+    }
+
+    public void testL1NormAndLInfNorm_whenDimensionIsNotMultipleOfUnrolling_thenSameAsScalarLoop() {
+        for (int dimension = 1; dimension <= 9; dimension++) {
+            float[] queryVector = new float[dimension];
+            float[] inputVector = new float[dimension];
+            float l1 = 0;
+            float lInf = 0;
+            for (int i = 0; i < dimension; i++) {
+                queryVector[i] = randomIntBetween(-100, 100);
+                inputVector[i] = randomIntBetween(-100, 100);
+                l1 += Math.abs(queryVector[i] - inputVector[i]);
+                lInf = Math.max(lInf, Math.abs(queryVector[i] - inputVector[i]));
+            }
+            assertEquals(l1, KNNScoringUtil.l1Norm(queryVector, inputVector), 0.0f);
+            assertEquals(lInf, KNNScoringUtil.lInfNorm(queryVector, inputVector), 0.0f);
+        }
+    }
+
     private void validateThrowExceptionOnGivenDataType(
         final BiFunction<List<Number>, KNNVectorScriptDocValues, Float> func,
         final VectorDataType dataType,
@@ -319,6 +381,8 @@ public class KNNScoringUtilTests extends KNNTestCase {
         KNNVectorScriptDocValues docValues = mock(KNNVectorScriptDocValues.class);
         when(docValues.getVectorDataType()).thenReturn(VectorDataType.BINARY);
         when(docValues.getValue()).thenReturn(f2);
+        when(docValues.getByteValue()).thenReturn(b2);
+        when(docValues.getQueryVector(any(), any())).thenCallRealMethod();
         assertEquals(KNNScoringUtil.calculateHammingBit(b1, b2), KNNScoringUtil.hamming(queryVector, docValues), 0.01f);
     }
 
@@ -0,0 +1,343 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.plugin.transport;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.KnnFloatVectorField;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.tests.analysis.MockAnalyzer;
+import org.opensearch.cluster.routing.ShardRouting;
+import org.opensearch.cluster.routing.ShardsIterator;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.index.IndexService;
+import org.opensearch.index.mapper.SeqNoFieldMapper;
+import org.opensearch.index.seqno.SequenceNumbers;
+import org.opensearch.knn.KNNSingleNodeTestCase;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
+
+public class TrainingDataCollectTransportActionTests extends KNNSingleNodeTestCase {
+    private final String testIndexName = "test-index";
+    private final String testFieldName = "test-field";
+    private final int dimensions = 2;
+    private static final long SEED = 42L;
+
+    public void testShardOperation() throws IOException, ExecutionException, InterruptedException {
+        TrainingDataCollectTransportAction transportAction = node().injector().getInstance(TrainingDataCollectTransportAction.class);
+        IndexService indexService = createKNNIndex(testIndexName);
+        createKnnIndexMapping(testIndexName, testFieldName, dimensions);
+        ShardRouting shardRouting = indexService.iterator().next().routingEntry();
+
+        TrainingDataCollectShardResult emptyResult = transportAction.shardOperation(
+            new TrainingDataCollectRequest(testIndexName, testFieldName, Map.of(), 10, Long.MAX_VALUE, SEED),
+            shardRouting
+        );
+        assertEquals(0, emptyResult.getCount());
+        assertFalse(emptyResult.isHasMore());
+
+        for (int i = 0; i < 5; i++) {
+            addKnnDoc(testIndexName, Integer.toString(i), testFieldName, new Float[] { (float) i, (float) i });
+        }
+
+        TrainingDataCollectShardResult allVectors = transportAction.shardOperation(
+            new TrainingDataCollectRequest(testIndexName, testFieldName, Map.of(), 10, Long.MAX_VALUE, SEED),
+            shardRouting
+        );
+        assertEquals(5, allVectors.getCount());
+        assertEquals(dimensions, allVectors.getDimension());
+        assertFalse(allVectors.isHasMore());
+
+
+        // Each round resumes from the cursor of the shard returned by the previous round
+        TrainingDataCollectShardResult firstRound = transportAction.shardOperation(
+            new TrainingDataCollectRequest(testIndexName, testFieldName, Map.of(), 3, Long.MAX_VALUE, SEED),
+            shardRouting
+        );
+        assertEquals(3, firstRound.getCount());
+        assertTrue(firstRound.isHasMore());
+        assertEquals(shardRouting.shardId().id(), firstRound.getShardId());
+
+        TrainingDataCollectShardResult secondRound = transportAction.shardOperation(
+            new TrainingDataCollectRequest(
+                testIndexName,
+                testFieldName,
+                Map.of(firstRound.getShardId(), firstRound.getCursor()),
+                3,
+                Long.MAX_VALUE,
+                SEED
+            ),
+            shardRouting
+        );
+        assertEquals(2, secondRound.getCount());
+        assertFalse(secondRound.isHasMore());
+
+        List<Object> collectedVectors = new ArrayList<>(firstRound.getVectors(3));
+        collectedVectors.addAll(secondRound.getVectors(3));
+        assertEquals(
+            Set.of(0f, 1f, 2f, 3f, 4f),
+            collectedVectors.stream().map(vector -> ((float[]) vector)[0]).collect(Collectors.toSet())
+        );
+
+        // An exhausted shard returns nothing
+        TrainingDataCollectShardResult exhausted = transportAction.shardOperation(
+            new TrainingDataCollectRequest(
+                testIndexName,
+                testFieldName,
+                Map.of(secondRound.getShardId(), secondRound.getCursor()),
+                3,
+                Long.MAX_VALUE,
+                SEED
+            ),
+            shardRouting
+        );
+        assertEquals(0, exhausted.getCount());
+        assertFalse(exhausted.isHasMore());
+    }
+
+    public void testCollectVectors_whenSegmentsAreMergedBetweenRounds_thenVectorsAreCollectedOnce() throws IOException {
+        try (Directory directory = newDirectory()) {
+            IndexWriterConfig indexWriterConfig = new IndexWriterConfig(new MockAnalyzer(random()));
+            try (IndexWriter writer = new IndexWriter(directory, indexWriterConfig)) {
+                // One segment for each pair of docs
+                for (int seqNo = 0; seqNo < 6; seqNo++) {
+                    writer.addDocument(createDocument(seqNo));
+                    if (seqNo % 2 == 1) {
+                        writer.flush();
+                    }
+                }
+                writer.commit();
+
+                TrainingDataCollectShardResult firstRound;
+                try (DirectoryReader reader = DirectoryReader.open(writer)) {
+                    assertEquals(3, reader.leaves().size());
+                    firstRound = TrainingDataCollectTransportAction.collectVectors(
+                        0,
+                        new IndexSearcher(reader),
+                        testFieldName,
+                        SEED,
+                        SequenceNumbers.NO_OPS_PERFORMED,
+                        3,
+                        Long.MAX_VALUE
+                    );
+                }
+                assertTrue(firstRound.isHasMore());
+                Set<Float> firstRoundSeqNos = collectFirstDimensions(firstRound);
+                assertEquals(3, firstRoundSeqNos.size());
+                // The cursor is the largest sampling key of the round
+                long maxKey = firstRoundSeqNos.stream()
+                    .mapToLong(seqNo -> TrainingDataCollectTransportAction.samplingKey(seqNo.longValue(), SEED))
+                    .max()
+                    .getAsLong();
+                assertEquals(maxKey, firstRound.getCursor());
+
+                // Merging renumbers the docs, the next round still resumes after the last collected sampling key
+                long collectedSeqNo = firstRoundSeqNos.iterator().next().longValue();
+                writer.deleteDocuments(LongPoint.newExactQuery(SeqNoFieldMapper.NAME, collectedSeqNo));
+                writer.forceMerge(1);
+                try (DirectoryReader reader = DirectoryReader.open(writer)) {
+                    assertEquals(1, reader.leaves().size());
+                    TrainingDataCollectShardResult secondRound = TrainingDataCollectTransportAction.collectVectors(
+                        0,
+                        new IndexSearcher(reader),
+                        testFieldName,
+                        SEED,
+                        firstRound.getCursor(),
+                        3,
+                        Long.MAX_VALUE
+                    );
+                    assertFalse(secondRound.isHasMore());
+                    Set<Float> allSeqNos = new HashSet<>(firstRoundSeqNos);
+                    Set<Float> secondRoundSeqNos = collectFirstDimensions(secondRound);
+                    assertEquals(3, secondRoundSeqNos.size());
+                    allSeqNos.addAll(secondRoundSeqNos);
+                    assertEquals(Set.of(0f, 1f, 2f, 3f, 4f, 5f), allSeqNos);
+                }
+            }
+        }
+    }
+
+    public void testCollectVectors_whenCollectedInRounds_thenFirstRoundIsARandomSample() throws IOException {
+        try (Directory directory = newDirectory()) {
+            try (IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig(new MockAnalyzer(random())))) {
+                for (int seqNo = 0; seqNo < 1000; seqNo++) {
+                    writer.addDocument(createDocument(seqNo));
+                }
+            }
+            try (DirectoryReader reader = DirectoryReader.open(directory)) {
+                TrainingDataCollectShardResult firstRound = TrainingDataCollectTransportAction.collectVectors(
+                    0,
+                    new IndexSearcher(reader),
+                    testFieldName,
+                    SEED,
+                    SequenceNumbers.NO_OPS_PERFORMED,
+                    10,
+                    Long.MAX_VALUE
+                );
+                assertEquals(10, firstRound.getCount());
+                assertTrue(firstRound.isHasMore());
+                // The round is not made of the oldest docs of the shard
+                assertTrue(collectFirstDimensions(firstRound).stream().anyMatch(seqNo -> seqNo >= 10));
+
+                // Another seed samples other docs
+                TrainingDataCollectShardResult otherSeedRound = TrainingDataCollectTransportAction.collectVectors(
+                    0,
+                    new IndexSearcher(reader),
+                    testFieldName,
+                    SEED + 1,
+                    SequenceNumbers.NO_OPS_PERFORMED,
+                    10,
+                    Long.MAX_VALUE
+                );
+                assertNotEquals(collectFirstDimensions(firstRound), collectFirstDimensions(otherSeedRound));
+            }
+        }
+    }
+
+    public void testCollectVectors_whenVectorsDoNotFitInLimitInBytes_thenFewerVectorsAreCollected() throws IOException {
+        try (Directory directory = newDirectory()) {
+            try (IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig(new MockAnalyzer(random())))) {
+                for (int seqNo = 0; seqNo < 10; seqNo++) {
+                    writer.addDocument(createDocument(seqNo));
+                }
+            }
+            try (DirectoryReader reader = DirectoryReader.open(directory)) {
+                // Each vector takes dimensions * Float.BYTES bytes
+                TrainingDataCollectShardResult round = TrainingDataCollectTransportAction.collectVectors(
+                    0,
+                    new IndexSearcher(reader),
+                    testFieldName,
+                    SEED,
+                    SequenceNumbers.NO_OPS_PERFORMED,
+                    10,
+                    3L * dimensions * Float.BYTES + 1
+                );
+                assertEquals(3, round.getCount());
+                assertTrue(round.isHasMore());
+
+                // A vector larger than the limit is still collected, so that every round makes progress
+                TrainingDataCollectShardResult singleVectorRound = TrainingDataCollectTransportAction.collectVectors(
+                    0,
+                    new IndexSearcher(reader),
+                    testFieldName,
+                    SEED,
+                    SequenceNumbers.NO_OPS_PERFORMED,
+                    10,
+                    1
+                );
+                assertEquals(1, singleVectorRound.getCount());
+                assertTrue(singleVectorRound.isHasMore());
+            }
+        }
+    }
+
+    public void testCollectVectors_whenNestedDocsShareSequenceNumber_thenParentIsNotSplitAcrossRounds() throws IOException {
+        try (Directory directory = newDirectory()) {
+            try (IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig(new MockAnalyzer(random())))) {
+                writer.addDocument(createDocument(0));
+                // Nested docs carry the sequence number of their parent
+                writer.addDocuments(List.of(createDocument(1), createDocument(1)));
+            }
+            try (DirectoryReader reader = DirectoryReader.open(directory)) {
+                TrainingDataCollectShardResult firstRound = TrainingDataCollectTransportAction.collectVectors(
+                    0,
+                    new IndexSearcher(reader),
+                    testFieldName,
+                    SEED,
+                    SequenceNumbers.NO_OPS_PERFORMED,
+                    2,
+                    Long.MAX_VALUE
+                );
+                assertTrue(firstRound.isHasMore());
+
+                TrainingDataCollectShardResult secondRound = TrainingDataCollectTransportAction.collectVectors(
+                    0,
+                    new IndexSearcher(reader),
+                    testFieldName,
+                    SEED,
+                    firstRound.getCursor(),
+                    2,
+                    Long.MAX_VALUE
+                );
+                assertFalse(secondRound.isHasMore());
+
+                // Both nested docs of the parent are collected in the same round, whatever the order of the keys
+                TrainingDataCollectShardResult parentRound = firstRound.getCount() == 2 ? firstRound : secondRound;
+                assertEquals(2, parentRound.getCount());
+                assertEquals(Set.of(1f), collectFirstDimensions(parentRound));
+                assertEquals(3, firstRound.getCount() + secondRound.getCount());
+            }
+        }
+    }
+
+    public void testShards_thenOnlyPrimaries() {
+        ClusterService clusterService = node().injector().getInstance(ClusterService.class);
+        TrainingDataCollectTransportAction transportAction = node().injector().getInstance(TrainingDataCollectTransportAction.class);
+        createIndex(testIndexName, Settings.builder().put("number_of_shards", 2).put("number_of_replicas", 1).put("index.knn", true).build());
+
+        ShardsIterator shardsIterator = transportAction.shards(
+            clusterService.state(),
+            new TrainingDataCollectRequest(testIndexName, testFieldName, Map.of(), 10, Long.MAX_VALUE, SEED),
+            new String[] { testIndexName }
+        );
+        assertEquals(2, shardsIterator.size());
+        shardsIterator.forEach(shardRouting -> assertTrue(shardRouting.primary()));
+    }
+
+    public void testShardResultSerialization() throws IOException {
+        TrainingDataCollectShardResult shardResult = new TrainingDataCollectShardResult(1, true);
+        shardResult.add(new float[] { 1f, 2f });
+        shardResult.add(new float[] { 3f, 4f });
+        shardResult.markHasMore(7);
+
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            shardResult.writeTo(out);
+            TrainingDataCollectShardResult deserialized = new TrainingDataCollectShardResult(out.bytes().streamInput());
+
+            assertEquals(1, deserialized.getShardId());
+            assertEquals(2, deserialized.getCount());
+            assertEquals(2, deserialized.getDimension());
+            assertTrue(deserialized.isHasMore());
+            assertEquals(7, deserialized.getCursor());
+            List<?> vectors = deserialized.getVectors(1);
+            assertEquals(1, vectors.size());
+            assertArrayEquals(new float[] { 1f, 2f }, (float[]) vectors.get(0), 0.0f);
+        }
+
+        TrainingDataCollectShardResult byteShardResult = new TrainingDataCollectShardResult(0, false);
+        byteShardResult.add(new byte[] { 1, 2, 3 });
+        expectThrows(IllegalStateException.class, () -> byteShardResult.add(new byte[] { 1 }));
+    }
+
+    private Document createDocument(long seqNo) {
+        Document document = new Document();
+        document.add(new KnnFloatVectorField(testFieldName, new float[] { seqNo, seqNo }));
+        document.add(new LongPoint(SeqNoFieldMapper.NAME, seqNo));
+        document.add(new NumericDocValuesField(SeqNoFieldMapper.NAME, seqNo));
+        return document;
+    }
+
+    private static Set<Float> collectFirstDimensions(TrainingDataCollectShardResult shardResult) {
+        return shardResult.getVectors(shardResult.getCount())
+            .stream()
+            .map(vector -> ((float[]) vector)[0])
+            .collect(Collectors.toSet());
+    }
+}
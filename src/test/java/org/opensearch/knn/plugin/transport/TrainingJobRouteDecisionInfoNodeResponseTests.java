@@ -16,6 +16,7 @@ import com.google.common.net.InetAddresses;
 import org.opensearch.Version;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.transport.TransportAddress;
 import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.XContentBuilder;
@@ -47,6 +48,38 @@ public class TrainingJobRouteDecisionInfoNodeResponseTests extends KNNTestCase {
         assertEquals(original.getTrainingJobCount(), copy.getTrainingJobCount());
     }
 
+    public void testStreams_withCapacity() throws IOException {
+        BytesStreamOutput streamOutput = new BytesStreamOutput();
+
+        InetAddress inetAddress = InetAddresses.fromInteger(randomInt());
+        DiscoveryNode discoveryNode = new DiscoveryNode("id", new TransportAddress(inetAddress, 9200), Version.CURRENT);
+
+        TrainingJobRouteDecisionInfoNodeResponse original = new TrainingJobRouteDecisionInfoNodeResponse(discoveryNode, 2, 4, 1024L, 4096L);
+
+        original.writeTo(streamOutput);
+
+        TrainingJobRouteDecisionInfoNodeResponse copy = new TrainingJobRouteDecisionInfoNodeResponse(streamOutput.bytes().streamInput());
+
+        assertEquals(2, copy.getTrainingJobCount().intValue());
+        assertEquals(4, copy.getMaxTrainingJobCount());
+        assertEquals(1024L, copy.getAvailableNativeMemoryInKB());
+        assertEquals(4096L, copy.getMaxNativeMemoryInKB());
+
+        // Nodes on older versions neither send nor receive the capacity
+        BytesStreamOutput oldStreamOutput = new BytesStreamOutput();
+        oldStreamOutput.setVersion(Version.V_2_17_0);
+        original.writeTo(oldStreamOutput);
+        StreamInput oldStreamInput = oldStreamOutput.bytes().streamInput();
+        oldStreamInput.setVersion(Version.V_2_17_0);
+
+        TrainingJobRouteDecisionInfoNodeResponse oldCopy = new TrainingJobRouteDecisionInfoNodeResponse(oldStreamInput);
+
+        assertEquals(2, oldCopy.getTrainingJobCount().intValue());
+        assertEquals(1, oldCopy.getMaxTrainingJobCount());
+        assertEquals(Long.MAX_VALUE, oldCopy.getAvailableNativeMemoryInKB());
+        assertEquals(Long.MAX_VALUE, oldCopy.getMaxNativeMemoryInKB());
+    }
+
     public void testGetTrainingJobCount() {
         int trainingJobCount = 13;
 
@@ -22,23 +22,38 @@ import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.node.DiscoveryNodes;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.ValidationException;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
 import org.opensearch.knn.KNNTestCase;
+import org.opensearch.knn.index.KNNSettings;
 import org.opensearch.knn.index.VectorDataType;
 import org.opensearch.knn.index.mapper.CompressionLevel;
 import org.opensearch.knn.index.mapper.Mode;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.RemoteTransportException;
+import org.opensearch.transport.TransportResponseHandler;
 import org.opensearch.transport.TransportService;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.knn.common.KNNConstants.BYTES_PER_KILOBYTES;
 
@@ -293,6 +308,244 @@ public class TrainingJobRouterTransportActionTests extends KNNTestCase {
         assertNull(selectedNode);
     }
 
+    public void testMultiNode_withMultipleJobSlots() {
+        // Mock datanodes in the cluster through mocking the cluster service
+        List<String> nodeIds = ImmutableList.of("node-1", "node-2", "node-3");
+
+        Map<String, DiscoveryNode> discoveryNodesMap = generateDiscoveryNodes(nodeIds);
+        ClusterService clusterService = generateMockedClusterService(discoveryNodesMap);
+
+        // Create a response to be returned with job route decision info
+        List<TrainingJobRouteDecisionInfoNodeResponse> responseList = new ArrayList<>();
+
+        // First node runs 2 of 4 jobs
+        responseList.add(new TrainingJobRouteDecisionInfoNodeResponse(discoveryNodesMap.get(nodeIds.get(0)), 2, 4, 1000L));
+
+        // Second node runs 1 of 4 jobs but cannot hold the training data
+        responseList.add(new TrainingJobRouteDecisionInfoNodeResponse(discoveryNodesMap.get(nodeIds.get(1)), 1, 4, 10L));
+
+        // Third node runs 2 of 4 jobs and has the most free memory
+        responseList.add(new TrainingJobRouteDecisionInfoNodeResponse(discoveryNodesMap.get(nodeIds.get(2)), 2, 4, 2000L));
+
+        TrainingJobRouteDecisionInfoResponse infoResponse = new TrainingJobRouteDecisionInfoResponse(
+            ClusterName.DEFAULT,
+            responseList,
+            Collections.emptyList()
+        );
+
+        TransportService transportService = mock(TransportService.class);
+        Client client = mock(Client.class);
+
+        // Setup the action
+        TrainingJobRouterTransportAction transportAction = new TrainingJobRouterTransportAction(
+            transportService,
+            new ActionFilters(Collections.emptySet()),
+            clusterService,
+            client
+        );
+
+        // Small jobs go to the node with the most free job slots
+        assertEquals(nodeIds.get(1), transportAction.selectNode(null, infoResponse, 5).getId());
+
+        // Larger jobs skip nodes that cannot hold the training data
+        assertEquals(nodeIds.get(2), transportAction.selectNode(null, infoResponse, 100).getId());
+
+        // The preferred node is used when it can take the job
+        assertEquals(nodeIds.get(0), transportAction.selectNode(nodeIds.get(0), infoResponse, 100).getId());
+
+        // No node can hold the training data
+        assertNull(transportAction.selectNode(null, infoResponse, 5000));
+    }
+
+    public void testRouteRequest_whenNoNodeHasCapacity_thenRetriedWithBackoffAndRoutedInOrder() {
+        List<String> nodeIds = ImmutableList.of("node-1");
+        Map<String, DiscoveryNode> discoveryNodesMap = generateDiscoveryNodes(nodeIds);
+        DiscoveryNode node = discoveryNodesMap.get(nodeIds.get(0));
+
+        // The node is busy for the first two rounds
+        TrainingJobRouteDecisionInfoResponse busyResponse = generateInfoResponse(
+            new TrainingJobRouteDecisionInfoNodeResponse(node, 1, 1, 1000L, 1000L)
+        );
+        TrainingJobRouteDecisionInfoResponse freeResponse = generateInfoResponse(
+            new TrainingJobRouteDecisionInfoNodeResponse(node, 0, 2, 1000L, 1000L)
+        );
+        Client client = mock(Client.class);
+        AtomicReference<TrainingJobRouteDecisionInfoResponse> infoResponse = new AtomicReference<>(busyResponse);
+        mockRouteDecisionInfo(client, infoResponse);
+
+        TransportService transportService = mock(TransportService.class);
+        List<TimeValue> retryDelays = new ArrayList<>();
+        List<Runnable> retries = mockScheduledRetries(transportService, retryDelays);
+        List<TrainingModelRequest> sentRequests = new ArrayList<>();
+        doAnswer(invocationOnMock -> {
+            sentRequests.add(invocationOnMock.getArgument(2));
+            return null;
+        }).when(transportService).sendRequest(eq(node), eq(TrainingModelAction.NAME), any(), any(), any());
+
+        TrainingJobRouterTransportAction transportAction = new TrainingJobRouterTransportAction(
+            transportService,
+            new ActionFilters(Collections.emptySet()),
+            generateMockedClusterService(discoveryNodesMap),
+            client
+        );
+
+        TrainingModelRequest firstRequest = generateTrainingModelRequest(10);
+        TrainingModelRequest secondRequest = generateTrainingModelRequest(10);
+        transportAction.routeRequest(firstRequest, ActionListener.wrap(response -> {}, e -> fail(e.getMessage())));
+        // The second request waits behind the first one instead of being routed on its own
+        transportAction.routeRequest(secondRequest, ActionListener.wrap(response -> {}, e -> fail(e.getMessage())));
+        verify(client, times(1)).execute(eq(TrainingJobRouteDecisionInfoAction.INSTANCE), any(), any());
+
+        retries.get(0).run();
+        assertTrue(sentRequests.isEmpty());
+
+        infoResponse.set(freeResponse);
+        retries.get(1).run();
+        assertEquals(ImmutableList.of(firstRequest, secondRequest), sentRequests);
+        assertEquals(ImmutableList.of(TimeValue.timeValueSeconds(1), TimeValue.timeValueSeconds(2)), retryDelays);
+        assertEquals(2, retries.size());
+    }
+
+    public void testRouteRequest_whenQueueTimeoutExpires_thenRequestFails() {
+        clusterService.getClusterSettings()
+            .applySettings(Settings.builder().put(KNNSettings.KNN_TRAINING_QUEUE_TIMEOUT, TimeValue.timeValueSeconds(5)).build());
+
+        List<String> nodeIds = ImmutableList.of("node-1");
+        Map<String, DiscoveryNode> discoveryNodesMap = generateDiscoveryNodes(nodeIds);
+        Client client = mock(Client.class);
+        mockRouteDecisionInfo(
+            client,
+            new AtomicReference<>(
+                generateInfoResponse(new TrainingJobRouteDecisionInfoNodeResponse(discoveryNodesMap.get(nodeIds.get(0)), 1, 1, 10L, 10L))
+            )
+        );
+
+        TransportService transportService = mock(TransportService.class);
+        List<TimeValue> retryDelays = new ArrayList<>();
+        List<Runnable> retries = mockScheduledRetries(transportService, retryDelays);
+
+        TrainingJobRouterTransportAction transportAction = new TrainingJobRouterTransportAction(
+            transportService,
+            new ActionFilters(Collections.emptySet()),
+            generateMockedClusterService(discoveryNodesMap),
+            client
+        );
+
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        transportAction.routeRequest(
+            generateTrainingModelRequest(5),
+            ActionListener.wrap(response -> fail("Request was routed"), failure::set)
+        );
+
+        // Retries back off until the next one would run past the timeout
+        for (int retry = 0; retry < 3; retry++) {
+            assertNull(failure.get());
+            retries.get(retry).run();
+        }
+        assertTrue(failure.get() instanceof ValidationException);
+        assertEquals(
+            ImmutableList.of(
+                TimeValue.timeValueSeconds(1),
+                TimeValue.timeValueSeconds(2),
+                TimeValue.timeValueSeconds(4),
+                TimeValue.timeValueSeconds(8)
+            ),
+            retryDelays
+        );
+        verify(transportService, never()).sendRequest(any(DiscoveryNode.class), anyString(), any(), any(), any());
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testRouteRequest_whenNodeRejectsRequest_thenRequestIsQueuedAgain() {
+        List<String> nodeIds = ImmutableList.of("node-1");
+        Map<String, DiscoveryNode> discoveryNodesMap = generateDiscoveryNodes(nodeIds);
+        DiscoveryNode node = discoveryNodesMap.get(nodeIds.get(0));
+        Client client = mock(Client.class);
+        mockRouteDecisionInfo(
+            client,
+            new AtomicReference<>(generateInfoResponse(new TrainingJobRouteDecisionInfoNodeResponse(node, 0, 1, 1000L, 1000L)))
+        );
+
+        TransportService transportService = mock(TransportService.class);
+        List<TimeValue> retryDelays = new ArrayList<>();
+        List<Runnable> retries = mockScheduledRetries(transportService, retryDelays);
+        List<TransportResponseHandler<TrainingModelResponse>> responseHandlers = new ArrayList<>();
+        doAnswer(invocationOnMock -> {
+            responseHandlers.add(invocationOnMock.getArgument(4));
+            return null;
+        }).when(transportService).sendRequest(eq(node), eq(TrainingModelAction.NAME), any(), any(), any());
+
+        TrainingJobRouterTransportAction transportAction = new TrainingJobRouterTransportAction(
+            transportService,
+            new ActionFilters(Collections.emptySet()),
+            generateMockedClusterService(discoveryNodesMap),
+            client
+        );
+
+        AtomicReference<String> modelId = new AtomicReference<>();
+        transportAction.routeRequest(
+            generateTrainingModelRequest(10),
+            ActionListener.wrap(response -> modelId.set(response.getModelId()), e -> fail(e.getMessage()))
+        );
+        assertEquals(1, responseHandlers.size());
+        assertTrue(retryDelays.isEmpty());
+
+        // The node took another job after the route decision
+        responseHandlers.get(0)
+            .handleException(
+                new RemoteTransportException(
+                    "rejected",
+                    new OpenSearchRejectedExecutionException("Unable to run training job: No training capacity on node.")
+                )
+            );
+        assertNull(modelId.get());
+        assertEquals(ImmutableList.of(TimeValue.timeValueSeconds(1)), retryDelays);
+
+        retries.get(0).run();
+        assertEquals(2, responseHandlers.size());
+        responseHandlers.get(1).handleResponse(new TrainingModelResponse("model-id"));
+        assertEquals("model-id", modelId.get());
+    }
+
+    public void testRouteRequest_whenTrainingDataExceedsEveryNodeLimit_thenFailsWithoutQueueing() {
+        List<String> nodeIds = ImmutableList.of("node-1", "node-2");
+        Map<String, DiscoveryNode> discoveryNodesMap = generateDiscoveryNodes(nodeIds);
+        Client client = mock(Client.class);
+        mockRouteDecisionInfo(
+            client,
+            new AtomicReference<>(
+                generateInfoResponse(
+                    new TrainingJobRouteDecisionInfoNodeResponse(discoveryNodesMap.get(nodeIds.get(0)), 1, 1, 0L, 100L),
+                    new TrainingJobRouteDecisionInfoNodeResponse(discoveryNodesMap.get(nodeIds.get(1)), 1, 1, 0L, 200L)
+                )
+            )
+        );
+
+        TransportService transportService = mock(TransportService.class);
+        List<TimeValue> retryDelays = new ArrayList<>();
+        mockScheduledRetries(transportService, retryDelays);
+
+        TrainingJobRouterTransportAction transportAction = new TrainingJobRouterTransportAction(
+            transportService,
+            new ActionFilters(Collections.emptySet()),
+            generateMockedClusterService(discoveryNodesMap),
+            client
+        );
+
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        transportAction.routeRequest(
+            generateTrainingModelRequest(1000),
+            ActionListener.wrap(response -> fail("Request was routed"), failure::set)
+        );
+        assertTrue(failure.get() instanceof ValidationException);
+        assertTrue(retryDelays.isEmpty());
+
+        // A job that fits in the limit of a busy node waits for it instead
+        assertFalse(transportAction.exceedsNativeMemoryLimitOfEveryNode(generateInfoResponse(), 1000));
+        transportAction.routeRequest(generateTrainingModelRequest(150), ActionListener.wrap(response -> {}, e -> fail(e.getMessage())));
+        assertEquals(ImmutableList.of(TimeValue.timeValueSeconds(1)), retryDelays);
+    }
+
     @SuppressWarnings("unchecked")
     public void testTrainingIndexSize() {
 
@@ -444,6 +697,48 @@ public class TrainingJobRouterTransportActionTests extends KNNTestCase {
         transportAction.getTrainingIndexSizeInKB(trainingModelRequest, listener);
     }
 
+    private TrainingModelRequest generateTrainingModelRequest(int trainingDataSizeInKB) {
+        TrainingModelRequest trainingModelRequest = new TrainingModelRequest(
+            null,
+            getDefaultKNNMethodContextForModel(),
+            4,
+            "training-index",
+            "training-field",
+            null,
+            "description",
+            VectorDataType.DEFAULT,
+            Mode.NOT_CONFIGURED,
+            CompressionLevel.NOT_CONFIGURED
+        );
+        trainingModelRequest.setTrainingDataSizeInKB(trainingDataSizeInKB);
+        return trainingModelRequest;
+    }
+
+    private TrainingJobRouteDecisionInfoResponse generateInfoResponse(TrainingJobRouteDecisionInfoNodeResponse... nodeResponses) {
+        return new TrainingJobRouteDecisionInfoResponse(ClusterName.DEFAULT, Arrays.asList(nodeResponses), Collections.emptyList());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void mockRouteDecisionInfo(Client client, AtomicReference<TrainingJobRouteDecisionInfoResponse> infoResponse) {
+        doAnswer(invocationOnMock -> {
+            ((ActionListener<TrainingJobRouteDecisionInfoResponse>) invocationOnMock.getArgument(2)).onResponse(infoResponse.get());
+            return null;
+        }).when(client).execute(eq(TrainingJobRouteDecisionInfoAction.INSTANCE), any(), any());
+    }
+
+    // Scheduled retries are collected to be run by the test, along with their delays
+    private List<Runnable> mockScheduledRetries(TransportService transportService, List<TimeValue> retryDelays) {
+        List<Runnable> retries = new ArrayList<>();
+        ThreadPool threadPool = mock(ThreadPool.class);
+        when(transportService.getThreadPool()).thenReturn(threadPool);
+        doAnswer(invocationOnMock -> {
+            retries.add(invocationOnMock.getArgument(0));
+            retryDelays.add(invocationOnMock.getArgument(1));
+            return null;
+        }).when(threadPool).schedule(any(Runnable.class), any(TimeValue.class), anyString());
+        return retries;
+    }
+
     private Map<String, DiscoveryNode> generateDiscoveryNodes(List<String> dataNodeIds) {
         Map<String, DiscoveryNode> nodes = new HashMap<>();
 
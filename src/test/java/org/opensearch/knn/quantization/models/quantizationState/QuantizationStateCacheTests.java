@@ -419,7 +419,7 @@ public class QuantizationStateCacheTests extends KNNTestCase {
 
     public void testCacheEvictionDueToSize() {
         String fieldName = "evictionField";
-        // States have size of slightly over 500 bytes so that adding two will reach the max size of 1 kb for the cache
+        // States use slightly over 500 bytes of memory, each weighs 1 kb so that adding two exceeds the max size of 1 kb for the cache
         int arrayLength = 112;
         float[] arr = new float[arrayLength];
         float[] arr2 = new float[arrayLength];
@@ -443,7 +443,7 @@ public class QuantizationStateCacheTests extends KNNTestCase {
         cache.setMaxCacheSizeInKB(cacheSize);
         cache.rebuildCache();
         cache.addQuantizationState(fieldName, state);
-        cache.addQuantizationState(fieldName, state2);
+        cache.addQuantizationState(fieldName + "2", state2);
         cache.clear();
         assertNotNull(cache.getEvictedDueToSizeAt());
     }
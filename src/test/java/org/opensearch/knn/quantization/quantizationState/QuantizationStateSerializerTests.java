@@ -5,6 +5,7 @@
 
 package org.opensearch.knn.quantization.quantizationState;
 
+import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.knn.KNNTestCase;
 import org.opensearch.knn.quantization.enums.ScalarQuantizationType;
 import org.opensearch.knn.quantization.models.quantizationParams.ScalarQuantizationParams;
@@ -43,4 +44,14 @@ public class QuantizationStateSerializerTests extends KNNTestCase {
         }
         assertEquals(params, deserialized.getQuantizationParams());
     }
+
+    public void testSerialize_thenOnlyWrittenBytesAreReturned() throws IOException {
+        ScalarQuantizationParams params = new ScalarQuantizationParams(ScalarQuantizationType.FOUR_BIT);
+        MultiBitScalarQuantizationState state = new MultiBitScalarQuantizationState(params, new float[4][1000]);
+
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            state.writeTo(out);
+            assertEquals(out.size(), state.toByteArray().length);
+        }
+    }
 }
@@ -6,12 +6,16 @@
 package org.opensearch.knn.quantization.quantizationState;
 
 import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.Version;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.knn.KNNTestCase;
 import org.opensearch.knn.quantization.enums.ScalarQuantizationType;
 import org.opensearch.knn.quantization.models.quantizationParams.ScalarQuantizationParams;
 import org.opensearch.knn.quantization.models.quantizationState.MultiBitScalarQuantizationState;
 import org.opensearch.knn.quantization.models.quantizationState.OneBitScalarQuantizationState;
+import org.opensearch.knn.quantization.models.quantizationState.RandomHadamardRotation;
 
 import java.io.IOException;
 
@@ -35,6 +39,42 @@ public class QuantizationStateTests extends KNNTestCase {
         assertEquals(params.getSqType(), deserializedState.getQuantizationParams().getSqType());
     }
 
+    public void testOneBitScalarQuantizationStateSerialization_withRotation() throws IOException {
+        ScalarQuantizationParams params = new ScalarQuantizationParams(ScalarQuantizationType.ONE_BIT);
+        float[] mean = { 1.0f, 2.0f, 3.0f };
+        RandomHadamardRotation rotation = new RandomHadamardRotation(42L, mean.length);
+
+        OneBitScalarQuantizationState state = new OneBitScalarQuantizationState(params, mean, rotation);
+        OneBitScalarQuantizationState deserializedState = OneBitScalarQuantizationState.fromByteArray(state.toByteArray());
+
+        assertArrayEquals(mean, deserializedState.getMeanThresholds(), 0.0001f);
+        assertEquals(rotation, deserializedState.getRotation());
+        float[] vector = { 0.3f, -1.2f, 5.0f };
+        assertArrayEquals(rotation.rotate(vector), deserializedState.getRotation().rotate(vector), 0.0f);
+        OneBitScalarQuantizationState stateWithoutRotation = new OneBitScalarQuantizationState(params, mean);
+        assertNull(OneBitScalarQuantizationState.fromByteArray(stateWithoutRotation.toByteArray()).getRotation());
+    }
+
+    public void testOneBitScalarQuantizationStateSerialization_whenWrittenWithoutRotation_thenOriginalFormatIsKept()
+        throws IOException {
+        ScalarQuantizationParams params = new ScalarQuantizationParams(ScalarQuantizationType.ONE_BIT);
+        float[] mean = { 1.0f, 2.0f, 3.0f };
+
+        // States of the current version were written without anything after the thresholds
+        byte[] originalFormat;
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            out.writeVInt(Version.CURRENT.id);
+            params.writeTo(out);
+            out.writeFloatArray(mean);
+            originalFormat = BytesReference.toBytes(out.bytes());
+        }
+        OneBitScalarQuantizationState deserializedState = OneBitScalarQuantizationState.fromByteArray(originalFormat);
+        assertArrayEquals(mean, deserializedState.getMeanThresholds(), 0.0f);
+        assertNull(deserializedState.getRotation());
+
+        assertArrayEquals(originalFormat, new OneBitScalarQuantizationState(params, mean).toByteArray());
+    }
+
     public void testMultiBitScalarQuantizationStateSerialization() throws IOException {
         ScalarQuantizationParams params = new ScalarQuantizationParams(ScalarQuantizationType.TWO_BIT);
         float[][] thresholds = { { 0.5f, 1.5f, 2.5f }, { 1.0f, 2.0f, 3.0f } };
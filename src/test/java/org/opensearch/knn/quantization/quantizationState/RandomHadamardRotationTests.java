@@ -0,0 +1,47 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.quantization.quantizationState;
+
+import org.apache.lucene.util.VectorUtil;
+import org.opensearch.knn.KNNTestCase;
+import org.opensearch.knn.quantization.models.quantizationState.RandomHadamardRotation;
+
+public class RandomHadamardRotationTests extends KNNTestCase {
+
+    public void testRotate_thenNormsAndInnerProductsArePreserved() {
+        for (int dimension : new int[] { 1, 8, 100, 128 }) {
+            RandomHadamardRotation rotation = new RandomHadamardRotation(randomLong(), dimension);
+            float[] first = randomVector(dimension);
+            float[] second = randomVector(dimension);
+
+            float[] rotatedFirst = rotation.rotate(first);
+            float[] rotatedSecond = rotation.rotate(second);
+
+            assertEquals(VectorUtil.dotProduct(first, first), VectorUtil.dotProduct(rotatedFirst, rotatedFirst), 0.01f);
+            assertEquals(VectorUtil.dotProduct(first, second), VectorUtil.dotProduct(rotatedFirst, rotatedSecond), 0.01f);
+            assertEquals(VectorUtil.squareDistance(first, second), VectorUtil.squareDistance(rotatedFirst, rotatedSecond), 0.01f);
+        }
+    }
+
+    public void testRotate_whenSameSeed_thenSameRotation() {
+        float[] vector = randomVector(100);
+        assertArrayEquals(new RandomHadamardRotation(7L, 100).rotate(vector), new RandomHadamardRotation(7L, 100).rotate(vector), 0.0f);
+    }
+
+    public void testRotate_whenDimensionDoesNotMatch_thenException() {
+        RandomHadamardRotation rotation = new RandomHadamardRotation(7L, 4);
+        expectThrows(IllegalArgumentException.class, () -> rotation.rotate(new float[3]));
+        expectThrows(IllegalArgumentException.class, () -> new RandomHadamardRotation(7L, 0));
+    }
+
+    private float[] randomVector(int dimension) {
+        float[] vector = new float[dimension];
+        for (int i = 0; i < dimension; i++) {
+            vector[i] = randomFloat() * 2 - 1;
+        }
+        return vector;
+    }
+}
@@ -49,6 +49,31 @@ public class MultiBitScalarQuantizerTests extends KNNTestCase {
         assertEquals(4, mbState.getThresholds().length); // 4-bit quantization should have 4 thresholds
     }
 
+    public void testCreateStreamingTrainer_thenThresholdsMatchSampledTraining() throws IOException {
+        float[][] vectors = {
+            { 0.5f, 1.5f, 2.5f, 3.5f, 4.5f, 5.5f, 6.5f, 7.5f },
+            { 1.0f, 2.0f, 3.0f, 4.0f, 5.0f, 6.0f, 7.0f, 8.0f },
+            { 1.5f, 2.5f, 3.5f, 4.5f, 5.5f, 6.5f, 7.5f, 9.5f } };
+        MultiBitScalarQuantizer fourBitQuantizer = new MultiBitScalarQuantizer(4);
+        ScalarQuantizationParams params = new ScalarQuantizationParams(ScalarQuantizationType.FOUR_BIT);
+        // All the vectors are sampled, so both trainings see the same vectors
+        MultiBitScalarQuantizationState sampledState = (MultiBitScalarQuantizationState) fourBitQuantizer.train(
+            new MockTrainingRequest(params, vectors)
+        );
+
+        StreamingTrainer<float[]> streamingTrainer = fourBitQuantizer.createStreamingTrainer();
+        expectThrows(IllegalStateException.class, streamingTrainer::finish);
+        for (float[] vector : vectors) {
+            streamingTrainer.accept(vector);
+        }
+        MultiBitScalarQuantizationState streamedState = (MultiBitScalarQuantizationState) streamingTrainer.finish();
+
+        assertEquals(ScalarQuantizationType.FOUR_BIT, streamedState.getQuantizationParams().getSqType());
+        for (int i = 0; i < sampledState.getThresholds().length; i++) {
+            assertArrayEquals(sampledState.getThresholds()[i], streamedState.getThresholds()[i], 0.0001f);
+        }
+    }
+
     public void testQuantize_twoBit() throws IOException {
         MultiBitScalarQuantizer twoBitQuantizer = new MultiBitScalarQuantizer(2);
         float[] vector = { 1.3f, 2.2f, 3.3f, 4.1f, 5.6f, 6.7f, 7.4f, 8.1f };
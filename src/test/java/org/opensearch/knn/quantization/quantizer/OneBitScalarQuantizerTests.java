@@ -13,10 +13,12 @@ import org.opensearch.knn.quantization.models.quantizationOutput.QuantizationOut
 import org.opensearch.knn.quantization.models.quantizationParams.ScalarQuantizationParams;
 import org.opensearch.knn.quantization.models.quantizationState.OneBitScalarQuantizationState;
 import org.opensearch.knn.quantization.models.quantizationState.QuantizationState;
+import org.opensearch.knn.quantization.models.quantizationState.RandomHadamardRotation;
 import org.opensearch.knn.quantization.models.requests.TrainingRequest;
 import org.opensearch.knn.quantization.sampler.Sampler;
 import org.opensearch.knn.quantization.sampler.SamplerType;
 import org.opensearch.knn.quantization.sampler.SamplingFactory;
+import oshi.util.tuples.Pair;
 
 import java.io.IOException;
 
@@ -40,6 +42,66 @@ public class OneBitScalarQuantizerTests extends KNNTestCase {
         assertArrayEquals(new float[] { 4.0f, 5.0f, 6.0f }, meanThresholds, 0.001f);
     }
 
+    public void testTrain_withRandomRotation_thenThresholdsAreComputedOnRotatedVectors() throws IOException {
+        float[][] vectors = { { 1.0f, 2.0f, 3.0f }, { 4.0f, 5.0f, 6.0f }, { 7.0f, 8.0f, 9.0f } };
+        TrainingRequest<float[]> originalRequest = new TrainingRequest<float[]>(vectors.length) {
+            @Override
+            public float[] getVectorAtThePosition(int position) {
+                return vectors[position];
+            }
+        };
+        OneBitScalarQuantizer quantizer = new OneBitScalarQuantizer(true);
+        OneBitScalarQuantizationState state = (OneBitScalarQuantizationState) quantizer.train(originalRequest);
+
+        RandomHadamardRotation rotation = state.getRotation();
+        assertNotNull(rotation);
+        assertEquals(3, rotation.getDimension());
+        float[] expectedMean = new float[3];
+        for (float[] vector : vectors) {
+            float[] rotated = rotation.rotate(vector);
+            for (int i = 0; i < rotated.length; i++) {
+                expectedMean[i] += rotated[i] / vectors.length;
+            }
+        }
+        assertArrayEquals(expectedMean, state.getMeanThresholds(), 0.001f);
+
+        // The vector is rotated before it is thresholded
+        float[] vector = { 9.0f, 1.0f, 4.0f };
+        float[] rotated = rotation.rotate(vector);
+        BinaryQuantizationOutput output = new BinaryQuantizationOutput(1);
+        quantizer.quantize(vector, state, output);
+        BinaryQuantizationOutput expectedOutput = new BinaryQuantizationOutput(1);
+        OneBitScalarQuantizationState stateWithoutRotation = new OneBitScalarQuantizationState(
+            state.getQuantizationParams(),
+            state.getMeanThresholds()
+        );
+        quantizer.quantize(rotated, stateWithoutRotation, expectedOutput);
+        assertArrayEquals(expectedOutput.getQuantizedVector(), output.getQuantizedVector());
+    }
+
+    public void testCreateStreamingTrainer_thenThresholdsMatchSampledTraining() throws IOException {
+        float[][] vectors = { { 1.0f, 2.0f, 3.0f }, { 4.0f, 5.0f, 6.0f }, { 7.0f, 8.0f, 9.0f } };
+        TrainingRequest<float[]> originalRequest = new TrainingRequest<float[]>(vectors.length) {
+            @Override
+            public float[] getVectorAtThePosition(int position) {
+                return vectors[position];
+            }
+        };
+        for (boolean randomRotation : new boolean[] { false, true }) {
+            OneBitScalarQuantizer quantizer = new OneBitScalarQuantizer(randomRotation);
+            OneBitScalarQuantizationState sampledState = (OneBitScalarQuantizationState) quantizer.train(originalRequest);
+
+            StreamingTrainer<float[]> streamingTrainer = quantizer.createStreamingTrainer();
+            for (float[] vector : vectors) {
+                streamingTrainer.accept(vector);
+            }
+            OneBitScalarQuantizationState streamedState = (OneBitScalarQuantizationState) streamingTrainer.finish();
+
+            assertArrayEquals(sampledState.getMeanThresholds(), streamedState.getMeanThresholds(), 0.001f);
+            assertEquals(sampledState.getRotation(), streamedState.getRotation());
+        }
+    }
+
     public void testQuantize_withState() throws IOException {
         float[] vector = { 3.0f, 6.0f, 9.0f };
         float[] thresholds = { 4.0f, 5.0f, 6.0f };
@@ -151,6 +213,50 @@ public class OneBitScalarQuantizerTests extends KNNTestCase {
         expectThrows(IllegalArgumentException.class, () -> QuantizerHelper.calculateMeanThresholds(samplingRequest, sampledIndices));
     }
 
+    public void testCalculateMeanAndStdDev_withManyDimensionsAndUnsortedIndices() throws IOException {
+        int dimension = 1024;
+        float[][] vectors = new float[50][dimension];
+        for (int i = 0; i < vectors.length; i++) {
+            for (int j = 0; j < dimension; j++) {
+                vectors[i][j] = randomFloat() * 10 - 5;
+            }
+        }
+        int[] lastPosition = { -1 };
+        TrainingRequest<float[]> samplingRequest = new TrainingRequest<float[]>(vectors.length) {
+            @Override
+            public float[] getVectorAtThePosition(int position) {
+                // Vector values can only be walked forward
+                assertTrue(position > lastPosition[0]);
+                lastPosition[0] = position;
+                return vectors[position];
+            }
+        };
+        int[] sampledIndices = { 40, 3, 17, 0, 49, 25 };
+
+        float[] expectedMean = new float[dimension];
+        float[] expectedStdDev = new float[dimension];
+        for (int j = 0; j < dimension; j++) {
+            double sum = 0;
+            for (int index : sampledIndices) {
+                sum += vectors[index][j];
+            }
+            double mean = sum / sampledIndices.length;
+            double squaredDeviations = 0;
+            for (int index : sampledIndices) {
+                squaredDeviations += (vectors[index][j] - mean) * (vectors[index][j] - mean);
+            }
+            expectedMean[j] = (float) mean;
+            expectedStdDev[j] = (float) Math.sqrt(squaredDeviations / sampledIndices.length);
+        }
+
+        Pair<float[], float[]> meanAndStdDev = QuantizerHelper.calculateMeanAndStdDev(samplingRequest, sampledIndices);
+        assertArrayEquals(expectedMean, meanAndStdDev.getA(), 0.0001f);
+        assertArrayEquals(expectedStdDev, meanAndStdDev.getB(), 0.0001f);
+
+        lastPosition[0] = -1;
+        assertArrayEquals(expectedMean, QuantizerHelper.calculateMeanThresholds(samplingRequest, sampledIndices), 0.0001f);
+    }
+
     public void testQuantize_withState_multiple_times() throws IOException {
         float[] vector = { 3.0f, 6.0f, 9.0f };
         float[] thresholds = { 4.0f, 5.0f, 6.0f };
@@ -220,6 +326,30 @@ public class OneBitScalarQuantizerTests extends KNNTestCase {
         assertSame(firstByteArray, thirdByteArray);
     }
 
+    public void testQuantize_withRotation_whenQuantizedInLoop_thenEachVectorIsRotatedIntoReusedBuffer() {
+        float[] thresholds = { 0.5f, -0.5f, 0.0f, 1.0f, -1.0f };
+        RandomHadamardRotation rotation = new RandomHadamardRotation(7L, thresholds.length);
+        ScalarQuantizationParams params = new ScalarQuantizationParams(ScalarQuantizationType.ONE_BIT);
+        OneBitScalarQuantizationState state = new OneBitScalarQuantizationState(params, thresholds, rotation);
+        OneBitScalarQuantizationState stateWithoutRotation = new OneBitScalarQuantizationState(params, thresholds);
+        OneBitScalarQuantizer quantizer = new OneBitScalarQuantizer();
+        BinaryQuantizationOutput output = new BinaryQuantizationOutput(1);
+        BinaryQuantizationOutput expectedOutput = new BinaryQuantizationOutput(1);
+
+        for (int i = 0; i < 10; i++) {
+            float[] vector = new float[thresholds.length];
+            for (int j = 0; j < vector.length; j++) {
+                vector[j] = randomFloat() * 4 - 2;
+            }
+            float[] original = vector.clone();
+            quantizer.quantize(vector, state, output);
+            quantizer.quantize(rotation.rotate(vector), stateWithoutRotation, expectedOutput);
+            assertArrayEquals(expectedOutput.getQuantizedVector(), output.getQuantizedVector());
+            // The vector to quantize is left as it is
+            assertArrayEquals(original, vector, 0.0f);
+        }
+    }
+
     public void testQuantize_withMultipleVectors_inLoop() throws IOException {
         OneBitScalarQuantizer oneBitQuantizer = new OneBitScalarQuantizer();
         float[][] vectors = { { 1.0f, 2.0f, 3.0f, 4.0f }, { 2.0f, 3.0f, 4.0f, 5.0f }, { 1.5f, 2.5f, 3.5f, 4.5f } };
@@ -12,16 +12,22 @@
 package org.opensearch.knn.training;
 
 import org.mockito.ArgumentCaptor;
+import org.mockito.MockedStatic;
 import org.opensearch.knn.KNNTestCase;
 import org.opensearch.knn.index.engine.qframe.QuantizationConfig;
 import org.opensearch.knn.index.memory.NativeMemoryAllocation;
+import org.opensearch.knn.jni.JNICommons;
 import org.opensearch.knn.quantization.enums.ScalarQuantizationType;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -42,9 +48,9 @@ public class FloatTrainingDataConsumerTests extends KNNTestCase {
 
         FloatTrainingDataConsumer floatTrainingDataConsumer = new FloatTrainingDataConsumer(trainingDataAllocation);
 
-        List<Float[]> vectorSet1 = new ArrayList<>(3);
+        List<float[]> vectorSet1 = new ArrayList<>(3);
         for (int i = 0; i < 3; i++) {
-            Float[] vector = new Float[dimension];
+            float[] vector = new float[dimension];
             Arrays.fill(vector, (float) i);
             vectorSet1.add(vector);
         }
@@ -76,9 +82,9 @@ public class FloatTrainingDataConsumerTests extends KNNTestCase {
 
         FloatTrainingDataConsumer floatTrainingDataConsumer = new FloatTrainingDataConsumer(trainingDataAllocation);
 
-        List<Float[]> vectorSet1 = new ArrayList<>(3);
+        List<float[]> vectorSet1 = new ArrayList<>(3);
         for (int i = 0; i < 3; i++) {
-            Float[] vector = new Float[dimension];
+            float[] vector = new float[dimension];
             Arrays.fill(vector, (float) i);
             vectorSet1.add(vector);
         }
@@ -92,4 +98,48 @@ public class FloatTrainingDataConsumerTests extends KNNTestCase {
 
         assertNotEquals(0, trainingDataAllocation.getMemoryAddress());
     }
+
+    public void testAccept_whenVectorsAreQuantized_thenStateOfFirstBatchIsReusedForEveryBatch() {
+        NativeMemoryAllocation.TrainingDataAllocation trainingDataAllocation = mock(NativeMemoryAllocation.TrainingDataAllocation.class);
+        when(trainingDataAllocation.getMemoryAddress()).thenReturn(0L);
+        when(trainingDataAllocation.getQuantizationConfig()).thenReturn(
+            QuantizationConfig.builder().quantizationType(ScalarQuantizationType.ONE_BIT).build()
+        );
+
+        FloatTrainingDataConsumer floatTrainingDataConsumer = new FloatTrainingDataConsumer(trainingDataAllocation);
+
+        try (MockedStatic<JNICommons> jniCommonsMockedStatic = mockStatic(JNICommons.class)) {
+            // Thresholds are the means of the first batch, {2, 2}
+            floatTrainingDataConsumer.processTrainingVectors(Arrays.asList(new float[] { 1f, 1f }, new float[] { 3f, 3f }));
+            // Thresholds trained on the second batch would be {20, -1} and set no bit
+            floatTrainingDataConsumer.processTrainingVectors(Collections.singletonList(new float[] { 20f, -1f }));
+
+            ArgumentCaptor<byte[][]> batches = ArgumentCaptor.forClass(byte[][].class);
+            jniCommonsMockedStatic.verify(() -> JNICommons.storeBinaryVectorData(anyLong(), batches.capture(), anyLong()), times(2));
+            assertArrayEquals(new byte[][] { { 0 }, { (byte) 0b11000000 } }, batches.getAllValues().get(0));
+            assertArrayEquals(new byte[][] { { (byte) 0b10000000 } }, batches.getAllValues().get(1));
+        }
+        assertEquals(3, floatTrainingDataConsumer.getTotalVectorsCountAdded());
+    }
+
+    public void testGetInitialCapacity() {
+        int dimension = 128;
+        NativeMemoryAllocation.TrainingDataAllocation trainingDataAllocation = mock(NativeMemoryAllocation.TrainingDataAllocation.class);
+        when(trainingDataAllocation.getQuantizationConfig()).thenReturn(QuantizationConfig.EMPTY);
+        // Room for 1000 vectors
+        when(trainingDataAllocation.getSizeInKB()).thenReturn(500);
+
+        FloatTrainingDataConsumer floatTrainingDataConsumer = new FloatTrainingDataConsumer(trainingDataAllocation);
+
+        // Without a maximum vector count, only the batch is reserved
+        assertEquals(10L * dimension, floatTrainingDataConsumer.getInitialCapacity(10, dimension, Float.BYTES));
+
+        // The maximum vector count is reserved when the allocation can hold it
+        floatTrainingDataConsumer.setMaxVectorCount(100);
+        assertEquals(100L * dimension, floatTrainingDataConsumer.getInitialCapacity(10, dimension, Float.BYTES));
+
+        // The reservation never exceeds the size of the allocation
+        floatTrainingDataConsumer.setMaxVectorCount(Integer.MAX_VALUE);
+        assertEquals(1000L * dimension, floatTrainingDataConsumer.getInitialCapacity(10, dimension, Float.BYTES));
+    }
 }
@@ -19,6 +19,7 @@ import org.opensearch.knn.indices.Model;
 import org.opensearch.knn.indices.ModelDao;
 import org.opensearch.knn.indices.ModelMetadata;
 import org.opensearch.knn.indices.ModelState;
+import org.opensearch.knn.plugin.stats.KNNCounter;
 import org.opensearch.threadpool.ThreadPool;
 
 import java.io.IOException;
@@ -131,12 +132,13 @@ public class TrainingJobRunnerTests extends KNNTestCase {
         // Once update is called, try to start another training job. This should fail because the calling thread
         // is running training
         TrainingJobRunner trainingJobRunner = TrainingJobRunner.getInstance();
-        doAnswer(
-            invocationOnMock -> expectThrows(
-                RejectedExecutionException.class,
-                () -> trainingJobRunner.execute(trainingJob, responseListener)
-            )
-        ).when(modelDao).update(model, responseListener);
+        doAnswer(invocationOnMock -> {
+            long trainingErrorsBefore = KNNCounter.TRAINING_ERRORS.getCount();
+            expectThrows(RejectedExecutionException.class, () -> trainingJobRunner.execute(trainingJob, responseListener));
+            // The router queues a rejected job again, so the rejection is not a training error
+            assertEquals(trainingErrorsBefore, (long) KNNCounter.TRAINING_ERRORS.getCount());
+            return null;
+        }).when(modelDao).update(model, responseListener);
 
         // Finally, initialize the singleton runner, execute the job.
         TrainingJobRunner.initialize(threadPool, modelDao);
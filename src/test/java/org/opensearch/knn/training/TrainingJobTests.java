@@ -43,6 +43,7 @@ import java.util.concurrent.ExecutionException;
 
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.knn.common.KNNConstants.INDEX_THREAD_QTY;
 import static org.opensearch.knn.common.KNNConstants.METHOD_IVF;
@@ -220,6 +221,13 @@ public class TrainingJobTests extends KNNTestCase {
 
         assertEquals(ModelState.CREATED, model.getModelMetadata().getState());
 
+        // The coarse quantizer is trained one k-means iteration at a time
+        TrainingTask.Status status = trainingJob.getStatus();
+        assertEquals(modelId, status.getModelId());
+        assertTrue(status.getTotalIterations() > 0);
+        assertEquals(status.getTotalIterations(), status.getIterations());
+        assertFalse(status.isCancelled());
+
         // Simple test that creates the index from template and doesnt fail
         int[] ids = { 1, 2, 3, 4 };
         float[][] vectors = new float[ids.length][dimension];
@@ -244,6 +252,60 @@ public class TrainingJobTests extends KNNTestCase {
         }
     }
 
+    public void testRun_whenCancelled_thenModelFailed() throws ExecutionException {
+        String modelId = "test-model-id";
+        int dimension = 16;
+        KNNMethodConfigContext knnMethodConfigContext = KNNMethodConfigContext.builder()
+            .vectorDataType(VectorDataType.FLOAT)
+            .dimension(dimension)
+            .versionCreated(Version.CURRENT)
+            .build();
+        KNNMethodContext knnMethodContext = new KNNMethodContext(
+            KNNEngine.FAISS,
+            SpaceType.L2,
+            new MethodComponentContext(METHOD_IVF, ImmutableMap.of(METHOD_PARAMETER_NLIST, 5))
+        );
+
+        NativeMemoryCacheManager nativeMemoryCacheManager = mock(NativeMemoryCacheManager.class);
+
+        NativeMemoryAllocation modelAllocation = mock(NativeMemoryAllocation.class);
+        when(modelAllocation.isClosed()).thenReturn(false);
+        NativeMemoryEntryContext.AnonymousEntryContext modelContext = mock(NativeMemoryEntryContext.AnonymousEntryContext.class);
+        when(modelContext.getKey()).thenReturn("model-test-key");
+        when(nativeMemoryCacheManager.get(modelContext, false)).thenReturn(modelAllocation);
+
+        NativeMemoryAllocation nativeMemoryAllocation = mock(NativeMemoryAllocation.class);
+        when(nativeMemoryAllocation.isClosed()).thenReturn(false);
+        NativeMemoryEntryContext.TrainingDataEntryContext trainingDataEntryContext = mock(
+            NativeMemoryEntryContext.TrainingDataEntryContext.class
+        );
+        when(trainingDataEntryContext.getKey()).thenReturn("t-data-key");
+        when(nativeMemoryCacheManager.get(trainingDataEntryContext, false)).thenReturn(nativeMemoryAllocation);
+
+        TrainingJob trainingJob = new TrainingJob(
+            modelId,
+            knnMethodContext,
+            nativeMemoryCacheManager,
+            trainingDataEntryContext,
+            modelContext,
+            knnMethodConfigContext,
+            "",
+            "test-node",
+            Mode.NOT_CONFIGURED,
+            CompressionLevel.NOT_CONFIGURED
+        );
+
+        trainingJob.cancel();
+        trainingJob.run();
+
+        ModelMetadata modelMetadata = trainingJob.getModel().getModelMetadata();
+        assertEquals(ModelState.FAILED, modelMetadata.getState());
+        assertEquals("Training job was cancelled.", modelMetadata.getError());
+        assertTrue(trainingJob.getStatus().isCancelled());
+        verify(nativeMemoryCacheManager).invalidate("t-data-key");
+        verify(nativeMemoryCacheManager).invalidate("model-test-key");
+    }
+
     public void testRun_failure_onGetTrainingDataAllocation() throws ExecutionException {
         // In this test, getting a training data allocation should fail. Then, run should fail and update the error of
         // the model
@@ -0,0 +1,49 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.training;
+
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.tasks.TaskId;
+import org.opensearch.knn.KNNTestCase;
+
+import java.io.IOException;
+import java.util.Collections;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TrainingTaskTests extends KNNTestCase {
+
+    public void testCancel_thenJobCancelled() {
+        TrainingJob trainingJob = mock(TrainingJob.class);
+        when(trainingJob.getModelId()).thenReturn("test-model-id");
+        TrainingTask.Status status = new TrainingTask.Status("test-model-id", 3, 10, 1.5, 100, false);
+        when(trainingJob.getStatus()).thenReturn(status);
+
+        TrainingTask trainingTask = new TrainingTask(
+            1,
+            TrainingTask.TASK_TYPE,
+            TrainingJobRunner.TRAINING_TASK_ACTION,
+            TaskId.EMPTY_TASK_ID,
+            Collections.emptyMap(),
+            trainingJob
+        );
+        assertEquals("model_id[test-model-id]", trainingTask.getDescription());
+        assertSame(status, trainingTask.getStatus());
+
+        trainingTask.onCancelled();
+        verify(trainingJob).cancel();
+    }
+
+    public void testStatusStreams() throws IOException {
+        TrainingTask.Status status = new TrainingTask.Status("test-model-id", 3, 10, 1.5, 100, true);
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            status.writeTo(out);
+            assertEquals(status, new TrainingTask.Status(out.bytes().streamInput()));
+        }
+    }
+}
@@ -11,20 +11,23 @@
 package org.opensearch.knn.training;
 
 import lombok.Getter;
+import org.apache.commons.lang.ArrayUtils;
+import org.opensearch.action.support.WriteRequest;
 import org.opensearch.core.action.ActionListener;
-import org.opensearch.action.search.SearchResponse;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
 import org.opensearch.knn.KNNSingleNodeTestCase;
 import org.opensearch.knn.index.VectorDataType;
 import org.opensearch.knn.index.memory.NativeMemoryAllocation;
 import org.opensearch.common.ValidationException;
-import org.opensearch.search.SearchHit;
+import org.opensearch.core.tasks.TaskCancelledException;
 
 import java.io.IOException;
 import java.util.*;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 public class VectorReaderTests extends KNNSingleNodeTestCase {
@@ -38,8 +41,8 @@ public class VectorReaderTests extends KNNSingleNodeTestCase {
     private final static int DEFAULT_MAX_VECTOR_COUNT = 10000;
     private final static int DEFAULT_SEARCH_SIZE = 120;
 
-    public void testRead_valid_completeIndex() throws InterruptedException, ExecutionException, IOException {
-        createIndex(DEFAULT_INDEX_NAME);
+    public void testReadFromShards_valid_completeIndex() throws InterruptedException, ExecutionException, IOException {
+        createIndex(DEFAULT_INDEX_NAME, Settings.builder().put("number_of_shards", 2).put("number_of_replicas", 0).build());
         createKnnIndexMapping(DEFAULT_INDEX_NAME, DEFAULT_FIELD_NAME, DEFAULT_DIMENSION);
 
         // Create list of random vectors and ingest
@@ -56,16 +59,17 @@ public class VectorReaderTests extends KNNSingleNodeTestCase {
         VectorReader vectorReader = new VectorReader(client());
         TestFloatTrainingDataConsumer trainingDataConsumer = new TestFloatTrainingDataConsumer(createMockTrainingDataAllocation());
 
-        // Read all vectors and confirm they match vectors
+        // Read all vectors from the shards and confirm they match vectors
         final CountDownLatch inProgressLatch = new CountDownLatch(1);
-        vectorReader.read(
+        vectorReader.readFromShards(
             clusterService,
             DEFAULT_INDEX_NAME,
             DEFAULT_FIELD_NAME,
             DEFAULT_MAX_VECTOR_COUNT,
             DEFAULT_SEARCH_SIZE,
             trainingDataConsumer,
-            createOnSearchResponseCountDownListener(inProgressLatch)
+            () -> false,
+            ActionListener.wrap(response -> inProgressLatch.countDown(), Throwable::printStackTrace)
         );
 
         assertLatchDecremented(inProgressLatch);
@@ -78,321 +82,203 @@ public class VectorReaderTests extends KNNSingleNodeTestCase {
         assertEquals(new HashSet<>(flatVectors), new HashSet<>(flatConsumedVectors));
     }
 
-    public void testRead_valid_trainVectorsIngestedAsIntegers() throws IOException, ExecutionException, InterruptedException {
-        createIndex(DEFAULT_INDEX_NAME);
+    public void testReadFromShards_valid_OnlyGetMaxVectors() throws InterruptedException, ExecutionException, IOException {
+        // With 2 shards, each round reads at most half of the max vectors from each shard
+        int maxNumVectorsRead = 33;
+        createIndex(DEFAULT_INDEX_NAME, Settings.builder().put("number_of_shards", 2).put("number_of_replicas", 0).build());
         createKnnIndexMapping(DEFAULT_INDEX_NAME, DEFAULT_FIELD_NAME, DEFAULT_DIMENSION);
 
-        // Create list of random vectors and ingest
         Random random = new Random();
-        List<Integer[]> vectors = new ArrayList<>();
         for (int i = 0; i < DEFAULT_NUM_VECTORS; i++) {
-            Integer[] vector = random.ints(DEFAULT_DIMENSION).boxed().toArray(Integer[]::new);
-            vectors.add(vector);
+            Float[] vector = random.doubles(DEFAULT_DIMENSION).boxed().map(Double::floatValue).toArray(Float[]::new);
             addKnnDoc(DEFAULT_INDEX_NAME, Integer.toString(i), DEFAULT_FIELD_NAME, vector);
         }
+        // Deleted vectors are not collected
+        client().prepareDelete(DEFAULT_INDEX_NAME, "0").setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE).get();
 
-        // Configure VectorReader
         ClusterService clusterService = node().injector().getInstance(ClusterService.class);
         VectorReader vectorReader = new VectorReader(client());
 
-        // Read all vectors and confirm they match vectors
         final CountDownLatch inProgressLatch = new CountDownLatch(1);
         TestFloatTrainingDataConsumer trainingDataConsumer = new TestFloatTrainingDataConsumer(createMockTrainingDataAllocation());
-        vectorReader.read(
+        vectorReader.readFromShards(
             clusterService,
             DEFAULT_INDEX_NAME,
             DEFAULT_FIELD_NAME,
-            DEFAULT_MAX_VECTOR_COUNT,
+            maxNumVectorsRead,
             DEFAULT_SEARCH_SIZE,
             trainingDataConsumer,
-            createOnSearchResponseCountDownListener(inProgressLatch)
+            () -> false,
+            ActionListener.wrap(response -> inProgressLatch.countDown(), Throwable::printStackTrace)
         );
 
         assertLatchDecremented(inProgressLatch);
-
-        List<Float[]> consumedVectors = trainingDataConsumer.getTotalAddedVectors();
-        assertEquals(DEFAULT_NUM_VECTORS, consumedVectors.size());
-
-        List<Float> flatVectors = vectors.stream().flatMap(Arrays::stream).map(Integer::floatValue).collect(Collectors.toList());
-        List<Float> flatConsumedVectors = consumedVectors.stream().flatMap(Arrays::stream).collect(Collectors.toList());
-        assertEquals(new HashSet<>(flatVectors), new HashSet<>(flatConsumedVectors));
+        assertEquals(maxNumVectorsRead, trainingDataConsumer.getTotalAddedVectors().size());
     }
 
-    public void testRead_valid_incompleteIndex() throws InterruptedException, ExecutionException, IOException {
-        // Check if we get the right number of vectors if the index contains docs that are missing fields
-        // Create an index with knn disabled
-        createIndex(DEFAULT_INDEX_NAME);
-
-        // Add a field mapping to the index
+    public void testReadFromShards_whenSearchSizeIsSmall_thenVectorsAreCollectedInRoundsWithoutDuplicates() throws InterruptedException,
+        ExecutionException, IOException {
+        int searchSize = 7;
+        createIndex(DEFAULT_INDEX_NAME, Settings.builder().put("number_of_shards", 1).put("number_of_replicas", 0).build());
         createKnnIndexMapping(DEFAULT_INDEX_NAME, DEFAULT_FIELD_NAME, DEFAULT_DIMENSION);
 
-        // Create list of random vectors and ingest
-        Random random = new Random();
-        List<Float[]> vectors = new ArrayList<>();
         for (int i = 0; i < DEFAULT_NUM_VECTORS; i++) {
-            Float[] vector = random.doubles(DEFAULT_DIMENSION).boxed().map(Double::floatValue).toArray(Float[]::new);
-            vectors.add(vector);
+            Float[] vector = new Float[DEFAULT_DIMENSION];
+            Arrays.fill(vector, (float) i);
             addKnnDoc(DEFAULT_INDEX_NAME, Integer.toString(i), DEFAULT_FIELD_NAME, vector);
         }
 
-        // Create documents that do not have fieldName for training
-        int docsWithoutKNN = 100;
-        String fieldNameWithoutKnn = "test-field-2";
-        for (int i = 0; i < docsWithoutKNN; i++) {
-            addDoc(DEFAULT_INDEX_NAME, Integer.toString(i + DEFAULT_NUM_VECTORS), fieldNameWithoutKnn, "dummyValue");
-        }
-
-        // Configure VectorReader
         ClusterService clusterService = node().injector().getInstance(ClusterService.class);
         VectorReader vectorReader = new VectorReader(client());
 
-        // Read all vectors and confirm they match vectors
         final CountDownLatch inProgressLatch = new CountDownLatch(1);
         TestFloatTrainingDataConsumer trainingDataConsumer = new TestFloatTrainingDataConsumer(createMockTrainingDataAllocation());
-
-        vectorReader.read(
+        vectorReader.readFromShards(
             clusterService,
             DEFAULT_INDEX_NAME,
             DEFAULT_FIELD_NAME,
             DEFAULT_MAX_VECTOR_COUNT,
-            DEFAULT_SEARCH_SIZE,
+            searchSize,
             trainingDataConsumer,
-            createOnSearchResponseCountDownListener(inProgressLatch)
+            () -> false,
+            ActionListener.wrap(response -> inProgressLatch.countDown(), Throwable::printStackTrace)
         );
 
         assertLatchDecremented(inProgressLatch);
-
-        List<Float[]> consumedVectors = trainingDataConsumer.getTotalAddedVectors();
-        assertEquals(DEFAULT_NUM_VECTORS, consumedVectors.size());
-
-        List<Float> flatVectors = vectors.stream().flatMap(Arrays::stream).collect(Collectors.toList());
-        List<Float> flatConsumedVectors = consumedVectors.stream().flatMap(Arrays::stream).collect(Collectors.toList());
-        assertEquals(new HashSet<>(flatVectors), new HashSet<>(flatConsumedVectors));
+        // A shard never returns more than the search size in a round
+        assertTrue(trainingDataConsumer.getBatchSizes().stream().allMatch(batchSize -> batchSize <= searchSize));
+        assertEquals(DEFAULT_NUM_VECTORS, trainingDataConsumer.getTotalAddedVectors().size());
+        assertEquals(
+            DEFAULT_NUM_VECTORS,
+            trainingDataConsumer.getTotalAddedVectors().stream().map(vector -> vector[0]).collect(Collectors.toSet()).size()
+        );
     }
 
-    public void testRead_valid_OnlyGetMaxVectors() throws InterruptedException, ExecutionException, IOException {
-        // Check if we can limit the number of docs via max operation
-        // Create an index with knn disabled
-        int maxNumVectorsRead = 20;
-        createIndex(DEFAULT_INDEX_NAME);
-
-        // Add a field mapping to the index
+    public void testReadFromShards_whenCancelledBetweenRounds_thenCollectionIsAborted() throws InterruptedException, ExecutionException,
+        IOException {
+        int searchSize = 7;
+        createIndex(DEFAULT_INDEX_NAME, Settings.builder().put("number_of_shards", 1).put("number_of_replicas", 0).build());
         createKnnIndexMapping(DEFAULT_INDEX_NAME, DEFAULT_FIELD_NAME, DEFAULT_DIMENSION);
 
-        // Create list of random vectors and ingest
         Random random = new Random();
         for (int i = 0; i < DEFAULT_NUM_VECTORS; i++) {
             Float[] vector = random.doubles(DEFAULT_DIMENSION).boxed().map(Double::floatValue).toArray(Float[]::new);
             addKnnDoc(DEFAULT_INDEX_NAME, Integer.toString(i), DEFAULT_FIELD_NAME, vector);
         }
 
-        // Configure VectorReader
         ClusterService clusterService = node().injector().getInstance(ClusterService.class);
         VectorReader vectorReader = new VectorReader(client());
 
-        // Read maxNumVectorsRead vectors
+        // Cancel once the first round has been consumed
         final CountDownLatch inProgressLatch = new CountDownLatch(1);
+        final AtomicReference<Exception> failure = new AtomicReference<>();
         TestFloatTrainingDataConsumer trainingDataConsumer = new TestFloatTrainingDataConsumer(createMockTrainingDataAllocation());
-        vectorReader.read(
+        vectorReader.readFromShards(
             clusterService,
             DEFAULT_INDEX_NAME,
             DEFAULT_FIELD_NAME,
-            maxNumVectorsRead,
-            DEFAULT_SEARCH_SIZE,
+            DEFAULT_MAX_VECTOR_COUNT,
+            searchSize,
             trainingDataConsumer,
-            createOnSearchResponseCountDownListener(inProgressLatch)
+            () -> trainingDataConsumer.getTotalVectorsCountAdded() > 0,
+            ActionListener.wrap(response -> fail("Collection should have been cancelled"), e -> {
+                failure.set(e);
+                inProgressLatch.countDown();
+            })
         );
 
         assertLatchDecremented(inProgressLatch);
-
-        List<Float[]> consumedVectors = trainingDataConsumer.getTotalAddedVectors();
-        assertEquals(maxNumVectorsRead, consumedVectors.size());
+        assertTrue(failure.get() instanceof TaskCancelledException);
+        assertEquals(searchSize, trainingDataConsumer.getTotalAddedVectors().size());
     }
 
-    public void testRead_invalid_maxVectorCount() {
-        // Create the index
-        createIndex(DEFAULT_INDEX_NAME);
-
-        // Add a field mapping to the index
-        createKnnIndexMapping(DEFAULT_INDEX_NAME, DEFAULT_FIELD_NAME, DEFAULT_DIMENSION);
-
-        // Configure VectorReader
+    public void testReadFromShards_invalid_indexDoesNotExist() {
         ClusterService clusterService = node().injector().getInstance(ClusterService.class);
         VectorReader vectorReader = new VectorReader(client());
-
-        int invalidMaxVectorCount = -10;
         expectThrows(
             ValidationException.class,
-            () -> vectorReader.read(
+            () -> vectorReader.readFromShards(
                 clusterService,
                 DEFAULT_INDEX_NAME,
                 DEFAULT_FIELD_NAME,
-                invalidMaxVectorCount,
+                DEFAULT_MAX_VECTOR_COUNT,
                 DEFAULT_SEARCH_SIZE,
                 null,
+                () -> false,
                 null
             )
         );
     }
 
-    public void testRead_invalid_searchSize() {
-        // Create the index
+    public void testReadFromShards_invalid_maxVectorCount() {
         createIndex(DEFAULT_INDEX_NAME);
-
-        // Add a field mapping to the index
         createKnnIndexMapping(DEFAULT_INDEX_NAME, DEFAULT_FIELD_NAME, DEFAULT_DIMENSION);
 
-        // Configure VectorReader
         ClusterService clusterService = node().injector().getInstance(ClusterService.class);
         VectorReader vectorReader = new VectorReader(client());
-
-        // Search size is negative
-        int invalidSearchSize1 = -10;
         expectThrows(
             ValidationException.class,
-            () -> vectorReader.read(
+            () -> vectorReader.readFromShards(
                 clusterService,
                 DEFAULT_INDEX_NAME,
                 DEFAULT_FIELD_NAME,
-                DEFAULT_MAX_VECTOR_COUNT,
-                invalidSearchSize1,
-                null,
-                null
-            )
-        );
-
-        // Search size is greater than 10000
-        int invalidSearchSize2 = 20000;
-        expectThrows(
-            ValidationException.class,
-            () -> vectorReader.read(
-                clusterService,
-                DEFAULT_INDEX_NAME,
-                DEFAULT_FIELD_NAME,
-                DEFAULT_MAX_VECTOR_COUNT,
-                invalidSearchSize2,
-                null,
-                null
-            )
-        );
-    }
-
-    public void testRead_invalid_indexDoesNotExist() {
-        // Check that read throws a validation exception when the index does not exist
-        // Configure VectorReader
-        ClusterService clusterService = node().injector().getInstance(ClusterService.class);
-        VectorReader vectorReader = new VectorReader(client());
-
-        // Should throw a validation exception because index does not exist
-        expectThrows(
-            ValidationException.class,
-            () -> vectorReader.read(
-                clusterService,
-                DEFAULT_INDEX_NAME,
-                DEFAULT_FIELD_NAME,
-                DEFAULT_MAX_VECTOR_COUNT,
+                -10,
                 DEFAULT_SEARCH_SIZE,
                 null,
+                () -> false,
                 null
             )
         );
     }
 
-    public void testRead_invalid_fieldDoesNotExist() {
-        // Check that read throws a validation exception when the field does not exist
+    public void testReadFromShards_invalid_searchSize() {
         createIndex(DEFAULT_INDEX_NAME);
+        createKnnIndexMapping(DEFAULT_INDEX_NAME, DEFAULT_FIELD_NAME, DEFAULT_DIMENSION);
 
-        // Configure VectorReader
         ClusterService clusterService = node().injector().getInstance(ClusterService.class);
         VectorReader vectorReader = new VectorReader(client());
-
-        // Should throw a validation exception because field is not k-NN
-        expectThrows(
-            ValidationException.class,
-            () -> vectorReader.read(
-                clusterService,
-                DEFAULT_INDEX_NAME,
-                DEFAULT_FIELD_NAME,
-                DEFAULT_MAX_VECTOR_COUNT,
-                DEFAULT_SEARCH_SIZE,
-                null,
-                null
-            )
-        );
+        for (int invalidSearchSize : new int[] { -10, 0, 20000 }) {
+            expectThrows(
+                ValidationException.class,
+                () -> vectorReader.readFromShards(
+                    clusterService,
+                    DEFAULT_INDEX_NAME,
+                    DEFAULT_FIELD_NAME,
+                    DEFAULT_MAX_VECTOR_COUNT,
+                    invalidSearchSize,
+                    null,
+                    () -> false,
+                    null
+                )
+            );
+        }
     }
 
-    public void testRead_invalid_fieldIsNotKnn() throws InterruptedException, ExecutionException, IOException {
-        // Check that read throws a validation exception when the field does not exist
+    public void testReadFromShards_invalid_fieldIsNotKnn() throws InterruptedException, ExecutionException, IOException {
         createIndex(DEFAULT_INDEX_NAME);
         addDoc(DEFAULT_INDEX_NAME, "test-id", DEFAULT_FIELD_NAME, "dummy");
 
-        // Configure VectorReader
         ClusterService clusterService = node().injector().getInstance(ClusterService.class);
         VectorReader vectorReader = new VectorReader(client());
-
-        // Should throw a validation exception because field does not exist
         expectThrows(
             ValidationException.class,
-            () -> vectorReader.read(
+            () -> vectorReader.readFromShards(
                 clusterService,
                 DEFAULT_INDEX_NAME,
                 DEFAULT_FIELD_NAME,
                 DEFAULT_MAX_VECTOR_COUNT,
                 DEFAULT_SEARCH_SIZE,
                 null,
+                () -> false,
                 null
             )
         );
     }
 
-    public void testRead_valid_NestedField() throws InterruptedException, ExecutionException, IOException {
-        createIndex(DEFAULT_INDEX_NAME);
-        createKnnNestedIndexMapping(DEFAULT_INDEX_NAME, DEFAULT_NESTED_FIELD_PATH, DEFAULT_DIMENSION);
-
-        // Create list of random vectors and ingest
-        Random random = new Random();
-        List<Float[]> vectors = new ArrayList<>();
-        for (int i = 0; i < DEFAULT_NUM_VECTORS; i++) {
-            Float[] vector = random.doubles(DEFAULT_DIMENSION).boxed().map(Double::floatValue).toArray(Float[]::new);
-            vectors.add(vector);
-            addKnnNestedDoc(DEFAULT_INDEX_NAME, Integer.toString(i), DEFAULT_NESTED_FIELD_PATH, vector);
-        }
-
-        // Configure VectorReader
-        ClusterService clusterService = node().injector().getInstance(ClusterService.class);
-        VectorReader vectorReader = new VectorReader(client());
-
-        // Read all vectors and confirm they match vectors
-        final CountDownLatch inProgressLatch = new CountDownLatch(1);
-        TestFloatTrainingDataConsumer trainingDataConsumer = new TestFloatTrainingDataConsumer(createMockTrainingDataAllocation());
-        vectorReader.read(
-            clusterService,
-            DEFAULT_INDEX_NAME,
-            DEFAULT_NESTED_FIELD_PATH,
-            DEFAULT_MAX_VECTOR_COUNT,
-            DEFAULT_SEARCH_SIZE,
-            trainingDataConsumer,
-            createOnSearchResponseCountDownListener(inProgressLatch)
-        );
-
-        assertLatchDecremented(inProgressLatch);
-
-        List<Float[]> consumedVectors = trainingDataConsumer.getTotalAddedVectors();
-        assertEquals(DEFAULT_NUM_VECTORS, consumedVectors.size());
-
-        List<Float> flatVectors = vectors.stream().flatMap(Arrays::stream).collect(Collectors.toList());
-        List<Float> flatConsumedVectors = consumedVectors.stream().flatMap(Arrays::stream).collect(Collectors.toList());
-        assertEquals(new HashSet<>(flatVectors), new HashSet<>(flatConsumedVectors));
-    }
-
     private void assertLatchDecremented(CountDownLatch countDownLatch) throws InterruptedException {
         assertTrue(countDownLatch.await(DEFAULT_LATCH_TIMEOUT, TimeUnit.SECONDS));
     }
 
-    private ActionListener<SearchResponse> createOnSearchResponseCountDownListener(CountDownLatch countDownLatch) {
-        return ActionListener.wrap(response -> countDownLatch.countDown(), Throwable::printStackTrace);
-    }
-
     private NativeMemoryAllocation.TrainingDataAllocation createMockTrainingDataAllocation() {
         return new NativeMemoryAllocation.TrainingDataAllocation(null, 0, 0, VectorDataType.FLOAT);
     }
@@ -401,31 +287,20 @@ public class VectorReaderTests extends KNNSingleNodeTestCase {
     private static class TestFloatTrainingDataConsumer extends FloatTrainingDataConsumer {
         @Getter
         private List<Float[]> totalAddedVectors = new ArrayList<>();
+        @Getter
+        private List<Integer> batchSizes = new ArrayList<>();
 
         public TestFloatTrainingDataConsumer(NativeMemoryAllocation.TrainingDataAllocation trainingDataAllocation) {
             super(trainingDataAllocation);
         }
 
         @Override
-        public void processTrainingVectors(SearchResponse searchResponse, int vectorsToAdd, String fieldName) {
-            SearchHit[] hits = searchResponse.getHits().getHits();
-            List<Float[]> vectors = new ArrayList<>();
-
-            String[] fieldPath = fieldName.split("\\.");
-
-            for (int vector = 0; vector < vectorsToAdd; vector++) {
-                Object fieldValue = extractFieldValue(hits[vector], fieldPath);
-                if (!(fieldValue instanceof List<?>)) {
-                    continue;
-                }
-
-                List<Number> fieldList = (List<Number>) fieldValue;
-                vectors.add(fieldList.stream().map(Number::floatValue).toArray(Float[]::new));
+        public void processTrainingVectors(List<?> vectors) {
+            batchSizes.add(vectors.size());
+            for (Object vector : vectors) {
+                totalAddedVectors.add(ArrayUtils.toObject((float[]) vector));
             }
-
-            totalAddedVectors.addAll(vectors);
-            setTotalVectorsCountAdded(getTotalVectorsCountAdded() + vectors.size());
-            accept(vectors);
+            super.processTrainingVectors(vectors);
         }
     }
 }